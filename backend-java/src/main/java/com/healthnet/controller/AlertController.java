@@ -0,0 +1,199 @@
+package com.healthnet.controller;
+
+import com.healthnet.dto.AlertDto;
+import com.healthnet.dto.SmsProviderStatusDto;
+import com.healthnet.entity.AlertStatus;
+import com.healthnet.entity.DeliveryStatus;
+import com.healthnet.entity.UserRole;
+import com.healthnet.service.AlertDispatchService;
+import com.healthnet.service.AlertService;
+import com.healthnet.service.PublicAlertFeedService;
+import com.healthnet.util.EncodedBody;
+import com.healthnet.util.PrecompressedResponses;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST Controller for health alerts sent to field staff by SMS
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/alerts")
+@Tag(name = "Alerts", description = "APIs for broadcasting health alerts by SMS")
+public class AlertController {
+
+    private final AlertService alertService;
+    private final AlertDispatchService alertDispatchService;
+    private final PublicAlertFeedService publicAlertFeedService;
+    private final CacheControl feedCacheControl;
+
+    public AlertController(AlertService alertService,
+                           AlertDispatchService alertDispatchService,
+                           PublicAlertFeedService publicAlertFeedService,
+                           @Value("${healthnet.alerts.feed.max-age-seconds:30}") long feedMaxAge) {
+        this.alertService = alertService;
+        this.alertDispatchService = alertDispatchService;
+        this.publicAlertFeedService = publicAlertFeedService;
+        this.feedCacheControl = CacheControl.maxAge(Duration.ofSeconds(feedMaxAge)).cachePublic();
+    }
+
+    /**
+     * Create an alert and queue its SMS messages
+     */
+    @PostMapping
+    @Operation(summary = "Create alert", description = "Create an alert and queue an SMS to every active user of the recipient roles in the district; messages are sent in the background")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Alert created and messages queued"),
+        @ApiResponse(responseCode = "400", description = "Invalid alert or unknown district"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<AlertDto> createAlert(@Valid @RequestBody AlertDto alertDto) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(alertService.createAlert(alertDto));
+    }
+
+    /**
+     * Get alerts with pagination
+     */
+    @GetMapping
+    @Operation(summary = "Get alerts", description = "Retrieve alerts, newest first, optionally by status, with queued, sent and failed message counts")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Alerts retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<Page<AlertDto>> getAlerts(@RequestParam(required = false) AlertStatus status,
+                                                    @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(alertService.getAlerts(status, pageable));
+    }
+
+    /**
+     * Get the public alerts feed
+     */
+    @GetMapping("/feed")
+    @Operation(summary = "Get public alerts feed", description = "Open and recently resolved alerts reaching a district (default: all districts), with labels in a language of the site; served from a precompressed snapshot with a strong ETag")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Feed retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Not modified"),
+        @ApiResponse(responseCode = "400", description = "Unknown district")
+    })
+    public ResponseEntity<byte[]> getFeed(
+            @RequestParam(required = false) String district,
+            @RequestParam(required = false) String lang,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        EncodedBody feed = publicAlertFeedService.getFeed(district, lang);
+        return PrecompressedResponses.respond(feed.getBody(), feed.getGzipBody(), feed.getEtag(),
+                MediaType.APPLICATION_JSON, feedCacheControl, acceptEncoding, ifNoneMatch);
+    }
+
+    /**
+     * Count the recipients of a prospective alert
+     */
+    @GetMapping("/recipients/count")
+    @Operation(summary = "Count alert recipients", description = "Number of active users with a phone number in the roles and in any of the districts or states; everyone when no district or state is given")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Recipients counted successfully"),
+        @ApiResponse(responseCode = "400", description = "Unknown district"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<Map<String, Integer>> countRecipients(@RequestParam(required = false) List<String> districts,
+                                                                @RequestParam(required = false) List<String> states,
+                                                                @RequestParam(required = false) List<UserRole> roles) {
+        return ResponseEntity.ok(Map.of("recipients", alertService.countRecipients(districts, states, roles)));
+    }
+
+    /**
+     * Get alert by ID
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Get alert by ID", description = "Retrieve an alert with its delivery progress")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Alert found"),
+        @ApiResponse(responseCode = "404", description = "Alert not found"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<AlertDto> getAlert(@PathVariable Long id) {
+        return ResponseEntity.ok(alertService.getAlert(id));
+    }
+
+    /**
+     * Update alert status
+     */
+    @PatchMapping("/{id}/status")
+    @Operation(summary = "Update alert status", description = "Mark an alert in progress, resolved or closed")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Status updated successfully"),
+        @ApiResponse(responseCode = "404", description = "Alert not found"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<AlertDto> updateStatus(@PathVariable Long id, @RequestParam AlertStatus status) {
+        return ResponseEntity.ok(alertService.updateStatus(id, status));
+    }
+
+    /**
+     * Get SMS provider and outbox state
+     */
+    @GetMapping("/delivery")
+    @Operation(summary = "Get SMS delivery state", description = "Circuit state and counters of every SMS provider, and outbox message counts per delivery status")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Delivery state retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<DeliverySummary> getDelivery() {
+        return ResponseEntity.ok(new DeliverySummary(
+            alertDispatchService.getProviderStatus(),
+            alertDispatchService.getQueueCounts()
+        ));
+    }
+
+    // Delivery summary DTO
+    public static class DeliverySummary {
+        private List<SmsProviderStatusDto> providers;
+        private Map<DeliveryStatus, Long> messages;
+
+        public DeliverySummary() {}
+
+        public DeliverySummary(List<SmsProviderStatusDto> providers, Map<DeliveryStatus, Long> messages) {
+            this.providers = providers;
+            this.messages = messages;
+        }
+
+        public List<SmsProviderStatusDto> getProviders() { return providers; }
+        public void setProviders(List<SmsProviderStatusDto> providers) { this.providers = providers; }
+
+        public Map<DeliveryStatus, Long> getMessages() { return messages; }
+        public void setMessages(Map<DeliveryStatus, Long> messages) { this.messages = messages; }
+    }
+}
@@ -0,0 +1,109 @@
+package com.healthnet.controller;
+
+import com.healthnet.dto.ArchivedReportSummaryDto;
+import com.healthnet.dto.HealthReportDto;
+import com.healthnet.entity.ReportStatus;
+import com.healthnet.service.ReportArchiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * REST Controller for the health report archive
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/archive")
+@Tag(name = "Report Archive", description = "APIs for querying archived health reports and running retention")
+public class ArchiveController {
+
+    private final ReportArchiveService reportArchiveService;
+
+    public ArchiveController(ReportArchiveService reportArchiveService) {
+        this.reportArchiveService = reportArchiveService;
+    }
+
+    /**
+     * Search archived reports
+     */
+    @GetMapping("/reports")
+    @Operation(summary = "Search archived reports", description = "Search archived reports by district and creation date range")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Archived reports retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<Page<ArchivedReportSummaryDto>> searchArchive(
+            @RequestParam(required = false) String district,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            Pageable pageable) {
+        return ResponseEntity.ok(reportArchiveService.searchArchive(district, startDate, endDate, pageable));
+    }
+
+    /**
+     * Get a report by ID from the hot table or the archive
+     */
+    @GetMapping("/reports/{id}")
+    @Operation(summary = "Get report by ID (query-through)", description = "Retrieve a report from the live table, falling back to the archive")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Report found"),
+        @ApiResponse(responseCode = "404", description = "Report not found"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<HealthReportDto> getReport(@PathVariable Long id) {
+        return ResponseEntity.ok(reportArchiveService.findReport(id));
+    }
+
+    /**
+     * Start a retention run in the background
+     */
+    @PostMapping("/run")
+    @Operation(summary = "Run retention", description = "Start archiving reports matching the retention policies now")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Retention run started"),
+        @ApiResponse(responseCode = "409", description = "A retention run is already in progress"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> runRetention() {
+        if (!reportArchiveService.startRetention()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * Result of the last completed retention run
+     */
+    @GetMapping("/run")
+    @Operation(summary = "Get last retention run", description = "Number of reports archived per status by the last completed run")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Last run retrieved successfully"),
+        @ApiResponse(responseCode = "204", description = "No retention run has completed yet"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<ReportStatus, Integer>> getLastRun() {
+        Map<ReportStatus, Integer> lastRun = reportArchiveService.getLastRun();
+        return lastRun != null ? ResponseEntity.ok(lastRun) : ResponseEntity.noContent().build();
+    }
+}
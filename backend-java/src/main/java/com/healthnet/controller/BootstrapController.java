@@ -0,0 +1,65 @@
+package com.healthnet.controller;
+
+import com.healthnet.entity.User;
+import com.healthnet.service.MobileBootstrapService;
+import com.healthnet.util.EncodedBody;
+import com.healthnet.util.PrecompressedResponses;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for the staff app's start-up bundle
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/bootstrap")
+@Tag(name = "Bootstrap", description = "APIs for starting the staff app in one round trip")
+public class BootstrapController {
+
+    /** Personal data: kept by the device only, and revalidated on every start */
+    private static final CacheControl BUNDLE_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final MobileBootstrapService mobileBootstrapService;
+
+    public BootstrapController(MobileBootstrapService mobileBootstrapService) {
+        this.mobileBootstrapService = mobileBootstrapService;
+    }
+
+    /**
+     * Get the start-up bundle of the signed-in user
+     */
+    @GetMapping
+    @Operation(summary = "Get start-up bundle", description = "Profile, permissions and token expiry of the signed-in user, the villages and population of their district, the alerts reaching it and recent medicine distributions in one gzip-compressed response with a strong ETag; a matching If-None-Match yields 304")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bundle retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Not modified"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<byte[]> getBundle(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) String lang,
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String token = authorization.startsWith("Bearer ") ? authorization.substring(7) : authorization;
+        EncodedBody bundle = mobileBootstrapService.getBundle(user, token, lang);
+        return PrecompressedResponses.respond(bundle.getBody(), bundle.getGzipBody(), bundle.getEtag(),
+                MediaType.APPLICATION_JSON, BUNDLE_CACHE_CONTROL, acceptEncoding, ifNoneMatch);
+    }
+}
@@ -0,0 +1,74 @@
+package com.healthnet.controller;
+
+import com.healthnet.dto.ClusterScanResultDto;
+import com.healthnet.service.ClusterScanService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * REST Controller for space-time cluster scans
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/clusters")
+@Tag(name = "Clusters", description = "APIs for space-time cluster detection across districts")
+public class ClusterController {
+
+    private final ClusterScanService clusterScanService;
+
+    public ClusterController(ClusterScanService clusterScanService) {
+        this.clusterScanService = clusterScanService;
+    }
+
+    /**
+     * Get the latest scheduled scan result
+     */
+    @GetMapping
+    @Operation(summary = "Get latest clusters", description = "Retrieve ranked clusters from the most recent all-symptom scan")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Scan result retrieved successfully"),
+        @ApiResponse(responseCode = "204", description = "No scan has completed yet"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<ClusterScanResultDto> getLatestClusters() {
+        ClusterScanResultDto result = clusterScanService.getLatestResult();
+        return result != null ? ResponseEntity.ok(result) : ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Run a scan now
+     */
+    @PostMapping("/scan")
+    @Operation(summary = "Run cluster scan", description = "Scan reports between the dates (default: lookback period ending today), optionally for one symptom")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Scan completed"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range"),
+        @ApiResponse(responseCode = "409", description = "A scan is already in progress"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<ClusterScanResultDto> runScan(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String symptom) {
+        ClusterScanResultDto result = clusterScanService.runScan(startDate, endDate, symptom);
+        if (result == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.ok(result);
+    }
+}
@@ -0,0 +1,68 @@
+package com.healthnet.controller;
+
+import com.healthnet.event.ReportEscalationEvent;
+import com.healthnet.service.EscalationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for report escalations
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/escalations")
+@Tag(name = "Escalations", description = "APIs for monitoring escalation of unprocessed reports")
+public class EscalationController {
+    
+    private final EscalationService escalationService;
+    
+    public EscalationController(EscalationService escalationService) {
+        this.escalationService = escalationService;
+    }
+    
+    /**
+     * Get recent escalations
+     */
+    @GetMapping
+    @Operation(summary = "Get recent escalations", description = "Retrieve the most recent escalations of overdue pending reports")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Escalations retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<EscalationSummary> getEscalations() {
+        return ResponseEntity.ok(new EscalationSummary(
+            escalationService.getOutstandingCount(),
+            escalationService.getRecentEscalations()
+        ));
+    }
+    
+    // Escalation summary DTO
+    public static class EscalationSummary {
+        private int outstandingTimers;
+        private List<ReportEscalationEvent> recentEscalations;
+        
+        public EscalationSummary() {}
+        
+        public EscalationSummary(int outstandingTimers, List<ReportEscalationEvent> recentEscalations) {
+            this.outstandingTimers = outstandingTimers;
+            this.recentEscalations = recentEscalations;
+        }
+        
+        public int getOutstandingTimers() { return outstandingTimers; }
+        public void setOutstandingTimers(int outstandingTimers) { this.outstandingTimers = outstandingTimers; }
+        
+        public List<ReportEscalationEvent> getRecentEscalations() { return recentEscalations; }
+        public void setRecentEscalations(List<ReportEscalationEvent> recentEscalations) { this.recentEscalations = recentEscalations; }
+    }
+}
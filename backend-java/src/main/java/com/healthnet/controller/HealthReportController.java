@@ -4,6 +4,7 @@ import com.healthnet.dto.HealthReportDto;
 import com.healthnet.entity.HealthReport;
 import com.healthnet.entity.ReportStatus;
 import com.healthnet.entity.UrgencyLevel;
+import com.healthnet.service.GeocodingService;
 import com.healthnet.service.HealthReportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -19,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -33,9 +35,12 @@ import java.util.stream.Collectors;
 public class HealthReportController {
     
     private final HealthReportService healthReportService;
+    private final GeocodingService geocodingService;
     
-    public HealthReportController(HealthReportService healthReportService) {
+    public HealthReportController(HealthReportService healthReportService,
+                                  GeocodingService geocodingService) {
         this.healthReportService = healthReportService;
+        this.geocodingService = geocodingService;
     }
     
     /**
@@ -255,6 +260,42 @@ public class HealthReportController {
         return ResponseEntity.ok(convertToDto(updatedReport));
     }
     
+    /**
+     * Get the near-duplicates of a report
+     */
+    @GetMapping("/{id}/duplicates")
+    @Operation(summary = "Get duplicate reports", description = "Retrieve the reports detected as near-duplicates of a report, oldest first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Duplicates retrieved successfully"),
+        @ApiResponse(responseCode = "404", description = "Report not found"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<List<HealthReportDto>> getDuplicates(@PathVariable Long id) {
+        List<HealthReportDto> reportDtos = healthReportService.getDuplicates(id).stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(reportDtos);
+    }
+    
+    /**
+     * Unlink a report wrongly detected as a duplicate
+     */
+    @DeleteMapping("/{id}/duplicate-of")
+    @Operation(summary = "Unlink duplicate report", description = "Clear a report's near-duplicate link so it counts as a separate case")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Report unlinked successfully"),
+        @ApiResponse(responseCode = "404", description = "Report not found"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<HealthReportDto> unlinkDuplicate(@PathVariable Long id) {
+        HealthReport updatedReport = healthReportService.unlinkDuplicate(id);
+        return ResponseEntity.ok(convertToDto(updatedReport));
+    }
+    
     /**
      * Get reports created today
      */
@@ -290,6 +331,41 @@ public class HealthReportController {
         return ResponseEntity.ok(stats);
     }
     
+    /**
+     * Get report counts per district
+     */
+    @GetMapping("/statistics/districts")
+    @Operation(summary = "Get report counts per district", description = "Count reports per canonical district, merging spelling variants of the same district")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Counts retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<Map<String, Long>> getReportCountsByDistrict() {
+        return ResponseEntity.ok(healthReportService.getReportCountsByDistrict());
+    }
+    
+    /**
+     * Place stored reports with coordinates in their district and sub-district
+     */
+    @PostMapping("/geocode")
+    @Operation(summary = "Backfill report locations", description = "Geocode stored reports with coordinates to GADM district and village ids in parallel; only unplaced reports unless all=true")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Backfill completed"),
+        @ApiResponse(responseCode = "409", description = "A backfill is already in progress"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Integer>> backfillLocations(@RequestParam(defaultValue = "false") boolean all) {
+        Map<String, Integer> result = geocodingService.backfill(all);
+        if (result == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.ok(result);
+    }
+    
     // Helper methods for conversion
     private HealthReportDto convertToDto(HealthReport report) {
         HealthReportDto dto = new HealthReportDto();
@@ -298,6 +374,14 @@ public class HealthReportController {
         dto.setReporterPhone(report.getReporterPhone());
         dto.setVillage(report.getVillage());
         dto.setDistrict(report.getDistrict());
+        dto.setDistrictId(report.getDistrictId());
+        dto.setVillageId(report.getVillageId());
+        dto.setLatitude(report.getLatitude());
+        dto.setLongitude(report.getLongitude());
+        dto.setDistrictGid(report.getDistrictGid());
+        dto.setVillageGid(report.getVillageGid());
+        dto.setDuplicateOfId(report.getDuplicateOfId());
+        dto.setDuplicateSimilarity(report.getDuplicateSimilarity());
         dto.setSymptoms(report.getSymptoms());
         dto.setDescription(report.getDescription());
         dto.setUrgency(report.getUrgency());
@@ -319,6 +403,8 @@ public class HealthReportController {
         report.setReporterPhone(dto.getReporterPhone());
         report.setVillage(dto.getVillage());
         report.setDistrict(dto.getDistrict());
+        report.setLatitude(dto.getLatitude());
+        report.setLongitude(dto.getLongitude());
         report.setSymptoms(dto.getSymptoms());
         report.setDescription(dto.getDescription());
         report.setUrgency(dto.getUrgency());
@@ -339,18 +425,21 @@ public class HealthReportController {
         private long highUrgencyReports;
         private long criticalUrgencyReports;
         private long todaysReports;
+        private long uniqueReports;
         
         // Constructors, getters, and setters
         public ReportStatistics() {}
         
         public ReportStatistics(long totalReports, long pendingReports, long processedReports,
-                               long highUrgencyReports, long criticalUrgencyReports, long todaysReports) {
+                               long highUrgencyReports, long criticalUrgencyReports, long todaysReports,
+                               long uniqueReports) {
             this.totalReports = totalReports;
             this.pendingReports = pendingReports;
             this.processedReports = processedReports;
             this.highUrgencyReports = highUrgencyReports;
             this.criticalUrgencyReports = criticalUrgencyReports;
             this.todaysReports = todaysReports;
+            this.uniqueReports = uniqueReports;
         }
         
         // Getters and setters
@@ -371,5 +460,8 @@ public class HealthReportController {
         
         public long getTodaysReports() { return todaysReports; }
         public void setTodaysReports(long todaysReports) { this.todaysReports = todaysReports; }
+        
+        public long getUniqueReports() { return uniqueReports; }
+        public void setUniqueReports(long uniqueReports) { this.uniqueReports = uniqueReports; }
     }
 }
@@ -0,0 +1,57 @@
+package com.healthnet.controller;
+
+import com.healthnet.dto.LocationSuggestionDto;
+import com.healthnet.entity.LocationType;
+import com.healthnet.service.GazetteerService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * REST Controller for place name lookups
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/locations")
+@Tag(name = "Locations", description = "APIs for district and village name lookups")
+public class LocationController {
+
+    private final GazetteerService gazetteerService;
+    private final CacheControl suggestionCacheControl;
+
+    public LocationController(GazetteerService gazetteerService,
+                              @Value("${healthnet.gazetteer.max-age-seconds:3600}") long maxAge) {
+        this.gazetteerService = gazetteerService;
+        // The gazetteer only changes with a deployment, so repeated keystrokes can be served from cache
+        this.suggestionCacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAge)).cachePublic();
+    }
+
+    /**
+     * Suggest district and village names for a partly typed name
+     */
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest locations", description = "Autocomplete district and village names by prefix, falling back to similar spellings for typos and transliteration variants; optionally only one type or villages within one district")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Unsupported location type or query too long")
+    })
+    public ResponseEntity<List<LocationSuggestionDto>> suggest(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) LocationType type,
+            @RequestParam(required = false) String district,
+            @RequestParam(defaultValue = "8") int limit) {
+        return ResponseEntity.ok()
+                .cacheControl(suggestionCacheControl)
+                .body(gazetteerService.suggest(query, type, district, limit));
+    }
+}
@@ -0,0 +1,203 @@
+package com.healthnet.controller;
+
+import com.healthnet.dto.BoundaryVariantDto;
+import com.healthnet.dto.GeoLocationDto;
+import com.healthnet.dto.HexBinGridDto;
+import com.healthnet.dto.IncidenceDto;
+import com.healthnet.exception.ResourceNotFoundException;
+import com.healthnet.service.GeocodingService;
+import com.healthnet.service.HexBinService;
+import com.healthnet.service.IncidenceService;
+import com.healthnet.service.MapBoundaryService;
+import com.healthnet.service.VectorTileService;
+import com.healthnet.util.PrecompressedResponses;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * REST Controller for map layers
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/map")
+@Tag(name = "Map", description = "APIs for map layers and choropleth data")
+public class MapController {
+
+    private final IncidenceService incidenceService;
+    private final MapBoundaryService mapBoundaryService;
+    private final VectorTileService vectorTileService;
+    private final GeocodingService geocodingService;
+    private final HexBinService hexBinService;
+    private final ObjectMapper objectMapper;
+    private final CacheControl boundaryCacheControl;
+    private final CacheControl tileCacheControl;
+    private final MediaType tileMediaType = MediaType.parseMediaType(VectorTileService.CONTENT_TYPE);
+
+    public MapController(IncidenceService incidenceService,
+                         MapBoundaryService mapBoundaryService,
+                         VectorTileService vectorTileService,
+                         GeocodingService geocodingService,
+                         HexBinService hexBinService,
+                         ObjectMapper objectMapper,
+                         @Value("${healthnet.map.boundary-max-age-seconds:86400}") long boundaryMaxAge,
+                         @Value("${healthnet.map.tiles.max-age-seconds:60}") long tileMaxAge) {
+        this.incidenceService = incidenceService;
+        this.mapBoundaryService = mapBoundaryService;
+        this.vectorTileService = vectorTileService;
+        this.geocodingService = geocodingService;
+        this.hexBinService = hexBinService;
+        this.objectMapper = objectMapper;
+        this.boundaryCacheControl = CacheControl.maxAge(Duration.ofSeconds(boundaryMaxAge)).cachePublic();
+        // Tiles carry report counts, so only the user's own cache may keep them
+        this.tileCacheControl = CacheControl.maxAge(Duration.ofSeconds(tileMaxAge)).cachePrivate();
+    }
+
+    /**
+     * Get population-normalized incidence per district and state
+     */
+    @GetMapping("/incidence")
+    @Operation(summary = "Get incidence per 100k", description = "Retrieve report incidence per 100k population per district and state, keyed by GADM id, for a date window and optional symptom set of symptom codes or other (archived reports count towards totals only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Incidence retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<IncidenceDto> getIncidence(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) List<String> symptoms) {
+        return ResponseEntity.ok(incidenceService.getIncidence(startDate, endDate, symptoms));
+    }
+
+    /**
+     * Find the administrative areas containing a coordinate
+     */
+    @GetMapping("/locate")
+    @Operation(summary = "Locate coordinate", description = "Resolve a latitude/longitude to its GADM state, district and sub-district (village) ids and names")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Location resolved successfully"),
+        @ApiResponse(responseCode = "400", description = "Coordinates out of range"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "404", description = "Coordinate is outside the mapped districts")
+    })
+    public ResponseEntity<GeoLocationDto> locate(@RequestParam double latitude, @RequestParam double longitude) {
+        GeoLocationDto location = geocodingService.locate(latitude, longitude);
+        if (location == null) {
+            throw new ResourceNotFoundException("No district contains " + latitude + ", " + longitude);
+        }
+        return ResponseEntity.ok(location);
+    }
+
+    /**
+     * List the precomputed boundary variants
+     */
+    @GetMapping("/boundaries")
+    @Operation(summary = "List boundary variants", description = "List the precomputed boundary levels, resolutions and formats with their sizes")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Variants listed successfully")
+    })
+    public ResponseEntity<List<BoundaryVariantDto>> listBoundaries() {
+        return ResponseEntity.ok(mapBoundaryService.listVariants());
+    }
+
+    /**
+     * Get simplified boundaries of an administrative level
+     */
+    @GetMapping("/boundaries/{level}")
+    @Operation(summary = "Get boundaries", description = "Get state (1), district (2) or sub-district (3) boundaries as GeoJSON or TopoJSON at a resolution, chosen directly or by map zoom (default: full)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Boundaries retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Not modified"),
+        @ApiResponse(responseCode = "400", description = "Unknown resolution or format"),
+        @ApiResponse(responseCode = "404", description = "Unknown level")
+    })
+    public ResponseEntity<byte[]> getBoundaries(
+            @PathVariable int level,
+            @RequestParam(required = false) String resolution,
+            @RequestParam(required = false) Integer zoom,
+            @RequestParam(defaultValue = MapBoundaryService.FORMAT_GEOJSON) String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String chosen = resolution != null ? resolution
+                : zoom != null ? mapBoundaryService.resolutionForZoom(zoom) : "full";
+        MapBoundaryService.EncodedBoundary boundary = mapBoundaryService.getBoundary(level, chosen, format);
+        return PrecompressedResponses.respond(boundary.getBody(), boundary.getGzipBody(), boundary.getEtag(),
+                MediaType.parseMediaType(boundary.getContentType()), boundaryCacheControl,
+                acceptEncoding, ifNoneMatch);
+    }
+
+    /**
+     * Get a vector tile of boundaries with report counts
+     */
+    @GetMapping("/tiles/{z}/{x}/{y}.mvt")
+    @Operation(summary = "Get vector tile", description = "Get a Mapbox Vector Tile with states, districts and sub-districts layers (the finer ones from configured zooms on), each feature carrying its GADM id, name and reports over the count window")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tile retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Not modified"),
+        @ApiResponse(responseCode = "400", description = "Tile coordinates out of range"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<byte[]> getTile(
+            @PathVariable int z,
+            @PathVariable int x,
+            @PathVariable int y,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        VectorTileService.EncodedTile tile = vectorTileService.getTile(z, x, y);
+        return PrecompressedResponses.respond(tile.getBody(), tile.getGzipBody(), tile.getEtag(),
+                tileMediaType, tileCacheControl, acceptEncoding, ifNoneMatch);
+    }
+
+    /**
+     * Get heatmap hexagons with report counts in a bounding box
+     */
+    @GetMapping("/hexbins")
+    @Operation(summary = "Get report heatmap", description = "Get the hexagons in a bounding box with counts of geocoded reports (all and open) over a date window; the grid resolution is given, follows the map zoom, or is the finest one, and is coarsened until the box holds a bounded number of cells")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Heatmap retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Not modified"),
+        @ApiResponse(responseCode = "400", description = "Invalid bounding box, date window or resolution"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<byte[]> getHexBins(
+            @RequestParam double south,
+            @RequestParam double west,
+            @RequestParam double north,
+            @RequestParam double east,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Integer resolution,
+            @RequestParam(required = false) Integer zoom,
+            @RequestParam(defaultValue = "false") boolean openOnly,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        HexBinGridDto grid = hexBinService.getHexBins(south, west, north, east, startDate, endDate,
+                resolution, zoom, openOnly);
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(grid);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize heatmap", e);
+        }
+        // Polling clients get 304 while the counts in view are unchanged
+        return PrecompressedResponses.respondCompressing(body, PrecompressedResponses.etag(body),
+                MediaType.APPLICATION_JSON, tileCacheControl, acceptEncoding, ifNoneMatch);
+    }
+}
@@ -0,0 +1,88 @@
+package com.healthnet.controller;
+
+import com.healthnet.dto.ForecastDto;
+import com.healthnet.dto.OutbreakSignalDto;
+import com.healthnet.service.ForecastService;
+import com.healthnet.service.OutbreakDetectionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for outbreak predictions and signals
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/predictions")
+@Tag(name = "Predictions", description = "APIs for outbreak signals and predictions")
+public class PredictionController {
+    
+    private final OutbreakDetectionService outbreakDetectionService;
+    private final ForecastService forecastService;
+    
+    public PredictionController(OutbreakDetectionService outbreakDetectionService,
+                                ForecastService forecastService) {
+        this.outbreakDetectionService = outbreakDetectionService;
+        this.forecastService = forecastService;
+    }
+    
+    /**
+     * Get active outbreak signals
+     */
+    @GetMapping("/signals")
+    @Operation(summary = "Get outbreak signals", description = "Retrieve active outbreak signals from the streaming detector, strongest first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Signals retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<List<OutbreakSignalDto>> getSignals(@RequestParam(required = false) String district) {
+        return ResponseEntity.ok(outbreakDetectionService.getActiveSignals(district));
+    }
+    
+    /**
+     * Get recent counts of one detector series
+     */
+    @GetMapping("/series")
+    @Operation(summary = "Get detector series", description = "Retrieve recent per-bucket report counts for a district, village and symptom (\"*\" for all)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Series retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<int[]> getSeries(@RequestParam String district,
+                                           @RequestParam(defaultValue = OutbreakDetectionService.ALL) String village,
+                                           @RequestParam(defaultValue = OutbreakDetectionService.ALL) String symptom) {
+        return ResponseEntity.ok(outbreakDetectionService.getRecentCounts(district, village, symptom));
+    }
+    
+    /**
+     * Get caseload forecasts of a district
+     */
+    @GetMapping("/forecasts")
+    @Operation(summary = "Get caseload forecasts", description = "Retrieve daily caseload forecasts with prediction intervals for a district, in total and per symptom, or for one symptom")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Forecasts retrieved successfully"),
+        @ApiResponse(responseCode = "404", description = "Unknown district or symptom"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<List<ForecastDto>> getForecasts(@RequestParam String district,
+                                                          @RequestParam(required = false) String symptom) {
+        if (symptom != null && !symptom.isBlank()) {
+            return ResponseEntity.ok(List.of(forecastService.getForecast(district, symptom)));
+        }
+        return ResponseEntity.ok(forecastService.getForecasts(district));
+    }
+}
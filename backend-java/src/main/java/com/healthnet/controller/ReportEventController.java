@@ -0,0 +1,73 @@
+package com.healthnet.controller;
+
+import com.healthnet.entity.User;
+import com.healthnet.service.ReportStreamService;
+import com.healthnet.service.StreamTicketService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+
+/**
+ * REST Controller for real-time health report events
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/events")
+@Tag(name = "Report Events", description = "Server-Sent Events stream of health report changes")
+public class ReportEventController {
+    
+    private final ReportStreamService reportStreamService;
+    private final StreamTicketService streamTicketService;
+    
+    public ReportEventController(ReportStreamService reportStreamService,
+                                 StreamTicketService streamTicketService) {
+        this.reportStreamService = reportStreamService;
+        this.streamTicketService = streamTicketService;
+    }
+    
+    /**
+     * Issue a single-use ticket for opening an event stream, since EventSource cannot send the bearer token
+     */
+    @PostMapping("/tickets")
+    @Operation(summary = "Issue stream ticket", description = "Short-lived, single-use ticket to pass as the ticket query parameter when opening an event stream")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ticket issued"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Map<String, Object>> issueTicket(@AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(Map.of(
+                "ticket", streamTicketService.issue(user.getId()),
+                "expiresInSeconds", streamTicketService.getTtlSeconds()));
+    }
+    
+    /**
+     * Subscribe to report events for the caller's district (all districts for admins).
+     * Browsers resend the Last-Event-ID header automatically on reconnect; each
+     * connection needs a fresh ticket from /tickets.
+     */
+    @GetMapping(value = "/reports", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream report events", description = "Server-Sent Events for report created, status changed and notes added")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Event stream opened"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @PreAuthorize("isAuthenticated()")
+    public SseEmitter streamReportEvents(@AuthenticationPrincipal User user,
+                                         @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader,
+                                         @RequestParam(value = "lastEventId", required = false) Long lastEventIdParam) {
+        Long lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+        return reportStreamService.subscribe(user, lastEventId);
+    }
+}
@@ -0,0 +1,115 @@
+package com.healthnet.controller;
+
+import com.healthnet.dto.SurveillanceRuleDto;
+import com.healthnet.service.SurveillanceRuleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for surveillance rules that raise alerts from incoming reports
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/surveillance-rules")
+@Tag(name = "Surveillance Rules", description = "APIs for rules that raise alerts when matching reports cross a threshold")
+public class SurveillanceRuleController {
+
+    private final SurveillanceRuleService surveillanceRuleService;
+
+    public SurveillanceRuleController(SurveillanceRuleService surveillanceRuleService) {
+        this.surveillanceRuleService = surveillanceRuleService;
+    }
+
+    /**
+     * Get all rules
+     */
+    @GetMapping
+    @Operation(summary = "Get surveillance rules", description = "Retrieve all rules by name, with how often each has fired since startup")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Rules retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<List<SurveillanceRuleDto>> getRules() {
+        return ResponseEntity.ok(surveillanceRuleService.getRules());
+    }
+
+    /**
+     * Get rule by ID
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Get surveillance rule by ID", description = "Retrieve a rule")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Rule found"),
+        @ApiResponse(responseCode = "404", description = "Rule not found"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<SurveillanceRuleDto> getRule(@PathVariable Long id) {
+        return ResponseEntity.ok(surveillanceRuleService.getRule(id));
+    }
+
+    /**
+     * Create a rule
+     */
+    @PostMapping
+    @Operation(summary = "Create surveillance rule", description = "Create a rule such as \"at least 5 diarrhea reports in one village within 24 hours raise a HIGH alert\"; it applies to reports from then on, counting recent ones")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Rule created"),
+        @ApiResponse(responseCode = "400", description = "Invalid rule or unknown district"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<SurveillanceRuleDto> createRule(@Valid @RequestBody SurveillanceRuleDto ruleDto) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(surveillanceRuleService.createRule(ruleDto));
+    }
+
+    /**
+     * Update a rule
+     */
+    @PutMapping("/{id}")
+    @Operation(summary = "Update surveillance rule", description = "Replace a rule's definition, or disable it")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Rule updated successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid rule or unknown district"),
+        @ApiResponse(responseCode = "404", description = "Rule not found"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<SurveillanceRuleDto> updateRule(@PathVariable Long id,
+                                                          @Valid @RequestBody SurveillanceRuleDto ruleDto) {
+        return ResponseEntity.ok(surveillanceRuleService.updateRule(id, ruleDto));
+    }
+
+    /**
+     * Delete a rule
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete surveillance rule", description = "Delete a rule; alerts it raised are kept")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Rule deleted successfully"),
+        @ApiResponse(responseCode = "404", description = "Rule not found"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<Void> deleteRule(@PathVariable Long id) {
+        surveillanceRuleService.deleteRule(id);
+        return ResponseEntity.noContent().build();
+    }
+}
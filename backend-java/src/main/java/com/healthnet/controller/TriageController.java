@@ -0,0 +1,126 @@
+package com.healthnet.controller;
+
+import com.healthnet.dto.TriageItemDto;
+import com.healthnet.entity.User;
+import com.healthnet.entity.UserRole;
+import com.healthnet.service.TriageQueueService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for the pending report triage queue
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/triage")
+@Tag(name = "Triage Queue", description = "APIs for claiming pending health reports in priority order")
+public class TriageController {
+    
+    private final TriageQueueService triageQueueService;
+    
+    public TriageController(TriageQueueService triageQueueService) {
+        this.triageQueueService = triageQueueService;
+    }
+    
+    /**
+     * Peek at the top of the queue
+     */
+    @GetMapping
+    @Operation(summary = "Get triage queue", description = "Retrieve unclaimed pending reports ordered by priority and age")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Queue retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<List<TriageItemDto>> getQueue(@AuthenticationPrincipal User user,
+                                                        @RequestParam(required = false) String district,
+                                                        @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(triageQueueService.peek(scopeDistrict(user, district), Math.min(Math.max(limit, 1), 500)));
+    }
+    
+    /**
+     * Claim the next report
+     */
+    @PostMapping("/claim")
+    @Operation(summary = "Claim next report", description = "Lease the highest priority unclaimed report to the current officer")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Report claimed"),
+        @ApiResponse(responseCode = "204", description = "No report available"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<TriageItemDto> claim(@AuthenticationPrincipal User user,
+                                               @RequestParam(required = false) String district) {
+        TriageItemDto claimed = triageQueueService.claim(user.getId(), scopeDistrict(user, district));
+        return claimed != null ? ResponseEntity.ok(claimed) : ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * Get the current officer's leases
+     */
+    @GetMapping("/mine")
+    @Operation(summary = "Get my claimed reports", description = "Retrieve reports currently leased by the current officer")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Leases retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<List<TriageItemDto>> getMyLeases(@AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(triageQueueService.getLeasesOf(user.getId()));
+    }
+    
+    /**
+     * Renew a lease
+     */
+    @PostMapping("/{reportId}/renew")
+    @Operation(summary = "Renew claim", description = "Extend the lease on a claimed report")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lease renewed"),
+        @ApiResponse(responseCode = "400", description = "Report is not leased by the current officer"),
+        @ApiResponse(responseCode = "404", description = "Report is not pending"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<TriageItemDto> renew(@AuthenticationPrincipal User user, @PathVariable Long reportId) {
+        return ResponseEntity.ok(triageQueueService.renew(reportId, user.getId()));
+    }
+    
+    /**
+     * Release a lease
+     */
+    @PostMapping("/{reportId}/release")
+    @Operation(summary = "Release claim", description = "Return a claimed report to the queue")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Lease released"),
+        @ApiResponse(responseCode = "400", description = "Report is not leased by the current officer"),
+        @ApiResponse(responseCode = "404", description = "Report is not pending"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<Void> release(@AuthenticationPrincipal User user, @PathVariable Long reportId) {
+        triageQueueService.release(reportId, user.getId());
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * District officers only work their own district
+     */
+    private String scopeDistrict(User user, String requested) {
+        return user.getRole() == UserRole.ADMIN ? requested : user.getDistrict();
+    }
+}
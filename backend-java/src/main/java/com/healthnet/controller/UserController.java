@@ -213,6 +213,7 @@ public class UserController {
         dto.setRole(user.getRole());
         dto.setStatus(user.getStatus());
         dto.setDistrict(user.getDistrict());
+        dto.setDistrictId(user.getDistrictId());
         dto.setState(user.getState());
         dto.setOriginalRole(user.getOriginalRole());
         dto.setPermissions(user.getPermissions());
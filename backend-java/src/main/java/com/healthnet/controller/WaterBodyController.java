@@ -0,0 +1,92 @@
+package com.healthnet.controller;
+
+import com.healthnet.dto.WaterBodyDto;
+import com.healthnet.dto.WaterSeriesDto;
+import com.healthnet.entity.WaterBodyType;
+import com.healthnet.entity.WaterParameter;
+import com.healthnet.service.WaterBodyService;
+import com.healthnet.util.Downsampler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * REST Controller for the registry of tested water bodies and their trend charts
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/water-bodies")
+@Tag(name = "Water Bodies", description = "APIs for tested water bodies and their readings over time")
+public class WaterBodyController {
+
+    private final WaterBodyService waterBodyService;
+
+    public WaterBodyController(WaterBodyService waterBodyService) {
+        this.waterBodyService = waterBodyService;
+    }
+
+    /**
+     * Get water bodies with pagination
+     */
+    @GetMapping
+    @Operation(summary = "Get water bodies", description = "Retrieve registered water bodies with their number of tests and latest quality, optionally of a district or a type")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Water bodies retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Page<WaterBodyDto>> getWaterBodies(@RequestParam(required = false) String district,
+                                                             @RequestParam(required = false) WaterBodyType type,
+                                                             @PageableDefault(sort = "name", direction = Sort.Direction.ASC) Pageable pageable) {
+        return ResponseEntity.ok(waterBodyService.getWaterBodies(district, type, pageable));
+    }
+
+    /**
+     * Get water body by ID
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Get water body by ID", description = "Retrieve a water body with a summary of its tests")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Water body found"),
+        @ApiResponse(responseCode = "404", description = "Water body not found"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<WaterBodyDto> getWaterBody(@PathVariable Long id) {
+        return ResponseEntity.ok(waterBodyService.getWaterBody(id));
+    }
+
+    /**
+     * Get the readings of one parameter of a water body for a trend chart
+     */
+    @GetMapping("/{id}/series")
+    @Operation(summary = "Get water body readings", description = "Readings of one parameter over a time range, downsampled on the server to at most the requested number of points, by largest-triangle-three-buckets (keeps the shape of the line) or min/max per time span (keeps every spike)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Readings retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid parameter, range or number of points"),
+        @ApiResponse(responseCode = "404", description = "Water body not found"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<WaterSeriesDto> getSeries(@PathVariable Long id,
+                                                    @RequestParam WaterParameter parameter,
+                                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                    @RequestParam(required = false) Integer points,
+                                                    @RequestParam(required = false) Downsampler.Method method) {
+        return ResponseEntity.ok(waterBodyService.getSeries(id, parameter, from, to, points, method));
+    }
+}
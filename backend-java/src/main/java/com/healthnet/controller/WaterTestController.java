@@ -0,0 +1,125 @@
+package com.healthnet.controller;
+
+import com.healthnet.dto.WaterOutbreakFindingDto;
+import com.healthnet.dto.WaterTestBatchResultDto;
+import com.healthnet.dto.WaterTestDto;
+import com.healthnet.entity.WaterQuality;
+import com.healthnet.service.WaterCorrelationService;
+import com.healthnet.service.WaterTestService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for water quality tests of village water sources
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/water-tests")
+@Tag(name = "Water Tests", description = "APIs for submitting and reviewing water quality tests")
+public class WaterTestController {
+
+    private final WaterTestService waterTestService;
+    private final WaterCorrelationService waterCorrelationService;
+
+    public WaterTestController(WaterTestService waterTestService, WaterCorrelationService waterCorrelationService) {
+        this.waterTestService = waterTestService;
+        this.waterCorrelationService = waterCorrelationService;
+    }
+
+    /**
+     * Submit a water test
+     */
+    @PostMapping
+    @Operation(summary = "Submit water test", description = "Store a water test from the testing form and classify it as safe, marginal or unsafe against the BIS drinking water limits")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Water test stored"),
+        @ApiResponse(responseCode = "400", description = "Invalid water test"),
+        @ApiResponse(responseCode = "409", description = "Sample id already submitted"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasAnyRole('ADMIN', 'DISTRICT_HEALTH_OFFICER', 'HEALTH_STAFF', 'ASHA_WORKER', 'ANM', 'NURSE')")
+    public ResponseEntity<WaterTestDto> createTest(@Valid @RequestBody WaterTestDto waterTestDto) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(waterTestService.createTest(waterTestDto));
+    }
+
+    /**
+     * Upload a batch of water tests
+     */
+    @PostMapping("/bulk")
+    @Operation(summary = "Upload water tests", description = "Store a laboratory batch of water tests; samples are classified in parallel, invalid samples and repeated sample ids are rejected individually")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed; see the counts and errors"),
+        @ApiResponse(responseCode = "400", description = "Empty or oversized batch"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER') or hasRole('HEALTH_STAFF')")
+    public ResponseEntity<WaterTestBatchResultDto> uploadTests(@RequestBody List<WaterTestDto> waterTests) {
+        return ResponseEntity.ok(waterTestService.ingest(waterTests));
+    }
+
+    /**
+     * Get water tests with pagination
+     */
+    @GetMapping
+    @Operation(summary = "Get water tests", description = "Retrieve water tests, latest test first, optionally of a district, a water body or a quality")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Water tests retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Page<WaterTestDto>> getTests(@RequestParam(required = false) String district,
+                                                       @RequestParam(required = false) Long waterBodyId,
+                                                       @RequestParam(required = false) WaterQuality quality,
+                                                       @PageableDefault(sort = "testedAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(waterTestService.getTests(district, waterBodyId, quality, pageable));
+    }
+
+    /**
+     * Get likely water-source outbreaks
+     */
+    @GetMapping("/outbreak-findings")
+    @Operation(summary = "Get likely water-source outbreaks", description = "Villages and districts whose gastrointestinal reports follow their recent marginal or unsafe water samples, ranked by lagged correlation weighted by the number of cases")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Findings retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Unknown district"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DISTRICT_HEALTH_OFFICER')")
+    public ResponseEntity<List<WaterOutbreakFindingDto>> getOutbreakFindings(@RequestParam(required = false) String district,
+                                                                             @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(waterCorrelationService.getFindings(district, Math.max(1, Math.min(limit, 500))));
+    }
+
+    /**
+     * Get water test by ID
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Get water test by ID", description = "Retrieve a water test with its classification")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Water test found"),
+        @ApiResponse(responseCode = "404", description = "Water test not found"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<WaterTestDto> getTest(@PathVariable Long id) {
+        return ResponseEntity.ok(waterTestService.getTest(id));
+    }
+}
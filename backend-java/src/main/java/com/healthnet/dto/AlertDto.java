@@ -0,0 +1,120 @@
+package com.healthnet.dto;
+
+import com.healthnet.entity.AlertStatus;
+import com.healthnet.entity.AlertType;
+import com.healthnet.entity.UrgencyLevel;
+import com.healthnet.entity.UserRole;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object for Alert entity, with the delivery progress of its messages
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class AlertDto {
+    
+    private Long id;
+    
+    @NotBlank(message = "Title is required")
+    @Size(max = 255, message = "Title must be at most 255 characters")
+    private String title;
+    
+    @Size(max = 2000, message = "Description must be at most 2000 characters")
+    private String description;
+    
+    @NotNull(message = "Alert type is required")
+    private AlertType type;
+    
+    @NotNull(message = "Priority is required")
+    private UrgencyLevel priority;
+    
+    private AlertStatus status;
+    private String district;
+    private List<String> districts;
+    private List<String> states;
+    private String location;
+    private List<UserRole> recipientRoles;
+    private Integer recipientCount;
+    private String messageText;
+    private Long createdBy;
+    private Long ruleId;
+    private boolean staffOnly;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private long queued;
+    private long sent;
+    private long failed;
+    
+    // Constructors
+    public AlertDto() {}
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    
+    public AlertType getType() { return type; }
+    public void setType(AlertType type) { this.type = type; }
+    
+    public UrgencyLevel getPriority() { return priority; }
+    public void setPriority(UrgencyLevel priority) { this.priority = priority; }
+    
+    public AlertStatus getStatus() { return status; }
+    public void setStatus(AlertStatus status) { this.status = status; }
+    
+    public String getDistrict() { return district; }
+    public void setDistrict(String district) { this.district = district; }
+    
+    public List<String> getDistricts() { return districts; }
+    public void setDistricts(List<String> districts) { this.districts = districts; }
+    
+    public List<String> getStates() { return states; }
+    public void setStates(List<String> states) { this.states = states; }
+    
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+    
+    public List<UserRole> getRecipientRoles() { return recipientRoles; }
+    public void setRecipientRoles(List<UserRole> recipientRoles) { this.recipientRoles = recipientRoles; }
+    
+    public Integer getRecipientCount() { return recipientCount; }
+    public void setRecipientCount(Integer recipientCount) { this.recipientCount = recipientCount; }
+    
+    public String getMessageText() { return messageText; }
+    public void setMessageText(String messageText) { this.messageText = messageText; }
+    
+    public Long getCreatedBy() { return createdBy; }
+    public void setCreatedBy(Long createdBy) { this.createdBy = createdBy; }
+    
+    public Long getRuleId() { return ruleId; }
+    public void setRuleId(Long ruleId) { this.ruleId = ruleId; }
+    
+    public boolean isStaffOnly() { return staffOnly; }
+    public void setStaffOnly(boolean staffOnly) { this.staffOnly = staffOnly; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    
+    public long getQueued() { return queued; }
+    public void setQueued(long queued) { this.queued = queued; }
+    
+    public long getSent() { return sent; }
+    public void setSent(long sent) { this.sent = sent; }
+    
+    public long getFailed() { return failed; }
+    public void setFailed(long failed) { this.failed = failed; }
+}
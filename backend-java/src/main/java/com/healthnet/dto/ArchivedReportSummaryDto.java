@@ -0,0 +1,70 @@
+package com.healthnet.dto;
+
+import com.healthnet.entity.ReportStatus;
+import com.healthnet.entity.UrgencyLevel;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight view of an archived health report, without the compressed payload
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class ArchivedReportSummaryDto {
+    
+    private Long id;
+    private String village;
+    private String district;
+    private UrgencyLevel urgency;
+    private ReportStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime processedAt;
+    private LocalDateTime archivedAt;
+    private Boolean anonymized;
+    
+    // Constructors
+    public ArchivedReportSummaryDto() {}
+    
+    public ArchivedReportSummaryDto(Long id, String village, String district, UrgencyLevel urgency,
+                                    ReportStatus status, LocalDateTime createdAt, LocalDateTime processedAt,
+                                    LocalDateTime archivedAt, Boolean anonymized) {
+        this.id = id;
+        this.village = village;
+        this.district = district;
+        this.urgency = urgency;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.processedAt = processedAt;
+        this.archivedAt = archivedAt;
+        this.anonymized = anonymized;
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getVillage() { return village; }
+    public void setVillage(String village) { this.village = village; }
+    
+    public String getDistrict() { return district; }
+    public void setDistrict(String district) { this.district = district; }
+    
+    public UrgencyLevel getUrgency() { return urgency; }
+    public void setUrgency(UrgencyLevel urgency) { this.urgency = urgency; }
+    
+    public ReportStatus getStatus() { return status; }
+    public void setStatus(ReportStatus status) { this.status = status; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getProcessedAt() { return processedAt; }
+    public void setProcessedAt(LocalDateTime processedAt) { this.processedAt = processedAt; }
+    
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+    public void setArchivedAt(LocalDateTime archivedAt) { this.archivedAt = archivedAt; }
+    
+    public Boolean getAnonymized() { return anonymized; }
+    public void setAnonymized(Boolean anonymized) { this.anonymized = anonymized; }
+}
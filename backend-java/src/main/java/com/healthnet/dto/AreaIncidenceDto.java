@@ -0,0 +1,49 @@
+package com.healthnet.dto;
+
+/**
+ * DTO for the report incidence of one district or state, keyed by its GADM id
+ * so map layers can bind it directly
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class AreaIncidenceDto {
+    
+    private String gid;
+    private String name;
+    private String state;
+    private long population;
+    private long cases;
+    private double incidencePer100k;
+    
+    // Constructors
+    public AreaIncidenceDto() {}
+    
+    public AreaIncidenceDto(String gid, String name, String state, long population, long cases) {
+        this.gid = gid;
+        this.name = name;
+        this.state = state;
+        this.population = population;
+        this.cases = cases;
+        this.incidencePer100k = population > 0 ? cases * 100_000.0 / population : 0;
+    }
+    
+    // Getters and Setters
+    public String getGid() { return gid; }
+    public void setGid(String gid) { this.gid = gid; }
+    
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    
+    public String getState() { return state; }
+    public void setState(String state) { this.state = state; }
+    
+    public long getPopulation() { return population; }
+    public void setPopulation(long population) { this.population = population; }
+    
+    public long getCases() { return cases; }
+    public void setCases(long cases) { this.cases = cases; }
+    
+    public double getIncidencePer100k() { return incidencePer100k; }
+    public void setIncidencePer100k(double incidencePer100k) { this.incidencePer100k = incidencePer100k; }
+}
@@ -0,0 +1,54 @@
+package com.healthnet.dto;
+
+/**
+ * DTO describing one precomputed boundary variant
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class BoundaryVariantDto {
+    
+    private int level;
+    private String resolution;
+    private Integer maxZoom;
+    private String format;
+    private int bytes;
+    private int gzipBytes;
+    private String etag;
+    
+    // Constructors
+    public BoundaryVariantDto() {}
+    
+    public BoundaryVariantDto(int level, String resolution, Integer maxZoom, String format,
+                              int bytes, int gzipBytes, String etag) {
+        this.level = level;
+        this.resolution = resolution;
+        this.maxZoom = maxZoom;
+        this.format = format;
+        this.bytes = bytes;
+        this.gzipBytes = gzipBytes;
+        this.etag = etag;
+    }
+    
+    // Getters and Setters
+    public int getLevel() { return level; }
+    public void setLevel(int level) { this.level = level; }
+    
+    public String getResolution() { return resolution; }
+    public void setResolution(String resolution) { this.resolution = resolution; }
+    
+    public Integer getMaxZoom() { return maxZoom; }
+    public void setMaxZoom(Integer maxZoom) { this.maxZoom = maxZoom; }
+    
+    public String getFormat() { return format; }
+    public void setFormat(String format) { this.format = format; }
+    
+    public int getBytes() { return bytes; }
+    public void setBytes(int bytes) { this.bytes = bytes; }
+    
+    public int getGzipBytes() { return gzipBytes; }
+    public void setGzipBytes(int gzipBytes) { this.gzipBytes = gzipBytes; }
+    
+    public String getEtag() { return etag; }
+    public void setEtag(String etag) { this.etag = etag; }
+}
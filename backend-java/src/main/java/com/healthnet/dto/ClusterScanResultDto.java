@@ -0,0 +1,59 @@
+package com.healthnet.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the outcome of one space-time cluster scan
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class ClusterScanResultDto {
+    
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String symptom;
+    private int totalCases;
+    private int unlocatedCases;
+    private int locations;
+    private int replicates;
+    private LocalDateTime completedAt;
+    private long durationMs;
+    private List<SpaceTimeClusterDto> clusters;
+    
+    // Constructors
+    public ClusterScanResultDto() {}
+    
+    // Getters and Setters
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+    
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+    
+    public String getSymptom() { return symptom; }
+    public void setSymptom(String symptom) { this.symptom = symptom; }
+    
+    public int getTotalCases() { return totalCases; }
+    public void setTotalCases(int totalCases) { this.totalCases = totalCases; }
+    
+    public int getUnlocatedCases() { return unlocatedCases; }
+    public void setUnlocatedCases(int unlocatedCases) { this.unlocatedCases = unlocatedCases; }
+    
+    public int getLocations() { return locations; }
+    public void setLocations(int locations) { this.locations = locations; }
+    
+    public int getReplicates() { return replicates; }
+    public void setReplicates(int replicates) { this.replicates = replicates; }
+    
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+    
+    public long getDurationMs() { return durationMs; }
+    public void setDurationMs(long durationMs) { this.durationMs = durationMs; }
+    
+    public List<SpaceTimeClusterDto> getClusters() { return clusters; }
+    public void setClusters(List<SpaceTimeClusterDto> clusters) { this.clusters = clusters; }
+}
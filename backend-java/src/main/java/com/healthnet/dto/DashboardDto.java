@@ -0,0 +1,65 @@
+package com.healthnet.dto;
+
+import com.healthnet.controller.HealthReportController;
+import com.healthnet.controller.UserController;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for the admin dashboard: every section in one response. A section
+ * that missed the deadline or failed is left null and named in timedOut or
+ * failed, so the dashboard can render the rest.
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class DashboardDto {
+    
+    private LocalDateTime generatedAt;
+    private long elapsedMs;
+    private HealthReportController.ReportStatistics reports;
+    private UserController.UserStatistics users;
+    /** Cases and incidence per district over the last 30 days */
+    private IncidenceDto incidence;
+    private List<AlertDto> activeAlerts;
+    private List<OutbreakSignalDto> outbreakSignals;
+    private List<WaterOutbreakFindingDto> waterFindings;
+    private List<String> timedOut = new ArrayList<>();
+    private List<String> failed = new ArrayList<>();
+    
+    // Constructors
+    public DashboardDto() {}
+    
+    // Getters and Setters
+    public LocalDateTime getGeneratedAt() { return generatedAt; }
+    public void setGeneratedAt(LocalDateTime generatedAt) { this.generatedAt = generatedAt; }
+    
+    public long getElapsedMs() { return elapsedMs; }
+    public void setElapsedMs(long elapsedMs) { this.elapsedMs = elapsedMs; }
+    
+    public HealthReportController.ReportStatistics getReports() { return reports; }
+    public void setReports(HealthReportController.ReportStatistics reports) { this.reports = reports; }
+    
+    public UserController.UserStatistics getUsers() { return users; }
+    public void setUsers(UserController.UserStatistics users) { this.users = users; }
+    
+    public IncidenceDto getIncidence() { return incidence; }
+    public void setIncidence(IncidenceDto incidence) { this.incidence = incidence; }
+    
+    public List<AlertDto> getActiveAlerts() { return activeAlerts; }
+    public void setActiveAlerts(List<AlertDto> activeAlerts) { this.activeAlerts = activeAlerts; }
+    
+    public List<OutbreakSignalDto> getOutbreakSignals() { return outbreakSignals; }
+    public void setOutbreakSignals(List<OutbreakSignalDto> outbreakSignals) { this.outbreakSignals = outbreakSignals; }
+    
+    public List<WaterOutbreakFindingDto> getWaterFindings() { return waterFindings; }
+    public void setWaterFindings(List<WaterOutbreakFindingDto> waterFindings) { this.waterFindings = waterFindings; }
+    
+    public List<String> getTimedOut() { return timedOut; }
+    public void setTimedOut(List<String> timedOut) { this.timedOut = timedOut; }
+    
+    public List<String> getFailed() { return failed; }
+    public void setFailed(List<String> failed) { this.failed = failed; }
+}
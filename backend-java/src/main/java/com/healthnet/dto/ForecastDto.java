@@ -0,0 +1,64 @@
+package com.healthnet.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the daily caseload forecast of one district and symptom.
+ * A symptom of "*" means all reports of the district.
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class ForecastDto {
+    
+    private String district;
+    private String state;
+    private String symptom;
+    private LocalDate fittedThrough;
+    private LocalDateTime generatedAt;
+    private double alpha;
+    private double beta;
+    private double gamma;
+    private double residualStdDev;
+    private double intervalZ;
+    private List<ForecastPointDto> points;
+    
+    // Constructors
+    public ForecastDto() {}
+    
+    // Getters and Setters
+    public String getDistrict() { return district; }
+    public void setDistrict(String district) { this.district = district; }
+    
+    public String getState() { return state; }
+    public void setState(String state) { this.state = state; }
+    
+    public String getSymptom() { return symptom; }
+    public void setSymptom(String symptom) { this.symptom = symptom; }
+    
+    public LocalDate getFittedThrough() { return fittedThrough; }
+    public void setFittedThrough(LocalDate fittedThrough) { this.fittedThrough = fittedThrough; }
+    
+    public LocalDateTime getGeneratedAt() { return generatedAt; }
+    public void setGeneratedAt(LocalDateTime generatedAt) { this.generatedAt = generatedAt; }
+    
+    public double getAlpha() { return alpha; }
+    public void setAlpha(double alpha) { this.alpha = alpha; }
+    
+    public double getBeta() { return beta; }
+    public void setBeta(double beta) { this.beta = beta; }
+    
+    public double getGamma() { return gamma; }
+    public void setGamma(double gamma) { this.gamma = gamma; }
+    
+    public double getResidualStdDev() { return residualStdDev; }
+    public void setResidualStdDev(double residualStdDev) { this.residualStdDev = residualStdDev; }
+    
+    public double getIntervalZ() { return intervalZ; }
+    public void setIntervalZ(double intervalZ) { this.intervalZ = intervalZ; }
+    
+    public List<ForecastPointDto> getPoints() { return points; }
+    public void setPoints(List<ForecastPointDto> points) { this.points = points; }
+}
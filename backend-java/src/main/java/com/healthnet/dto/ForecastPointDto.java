@@ -0,0 +1,40 @@
+package com.healthnet.dto;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for one day of a caseload forecast with its prediction interval
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class ForecastPointDto {
+    
+    private LocalDate date;
+    private double expected;
+    private double lower;
+    private double upper;
+    
+    // Constructors
+    public ForecastPointDto() {}
+    
+    public ForecastPointDto(LocalDate date, double expected, double lower, double upper) {
+        this.date = date;
+        this.expected = expected;
+        this.lower = lower;
+        this.upper = upper;
+    }
+    
+    // Getters and Setters
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+    
+    public double getExpected() { return expected; }
+    public void setExpected(double expected) { this.expected = expected; }
+    
+    public double getLower() { return lower; }
+    public void setLower(double lower) { this.lower = lower; }
+    
+    public double getUpper() { return upper; }
+    public void setUpper(double upper) { this.upper = upper; }
+}
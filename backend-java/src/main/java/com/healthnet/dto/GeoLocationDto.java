@@ -0,0 +1,59 @@
+package com.healthnet.dto;
+
+/**
+ * DTO for the administrative areas containing a coordinate, by GADM id and name
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class GeoLocationDto {
+    
+    private double latitude;
+    private double longitude;
+    private String stateGid;
+    private String state;
+    private String districtGid;
+    private String district;
+    private String villageGid;
+    private String village;
+    
+    // Constructors
+    public GeoLocationDto() {}
+    
+    public GeoLocationDto(double latitude, double longitude, String stateGid, String state,
+                          String districtGid, String district, String villageGid, String village) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.stateGid = stateGid;
+        this.state = state;
+        this.districtGid = districtGid;
+        this.district = district;
+        this.villageGid = villageGid;
+        this.village = village;
+    }
+    
+    // Getters and Setters
+    public double getLatitude() { return latitude; }
+    public void setLatitude(double latitude) { this.latitude = latitude; }
+    
+    public double getLongitude() { return longitude; }
+    public void setLongitude(double longitude) { this.longitude = longitude; }
+    
+    public String getStateGid() { return stateGid; }
+    public void setStateGid(String stateGid) { this.stateGid = stateGid; }
+    
+    public String getState() { return state; }
+    public void setState(String state) { this.state = state; }
+    
+    public String getDistrictGid() { return districtGid; }
+    public void setDistrictGid(String districtGid) { this.districtGid = districtGid; }
+    
+    public String getDistrict() { return district; }
+    public void setDistrict(String district) { this.district = district; }
+    
+    public String getVillageGid() { return villageGid; }
+    public void setVillageGid(String villageGid) { this.villageGid = villageGid; }
+    
+    public String getVillage() { return village; }
+    public void setVillage(String village) { this.village = village; }
+}
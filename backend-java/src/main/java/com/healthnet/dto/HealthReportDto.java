@@ -29,6 +29,14 @@ public class HealthReportDto {
     @NotBlank(message = "District is required")
     private String district;
     
+    private Integer districtId;
+    private Integer villageId;
+    private Double latitude;
+    private Double longitude;
+    private String districtGid;
+    private String villageGid;
+    private Long duplicateOfId;
+    private Double duplicateSimilarity;
     private List<String> symptoms;
     private String description;
     
@@ -97,6 +105,70 @@ public class HealthReportDto {
         this.district = district;
     }
     
+    public Integer getDistrictId() {
+        return districtId;
+    }
+    
+    public void setDistrictId(Integer districtId) {
+        this.districtId = districtId;
+    }
+    
+    public Integer getVillageId() {
+        return villageId;
+    }
+    
+    public void setVillageId(Integer villageId) {
+        this.villageId = villageId;
+    }
+    
+    public Double getLatitude() {
+        return latitude;
+    }
+    
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+    
+    public Double getLongitude() {
+        return longitude;
+    }
+    
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+    
+    public String getDistrictGid() {
+        return districtGid;
+    }
+    
+    public void setDistrictGid(String districtGid) {
+        this.districtGid = districtGid;
+    }
+    
+    public String getVillageGid() {
+        return villageGid;
+    }
+    
+    public void setVillageGid(String villageGid) {
+        this.villageGid = villageGid;
+    }
+    
+    public Long getDuplicateOfId() {
+        return duplicateOfId;
+    }
+    
+    public void setDuplicateOfId(Long duplicateOfId) {
+        this.duplicateOfId = duplicateOfId;
+    }
+    
+    public Double getDuplicateSimilarity() {
+        return duplicateSimilarity;
+    }
+    
+    public void setDuplicateSimilarity(Double duplicateSimilarity) {
+        this.duplicateSimilarity = duplicateSimilarity;
+    }
+    
     public List<String> getSymptoms() {
         return symptoms;
     }
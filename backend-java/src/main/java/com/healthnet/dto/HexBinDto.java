@@ -0,0 +1,43 @@
+package com.healthnet.dto;
+
+/**
+ * DTO for one heatmap hexagon: cell id, centre and report counts
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class HexBinDto {
+    
+    private String id;
+    private double latitude;
+    private double longitude;
+    private long count;
+    private long openCount;
+    
+    // Constructors
+    public HexBinDto() {}
+    
+    public HexBinDto(String id, double latitude, double longitude, long count, long openCount) {
+        this.id = id;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.count = count;
+        this.openCount = openCount;
+    }
+    
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    
+    public double getLatitude() { return latitude; }
+    public void setLatitude(double latitude) { this.latitude = latitude; }
+    
+    public double getLongitude() { return longitude; }
+    public void setLongitude(double longitude) { this.longitude = longitude; }
+    
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+    
+    public long getOpenCount() { return openCount; }
+    public void setOpenCount(long openCount) { this.openCount = openCount; }
+}
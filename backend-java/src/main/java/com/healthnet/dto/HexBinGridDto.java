@@ -0,0 +1,64 @@
+package com.healthnet.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for the heatmap hexagons in view at one grid resolution.
+ * Clients draw each cell as a pointy-top hexagon around its centre with the
+ * given edge length in Web Mercator metres.
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class HexBinGridDto {
+    
+    private int resolution;
+    private double edgeKm;
+    private double edgeMercatorMeters;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private long totalReports;
+    private long openReports;
+    private List<HexBinDto> cells;
+    
+    // Constructors
+    public HexBinGridDto() {}
+    
+    public HexBinGridDto(int resolution, double edgeKm, double edgeMercatorMeters, LocalDate startDate,
+                         LocalDate endDate, long totalReports, long openReports, List<HexBinDto> cells) {
+        this.resolution = resolution;
+        this.edgeKm = edgeKm;
+        this.edgeMercatorMeters = edgeMercatorMeters;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.totalReports = totalReports;
+        this.openReports = openReports;
+        this.cells = cells;
+    }
+    
+    // Getters and Setters
+    public int getResolution() { return resolution; }
+    public void setResolution(int resolution) { this.resolution = resolution; }
+    
+    public double getEdgeKm() { return edgeKm; }
+    public void setEdgeKm(double edgeKm) { this.edgeKm = edgeKm; }
+    
+    public double getEdgeMercatorMeters() { return edgeMercatorMeters; }
+    public void setEdgeMercatorMeters(double edgeMercatorMeters) { this.edgeMercatorMeters = edgeMercatorMeters; }
+    
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+    
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+    
+    public long getTotalReports() { return totalReports; }
+    public void setTotalReports(long totalReports) { this.totalReports = totalReports; }
+    
+    public long getOpenReports() { return openReports; }
+    public void setOpenReports(long openReports) { this.openReports = openReports; }
+    
+    public List<HexBinDto> getCells() { return cells; }
+    public void setCells(List<HexBinDto> cells) { this.cells = cells; }
+}
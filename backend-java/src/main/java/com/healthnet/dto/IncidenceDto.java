@@ -0,0 +1,43 @@
+package com.healthnet.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for population-normalized report incidence over a date window
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class IncidenceDto {
+    
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<String> symptoms;
+    private LocalDateTime generatedAt;
+    private List<AreaIncidenceDto> districts;
+    private List<AreaIncidenceDto> states;
+    
+    // Constructors
+    public IncidenceDto() {}
+    
+    // Getters and Setters
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+    
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+    
+    public List<String> getSymptoms() { return symptoms; }
+    public void setSymptoms(List<String> symptoms) { this.symptoms = symptoms; }
+    
+    public LocalDateTime getGeneratedAt() { return generatedAt; }
+    public void setGeneratedAt(LocalDateTime generatedAt) { this.generatedAt = generatedAt; }
+    
+    public List<AreaIncidenceDto> getDistricts() { return districts; }
+    public void setDistricts(List<AreaIncidenceDto> districts) { this.districts = districts; }
+    
+    public List<AreaIncidenceDto> getStates() { return states; }
+    public void setStates(List<AreaIncidenceDto> states) { this.states = states; }
+}
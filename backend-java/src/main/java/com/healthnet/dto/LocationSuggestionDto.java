@@ -0,0 +1,56 @@
+package com.healthnet.dto;
+
+import com.healthnet.entity.LocationType;
+
+/**
+ * DTO for one autocomplete suggestion of a district or village name
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class LocationSuggestionDto {
+    
+    private String name;
+    private LocationType type;
+    private String district;
+    private String state;
+    private String gid;
+    private boolean fuzzy;
+    private double score;
+    
+    // Constructors
+    public LocationSuggestionDto() {}
+    
+    public LocationSuggestionDto(String name, LocationType type, String district, String state, String gid,
+                                 boolean fuzzy, double score) {
+        this.name = name;
+        this.type = type;
+        this.district = district;
+        this.state = state;
+        this.gid = gid;
+        this.fuzzy = fuzzy;
+        this.score = score;
+    }
+    
+    // Getters and Setters
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    
+    public LocationType getType() { return type; }
+    public void setType(LocationType type) { this.type = type; }
+    
+    public String getDistrict() { return district; }
+    public void setDistrict(String district) { this.district = district; }
+    
+    public String getState() { return state; }
+    public void setState(String state) { this.state = state; }
+    
+    public String getGid() { return gid; }
+    public void setGid(String gid) { this.gid = gid; }
+    
+    public boolean isFuzzy() { return fuzzy; }
+    public void setFuzzy(boolean fuzzy) { this.fuzzy = fuzzy; }
+    
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+}
@@ -0,0 +1,82 @@
+package com.healthnet.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.healthnet.entity.UserRole;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for everything the staff app needs when it starts: the signed-in
+ * user, their district's reference data, the alerts reaching it and recent
+ * medicine distributions
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class MobileBootstrapDto {
+    
+    private Long id;
+    private String name;
+    private String email;
+    private String phone;
+    private UserRole role;
+    private String designation;
+    private String district;
+    private String state;
+    private List<String> permissions;
+    private LocalDateTime tokenExpiresAt;
+    private Long districtPopulation;
+    /** Known village names of the district, for the report and water test forms */
+    private List<String> villages;
+    /** Public alerts feed of the district, embedded as served by /api/alerts/feed */
+    @JsonRawValue
+    private String alerts;
+    private List<DistributionRecordDto> distributionRecords;
+    
+    // Constructors
+    public MobileBootstrapDto() {}
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+    
+    public String getPhone() { return phone; }
+    public void setPhone(String phone) { this.phone = phone; }
+    
+    public UserRole getRole() { return role; }
+    public void setRole(UserRole role) { this.role = role; }
+    
+    public String getDesignation() { return designation; }
+    public void setDesignation(String designation) { this.designation = designation; }
+    
+    public String getDistrict() { return district; }
+    public void setDistrict(String district) { this.district = district; }
+    
+    public String getState() { return state; }
+    public void setState(String state) { this.state = state; }
+    
+    public List<String> getPermissions() { return permissions; }
+    public void setPermissions(List<String> permissions) { this.permissions = permissions; }
+    
+    public LocalDateTime getTokenExpiresAt() { return tokenExpiresAt; }
+    public void setTokenExpiresAt(LocalDateTime tokenExpiresAt) { this.tokenExpiresAt = tokenExpiresAt; }
+    
+    public Long getDistrictPopulation() { return districtPopulation; }
+    public void setDistrictPopulation(Long districtPopulation) { this.districtPopulation = districtPopulation; }
+    
+    public List<String> getVillages() { return villages; }
+    public void setVillages(List<String> villages) { this.villages = villages; }
+    
+    public String getAlerts() { return alerts; }
+    public void setAlerts(String alerts) { this.alerts = alerts; }
+    
+    public List<DistributionRecordDto> getDistributionRecords() { return distributionRecords; }
+    public void setDistributionRecords(List<DistributionRecordDto> distributionRecords) { this.distributionRecords = distributionRecords; }
+}
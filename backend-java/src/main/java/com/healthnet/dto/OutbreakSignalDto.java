@@ -0,0 +1,77 @@
+package com.healthnet.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for an outbreak signal raised by the streaming anomaly detector.
+ * A village of "*" means the signal covers the whole district.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class OutbreakSignalDto {
+
+    private String district;
+    private String village;
+    private String symptom;
+    private int observed;
+    private double expected;
+    private double zScore;
+    private double cusum;
+    private String severity;
+    private LocalDateTime windowStart;
+    private LocalDateTime detectedAt;
+
+    // Constructors
+    public OutbreakSignalDto() {}
+
+    public OutbreakSignalDto(String district, String village, String symptom, int observed, double expected,
+                             double zScore, double cusum, String severity,
+                             LocalDateTime windowStart, LocalDateTime detectedAt) {
+        this.district = district;
+        this.village = village;
+        this.symptom = symptom;
+        this.observed = observed;
+        this.expected = expected;
+        this.zScore = zScore;
+        this.cusum = cusum;
+        this.severity = severity;
+        this.windowStart = windowStart;
+        this.detectedAt = detectedAt;
+    }
+
+    // Getters and Setters
+    public String getDistrict() { return district; }
+    public void setDistrict(String district) { this.district = district; }
+
+    public String getVillage() { return village; }
+    public void setVillage(String village) { this.village = village; }
+
+    public String getSymptom() { return symptom; }
+    public void setSymptom(String symptom) { this.symptom = symptom; }
+
+    public int getObserved() { return observed; }
+    public void setObserved(int observed) { this.observed = observed; }
+
+    public double getExpected() { return expected; }
+    public void setExpected(double expected) { this.expected = expected; }
+
+    @JsonProperty("zScore")
+    public double getZScore() { return zScore; }
+    @JsonProperty("zScore")
+    public void setZScore(double zScore) { this.zScore = zScore; }
+
+    public double getCusum() { return cusum; }
+    public void setCusum(double cusum) { this.cusum = cusum; }
+
+    public String getSeverity() { return severity; }
+    public void setSeverity(String severity) { this.severity = severity; }
+
+    public LocalDateTime getWindowStart() { return windowStart; }
+    public void setWindowStart(LocalDateTime windowStart) { this.windowStart = windowStart; }
+
+    public LocalDateTime getDetectedAt() { return detectedAt; }
+    public void setDetectedAt(LocalDateTime detectedAt) { this.detectedAt = detectedAt; }
+}
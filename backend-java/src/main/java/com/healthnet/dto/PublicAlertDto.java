@@ -0,0 +1,73 @@
+package com.healthnet.dto;
+
+import com.healthnet.entity.AlertStatus;
+import com.healthnet.entity.AlertType;
+import com.healthnet.entity.UrgencyLevel;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for an alert in the public alerts feed, with labels in the feed's language
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class PublicAlertDto {
+    
+    private Long id;
+    private String title;
+    private String description;
+    private AlertType type;
+    private String typeLabel;
+    private UrgencyLevel priority;
+    private String priorityLabel;
+    private AlertStatus status;
+    private String statusLabel;
+    private String area;
+    private String location;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public PublicAlertDto() {}
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    
+    public AlertType getType() { return type; }
+    public void setType(AlertType type) { this.type = type; }
+    
+    public String getTypeLabel() { return typeLabel; }
+    public void setTypeLabel(String typeLabel) { this.typeLabel = typeLabel; }
+    
+    public UrgencyLevel getPriority() { return priority; }
+    public void setPriority(UrgencyLevel priority) { this.priority = priority; }
+    
+    public String getPriorityLabel() { return priorityLabel; }
+    public void setPriorityLabel(String priorityLabel) { this.priorityLabel = priorityLabel; }
+    
+    public AlertStatus getStatus() { return status; }
+    public void setStatus(AlertStatus status) { this.status = status; }
+    
+    public String getStatusLabel() { return statusLabel; }
+    public void setStatusLabel(String statusLabel) { this.statusLabel = statusLabel; }
+    
+    public String getArea() { return area; }
+    public void setArea(String area) { this.area = area; }
+    
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
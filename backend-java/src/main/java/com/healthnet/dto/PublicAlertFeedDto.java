@@ -0,0 +1,52 @@
+package com.healthnet.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the public alerts feed of one district (or all districts) in one language
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class PublicAlertFeedDto {
+    
+    private String district;
+    private String language;
+    private String title;
+    private String noAlertsText;
+    private LocalDateTime lastUpdated;
+    private List<PublicAlertDto> alerts;
+    
+    // Constructors
+    public PublicAlertFeedDto() {}
+    
+    public PublicAlertFeedDto(String district, String language, String title, String noAlertsText,
+                              LocalDateTime lastUpdated, List<PublicAlertDto> alerts) {
+        this.district = district;
+        this.language = language;
+        this.title = title;
+        this.noAlertsText = noAlertsText;
+        this.lastUpdated = lastUpdated;
+        this.alerts = alerts;
+    }
+    
+    // Getters and Setters
+    public String getDistrict() { return district; }
+    public void setDistrict(String district) { this.district = district; }
+    
+    public String getLanguage() { return language; }
+    public void setLanguage(String language) { this.language = language; }
+    
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    
+    public String getNoAlertsText() { return noAlertsText; }
+    public void setNoAlertsText(String noAlertsText) { this.noAlertsText = noAlertsText; }
+    
+    public LocalDateTime getLastUpdated() { return lastUpdated; }
+    public void setLastUpdated(LocalDateTime lastUpdated) { this.lastUpdated = lastUpdated; }
+    
+    public List<PublicAlertDto> getAlerts() { return alerts; }
+    public void setAlerts(List<PublicAlertDto> alerts) { this.alerts = alerts; }
+}
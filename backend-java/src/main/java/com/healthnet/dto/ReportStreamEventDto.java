@@ -0,0 +1,76 @@
+package com.healthnet.dto;
+
+import com.healthnet.entity.ReportStatus;
+import com.healthnet.entity.UrgencyLevel;
+import com.healthnet.event.HealthReportEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Payload pushed to dashboard subscribers of the report event stream.
+ * Reporter contact details are deliberately left out.
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class ReportStreamEventDto {
+    
+    private long eventId;
+    private HealthReportEvent.Type type;
+    private Long reportId;
+    private String village;
+    private String district;
+    private List<String> symptoms;
+    private UrgencyLevel urgency;
+    private ReportStatus status;
+    private ReportStatus previousStatus;
+    private LocalDateTime occurredAt;
+    
+    // Constructors
+    public ReportStreamEventDto() {}
+    
+    public ReportStreamEventDto(long eventId, HealthReportEvent event) {
+        this.eventId = eventId;
+        this.type = event.getType();
+        this.reportId = event.getReportId();
+        this.village = event.getVillage();
+        this.district = event.getDistrict();
+        this.symptoms = event.getSymptoms();
+        this.urgency = event.getUrgency();
+        this.status = event.getStatus();
+        this.previousStatus = event.getPreviousStatus();
+        this.occurredAt = event.getOccurredAt();
+    }
+    
+    // Getters and Setters
+    public long getEventId() { return eventId; }
+    public void setEventId(long eventId) { this.eventId = eventId; }
+    
+    public HealthReportEvent.Type getType() { return type; }
+    public void setType(HealthReportEvent.Type type) { this.type = type; }
+    
+    public Long getReportId() { return reportId; }
+    public void setReportId(Long reportId) { this.reportId = reportId; }
+    
+    public String getVillage() { return village; }
+    public void setVillage(String village) { this.village = village; }
+    
+    public String getDistrict() { return district; }
+    public void setDistrict(String district) { this.district = district; }
+    
+    public List<String> getSymptoms() { return symptoms; }
+    public void setSymptoms(List<String> symptoms) { this.symptoms = symptoms; }
+    
+    public UrgencyLevel getUrgency() { return urgency; }
+    public void setUrgency(UrgencyLevel urgency) { this.urgency = urgency; }
+    
+    public ReportStatus getStatus() { return status; }
+    public void setStatus(ReportStatus status) { this.status = status; }
+    
+    public ReportStatus getPreviousStatus() { return previousStatus; }
+    public void setPreviousStatus(ReportStatus previousStatus) { this.previousStatus = previousStatus; }
+    
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(LocalDateTime occurredAt) { this.occurredAt = occurredAt; }
+}
@@ -0,0 +1,64 @@
+package com.healthnet.dto;
+
+/**
+ * DTO for the state and counters of one SMS provider
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class SmsProviderStatusDto {
+    
+    private String name;
+    private String circuitState;
+    private double ratePerSecond;
+    private int batchSize;
+    private int weight;
+    private long sent;
+    private long retried;
+    private long rejected;
+    private long callFailures;
+    
+    // Constructors
+    public SmsProviderStatusDto() {}
+    
+    public SmsProviderStatusDto(String name, String circuitState, double ratePerSecond, int batchSize, int weight,
+                                long sent, long retried, long rejected, long callFailures) {
+        this.name = name;
+        this.circuitState = circuitState;
+        this.ratePerSecond = ratePerSecond;
+        this.batchSize = batchSize;
+        this.weight = weight;
+        this.sent = sent;
+        this.retried = retried;
+        this.rejected = rejected;
+        this.callFailures = callFailures;
+    }
+    
+    // Getters and Setters
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    
+    public String getCircuitState() { return circuitState; }
+    public void setCircuitState(String circuitState) { this.circuitState = circuitState; }
+    
+    public double getRatePerSecond() { return ratePerSecond; }
+    public void setRatePerSecond(double ratePerSecond) { this.ratePerSecond = ratePerSecond; }
+    
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+    
+    public int getWeight() { return weight; }
+    public void setWeight(int weight) { this.weight = weight; }
+    
+    public long getSent() { return sent; }
+    public void setSent(long sent) { this.sent = sent; }
+    
+    public long getRetried() { return retried; }
+    public void setRetried(long retried) { this.retried = retried; }
+    
+    public long getRejected() { return rejected; }
+    public void setRejected(long rejected) { this.rejected = rejected; }
+    
+    public long getCallFailures() { return callFailures; }
+    public void setCallFailures(long callFailures) { this.callFailures = callFailures; }
+}
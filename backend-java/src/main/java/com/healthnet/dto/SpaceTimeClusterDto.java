@@ -0,0 +1,84 @@
+package com.healthnet.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for a space-time cluster found by the cluster scan: a circle of
+ * sub-districts around a centre over a run of days with more reports than
+ * expected
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class SpaceTimeClusterDto {
+    
+    private int rank;
+    private String centerGid;
+    private String centerName;
+    private double latitude;
+    private double longitude;
+    private double radiusKm;
+    private List<String> areas;
+    private List<String> districts;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int observed;
+    private double expected;
+    private double relativeRisk;
+    private double logLikelihoodRatio;
+    private double pValue;
+    
+    // Constructors
+    public SpaceTimeClusterDto() {}
+    
+    // Getters and Setters
+    public int getRank() { return rank; }
+    public void setRank(int rank) { this.rank = rank; }
+    
+    public String getCenterGid() { return centerGid; }
+    public void setCenterGid(String centerGid) { this.centerGid = centerGid; }
+    
+    public String getCenterName() { return centerName; }
+    public void setCenterName(String centerName) { this.centerName = centerName; }
+    
+    public double getLatitude() { return latitude; }
+    public void setLatitude(double latitude) { this.latitude = latitude; }
+    
+    public double getLongitude() { return longitude; }
+    public void setLongitude(double longitude) { this.longitude = longitude; }
+    
+    public double getRadiusKm() { return radiusKm; }
+    public void setRadiusKm(double radiusKm) { this.radiusKm = radiusKm; }
+    
+    public List<String> getAreas() { return areas; }
+    public void setAreas(List<String> areas) { this.areas = areas; }
+    
+    public List<String> getDistricts() { return districts; }
+    public void setDistricts(List<String> districts) { this.districts = districts; }
+    
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+    
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+    
+    public int getObserved() { return observed; }
+    public void setObserved(int observed) { this.observed = observed; }
+    
+    public double getExpected() { return expected; }
+    public void setExpected(double expected) { this.expected = expected; }
+    
+    public double getRelativeRisk() { return relativeRisk; }
+    public void setRelativeRisk(double relativeRisk) { this.relativeRisk = relativeRisk; }
+    
+    public double getLogLikelihoodRatio() { return logLikelihoodRatio; }
+    public void setLogLikelihoodRatio(double logLikelihoodRatio) { this.logLikelihoodRatio = logLikelihoodRatio; }
+    
+    @JsonProperty("pValue")
+    public double getPValue() { return pValue; }
+    @JsonProperty("pValue")
+    public void setPValue(double pValue) { this.pValue = pValue; }
+}
@@ -0,0 +1,119 @@
+package com.healthnet.dto;
+
+import com.healthnet.entity.AlertType;
+import com.healthnet.entity.RuleScope;
+import com.healthnet.entity.UrgencyLevel;
+import com.healthnet.entity.UserRole;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object for SurveillanceRule entity, with how often the rule has fired since startup
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class SurveillanceRuleDto {
+    
+    private Long id;
+    
+    @NotBlank(message = "Name is required")
+    @Size(max = 255, message = "Name must be at most 255 characters")
+    private String name;
+    
+    private Boolean enabled;
+    private String symptom;
+    private String district;
+    private UrgencyLevel minUrgency;
+    private RuleScope scope;
+    
+    @NotNull(message = "Threshold is required")
+    @Min(value = 1, message = "Threshold must be at least 1")
+    @Max(value = 1000, message = "Threshold must be at most 1000")
+    private Integer threshold;
+    
+    @NotNull(message = "Window is required")
+    @Min(value = 1, message = "Window must be at least 1 hour")
+    @Max(value = 720, message = "Window must be at most 720 hours")
+    private Integer windowHours;
+    
+    @Min(value = 0, message = "Cooldown must not be negative")
+    @Max(value = 720, message = "Cooldown must be at most 720 hours")
+    private Integer cooldownHours;
+    
+    private AlertType alertType;
+    
+    @NotNull(message = "Alert priority is required")
+    private UrgencyLevel alertPriority;
+    
+    private List<UserRole> recipientRoles;
+    private Long createdBy;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private long firings;
+    private LocalDateTime lastFiredAt;
+    
+    // Constructors
+    public SurveillanceRuleDto() {}
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    
+    public Boolean getEnabled() { return enabled; }
+    public void setEnabled(Boolean enabled) { this.enabled = enabled; }
+    
+    public String getSymptom() { return symptom; }
+    public void setSymptom(String symptom) { this.symptom = symptom; }
+    
+    public String getDistrict() { return district; }
+    public void setDistrict(String district) { this.district = district; }
+    
+    public UrgencyLevel getMinUrgency() { return minUrgency; }
+    public void setMinUrgency(UrgencyLevel minUrgency) { this.minUrgency = minUrgency; }
+    
+    public RuleScope getScope() { return scope; }
+    public void setScope(RuleScope scope) { this.scope = scope; }
+    
+    public Integer getThreshold() { return threshold; }
+    public void setThreshold(Integer threshold) { this.threshold = threshold; }
+    
+    public Integer getWindowHours() { return windowHours; }
+    public void setWindowHours(Integer windowHours) { this.windowHours = windowHours; }
+    
+    public Integer getCooldownHours() { return cooldownHours; }
+    public void setCooldownHours(Integer cooldownHours) { this.cooldownHours = cooldownHours; }
+    
+    public AlertType getAlertType() { return alertType; }
+    public void setAlertType(AlertType alertType) { this.alertType = alertType; }
+    
+    public UrgencyLevel getAlertPriority() { return alertPriority; }
+    public void setAlertPriority(UrgencyLevel alertPriority) { this.alertPriority = alertPriority; }
+    
+    public List<UserRole> getRecipientRoles() { return recipientRoles; }
+    public void setRecipientRoles(List<UserRole> recipientRoles) { this.recipientRoles = recipientRoles; }
+    
+    public Long getCreatedBy() { return createdBy; }
+    public void setCreatedBy(Long createdBy) { this.createdBy = createdBy; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    
+    public long getFirings() { return firings; }
+    public void setFirings(long firings) { this.firings = firings; }
+    
+    public LocalDateTime getLastFiredAt() { return lastFiredAt; }
+    public void setLastFiredAt(LocalDateTime lastFiredAt) { this.lastFiredAt = lastFiredAt; }
+}
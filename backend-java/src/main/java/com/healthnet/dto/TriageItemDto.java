@@ -0,0 +1,53 @@
+package com.healthnet.dto;
+
+import com.healthnet.entity.UrgencyLevel;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for an entry of the triage queue
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class TriageItemDto {
+    
+    private Long reportId;
+    private String district;
+    private UrgencyLevel urgency;
+    private LocalDateTime createdAt;
+    private Long leasedBy;
+    private LocalDateTime leaseExpiresAt;
+    
+    // Constructors
+    public TriageItemDto() {}
+    
+    public TriageItemDto(Long reportId, String district, UrgencyLevel urgency, LocalDateTime createdAt,
+                         Long leasedBy, LocalDateTime leaseExpiresAt) {
+        this.reportId = reportId;
+        this.district = district;
+        this.urgency = urgency;
+        this.createdAt = createdAt;
+        this.leasedBy = leasedBy;
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+    
+    // Getters and Setters
+    public Long getReportId() { return reportId; }
+    public void setReportId(Long reportId) { this.reportId = reportId; }
+    
+    public String getDistrict() { return district; }
+    public void setDistrict(String district) { this.district = district; }
+    
+    public UrgencyLevel getUrgency() { return urgency; }
+    public void setUrgency(UrgencyLevel urgency) { this.urgency = urgency; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public Long getLeasedBy() { return leasedBy; }
+    public void setLeasedBy(Long leasedBy) { this.leasedBy = leasedBy; }
+    
+    public LocalDateTime getLeaseExpiresAt() { return leaseExpiresAt; }
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) { this.leaseExpiresAt = leaseExpiresAt; }
+}
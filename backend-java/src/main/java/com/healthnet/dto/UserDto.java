@@ -33,6 +33,7 @@ public class UserDto {
     private UserRole role;
     private UserStatus status;
     private String district;
+    private Integer districtId;
     private String state;
     private String originalRole;
     private List<String> permissions;
@@ -108,6 +109,14 @@ public class UserDto {
         this.district = district;
     }
     
+    public Integer getDistrictId() {
+        return districtId;
+    }
+    
+    public void setDistrictId(Integer districtId) {
+        this.districtId = districtId;
+    }
+    
     public String getState() {
         return state;
     }
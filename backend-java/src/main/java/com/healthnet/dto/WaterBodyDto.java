@@ -0,0 +1,80 @@
+package com.healthnet.dto;
+
+import com.healthnet.entity.WaterQuality;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for WaterBody entity, with a summary of its tests
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class WaterBodyDto {
+    
+    private Long id;
+    private String name;
+    private String type;
+    private String typeOther;
+    private String village;
+    private String district;
+    private String state;
+    private Double latitude;
+    private Double longitude;
+    private String landmark;
+    private long testCount;
+    private LocalDateTime firstTestedAt;
+    private LocalDateTime lastTestedAt;
+    /** Classification of the latest test */
+    private WaterQuality lastQuality;
+    private LocalDateTime createdAt;
+    
+    // Constructors
+    public WaterBodyDto() {}
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    
+    public String getTypeOther() { return typeOther; }
+    public void setTypeOther(String typeOther) { this.typeOther = typeOther; }
+    
+    public String getVillage() { return village; }
+    public void setVillage(String village) { this.village = village; }
+    
+    public String getDistrict() { return district; }
+    public void setDistrict(String district) { this.district = district; }
+    
+    public String getState() { return state; }
+    public void setState(String state) { this.state = state; }
+    
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+    
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+    
+    public String getLandmark() { return landmark; }
+    public void setLandmark(String landmark) { this.landmark = landmark; }
+    
+    public long getTestCount() { return testCount; }
+    public void setTestCount(long testCount) { this.testCount = testCount; }
+    
+    public LocalDateTime getFirstTestedAt() { return firstTestedAt; }
+    public void setFirstTestedAt(LocalDateTime firstTestedAt) { this.firstTestedAt = firstTestedAt; }
+    
+    public LocalDateTime getLastTestedAt() { return lastTestedAt; }
+    public void setLastTestedAt(LocalDateTime lastTestedAt) { this.lastTestedAt = lastTestedAt; }
+    
+    public WaterQuality getLastQuality() { return lastQuality; }
+    public void setLastQuality(WaterQuality lastQuality) { this.lastQuality = lastQuality; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
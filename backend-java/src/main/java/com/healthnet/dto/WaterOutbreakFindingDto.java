@@ -0,0 +1,73 @@
+package com.healthnet.dto;
+
+import com.healthnet.entity.LocationType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Data Transfer Object for a likely water-source outbreak: a village or
+ * district whose gastrointestinal reports follow its recent marginal or
+ * unsafe water samples
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class WaterOutbreakFindingDto {
+    
+    private LocationType level;
+    private Integer areaId;
+    private String area;
+    private String district;
+    /** Ranking score: correlation weighted by the number of cases */
+    private double score;
+    /** Correlation of daily cases with contamination lagDays earlier, over the window */
+    private double correlation;
+    private int lagDays;
+    /** Gastrointestinal reports since the first recent contamination */
+    private int cases;
+    private double baselineDailyCases;
+    private LocalDate contaminatedSince;
+    private LocalDate lastContaminatedOn;
+    private List<String> waterBodies;
+    
+    // Constructors
+    public WaterOutbreakFindingDto() {}
+    
+    // Getters and Setters
+    public LocationType getLevel() { return level; }
+    public void setLevel(LocationType level) { this.level = level; }
+    
+    public Integer getAreaId() { return areaId; }
+    public void setAreaId(Integer areaId) { this.areaId = areaId; }
+    
+    public String getArea() { return area; }
+    public void setArea(String area) { this.area = area; }
+    
+    public String getDistrict() { return district; }
+    public void setDistrict(String district) { this.district = district; }
+    
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+    
+    public double getCorrelation() { return correlation; }
+    public void setCorrelation(double correlation) { this.correlation = correlation; }
+    
+    public int getLagDays() { return lagDays; }
+    public void setLagDays(int lagDays) { this.lagDays = lagDays; }
+    
+    public int getCases() { return cases; }
+    public void setCases(int cases) { this.cases = cases; }
+    
+    public double getBaselineDailyCases() { return baselineDailyCases; }
+    public void setBaselineDailyCases(double baselineDailyCases) { this.baselineDailyCases = baselineDailyCases; }
+    
+    public LocalDate getContaminatedSince() { return contaminatedSince; }
+    public void setContaminatedSince(LocalDate contaminatedSince) { this.contaminatedSince = contaminatedSince; }
+    
+    public LocalDate getLastContaminatedOn() { return lastContaminatedOn; }
+    public void setLastContaminatedOn(LocalDate lastContaminatedOn) { this.lastContaminatedOn = lastContaminatedOn; }
+    
+    public List<String> getWaterBodies() { return waterBodies; }
+    public void setWaterBodies(List<String> waterBodies) { this.waterBodies = waterBodies; }
+}
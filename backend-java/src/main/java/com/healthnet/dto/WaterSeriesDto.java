@@ -0,0 +1,72 @@
+package com.healthnet.dto;
+
+import com.healthnet.entity.WaterParameter;
+import com.healthnet.util.Downsampler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the readings of one parameter of a water body over a time range,
+ * downsampled to at most the requested number of points, with the
+ * parameter's limits for drawing reference lines (null where a side is open)
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class WaterSeriesDto {
+    
+    private Long waterBodyId;
+    private WaterParameter parameter;
+    private String unit;
+    private Double acceptableMin;
+    private Double acceptableMax;
+    private Double permissibleMin;
+    private Double permissibleMax;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    /** Readings in the range before downsampling */
+    private int totalPoints;
+    private Downsampler.Method method;
+    private List<WaterSeriesPointDto> points;
+    
+    // Constructors
+    public WaterSeriesDto() {}
+    
+    // Getters and Setters
+    public Long getWaterBodyId() { return waterBodyId; }
+    public void setWaterBodyId(Long waterBodyId) { this.waterBodyId = waterBodyId; }
+    
+    public WaterParameter getParameter() { return parameter; }
+    public void setParameter(WaterParameter parameter) { this.parameter = parameter; }
+    
+    public String getUnit() { return unit; }
+    public void setUnit(String unit) { this.unit = unit; }
+    
+    public Double getAcceptableMin() { return acceptableMin; }
+    public void setAcceptableMin(Double acceptableMin) { this.acceptableMin = acceptableMin; }
+    
+    public Double getAcceptableMax() { return acceptableMax; }
+    public void setAcceptableMax(Double acceptableMax) { this.acceptableMax = acceptableMax; }
+    
+    public Double getPermissibleMin() { return permissibleMin; }
+    public void setPermissibleMin(Double permissibleMin) { this.permissibleMin = permissibleMin; }
+    
+    public Double getPermissibleMax() { return permissibleMax; }
+    public void setPermissibleMax(Double permissibleMax) { this.permissibleMax = permissibleMax; }
+    
+    public LocalDateTime getFrom() { return from; }
+    public void setFrom(LocalDateTime from) { this.from = from; }
+    
+    public LocalDateTime getTo() { return to; }
+    public void setTo(LocalDateTime to) { this.to = to; }
+    
+    public int getTotalPoints() { return totalPoints; }
+    public void setTotalPoints(int totalPoints) { this.totalPoints = totalPoints; }
+    
+    public Downsampler.Method getMethod() { return method; }
+    public void setMethod(Downsampler.Method method) { this.method = method; }
+    
+    public List<WaterSeriesPointDto> getPoints() { return points; }
+    public void setPoints(List<WaterSeriesPointDto> points) { this.points = points; }
+}
@@ -0,0 +1,30 @@
+package com.healthnet.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one reading of a water quality parameter
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class WaterSeriesPointDto {
+    
+    private LocalDateTime time;
+    private double value;
+    
+    // Constructors
+    public WaterSeriesPointDto() {}
+    
+    public WaterSeriesPointDto(LocalDateTime time, double value) {
+        this.time = time;
+        this.value = value;
+    }
+    
+    // Getters and Setters
+    public LocalDateTime getTime() { return time; }
+    public void setTime(LocalDateTime time) { this.time = time; }
+    
+    public double getValue() { return value; }
+    public void setValue(double value) { this.value = value; }
+}
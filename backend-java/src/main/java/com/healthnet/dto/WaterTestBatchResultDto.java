@@ -0,0 +1,80 @@
+package com.healthnet.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the outcome of a bulk water test upload: how many
+ * samples were stored, how they were classified, and why the others were rejected
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class WaterTestBatchResultDto {
+    
+    private int received;
+    private int accepted;
+    private int rejected;
+    private int safe;
+    private int marginal;
+    private int unsafe;
+    /** Water bodies with at least one marginal or unsafe sample in the upload */
+    private int contaminatedWaterBodies;
+    private long elapsedMs;
+    private List<RowError> errors;
+    
+    // Constructors
+    public WaterTestBatchResultDto() {}
+    
+    // Getters and Setters
+    public int getReceived() { return received; }
+    public void setReceived(int received) { this.received = received; }
+    
+    public int getAccepted() { return accepted; }
+    public void setAccepted(int accepted) { this.accepted = accepted; }
+    
+    public int getRejected() { return rejected; }
+    public void setRejected(int rejected) { this.rejected = rejected; }
+    
+    public int getSafe() { return safe; }
+    public void setSafe(int safe) { this.safe = safe; }
+    
+    public int getMarginal() { return marginal; }
+    public void setMarginal(int marginal) { this.marginal = marginal; }
+    
+    public int getUnsafe() { return unsafe; }
+    public void setUnsafe(int unsafe) { this.unsafe = unsafe; }
+    
+    public int getContaminatedWaterBodies() { return contaminatedWaterBodies; }
+    public void setContaminatedWaterBodies(int contaminatedWaterBodies) { this.contaminatedWaterBodies = contaminatedWaterBodies; }
+    
+    public long getElapsedMs() { return elapsedMs; }
+    public void setElapsedMs(long elapsedMs) { this.elapsedMs = elapsedMs; }
+    
+    public List<RowError> getErrors() { return errors; }
+    public void setErrors(List<RowError> errors) { this.errors = errors; }
+    
+    // Rejected sample DTO
+    public static class RowError {
+        /** Position of the sample in the upload, from 0 */
+        private int index;
+        private String sampleId;
+        private String message;
+        
+        public RowError() {}
+        
+        public RowError(int index, String sampleId, String message) {
+            this.index = index;
+            this.sampleId = sampleId;
+            this.message = message;
+        }
+        
+        public int getIndex() { return index; }
+        public void setIndex(int index) { this.index = index; }
+        
+        public String getSampleId() { return sampleId; }
+        public void setSampleId(String sampleId) { this.sampleId = sampleId; }
+        
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+}
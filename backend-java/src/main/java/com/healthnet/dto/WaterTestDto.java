@@ -0,0 +1,199 @@
+package com.healthnet.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.healthnet.entity.WaterParameter;
+import com.healthnet.entity.WaterQuality;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object for WaterTest entity, shaped like the water testing
+ * form: the water body type and bacterial presence as the form's lower-case
+ * values, and the position either as "latitude, longitude" coordinates or
+ * as separate values
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class WaterTestDto {
+    
+    private Long id;
+    
+    @Size(max = 100, message = "Sample id must be at most 100 characters")
+    private String sampleId;
+    
+    @NotBlank(message = "Water body name is required")
+    @Size(max = 255, message = "Water body name must be at most 255 characters")
+    private String waterBodyName;
+    
+    @NotBlank(message = "Water body type is required")
+    private String waterBodyType;
+    
+    private String waterBodyTypeOther;
+    private String waterBodyKey;
+    private Long waterBodyId;
+    
+    @NotBlank(message = "Village is required")
+    private String village;
+    
+    @NotBlank(message = "District is required")
+    private String district;
+    
+    private String state;
+    private String coordinates;
+    private Double latitude;
+    private Double longitude;
+    private String landmark;
+    
+    @DecimalMin(value = "0", message = "pH must be between 0 and 14")
+    @DecimalMax(value = "14", message = "pH must be between 0 and 14")
+    private Double pH;
+    
+    @DecimalMin(value = "0", message = "Turbidity must not be negative")
+    private Double turbidity;
+    
+    private String bacterialPresence;
+    
+    @DecimalMin(value = "0", message = "Total dissolved solids must not be negative")
+    private Double totalDissolvedSolids;
+    
+    @DecimalMin(value = "0", message = "Hardness must not be negative")
+    private Double hardness;
+    
+    @DecimalMin(value = "0", message = "Chloride must not be negative")
+    private Double chloride;
+    
+    @DecimalMin(value = "0", message = "Nitrate must not be negative")
+    private Double nitrate;
+    
+    @DecimalMin(value = "0", message = "Arsenic must not be negative")
+    private Double arsenic;
+    
+    @DecimalMin(value = "0", message = "Fluoride must not be negative")
+    private Double fluoride;
+    
+    @NotNull(message = "Test date is required")
+    private LocalDate testDate;
+    
+    private LocalTime testTime;
+    
+    @NotBlank(message = "Tester is required")
+    private String testedBy;
+    
+    private String observations;
+    private String recommendations;
+    private WaterQuality quality;
+    private List<WaterParameter> exceededParameters;
+    private Long submittedBy;
+    private LocalDateTime createdAt;
+    
+    // Constructors
+    public WaterTestDto() {}
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getSampleId() { return sampleId; }
+    public void setSampleId(String sampleId) { this.sampleId = sampleId; }
+    
+    public String getWaterBodyName() { return waterBodyName; }
+    public void setWaterBodyName(String waterBodyName) { this.waterBodyName = waterBodyName; }
+    
+    public String getWaterBodyType() { return waterBodyType; }
+    public void setWaterBodyType(String waterBodyType) { this.waterBodyType = waterBodyType; }
+    
+    public String getWaterBodyTypeOther() { return waterBodyTypeOther; }
+    public void setWaterBodyTypeOther(String waterBodyTypeOther) { this.waterBodyTypeOther = waterBodyTypeOther; }
+    
+    public String getWaterBodyKey() { return waterBodyKey; }
+    public void setWaterBodyKey(String waterBodyKey) { this.waterBodyKey = waterBodyKey; }
+    
+    public Long getWaterBodyId() { return waterBodyId; }
+    public void setWaterBodyId(Long waterBodyId) { this.waterBodyId = waterBodyId; }
+    
+    public String getVillage() { return village; }
+    public void setVillage(String village) { this.village = village; }
+    
+    public String getDistrict() { return district; }
+    public void setDistrict(String district) { this.district = district; }
+    
+    public String getState() { return state; }
+    public void setState(String state) { this.state = state; }
+    
+    public String getCoordinates() { return coordinates; }
+    public void setCoordinates(String coordinates) { this.coordinates = coordinates; }
+    
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+    
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+    
+    public String getLandmark() { return landmark; }
+    public void setLandmark(String landmark) { this.landmark = landmark; }
+    
+    @JsonProperty("pH")
+    public Double getPH() { return pH; }
+    @JsonProperty("pH")
+    public void setPH(Double pH) { this.pH = pH; }
+    
+    public Double getTurbidity() { return turbidity; }
+    public void setTurbidity(Double turbidity) { this.turbidity = turbidity; }
+    
+    public String getBacterialPresence() { return bacterialPresence; }
+    public void setBacterialPresence(String bacterialPresence) { this.bacterialPresence = bacterialPresence; }
+    
+    public Double getTotalDissolvedSolids() { return totalDissolvedSolids; }
+    public void setTotalDissolvedSolids(Double totalDissolvedSolids) { this.totalDissolvedSolids = totalDissolvedSolids; }
+    
+    public Double getHardness() { return hardness; }
+    public void setHardness(Double hardness) { this.hardness = hardness; }
+    
+    public Double getChloride() { return chloride; }
+    public void setChloride(Double chloride) { this.chloride = chloride; }
+    
+    public Double getNitrate() { return nitrate; }
+    public void setNitrate(Double nitrate) { this.nitrate = nitrate; }
+    
+    public Double getArsenic() { return arsenic; }
+    public void setArsenic(Double arsenic) { this.arsenic = arsenic; }
+    
+    public Double getFluoride() { return fluoride; }
+    public void setFluoride(Double fluoride) { this.fluoride = fluoride; }
+    
+    public LocalDate getTestDate() { return testDate; }
+    public void setTestDate(LocalDate testDate) { this.testDate = testDate; }
+    
+    public LocalTime getTestTime() { return testTime; }
+    public void setTestTime(LocalTime testTime) { this.testTime = testTime; }
+    
+    public String getTestedBy() { return testedBy; }
+    public void setTestedBy(String testedBy) { this.testedBy = testedBy; }
+    
+    public String getObservations() { return observations; }
+    public void setObservations(String observations) { this.observations = observations; }
+    
+    public String getRecommendations() { return recommendations; }
+    public void setRecommendations(String recommendations) { this.recommendations = recommendations; }
+    
+    public WaterQuality getQuality() { return quality; }
+    public void setQuality(WaterQuality quality) { this.quality = quality; }
+    
+    public List<WaterParameter> getExceededParameters() { return exceededParameters; }
+    public void setExceededParameters(List<WaterParameter> exceededParameters) { this.exceededParameters = exceededParameters; }
+    
+    public Long getSubmittedBy() { return submittedBy; }
+    public void setSubmittedBy(Long submittedBy) { this.submittedBy = submittedBy; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,158 @@
+package com.healthnet.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Alert entity for health alerts broadcast to field staff by SMS
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "alerts", indexes = {
+    @Index(name = "idx_alerts_created_at", columnList = "created_at")
+})
+@EntityListeners(AuditingEntityListener.class)
+public class Alert {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @NotBlank(message = "Title is required")
+    @Column(nullable = false)
+    private String title;
+    
+    @Column(length = 2000)
+    private String description;
+    
+    @NotNull(message = "Alert type is required")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AlertType type;
+    
+    @NotNull(message = "Priority is required")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UrgencyLevel priority;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AlertStatus status = AlertStatus.ACTIVE;
+    
+    /** Target district names, comma-separated; null with no states for all districts */
+    @Column(length = 1000)
+    private String district;
+    
+    /** Dictionary ids of the target districts, comma-separated */
+    @Column(name = "district_ids", length = 500)
+    private String districtIds;
+    
+    /** Target state names, comma-separated */
+    @Column(length = 500)
+    private String states;
+    
+    private String location;
+    
+    /** Comma-separated recipient roles */
+    @Column(name = "recipient_roles", nullable = false, length = 500)
+    private String recipientRoles;
+    
+    @Column(name = "recipient_count", nullable = false)
+    private Integer recipientCount = 0;
+    
+    /** SMS text as sent to every recipient */
+    @Column(name = "message_text", nullable = false, length = 1000)
+    private String messageText;
+    
+    @Column(name = "created_by")
+    private Long createdBy;
+    
+    /** Surveillance rule that raised the alert; null for alerts created by hand */
+    @Column(name = "rule_id")
+    private Long ruleId;
+    
+    /** Alert meant for staff only, such as an overdue report escalation; left out of the public feed */
+    @Column(name = "staff_only", nullable = false)
+    private boolean staffOnly;
+    
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public Alert() {}
+    
+    public Alert(String title, String description, AlertType type, UrgencyLevel priority) {
+        this.title = title;
+        this.description = description;
+        this.type = type;
+        this.priority = priority;
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    
+    public AlertType getType() { return type; }
+    public void setType(AlertType type) { this.type = type; }
+    
+    public UrgencyLevel getPriority() { return priority; }
+    public void setPriority(UrgencyLevel priority) { this.priority = priority; }
+    
+    public AlertStatus getStatus() { return status; }
+    public void setStatus(AlertStatus status) { this.status = status; }
+    
+    public String getDistrict() { return district; }
+    public void setDistrict(String district) { this.district = district; }
+    
+    public String getDistrictIds() { return districtIds; }
+    public void setDistrictIds(String districtIds) { this.districtIds = districtIds; }
+    
+    public String getStates() { return states; }
+    public void setStates(String states) { this.states = states; }
+    
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+    
+    public String getRecipientRoles() { return recipientRoles; }
+    public void setRecipientRoles(String recipientRoles) { this.recipientRoles = recipientRoles; }
+    
+    public Integer getRecipientCount() { return recipientCount; }
+    public void setRecipientCount(Integer recipientCount) { this.recipientCount = recipientCount; }
+    
+    public String getMessageText() { return messageText; }
+    public void setMessageText(String messageText) { this.messageText = messageText; }
+    
+    public Long getCreatedBy() { return createdBy; }
+    public void setCreatedBy(Long createdBy) { this.createdBy = createdBy; }
+    
+    public Long getRuleId() { return ruleId; }
+    public void setRuleId(Long ruleId) { this.ruleId = ruleId; }
+    
+    public boolean isStaffOnly() { return staffOnly; }
+    public void setStaffOnly(boolean staffOnly) { this.staffOnly = staffOnly; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,24 @@
+package com.healthnet.entity;
+
+/**
+ * Enumeration for alert lifecycle status
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public enum AlertStatus {
+    ACTIVE("Active"),
+    IN_PROGRESS("In Progress"),
+    RESOLVED("Resolved"),
+    CLOSED("Closed");
+    
+    private final String displayName;
+    
+    AlertStatus(String displayName) {
+        this.displayName = displayName;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,25 @@
+package com.healthnet.entity;
+
+/**
+ * Enumeration for alert categories
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public enum AlertType {
+    HEALTH_EMERGENCY("Health Emergency"),
+    WATER_QUALITY("Water Quality"),
+    DISEASE_OUTBREAK("Disease Outbreak"),
+    INFRASTRUCTURE("Infrastructure"),
+    WEATHER("Weather");
+    
+    private final String displayName;
+    
+    AlertType(String displayName) {
+        this.displayName = displayName;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+}
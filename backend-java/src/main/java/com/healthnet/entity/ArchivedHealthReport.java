@@ -0,0 +1,167 @@
+package com.healthnet.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Archived health report entity.
+ *
+ * Holds a resolved or processed report that has been moved out of the hot
+ * health_reports table by the retention engine. The full report (including
+ * symptom and photo rows) is kept as a gzip-compressed JSON payload, while a
+ * few summary columns stay queryable for archive searches.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "archived_health_reports", indexes = {
+    @Index(name = "idx_archived_reports_district", columnList = "district"),
+    @Index(name = "idx_archived_reports_created_at", columnList = "created_at")
+})
+public class ArchivedHealthReport {
+
+    /**
+     * Same id the report had in the hot table, so references stay resolvable
+     */
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String village;
+
+    @Column(nullable = false)
+    private String district;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UrgencyLevel urgency;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReportStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Column(nullable = false)
+    private Boolean anonymized = false;
+
+    /** Symptoms, one per line, kept outside the payload so symptom counts need no decompression */
+    @Column(length = 2000)
+    private String symptoms;
+
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(nullable = false)
+    private byte[] payload;
+
+    // Constructors
+    public ArchivedHealthReport() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getVillage() {
+        return village;
+    }
+
+    public void setVillage(String village) {
+        this.village = village;
+    }
+
+    public String getDistrict() {
+        return district;
+    }
+
+    public void setDistrict(String district) {
+        this.district = district;
+    }
+
+    public UrgencyLevel getUrgency() {
+        return urgency;
+    }
+
+    public void setUrgency(UrgencyLevel urgency) {
+        this.urgency = urgency;
+    }
+
+    public ReportStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ReportStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+
+    public void setProcessedAt(LocalDateTime processedAt) {
+        this.processedAt = processedAt;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+
+    public Boolean getAnonymized() {
+        return anonymized;
+    }
+
+    public void setAnonymized(Boolean anonymized) {
+        this.anonymized = anonymized;
+    }
+
+    public String getSymptoms() {
+        return symptoms;
+    }
+
+    public void setSymptoms(String symptoms) {
+        this.symptoms = symptoms;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public void setPayload(byte[] payload) {
+        this.payload = payload;
+    }
+
+    @Override
+    public String toString() {
+        return "ArchivedHealthReport{" +
+                "id=" + id +
+                ", district='" + district + '\'' +
+                ", status=" + status +
+                ", archivedAt=" + archivedAt +
+                '}';
+    }
+}
@@ -0,0 +1,31 @@
+package com.healthnet.entity;
+
+/**
+ * Enumeration for delivery status of one outbound alert message
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public enum DeliveryStatus {
+    PENDING("Pending"),
+    SENDING("Sending"),
+    SENT("Sent"),
+    FAILED("Failed");
+    
+    private final String displayName;
+    
+    DeliveryStatus(String displayName) {
+        this.displayName = displayName;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+    
+    /**
+     * Check if the message will not be sent again
+     */
+    public boolean isFinal() {
+        return this == SENT || this == FAILED;
+    }
+}
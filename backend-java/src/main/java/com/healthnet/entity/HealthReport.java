@@ -17,7 +17,13 @@ import java.util.List;
  * @version 1.0.0
  */
 @Entity
-@Table(name = "health_reports")
+@Table(name = "health_reports", indexes = {
+    @Index(name = "idx_health_reports_district_id", columnList = "district_id"),
+    @Index(name = "idx_health_reports_village_id", columnList = "village_id"),
+    @Index(name = "idx_health_reports_district_gid", columnList = "district_gid"),
+    @Index(name = "idx_health_reports_village_gid", columnList = "village_gid"),
+    @Index(name = "idx_health_reports_duplicate_of", columnList = "duplicate_of_id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class HealthReport {
     
@@ -40,6 +46,34 @@ public class HealthReport {
     @Column(nullable = false)
     private String district;
     
+    /** Canonical location dictionary ids of the district and village */
+    @Column(name = "district_id")
+    private Integer districtId;
+    
+    @Column(name = "village_id")
+    private Integer villageId;
+    
+    /** Optional reporter position (WGS84) */
+    private Double latitude;
+    
+    private Double longitude;
+    
+    /** GADM id of the district containing the position */
+    @Column(name = "district_gid", length = 32)
+    private String districtGid;
+    
+    /** GADM id of the sub-district containing the position */
+    @Column(name = "village_gid", length = 32)
+    private String villageGid;
+    
+    /** First report of the same case when this one is a near-duplicate of it */
+    @Column(name = "duplicate_of_id")
+    private Long duplicateOfId;
+    
+    /** Estimated similarity to that report, from 0 to 1 */
+    @Column(name = "duplicate_similarity")
+    private Double duplicateSimilarity;
+    
     @ElementCollection
     @CollectionTable(name = "report_symptoms", joinColumns = @JoinColumn(name = "report_id"))
     @Column(name = "symptom")
@@ -82,6 +116,14 @@ public class HealthReport {
     @Column(name = "admin_notes", columnDefinition = "TEXT")
     private String adminNotes;
     
+    /** Highest escalation level raised for the report; written only by the escalation service */
+    @Column(name = "escalation_level", insertable = false, updatable = false)
+    private Integer escalationLevel;
+    
+    /** When that level was raised */
+    @Column(name = "escalated_at", insertable = false, updatable = false)
+    private LocalDateTime escalatedAt;
+    
     // Constructors
     public HealthReport() {}
     
@@ -135,6 +177,78 @@ public class HealthReport {
         this.district = district;
     }
     
+    public Integer getDistrictId() {
+        return districtId;
+    }
+    
+    public void setDistrictId(Integer districtId) {
+        this.districtId = districtId;
+    }
+    
+    public Integer getVillageId() {
+        return villageId;
+    }
+    
+    public void setVillageId(Integer villageId) {
+        this.villageId = villageId;
+    }
+    
+    public Double getLatitude() {
+        return latitude;
+    }
+    
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+    
+    public Double getLongitude() {
+        return longitude;
+    }
+    
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+    
+    public String getDistrictGid() {
+        return districtGid;
+    }
+    
+    public void setDistrictGid(String districtGid) {
+        this.districtGid = districtGid;
+    }
+    
+    public String getVillageGid() {
+        return villageGid;
+    }
+    
+    public void setVillageGid(String villageGid) {
+        this.villageGid = villageGid;
+    }
+    
+    public Integer getEscalationLevel() {
+        return escalationLevel;
+    }
+    
+    public LocalDateTime getEscalatedAt() {
+        return escalatedAt;
+    }
+    
+    public Long getDuplicateOfId() {
+        return duplicateOfId;
+    }
+    
+    public void setDuplicateOfId(Long duplicateOfId) {
+        this.duplicateOfId = duplicateOfId;
+    }
+    
+    public Double getDuplicateSimilarity() {
+        return duplicateSimilarity;
+    }
+    
+    public void setDuplicateSimilarity(Double duplicateSimilarity) {
+        this.duplicateSimilarity = duplicateSimilarity;
+    }
+    
     public List<String> getSymptoms() {
         return symptoms;
     }
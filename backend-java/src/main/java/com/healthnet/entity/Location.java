@@ -0,0 +1,105 @@
+package com.healthnet.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Canonical location dictionary entry.
+ *
+ * States, districts and villages are stored once with a compact integer id
+ * and the normalized spelling they are matched by, so reports and users
+ * refer to a location by id instead of repeating free text. Districts are
+ * unique by name across the region, villages within their district. Entries
+ * come from GADM, the census district list or the location alias file; only
+ * those seeded from GADM carry its id.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "locations", indexes = {
+    @Index(name = "idx_locations_type_name", columnList = "type, normalized_name"),
+    @Index(name = "idx_locations_parent", columnList = "parent_id")
+})
+public class Location {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private LocationType type;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "normalized_name", nullable = false)
+    private String normalizedName;
+
+    /** State of a district, district of a village */
+    @Column(name = "parent_id")
+    private Integer parentId;
+
+    @Column(length = 32)
+    private String gid;
+
+    // Constructors
+    public Location() {}
+
+    public Location(LocationType type, String name, String normalizedName, Integer parentId, String gid) {
+        this.type = type;
+        this.name = name;
+        this.normalizedName = normalizedName;
+        this.parentId = parentId;
+        this.gid = gid;
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public LocationType getType() {
+        return type;
+    }
+
+    public void setType(LocationType type) {
+        this.type = type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
+    public void setNormalizedName(String normalizedName) {
+        this.normalizedName = normalizedName;
+    }
+
+    public Integer getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Integer parentId) {
+        this.parentId = parentId;
+    }
+
+    public String getGid() {
+        return gid;
+    }
+
+    public void setGid(String gid) {
+        this.gid = gid;
+    }
+}
@@ -0,0 +1,23 @@
+package com.healthnet.entity;
+
+/**
+ * Enumeration for levels of the canonical location dictionary
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public enum LocationType {
+    STATE("State"),
+    DISTRICT("District"),
+    VILLAGE("Village");
+    
+    private final String displayName;
+    
+    LocationType(String displayName) {
+        this.displayName = displayName;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+}
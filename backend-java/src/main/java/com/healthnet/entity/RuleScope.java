@@ -0,0 +1,23 @@
+package com.healthnet.entity;
+
+/**
+ * Enumeration for the area a surveillance rule counts reports over
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public enum RuleScope {
+    VILLAGE("Village"),
+    DISTRICT("District"),
+    ALL("All Districts");
+    
+    private final String displayName;
+    
+    RuleScope(String displayName) {
+        this.displayName = displayName;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+}
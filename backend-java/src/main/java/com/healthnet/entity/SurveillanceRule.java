@@ -0,0 +1,141 @@
+package com.healthnet.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Surveillance rule entity: "at least N matching reports in one area within
+ * a window raise an alert". A report matches when it has the symptom (any
+ * symptom when null), is from the district (any when null) and is at least
+ * as urgent as the minimum urgency (any when null).
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "surveillance_rules")
+@EntityListeners(AuditingEntityListener.class)
+public class SurveillanceRule {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @NotBlank(message = "Name is required")
+    @Column(nullable = false)
+    private String name;
+    
+    @Column(nullable = false)
+    private Boolean enabled = true;
+    
+    private String symptom;
+    
+    private String district;
+    
+    /** Dictionary id of the district */
+    @Column(name = "district_id")
+    private Integer districtId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "min_urgency")
+    private UrgencyLevel minUrgency;
+    
+    @NotNull(message = "Scope is required")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RuleScope scope = RuleScope.VILLAGE;
+    
+    @Column(nullable = false)
+    private Integer threshold;
+    
+    @Column(name = "window_hours", nullable = false)
+    private Integer windowHours;
+    
+    /** Hours after firing before the rule can fire again for the same area */
+    @Column(name = "cooldown_hours", nullable = false)
+    private Integer cooldownHours;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "alert_type", nullable = false)
+    private AlertType alertType = AlertType.DISEASE_OUTBREAK;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "alert_priority", nullable = false)
+    private UrgencyLevel alertPriority;
+    
+    /** Comma-separated recipient roles; null for all roles */
+    @Column(name = "recipient_roles", length = 500)
+    private String recipientRoles;
+    
+    @Column(name = "created_by")
+    private Long createdBy;
+    
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public SurveillanceRule() {}
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    
+    public Boolean getEnabled() { return enabled; }
+    public void setEnabled(Boolean enabled) { this.enabled = enabled; }
+    
+    public String getSymptom() { return symptom; }
+    public void setSymptom(String symptom) { this.symptom = symptom; }
+    
+    public String getDistrict() { return district; }
+    public void setDistrict(String district) { this.district = district; }
+    
+    public Integer getDistrictId() { return districtId; }
+    public void setDistrictId(Integer districtId) { this.districtId = districtId; }
+    
+    public UrgencyLevel getMinUrgency() { return minUrgency; }
+    public void setMinUrgency(UrgencyLevel minUrgency) { this.minUrgency = minUrgency; }
+    
+    public RuleScope getScope() { return scope; }
+    public void setScope(RuleScope scope) { this.scope = scope; }
+    
+    public Integer getThreshold() { return threshold; }
+    public void setThreshold(Integer threshold) { this.threshold = threshold; }
+    
+    public Integer getWindowHours() { return windowHours; }
+    public void setWindowHours(Integer windowHours) { this.windowHours = windowHours; }
+    
+    public Integer getCooldownHours() { return cooldownHours; }
+    public void setCooldownHours(Integer cooldownHours) { this.cooldownHours = cooldownHours; }
+    
+    public AlertType getAlertType() { return alertType; }
+    public void setAlertType(AlertType alertType) { this.alertType = alertType; }
+    
+    public UrgencyLevel getAlertPriority() { return alertPriority; }
+    public void setAlertPriority(UrgencyLevel alertPriority) { this.alertPriority = alertPriority; }
+    
+    public String getRecipientRoles() { return recipientRoles; }
+    public void setRecipientRoles(String recipientRoles) { this.recipientRoles = recipientRoles; }
+    
+    public Long getCreatedBy() { return createdBy; }
+    public void setCreatedBy(Long createdBy) { this.createdBy = createdBy; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -17,6 +17,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
@@ -30,7 +31,9 @@ import jakarta.validation.constraints.Pattern;
  * @version 1.0.0
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_district_id", columnList = "district_id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class User {
     
@@ -65,6 +68,10 @@ public class User {
     @Column(nullable = false)
     private String district;
     
+    /** Canonical location dictionary id of the district */
+    @Column(name = "district_id")
+    private Integer districtId;
+    
     @NotBlank(message = "State is required")
     @Column(nullable = false)
     private String state;
@@ -154,6 +161,14 @@ public class User {
         this.district = district;
     }
     
+    public Integer getDistrictId() {
+        return districtId;
+    }
+    
+    public void setDistrictId(Integer districtId) {
+        this.districtId = districtId;
+    }
+    
     public String getState() {
         return state;
     }
@@ -0,0 +1,120 @@
+package com.healthnet.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Water body entity: a borewell, hand pump, pond or river site that is
+ * tested repeatedly. Tests find their water body by its key, the normalized
+ * district, village and name, and refer to it by id.
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "water_bodies", indexes = {
+    @Index(name = "idx_water_bodies_district_id", columnList = "district_id")
+})
+@EntityListeners(AuditingEntityListener.class)
+public class WaterBody {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "body_key", nullable = false, unique = true)
+    private String bodyKey;
+    
+    @Column(nullable = false)
+    private String name;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private WaterBodyType type;
+    
+    @Column(name = "type_other")
+    private String typeOther;
+    
+    @Column(nullable = false)
+    private String village;
+    
+    @Column(nullable = false)
+    private String district;
+    
+    private String state;
+    
+    /** Dictionary id of the district */
+    @Column(name = "district_id")
+    private Integer districtId;
+    
+    /** Dictionary id of the village */
+    @Column(name = "village_id")
+    private Integer villageId;
+    
+    private Double latitude;
+    
+    private Double longitude;
+    
+    private String landmark;
+    
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public WaterBody() {}
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getBodyKey() { return bodyKey; }
+    public void setBodyKey(String bodyKey) { this.bodyKey = bodyKey; }
+    
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    
+    public WaterBodyType getType() { return type; }
+    public void setType(WaterBodyType type) { this.type = type; }
+    
+    public String getTypeOther() { return typeOther; }
+    public void setTypeOther(String typeOther) { this.typeOther = typeOther; }
+    
+    public String getVillage() { return village; }
+    public void setVillage(String village) { this.village = village; }
+    
+    public String getDistrict() { return district; }
+    public void setDistrict(String district) { this.district = district; }
+    
+    public String getState() { return state; }
+    public void setState(String state) { this.state = state; }
+    
+    public Integer getDistrictId() { return districtId; }
+    public void setDistrictId(Integer districtId) { this.districtId = districtId; }
+    
+    public Integer getVillageId() { return villageId; }
+    public void setVillageId(Integer villageId) { this.villageId = villageId; }
+    
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+    
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+    
+    public String getLandmark() { return landmark; }
+    public void setLandmark(String landmark) { this.landmark = landmark; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,27 @@
+package com.healthnet.entity;
+
+/**
+ * Enumeration for the kinds of water source a sample is taken from
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public enum WaterBodyType {
+    RIVER("River"),
+    LAKE("Lake"),
+    POND("Pond"),
+    BOREWELL("Borewell"),
+    HANDPUMP("Hand Pump"),
+    STREAM("Stream"),
+    OTHER("Other");
+    
+    private final String displayName;
+    
+    WaterBodyType(String displayName) {
+        this.displayName = displayName;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,68 @@
+package com.healthnet.entity;
+
+/**
+ * Enumeration for the measured water quality parameters with their drinking
+ * water limits: the acceptable limit of IS 10500:2012 (BIS) and the
+ * permissible limit in the absence of an alternate source. Where BIS allows
+ * no relaxation both are the same; arsenic follows the WHO guideline value
+ * of 10 µg/L. Bacterial presence is measured as 0 (absent) or 1 (present).
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public enum WaterParameter {
+    PH("pH", "", 6.5, 8.5, 6.5, 8.5),
+    TURBIDITY("Turbidity", "NTU", 1, 5),
+    BACTERIA("Bacterial Presence", "", 0, 0),
+    TOTAL_DISSOLVED_SOLIDS("Total Dissolved Solids", "mg/L", 500, 2000),
+    HARDNESS("Total Hardness", "mg/L", 200, 600),
+    CHLORIDE("Chloride", "mg/L", 250, 1000),
+    NITRATE("Nitrate", "mg/L", 45, 45),
+    ARSENIC("Arsenic", "µg/L", 10, 10),
+    FLUORIDE("Fluoride", "mg/L", 1.0, 1.5);
+    
+    private final String displayName;
+    private final String unit;
+    private final double acceptableMin;
+    private final double acceptableMax;
+    private final double permissibleMin;
+    private final double permissibleMax;
+    
+    WaterParameter(String displayName, String unit, double acceptableMax, double permissibleMax) {
+        this(displayName, unit, Double.NEGATIVE_INFINITY, acceptableMax, Double.NEGATIVE_INFINITY, permissibleMax);
+    }
+    
+    WaterParameter(String displayName, String unit, double acceptableMin, double acceptableMax,
+                   double permissibleMin, double permissibleMax) {
+        this.displayName = displayName;
+        this.unit = unit;
+        this.acceptableMin = acceptableMin;
+        this.acceptableMax = acceptableMax;
+        this.permissibleMin = permissibleMin;
+        this.permissibleMax = permissibleMax;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+    
+    public String getUnit() {
+        return unit;
+    }
+    
+    public double getAcceptableMin() {
+        return acceptableMin;
+    }
+    
+    public double getAcceptableMax() {
+        return acceptableMax;
+    }
+    
+    public double getPermissibleMin() {
+        return permissibleMin;
+    }
+    
+    public double getPermissibleMax() {
+        return permissibleMax;
+    }
+}
@@ -0,0 +1,23 @@
+package com.healthnet.entity;
+
+/**
+ * Enumeration for the classification of a water sample against drinking water limits
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public enum WaterQuality {
+    SAFE("Safe"),
+    MARGINAL("Marginal"),
+    UNSAFE("Unsafe");
+    
+    private final String displayName;
+    
+    WaterQuality(String displayName) {
+        this.displayName = displayName;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,236 @@
+package com.healthnet.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Water test entity: one sample of a water body with its measured
+ * parameters and the classification of the sample against drinking water
+ * limits. Parameters that were not measured are null.
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "water_tests", indexes = {
+    @Index(name = "idx_water_tests_water_body_key", columnList = "water_body_key"),
+    @Index(name = "idx_water_tests_water_body_tested_at", columnList = "water_body_id, tested_at"),
+    @Index(name = "idx_water_tests_district_id", columnList = "district_id"),
+    @Index(name = "idx_water_tests_tested_at", columnList = "tested_at")
+})
+@EntityListeners(AuditingEntityListener.class)
+public class WaterTest {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    /** Laboratory or field kit sample id; unique when given */
+    @Column(name = "sample_id", unique = true, length = 100)
+    private String sampleId;
+    
+    @NotBlank(message = "Water body name is required")
+    @Column(name = "water_body_name", nullable = false)
+    private String waterBodyName;
+    
+    @NotNull(message = "Water body type is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "water_body_type", nullable = false)
+    private WaterBodyType waterBodyType;
+    
+    @Column(name = "water_body_type_other")
+    private String waterBodyTypeOther;
+    
+    /** Normalized district, village and water body name identifying the water body */
+    @Column(name = "water_body_key", nullable = false)
+    private String waterBodyKey;
+    
+    /** Registry id of the water body */
+    @Column(name = "water_body_id")
+    private Long waterBodyId;
+    
+    @NotBlank(message = "Village is required")
+    @Column(nullable = false)
+    private String village;
+    
+    @NotBlank(message = "District is required")
+    @Column(nullable = false)
+    private String district;
+    
+    private String state;
+    
+    /** Dictionary id of the district */
+    @Column(name = "district_id")
+    private Integer districtId;
+    
+    /** Dictionary id of the village */
+    @Column(name = "village_id")
+    private Integer villageId;
+    
+    private Double latitude;
+    
+    private Double longitude;
+    
+    private String landmark;
+    
+    private Double ph;
+    
+    /** NTU */
+    private Double turbidity;
+    
+    @Column(name = "bacterial_presence")
+    private Boolean bacterialPresence;
+    
+    /** mg/L */
+    @Column(name = "total_dissolved_solids")
+    private Double totalDissolvedSolids;
+    
+    /** mg/L as CaCO3 */
+    private Double hardness;
+    
+    /** mg/L */
+    private Double chloride;
+    
+    /** mg/L */
+    private Double nitrate;
+    
+    /** µg/L */
+    private Double arsenic;
+    
+    /** mg/L */
+    private Double fluoride;
+    
+    @NotNull(message = "Test date is required")
+    @Column(name = "tested_at", nullable = false)
+    private LocalDateTime testedAt;
+    
+    @NotBlank(message = "Tester is required")
+    @Column(name = "tested_by", nullable = false)
+    private String testedBy;
+    
+    @Column(columnDefinition = "TEXT")
+    private String observations;
+    
+    @Column(columnDefinition = "TEXT")
+    private String recommendations;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private WaterQuality quality;
+    
+    /** Comma-separated parameters outside their acceptable limit */
+    @Column(name = "exceeded_parameters", length = 500)
+    private String exceededParameters;
+    
+    @Column(name = "submitted_by")
+    private Long submittedBy;
+    
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    // Constructors
+    public WaterTest() {}
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getSampleId() { return sampleId; }
+    public void setSampleId(String sampleId) { this.sampleId = sampleId; }
+    
+    public String getWaterBodyName() { return waterBodyName; }
+    public void setWaterBodyName(String waterBodyName) { this.waterBodyName = waterBodyName; }
+    
+    public WaterBodyType getWaterBodyType() { return waterBodyType; }
+    public void setWaterBodyType(WaterBodyType waterBodyType) { this.waterBodyType = waterBodyType; }
+    
+    public String getWaterBodyTypeOther() { return waterBodyTypeOther; }
+    public void setWaterBodyTypeOther(String waterBodyTypeOther) { this.waterBodyTypeOther = waterBodyTypeOther; }
+    
+    public String getWaterBodyKey() { return waterBodyKey; }
+    public void setWaterBodyKey(String waterBodyKey) { this.waterBodyKey = waterBodyKey; }
+    
+    public Long getWaterBodyId() { return waterBodyId; }
+    public void setWaterBodyId(Long waterBodyId) { this.waterBodyId = waterBodyId; }
+    
+    public String getVillage() { return village; }
+    public void setVillage(String village) { this.village = village; }
+    
+    public String getDistrict() { return district; }
+    public void setDistrict(String district) { this.district = district; }
+    
+    public String getState() { return state; }
+    public void setState(String state) { this.state = state; }
+    
+    public Integer getDistrictId() { return districtId; }
+    public void setDistrictId(Integer districtId) { this.districtId = districtId; }
+    
+    public Integer getVillageId() { return villageId; }
+    public void setVillageId(Integer villageId) { this.villageId = villageId; }
+    
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+    
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+    
+    public String getLandmark() { return landmark; }
+    public void setLandmark(String landmark) { this.landmark = landmark; }
+    
+    public Double getPh() { return ph; }
+    public void setPh(Double ph) { this.ph = ph; }
+    
+    public Double getTurbidity() { return turbidity; }
+    public void setTurbidity(Double turbidity) { this.turbidity = turbidity; }
+    
+    public Boolean getBacterialPresence() { return bacterialPresence; }
+    public void setBacterialPresence(Boolean bacterialPresence) { this.bacterialPresence = bacterialPresence; }
+    
+    public Double getTotalDissolvedSolids() { return totalDissolvedSolids; }
+    public void setTotalDissolvedSolids(Double totalDissolvedSolids) { this.totalDissolvedSolids = totalDissolvedSolids; }
+    
+    public Double getHardness() { return hardness; }
+    public void setHardness(Double hardness) { this.hardness = hardness; }
+    
+    public Double getChloride() { return chloride; }
+    public void setChloride(Double chloride) { this.chloride = chloride; }
+    
+    public Double getNitrate() { return nitrate; }
+    public void setNitrate(Double nitrate) { this.nitrate = nitrate; }
+    
+    public Double getArsenic() { return arsenic; }
+    public void setArsenic(Double arsenic) { this.arsenic = arsenic; }
+    
+    public Double getFluoride() { return fluoride; }
+    public void setFluoride(Double fluoride) { this.fluoride = fluoride; }
+    
+    public LocalDateTime getTestedAt() { return testedAt; }
+    public void setTestedAt(LocalDateTime testedAt) { this.testedAt = testedAt; }
+    
+    public String getTestedBy() { return testedBy; }
+    public void setTestedBy(String testedBy) { this.testedBy = testedBy; }
+    
+    public String getObservations() { return observations; }
+    public void setObservations(String observations) { this.observations = observations; }
+    
+    public String getRecommendations() { return recommendations; }
+    public void setRecommendations(String recommendations) { this.recommendations = recommendations; }
+    
+    public WaterQuality getQuality() { return quality; }
+    public void setQuality(WaterQuality quality) { this.quality = quality; }
+    
+    public String getExceededParameters() { return exceededParameters; }
+    public void setExceededParameters(String exceededParameters) { this.exceededParameters = exceededParameters; }
+    
+    public Long getSubmittedBy() { return submittedBy; }
+    public void setSubmittedBy(Long submittedBy) { this.submittedBy = submittedBy; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,28 @@
+package com.healthnet.event;
+
+/**
+ * Application event published by AlertService when an alert is created or changes status
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class AlertChangedEvent {
+    
+    private final Long alertId;
+    
+    public AlertChangedEvent(Long alertId) {
+        this.alertId = alertId;
+    }
+    
+    // Getters
+    public Long getAlertId() {
+        return alertId;
+    }
+    
+    @Override
+    public String toString() {
+        return "AlertChangedEvent{" +
+                "alertId=" + alertId +
+                '}';
+    }
+}
@@ -0,0 +1,36 @@
+package com.healthnet.event;
+
+/**
+ * Application event published when an alert's messages have been written to the outbox.
+ * Listeners run after the creating transaction commits, once the messages are visible.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class AlertQueuedEvent {
+    
+    private final Long alertId;
+    private final int messageCount;
+    
+    public AlertQueuedEvent(Long alertId, int messageCount) {
+        this.alertId = alertId;
+        this.messageCount = messageCount;
+    }
+    
+    // Getters
+    public Long getAlertId() {
+        return alertId;
+    }
+    
+    public int getMessageCount() {
+        return messageCount;
+    }
+    
+    @Override
+    public String toString() {
+        return "AlertQueuedEvent{" +
+                "alertId=" + alertId +
+                ", messageCount=" + messageCount +
+                '}';
+    }
+}
@@ -0,0 +1,165 @@
+package com.healthnet.event;
+
+import com.healthnet.entity.HealthReport;
+import com.healthnet.entity.ReportStatus;
+import com.healthnet.entity.UrgencyLevel;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Application event published by HealthReportService whenever a report changes.
+ *
+ * Carries an immutable snapshot of the report taken inside the service
+ * transaction, so listeners never touch lazy collections of a detached entity.
+ * Reports moved to the archive by retention are announced as DELETED events
+ * marked as archived.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class HealthReportEvent {
+    
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        NOTES_ADDED,
+        DELETED
+    }
+    
+    private final Type type;
+    private final Long reportId;
+    private final String village;
+    private final String district;
+    private final Double latitude;
+    private final Double longitude;
+    private final String districtGid;
+    private final String villageGid;
+    private final List<String> symptoms;
+    private final UrgencyLevel urgency;
+    private final ReportStatus status;
+    private final ReportStatus previousStatus;
+    private final Long duplicateOfId;
+    private final Integer escalationLevel;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime occurredAt;
+    private final boolean archived;
+    
+    private HealthReportEvent(Type type, HealthReport report, ReportStatus previousStatus, boolean archived) {
+        this.type = type;
+        this.reportId = report.getId();
+        this.village = report.getVillage();
+        this.district = report.getDistrict();
+        this.latitude = report.getLatitude();
+        this.longitude = report.getLongitude();
+        this.districtGid = report.getDistrictGid();
+        this.villageGid = report.getVillageGid();
+        this.symptoms = report.getSymptoms() != null
+                ? report.getSymptoms().stream().filter(Objects::nonNull).toList()
+                : List.of();
+        this.urgency = report.getUrgency();
+        this.status = report.getStatus();
+        this.previousStatus = previousStatus;
+        this.duplicateOfId = report.getDuplicateOfId();
+        this.escalationLevel = report.getEscalationLevel();
+        this.createdAt = report.getCreatedAt() != null ? report.getCreatedAt() : LocalDateTime.now();
+        this.occurredAt = LocalDateTime.now();
+        this.archived = archived;
+    }
+    
+    public static HealthReportEvent of(Type type, HealthReport report) {
+        return new HealthReportEvent(type, report, report.getStatus(), false);
+    }
+    
+    public static HealthReportEvent statusChanged(HealthReport report, ReportStatus previousStatus) {
+        return new HealthReportEvent(Type.STATUS_CHANGED, report, previousStatus, false);
+    }
+    
+    public static HealthReportEvent archived(HealthReport report) {
+        return new HealthReportEvent(Type.DELETED, report, report.getStatus(), true);
+    }
+    
+    // Getters
+    public Type getType() {
+        return type;
+    }
+    
+    public Long getReportId() {
+        return reportId;
+    }
+    
+    public String getVillage() {
+        return village;
+    }
+    
+    public String getDistrict() {
+        return district;
+    }
+    
+    public Double getLatitude() {
+        return latitude;
+    }
+    
+    public Double getLongitude() {
+        return longitude;
+    }
+    
+    public String getDistrictGid() {
+        return districtGid;
+    }
+    
+    public String getVillageGid() {
+        return villageGid;
+    }
+    
+    public List<String> getSymptoms() {
+        return symptoms;
+    }
+    
+    public UrgencyLevel getUrgency() {
+        return urgency;
+    }
+    
+    public ReportStatus getStatus() {
+        return status;
+    }
+    
+    public ReportStatus getPreviousStatus() {
+        return previousStatus;
+    }
+    
+    public Long getDuplicateOfId() {
+        return duplicateOfId;
+    }
+    
+    public Integer getEscalationLevel() {
+        return escalationLevel;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+    
+    /**
+     * Whether the report left the live table for the archive rather than being deleted
+     */
+    public boolean isArchived() {
+        return archived;
+    }
+    
+    @Override
+    public String toString() {
+        return "HealthReportEvent{" +
+                "type=" + type +
+                ", reportId=" + reportId +
+                ", district='" + district + '\'' +
+                ", status=" + status +
+                '}';
+    }
+}
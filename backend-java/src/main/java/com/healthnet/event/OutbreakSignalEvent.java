@@ -0,0 +1,22 @@
+package com.healthnet.event;
+
+import com.healthnet.dto.OutbreakSignalDto;
+
+/**
+ * Application event published when the streaming detector raises a new outbreak signal
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class OutbreakSignalEvent {
+
+    private final OutbreakSignalDto signal;
+
+    public OutbreakSignalEvent(OutbreakSignalDto signal) {
+        this.signal = signal;
+    }
+
+    public OutbreakSignalDto getSignal() {
+        return signal;
+    }
+}
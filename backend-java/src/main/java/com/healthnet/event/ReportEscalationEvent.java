@@ -0,0 +1,67 @@
+package com.healthnet.event;
+
+import com.healthnet.entity.UrgencyLevel;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application event published when a report stays pending past its urgency deadline.
+ * The level starts at 1 and increases each time the deadline passes again.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class ReportEscalationEvent {
+    
+    private final Long reportId;
+    private final String district;
+    private final UrgencyLevel urgency;
+    private final int level;
+    private final LocalDateTime reportCreatedAt;
+    private final LocalDateTime escalatedAt;
+    
+    public ReportEscalationEvent(Long reportId, String district, UrgencyLevel urgency, int level,
+                                 LocalDateTime reportCreatedAt) {
+        this.reportId = reportId;
+        this.district = district;
+        this.urgency = urgency;
+        this.level = level;
+        this.reportCreatedAt = reportCreatedAt;
+        this.escalatedAt = LocalDateTime.now();
+    }
+    
+    // Getters
+    public Long getReportId() {
+        return reportId;
+    }
+    
+    public String getDistrict() {
+        return district;
+    }
+    
+    public UrgencyLevel getUrgency() {
+        return urgency;
+    }
+    
+    public int getLevel() {
+        return level;
+    }
+    
+    public LocalDateTime getReportCreatedAt() {
+        return reportCreatedAt;
+    }
+    
+    public LocalDateTime getEscalatedAt() {
+        return escalatedAt;
+    }
+    
+    @Override
+    public String toString() {
+        return "ReportEscalationEvent{" +
+                "reportId=" + reportId +
+                ", district='" + district + '\'' +
+                ", urgency=" + urgency +
+                ", level=" + level +
+                '}';
+    }
+}
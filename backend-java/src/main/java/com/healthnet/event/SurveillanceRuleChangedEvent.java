@@ -0,0 +1,28 @@
+package com.healthnet.event;
+
+/**
+ * Application event published by SurveillanceRuleService when a rule is created, updated or deleted
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class SurveillanceRuleChangedEvent {
+    
+    private final Long ruleId;
+    
+    public SurveillanceRuleChangedEvent(Long ruleId) {
+        this.ruleId = ruleId;
+    }
+    
+    // Getters
+    public Long getRuleId() {
+        return ruleId;
+    }
+    
+    @Override
+    public String toString() {
+        return "SurveillanceRuleChangedEvent{" +
+                "ruleId=" + ruleId +
+                '}';
+    }
+}
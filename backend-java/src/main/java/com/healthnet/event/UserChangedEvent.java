@@ -0,0 +1,55 @@
+package com.healthnet.event;
+
+import com.healthnet.entity.User;
+import com.healthnet.entity.UserRole;
+import com.healthnet.entity.UserStatus;
+
+/**
+ * Application event published by UserService whenever a user is updated or deleted.
+ *
+ * Carries a snapshot of the fields that decide who receives alerts, taken
+ * inside the service transaction.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class UserChangedEvent {
+    
+    private final Long userId;
+    private final boolean deleted;
+    private final String phone;
+    private final UserRole role;
+    private final UserStatus status;
+    private final Integer districtId;
+    private final String district;
+    private final String state;
+    
+    private UserChangedEvent(User user, boolean deleted) {
+        this.userId = user.getId();
+        this.deleted = deleted;
+        this.phone = user.getPhone();
+        this.role = user.getRole();
+        this.status = user.getStatus();
+        this.districtId = user.getDistrictId();
+        this.district = user.getDistrict();
+        this.state = user.getState();
+    }
+    
+    public static UserChangedEvent updated(User user) {
+        return new UserChangedEvent(user, false);
+    }
+    
+    public static UserChangedEvent deleted(User user) {
+        return new UserChangedEvent(user, true);
+    }
+    
+    // Getters
+    public Long getUserId() { return userId; }
+    public boolean isDeleted() { return deleted; }
+    public String getPhone() { return phone; }
+    public UserRole getRole() { return role; }
+    public UserStatus getStatus() { return status; }
+    public Integer getDistrictId() { return districtId; }
+    public String getDistrict() { return district; }
+    public String getState() { return state; }
+}
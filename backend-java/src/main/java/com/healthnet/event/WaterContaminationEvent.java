@@ -0,0 +1,115 @@
+package com.healthnet.event;
+
+import com.healthnet.entity.WaterParameter;
+import com.healthnet.entity.WaterQuality;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Application event published once per water body when newly stored samples
+ * of it are marginal or unsafe, with the worst classification among them
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class WaterContaminationEvent {
+
+    private final String waterBodyKey;
+    private final String waterBodyName;
+    private final String village;
+    private final String district;
+    private final Integer districtId;
+    private final Integer villageId;
+    private final WaterQuality quality;
+    private final Set<WaterParameter> parameters;
+    private final List<Sample> samples;
+    private final LocalDateTime lastTestedAt;
+
+    public WaterContaminationEvent(String waterBodyKey, String waterBodyName, String village, String district,
+                                   Integer districtId, Integer villageId, WaterQuality quality,
+                                   Set<WaterParameter> parameters, List<Sample> samples, LocalDateTime lastTestedAt) {
+        this.waterBodyKey = waterBodyKey;
+        this.waterBodyName = waterBodyName;
+        this.village = village;
+        this.district = district;
+        this.districtId = districtId;
+        this.villageId = villageId;
+        this.quality = quality;
+        this.parameters = parameters;
+        this.samples = samples;
+        this.lastTestedAt = lastTestedAt;
+    }
+
+    public String getWaterBodyKey() {
+        return waterBodyKey;
+    }
+
+    public String getWaterBodyName() {
+        return waterBodyName;
+    }
+
+    public String getVillage() {
+        return village;
+    }
+
+    public String getDistrict() {
+        return district;
+    }
+
+    public Integer getDistrictId() {
+        return districtId;
+    }
+
+    public Integer getVillageId() {
+        return villageId;
+    }
+
+    /**
+     * Worst classification among the samples
+     */
+    public WaterQuality getQuality() {
+        return quality;
+    }
+
+    /**
+     * Parameters outside their acceptable limit in any of the samples
+     */
+    public Set<WaterParameter> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * The marginal and unsafe samples
+     */
+    public List<Sample> getSamples() {
+        return samples;
+    }
+
+    public LocalDateTime getLastTestedAt() {
+        return lastTestedAt;
+    }
+
+    /**
+     * Test time and classification of one marginal or unsafe sample
+     */
+    public static final class Sample {
+
+        private final LocalDateTime testedAt;
+        private final WaterQuality quality;
+
+        public Sample(LocalDateTime testedAt, WaterQuality quality) {
+            this.testedAt = testedAt;
+            this.quality = quality;
+        }
+
+        public LocalDateTime getTestedAt() {
+            return testedAt;
+        }
+
+        public WaterQuality getQuality() {
+            return quality;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.healthnet.exception;
+
+/**
+ * Custom exception for an SMS gateway call that failed as a whole
+ * (connection error, timeout, provider outage)
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class SmsGatewayException extends RuntimeException {
+    
+    public SmsGatewayException(String message) {
+        super(message);
+    }
+    
+    public SmsGatewayException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,71 @@
+package com.healthnet.repository;
+
+import com.healthnet.entity.AlertMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for the alert message outbox
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Repository
+public interface AlertMessageRepository extends JpaRepository<AlertMessage, Long> {
+    
+    /**
+     * Ids of pending messages due for a send attempt, oldest first
+     */
+    @Query("SELECT m.id FROM AlertMessage m WHERE m.status = com.healthnet.entity.DeliveryStatus.PENDING " +
+           "AND m.nextAttemptAt <= :now ORDER BY m.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+    
+    /**
+     * Mark the still pending messages among the ids as being sent by one dispatcher pass
+     */
+    @Modifying
+    @Query("UPDATE AlertMessage m SET m.status = com.healthnet.entity.DeliveryStatus.SENDING, " +
+           "m.claimToken = :token, m.claimedAt = :now " +
+           "WHERE m.id IN :ids AND m.status = com.healthnet.entity.DeliveryStatus.PENDING")
+    int claim(@Param("ids") Collection<Long> ids, @Param("token") String token, @Param("now") LocalDateTime now);
+    
+    /**
+     * Messages claimed by one dispatcher pass
+     */
+    List<AlertMessage> findByClaimToken(String claimToken);
+    
+    /**
+     * Return messages claimed before a cutoff (a dispatcher that stopped mid-send) to the queue
+     */
+    @Modifying
+    @Query("UPDATE AlertMessage m SET m.status = com.healthnet.entity.DeliveryStatus.PENDING, m.claimToken = NULL " +
+           "WHERE m.status = com.healthnet.entity.DeliveryStatus.SENDING AND m.claimedAt < :before")
+    int releaseStaleClaims(@Param("before") LocalDateTime before);
+    
+    /**
+     * Message counts per delivery status of one alert
+     */
+    @Query("SELECT m.status, COUNT(m) FROM AlertMessage m WHERE m.alertId = :alertId GROUP BY m.status")
+    List<Object[]> countByStatusForAlert(@Param("alertId") Long alertId);
+    
+    /**
+     * Message counts per delivery status of several alerts
+     */
+    @Query("SELECT m.alertId, m.status, COUNT(m) FROM AlertMessage m WHERE m.alertId IN :alertIds " +
+           "GROUP BY m.alertId, m.status")
+    List<Object[]> countByStatusForAlerts(@Param("alertIds") Collection<Long> alertIds);
+    
+    /**
+     * Message counts per delivery status over all alerts
+     */
+    @Query("SELECT m.status, COUNT(m) FROM AlertMessage m GROUP BY m.status")
+    List<Object[]> countByStatus();
+}
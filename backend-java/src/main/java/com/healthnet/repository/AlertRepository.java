@@ -0,0 +1,36 @@
+package com.healthnet.repository;
+
+import com.healthnet.entity.Alert;
+import com.healthnet.entity.AlertStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for Alert entity
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Repository
+public interface AlertRepository extends JpaRepository<Alert, Long> {
+    
+    /**
+     * Find alerts by status with pagination
+     */
+    Page<Alert> findByStatus(AlertStatus status, Pageable pageable);
+    
+    /**
+     * Open alerts and alerts resolved since a cutoff, newest first, leaving out alerts for staff only
+     */
+    @Query("SELECT a FROM Alert a WHERE a.staffOnly = false AND (a.status IN (com.healthnet.entity.AlertStatus.ACTIVE, " +
+           "com.healthnet.entity.AlertStatus.IN_PROGRESS) OR (a.status = com.healthnet.entity.AlertStatus.RESOLVED " +
+           "AND a.updatedAt >= :resolvedSince)) ORDER BY a.createdAt DESC, a.id DESC")
+    List<Alert> findPublicAlerts(@Param("resolvedSince") LocalDateTime resolvedSince, Pageable pageable);
+}
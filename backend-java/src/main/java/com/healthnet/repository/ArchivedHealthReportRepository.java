@@ -0,0 +1,71 @@
+package com.healthnet.repository;
+
+import com.healthnet.dto.ArchivedReportSummaryDto;
+import com.healthnet.entity.ArchivedHealthReport;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for ArchivedHealthReport entity operations
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Repository
+public interface ArchivedHealthReportRepository extends JpaRepository<ArchivedHealthReport, Long> {
+    
+    /**
+     * Search archived reports created in a date range without loading the compressed payloads
+     */
+    @Query(value = "SELECT new com.healthnet.dto.ArchivedReportSummaryDto(a.id, a.village, a.district, a.urgency, " +
+                   "a.status, a.createdAt, a.processedAt, a.archivedAt, a.anonymized) " +
+                   "FROM ArchivedHealthReport a WHERE a.createdAt >= :startDate AND a.createdAt < :endDate",
+           countQuery = "SELECT COUNT(a) FROM ArchivedHealthReport a " +
+                        "WHERE a.createdAt >= :startDate AND a.createdAt < :endDate")
+    Page<ArchivedReportSummaryDto> findSummaries(@Param("startDate") LocalDateTime startDate,
+                                                 @Param("endDate") LocalDateTime endDate,
+                                                 Pageable pageable);
+    
+    /**
+     * Search archived reports of a district created in a date range without loading the compressed payloads
+     */
+    @Query(value = "SELECT new com.healthnet.dto.ArchivedReportSummaryDto(a.id, a.village, a.district, a.urgency, " +
+                   "a.status, a.createdAt, a.processedAt, a.archivedAt, a.anonymized) " +
+                   "FROM ArchivedHealthReport a WHERE a.district = :district " +
+                   "AND a.createdAt >= :startDate AND a.createdAt < :endDate",
+           countQuery = "SELECT COUNT(a) FROM ArchivedHealthReport a WHERE a.district = :district " +
+                        "AND a.createdAt >= :startDate AND a.createdAt < :endDate")
+    Page<ArchivedReportSummaryDto> findSummariesByDistrict(@Param("district") String district,
+                                                           @Param("startDate") LocalDateTime startDate,
+                                                           @Param("endDate") LocalDateTime endDate,
+                                                           Pageable pageable);
+    
+    /**
+     * Count archived reports by district
+     */
+    long countByDistrict(String district);
+    
+    /**
+     * Location and time of non-cancelled archived reports created in a date range, for the cluster scan
+     */
+    @Query("SELECT a.district, a.village, a.createdAt FROM ArchivedHealthReport a " +
+           "WHERE a.status <> 'CANCELLED' AND a.createdAt >= :startDate AND a.createdAt < :endDate")
+    List<Object[]> findScanRows(@Param("startDate") LocalDateTime startDate,
+                                @Param("endDate") LocalDateTime endDate);
+    
+    /**
+     * Id, district, village, symptoms and time of non-cancelled archived reports created in a date range;
+     * symptoms are null for reports archived before they were kept outside the payload
+     */
+    @Query("SELECT a.id, a.district, a.village, a.symptoms, a.createdAt FROM ArchivedHealthReport a " +
+           "WHERE a.status <> 'CANCELLED' AND a.createdAt >= :startDate AND a.createdAt < :endDate")
+    List<Object[]> findSymptomRows(@Param("startDate") LocalDateTime startDate,
+                                   @Param("endDate") LocalDateTime endDate);
+}
@@ -6,6 +6,7 @@ import com.healthnet.entity.UrgencyLevel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -23,14 +24,19 @@ import java.util.List;
 public interface HealthReportRepository extends JpaRepository<HealthReport, Long> {
     
     /**
-     * Find reports by district
+     * JPQL expression ranking urgency by priority score
      */
-    List<HealthReport> findByDistrict(String district);
+    String URGENCY_PRIORITY = "CASE hr.urgency WHEN 'CRITICAL' THEN 4 WHEN 'HIGH' THEN 3 WHEN 'MEDIUM' THEN 2 ELSE 1 END";
     
     /**
-     * Find reports by village
+     * Find reports by canonical district id
      */
-    List<HealthReport> findByVillage(String village);
+    List<HealthReport> findByDistrictId(Integer districtId);
+    
+    /**
+     * Find reports by canonical village id
+     */
+    List<HealthReport> findByVillageId(Integer villageId);
     
     /**
      * Find reports by status
@@ -43,9 +49,9 @@ public interface HealthReportRepository extends JpaRepository<HealthReport, Long
     List<HealthReport> findByUrgency(UrgencyLevel urgency);
     
     /**
-     * Find reports by district and status
+     * Find reports by canonical district id and status
      */
-    List<HealthReport> findByDistrictAndStatus(String district, ReportStatus status);
+    List<HealthReport> findByDistrictIdAndStatus(Integer districtId, ReportStatus status);
     
     /**
      * Find reports by urgency and status
@@ -83,9 +89,9 @@ public interface HealthReportRepository extends JpaRepository<HealthReport, Long
     Page<HealthReport> findAll(Pageable pageable);
     
     /**
-     * Find reports by district with pagination
+     * Find reports by canonical district id with pagination
      */
-    Page<HealthReport> findByDistrict(String district, Pageable pageable);
+    Page<HealthReport> findByDistrictId(Integer districtId, Pageable pageable);
     
     /**
      * Find reports by status with pagination
@@ -98,9 +104,9 @@ public interface HealthReportRepository extends JpaRepository<HealthReport, Long
     Page<HealthReport> findByUrgency(UrgencyLevel urgency, Pageable pageable);
     
     /**
-     * Find reports by district and status with pagination
+     * Find reports by canonical district id and status with pagination
      */
-    Page<HealthReport> findByDistrictAndStatus(String district, ReportStatus status, Pageable pageable);
+    Page<HealthReport> findByDistrictIdAndStatus(Integer districtId, ReportStatus status, Pageable pageable);
     
     /**
      * Find reports by urgency and status with pagination
@@ -118,16 +124,57 @@ public interface HealthReportRepository extends JpaRepository<HealthReport, Long
     Page<HealthReport> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
     
     /**
-     * Find reports by multiple districts
+     * Find reports by multiple canonical district ids
+     */
+    @Query("SELECT hr FROM HealthReport hr WHERE hr.districtId IN :districtIds")
+    List<HealthReport> findByDistrictIds(@Param("districtIds") List<Integer> districtIds);
+    
+    /**
+     * Find reports by multiple canonical village ids
+     */
+    @Query("SELECT hr FROM HealthReport hr WHERE hr.villageId IN :villageIds")
+    List<HealthReport> findByVillageIds(@Param("villageIds") List<Integer> villageIds);
+    
+    /**
+     * Find reports with no village id whose village matches the name (case insensitive)
+     */
+    @Query("SELECT hr FROM HealthReport hr WHERE hr.villageId IS NULL AND LOWER(TRIM(hr.village)) = LOWER(TRIM(:village))")
+    List<HealthReport> findUnmappedByVillage(@Param("village") String village);
+    
+    /**
+     * Find reports by canonical district id, or with no district id whose district matches the name (case insensitive)
+     */
+    @Query("SELECT hr FROM HealthReport hr WHERE hr.districtId = :districtId " +
+           "OR (hr.districtId IS NULL AND LOWER(TRIM(hr.district)) = LOWER(TRIM(:district)))")
+    List<HealthReport> findInDistrict(@Param("districtId") Integer districtId, @Param("district") String district);
+    
+    /**
+     * Find reports in a district, by id or unmapped name, with a status
      */
-    @Query("SELECT hr FROM HealthReport hr WHERE hr.district IN :districts")
-    List<HealthReport> findByDistricts(@Param("districts") List<String> districts);
+    @Query("SELECT hr FROM HealthReport hr WHERE hr.status = :status AND (hr.districtId = :districtId " +
+           "OR (hr.districtId IS NULL AND LOWER(TRIM(hr.district)) = LOWER(TRIM(:district))))")
+    List<HealthReport> findInDistrictAndStatus(@Param("districtId") Integer districtId,
+                                               @Param("district") String district,
+                                               @Param("status") ReportStatus status);
     
     /**
-     * Find reports by multiple villages
+     * Find reports in a district, by id or unmapped name, with pagination
      */
-    @Query("SELECT hr FROM HealthReport hr WHERE hr.village IN :villages")
-    List<HealthReport> findByVillages(@Param("villages") List<String> villages);
+    @Query("SELECT hr FROM HealthReport hr WHERE hr.districtId = :districtId " +
+           "OR (hr.districtId IS NULL AND LOWER(TRIM(hr.district)) = LOWER(TRIM(:district)))")
+    Page<HealthReport> findInDistrict(@Param("districtId") Integer districtId, @Param("district") String district,
+                                      Pageable pageable);
+    
+    /**
+     * Find reports in a district, by id or unmapped name, created within a date range
+     */
+    @Query("SELECT hr FROM HealthReport hr WHERE hr.createdAt BETWEEN :startDate AND :endDate " +
+           "AND (hr.districtId = :districtId " +
+           "OR (hr.districtId IS NULL AND LOWER(TRIM(hr.district)) = LOWER(TRIM(:district))))")
+    List<HealthReport> findInDistrictAndDateRange(@Param("districtId") Integer districtId,
+                                                  @Param("district") String district,
+                                                  @Param("startDate") LocalDateTime startDate,
+                                                  @Param("endDate") LocalDateTime endDate);
     
     /**
      * Find reports by multiple statuses
@@ -178,21 +225,46 @@ public interface HealthReportRepository extends JpaRepository<HealthReport, Long
     Page<HealthReport> findHighPriorityReports(Pageable pageable);
     
     /**
-     * Find pending reports
+     * Find pending reports.
+     * Urgency is stored as a string, so it is ranked explicitly (see UrgencyLevel.getPriorityScore)
      */
-    @Query("SELECT hr FROM HealthReport hr WHERE hr.status = 'PENDING' ORDER BY hr.urgency DESC, hr.createdAt ASC")
+    @Query("SELECT hr FROM HealthReport hr WHERE hr.status = 'PENDING' ORDER BY " + URGENCY_PRIORITY + " DESC, hr.createdAt ASC")
     List<HealthReport> findPendingReportsOrderedByPriority();
     
     /**
      * Find pending reports with pagination
      */
-    @Query("SELECT hr FROM HealthReport hr WHERE hr.status = 'PENDING' ORDER BY hr.urgency DESC, hr.createdAt ASC")
+    @Query(value = "SELECT hr FROM HealthReport hr WHERE hr.status = 'PENDING' ORDER BY " + URGENCY_PRIORITY + " DESC, hr.createdAt ASC",
+           countQuery = "SELECT COUNT(hr) FROM HealthReport hr WHERE hr.status = 'PENDING'")
     Page<HealthReport> findPendingReportsOrderedByPriority(Pageable pageable);
     
     /**
-     * Count reports by district
+     * Lightweight rows (id, urgency, createdAt, district) of all pending reports, used to seed the triage queue
+     */
+    @Query("SELECT hr.id, hr.urgency, hr.createdAt, hr.district FROM HealthReport hr WHERE hr.status = 'PENDING'")
+    List<Object[]> findPendingTriageRows();
+    
+    /**
+     * Rows (id, urgency, createdAt, district, escalation level, escalated at) of all pending reports,
+     * used to rebuild escalation timers
      */
-    long countByDistrict(String district);
+    @Query("SELECT hr.id, hr.urgency, hr.createdAt, hr.district, hr.escalationLevel, hr.escalatedAt " +
+           "FROM HealthReport hr WHERE hr.status = 'PENDING'")
+    List<Object[]> findPendingEscalationRows();
+    
+    /**
+     * Record the escalation level a report has reached
+     */
+    @Modifying
+    @Query("UPDATE HealthReport hr SET hr.escalationLevel = :level, hr.escalatedAt = :escalatedAt WHERE hr.id = :id")
+    int recordEscalation(@Param("id") Long id,
+                         @Param("level") Integer level,
+                         @Param("escalatedAt") LocalDateTime escalatedAt);
+    
+    /**
+     * Count reports by canonical district id
+     */
+    long countByDistrictId(Integer districtId);
     
     /**
      * Count reports by status
@@ -205,15 +277,25 @@ public interface HealthReportRepository extends JpaRepository<HealthReport, Long
     long countByUrgency(UrgencyLevel urgency);
     
     /**
-     * Count reports by district and status
+     * Count reports by canonical district id and status
      */
-    long countByDistrictAndStatus(String district, ReportStatus status);
+    long countByDistrictIdAndStatus(Integer districtId, ReportStatus status);
     
     /**
      * Count reports by urgency and status
      */
     long countByUrgencyAndStatus(UrgencyLevel urgency, ReportStatus status);
     
+    /**
+     * Count reports that are not near-duplicates of another, i.e. unique cases
+     */
+    long countByDuplicateOfIdIsNull();
+    
+    /**
+     * Find the near-duplicates linked to a report, oldest first
+     */
+    List<HealthReport> findByDuplicateOfIdOrderByCreatedAtAsc(Long duplicateOfId);
+    
     /**
      * Count reports created after a specific date
      */
@@ -248,10 +330,155 @@ public interface HealthReportRepository extends JpaRepository<HealthReport, Long
     List<HealthReport> findReportsCreatedThisMonth();
     
     /**
-     * Find reports by district and date range
+     * Find reports by canonical district id and date range
      */
-    @Query("SELECT hr FROM HealthReport hr WHERE hr.district = :district AND hr.createdAt BETWEEN :startDate AND :endDate")
-    List<HealthReport> findByDistrictAndDateRange(@Param("district") String district, 
-                                                  @Param("startDate") LocalDateTime startDate, 
-                                                  @Param("endDate") LocalDateTime endDate);
+    @Query("SELECT hr FROM HealthReport hr WHERE hr.districtId = :districtId AND hr.createdAt BETWEEN :startDate AND :endDate")
+    List<HealthReport> findByDistrictIdAndDateRange(@Param("districtId") Integer districtId, 
+                                                    @Param("startDate") LocalDateTime startDate, 
+                                                    @Param("endDate") LocalDateTime endDate);
+    
+    /**
+     * Find ids of reports eligible for archival (oldest first), used by the retention engine in bounded chunks
+     */
+    @Query("SELECT hr.id FROM HealthReport hr WHERE hr.status = :status " +
+           "AND COALESCE(hr.processedAt, hr.createdAt) < :cutoff ORDER BY hr.id ASC")
+    List<Long> findArchivableIds(@Param("status") ReportStatus status,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 Pageable pageable);
+    
+    /**
+     * Location and time of non-cancelled reports created in a date range, for the cluster scan
+     */
+    @Query("SELECT hr.district, hr.village, hr.createdAt FROM HealthReport hr " +
+           "WHERE hr.status <> 'CANCELLED' AND hr.createdAt >= :startDate AND hr.createdAt < :endDate")
+    List<Object[]> findScanRows(@Param("startDate") LocalDateTime startDate,
+                                @Param("endDate") LocalDateTime endDate);
+    
+    /**
+     * Location and time of non-cancelled reports with a symptom created in a date range, for the cluster scan
+     */
+    @Query("SELECT hr.district, hr.village, hr.createdAt FROM HealthReport hr JOIN hr.symptoms s " +
+           "WHERE hr.status <> 'CANCELLED' AND LOWER(s) = LOWER(:symptom) " +
+           "AND hr.createdAt >= :startDate AND hr.createdAt < :endDate")
+    List<Object[]> findScanRowsBySymptom(@Param("symptom") String symptom,
+                                         @Param("startDate") LocalDateTime startDate,
+                                         @Param("endDate") LocalDateTime endDate);
+    
+    /**
+     * District, symptom and time of every symptom of non-cancelled reports created in a date range
+     */
+    @Query("SELECT hr.district, s, hr.createdAt FROM HealthReport hr JOIN hr.symptoms s " +
+           "WHERE hr.status <> 'CANCELLED' AND hr.createdAt >= :startDate AND hr.createdAt < :endDate")
+    List<Object[]> findSymptomRows(@Param("startDate") LocalDateTime startDate,
+                                   @Param("endDate") LocalDateTime endDate);
+    
+    /**
+     * Id, district and time of non-cancelled reports created in a date range
+     */
+    @Query("SELECT hr.id, hr.district, hr.createdAt FROM HealthReport hr " +
+           "WHERE hr.status <> 'CANCELLED' AND hr.createdAt >= :startDate AND hr.createdAt < :endDate")
+    List<Object[]> findIncidenceRows(@Param("startDate") LocalDateTime startDate,
+                                     @Param("endDate") LocalDateTime endDate);
+    
+    /**
+     * Report id and symptom pairs of non-cancelled reports created in a date range
+     */
+    @Query("SELECT hr.id, s FROM HealthReport hr JOIN hr.symptoms s " +
+           "WHERE hr.status <> 'CANCELLED' AND hr.createdAt >= :startDate AND hr.createdAt < :endDate")
+    List<Object[]> findReportSymptomRows(@Param("startDate") LocalDateTime startDate,
+                                         @Param("endDate") LocalDateTime endDate);
+    
+    /**
+     * Id, location, GADM ids and time of non-cancelled reports created in a date range
+     */
+    @Query("SELECT hr.id, hr.district, hr.village, hr.districtGid, hr.villageGid, hr.createdAt FROM HealthReport hr " +
+           "WHERE hr.status <> 'CANCELLED' AND hr.createdAt >= :startDate AND hr.createdAt < :endDate")
+    List<Object[]> findLocationRows(@Param("startDate") LocalDateTime startDate,
+                                    @Param("endDate") LocalDateTime endDate);
+    
+    /**
+     * Id, coordinates, status and time of non-cancelled reports with coordinates created in a date range
+     */
+    @Query("SELECT hr.id, hr.latitude, hr.longitude, hr.status, hr.createdAt FROM HealthReport hr " +
+           "WHERE hr.status <> 'CANCELLED' AND hr.latitude IS NOT NULL AND hr.longitude IS NOT NULL " +
+           "AND hr.createdAt >= :startDate AND hr.createdAt < :endDate")
+    List<Object[]> findCoordinateRows(@Param("startDate") LocalDateTime startDate,
+                                      @Param("endDate") LocalDateTime endDate);
+    
+    /**
+     * Id, district, village, urgency, time and one symptom per row of non-cancelled,
+     * non-duplicate reports created since a date, in creation order (one row for a report without symptoms)
+     */
+    @Query("SELECT hr.id, hr.district, hr.village, hr.urgency, hr.createdAt, s FROM HealthReport hr " +
+           "LEFT JOIN hr.symptoms s WHERE hr.status <> 'CANCELLED' AND hr.duplicateOfId IS NULL " +
+           "AND hr.createdAt >= :startDate " +
+           "ORDER BY hr.createdAt, hr.id")
+    List<Object[]> findSymptomRows(@Param("startDate") LocalDateTime startDate);
+    
+    /**
+     * Ids of reports with coordinates, after a given id in id order; unless all
+     * are requested, only those not yet placed in a district
+     */
+    @Query("SELECT hr.id FROM HealthReport hr WHERE hr.latitude IS NOT NULL AND hr.longitude IS NOT NULL " +
+           "AND (:all = true OR hr.districtGid IS NULL) AND hr.id > :afterId ORDER BY hr.id")
+    List<Long> findGeocodeIds(@Param("afterId") Long afterId,
+                              @Param("all") boolean all,
+                              Pageable pageable);
+    
+    /**
+     * Report counts per canonical district id
+     */
+    @Query("SELECT hr.districtId, COUNT(hr) FROM HealthReport hr WHERE hr.districtId IS NOT NULL GROUP BY hr.districtId")
+    List<Object[]> countGroupedByDistrictId();
+    
+    /**
+     * Report counts per district name, for reports with no district id
+     */
+    @Query("SELECT TRIM(hr.district), COUNT(hr) FROM HealthReport hr WHERE hr.districtId IS NULL " +
+           "AND hr.district IS NOT NULL GROUP BY TRIM(hr.district)")
+    List<Object[]> countUnmappedGroupedByDistrict();
+    
+    /**
+     * Report counts per canonical village id within a district
+     */
+    @Query("SELECT hr.villageId, COUNT(hr) FROM HealthReport hr WHERE hr.districtId = :districtId " +
+           "AND hr.villageId IS NOT NULL GROUP BY hr.villageId")
+    List<Object[]> countGroupedByVillageId(@Param("districtId") Integer districtId);
+    
+    /**
+     * Distinct district/village spellings, with their district id, of reports not fully mapped to dictionary ids
+     */
+    @Query("SELECT DISTINCT hr.district, hr.village, hr.districtId FROM HealthReport hr " +
+           "WHERE hr.districtId IS NULL OR hr.villageId IS NULL")
+    List<Object[]> findUnassignedLocations();
+    
+    /**
+     * Set dictionary ids on all reports not fully mapped with the given spelling
+     */
+    @Modifying
+    @Query("UPDATE HealthReport hr SET hr.districtId = :districtId, hr.villageId = :villageId " +
+           "WHERE (hr.districtId IS NULL OR hr.villageId IS NULL) AND hr.district = :district AND hr.village = :village")
+    int assignLocationIds(@Param("district") String district,
+                          @Param("village") String village,
+                          @Param("districtId") Integer districtId,
+                          @Param("villageId") Integer villageId);
+    
+    /**
+     * Distinct geocoded district/village GADM ids of reports whose district matched no dictionary entry
+     */
+    @Query("SELECT DISTINCT hr.districtGid, hr.villageGid FROM HealthReport hr " +
+           "WHERE hr.districtId IS NULL AND hr.districtGid IS NOT NULL")
+    List<Object[]> findUnassignedGids();
+    
+    /**
+     * Set dictionary ids on all reports without a district id geocoded to the given GADM areas
+     */
+    @Modifying
+    @Query("UPDATE HealthReport hr SET hr.districtId = :districtId, hr.villageId = :villageId " +
+           "WHERE hr.districtId IS NULL AND hr.districtGid = :districtGid " +
+           "AND (hr.villageGid = :villageGid OR (hr.villageGid IS NULL AND :villageGid IS NULL))")
+    int assignLocationIdsByGid(@Param("districtGid") String districtGid,
+                               @Param("villageGid") String villageGid,
+                               @Param("districtId") Integer districtId,
+                               @Param("villageId") Integer villageId);
 }
@@ -0,0 +1,23 @@
+package com.healthnet.repository;
+
+import com.healthnet.entity.Location;
+import com.healthnet.entity.LocationType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for Location entity operations
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Repository
+public interface LocationRepository extends JpaRepository<Location, Integer> {
+    
+    /**
+     * Find dictionary entries of a level
+     */
+    List<Location> findByType(LocationType type);
+}
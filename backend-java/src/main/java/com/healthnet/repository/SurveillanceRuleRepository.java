@@ -0,0 +1,22 @@
+package com.healthnet.repository;
+
+import com.healthnet.entity.SurveillanceRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for SurveillanceRule entity
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Repository
+public interface SurveillanceRuleRepository extends JpaRepository<SurveillanceRule, Long> {
+    
+    /**
+     * Find enabled rules
+     */
+    List<SurveillanceRule> findByEnabledTrue();
+}
@@ -6,6 +6,7 @@ import com.healthnet.entity.UserStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -44,9 +45,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findByStatus(UserStatus status);
     
     /**
-     * Find users by district
+     * Find users by canonical district id
      */
-    List<User> findByDistrict(String district);
+    List<User> findByDistrictId(Integer districtId);
     
     /**
      * Find users by state
@@ -59,9 +60,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findByRoleAndStatus(UserRole role, UserStatus status);
     
     /**
-     * Find users by district and role
+     * Find users by canonical district id and role
      */
-    List<User> findByDistrictAndRole(String district, UserRole role);
+    List<User> findByDistrictIdAndRole(Integer districtId, UserRole role);
     
     /**
      * Check if email exists
@@ -89,9 +90,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Page<User> findByStatus(UserStatus status, Pageable pageable);
     
     /**
-     * Find users by district with pagination
+     * Find users by canonical district id with pagination
      */
-    Page<User> findByDistrict(String district, Pageable pageable);
+    Page<User> findByDistrictId(Integer districtId, Pageable pageable);
     
     /**
      * Find users by state with pagination
@@ -109,10 +110,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findByLastActiveAfter(LocalDateTime date);
     
     /**
-     * Find users by multiple districts
+     * Find users by multiple canonical district ids
      */
-    @Query("SELECT u FROM User u WHERE u.district IN :districts")
-    List<User> findByDistricts(@Param("districts") List<String> districts);
+    @Query("SELECT u FROM User u WHERE u.districtId IN :districtIds")
+    List<User> findByDistrictIds(@Param("districtIds") List<Integer> districtIds);
+    
+    /**
+     * Find users by canonical district ids, or with no district id whose district is one of the
+     * names (given trimmed and lower case)
+     */
+    @Query("SELECT u FROM User u WHERE u.districtId IN :districtIds " +
+           "OR (u.districtId IS NULL AND LOWER(TRIM(u.district)) IN :districts)")
+    List<User> findInDistricts(@Param("districtIds") List<Integer> districtIds,
+                               @Param("districts") List<String> districts);
     
     /**
      * Find users by multiple states
@@ -137,9 +147,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     long countByStatus(UserStatus status);
     
     /**
-     * Count users by district
+     * Count users by canonical district id
      */
-    long countByDistrict(String district);
+    long countByDistrictId(Integer districtId);
     
     /**
      * Count users by state
@@ -165,12 +175,32 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findInactiveUsers(@Param("date") LocalDateTime date);
     
     /**
-     * Find users by role and district with pagination
+     * Find users by role and canonical district id with pagination
      */
-    Page<User> findByRoleAndDistrict(UserRole role, String district, Pageable pageable);
+    Page<User> findByRoleAndDistrictId(UserRole role, Integer districtId, Pageable pageable);
     
     /**
      * Find users by role and state with pagination
      */
     Page<User> findByRoleAndState(UserRole role, String state, Pageable pageable);
+    
+    /**
+     * Distinct district spellings of users not yet mapped to dictionary ids
+     */
+    @Query("SELECT DISTINCT u.district FROM User u WHERE u.districtId IS NULL AND u.district IS NOT NULL")
+    List<String> findUnassignedDistricts();
+    
+    /**
+     * Set the dictionary id on all unmapped users with the given district spelling
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.districtId = :districtId WHERE u.districtId IS NULL AND u.district = :district")
+    int assignDistrictId(@Param("district") String district, @Param("districtId") Integer districtId);
+    
+    /**
+     * Id, phone, role, district id, state and district of every active user with a phone number
+     */
+    @Query("SELECT u.id, u.phone, u.role, u.districtId, u.state, u.district FROM User u " +
+           "WHERE u.status = com.healthnet.entity.UserStatus.ACTIVE AND u.phone IS NOT NULL AND u.phone <> ''")
+    List<Object[]> findRecipientRows();
 }
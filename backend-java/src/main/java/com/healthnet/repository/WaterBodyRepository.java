@@ -0,0 +1,36 @@
+package com.healthnet.repository;
+
+import com.healthnet.entity.WaterBody;
+import com.healthnet.entity.WaterBodyType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for WaterBody entity
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Repository
+public interface WaterBodyRepository extends JpaRepository<WaterBody, Long> {
+    
+    /**
+     * Find a water body by its key
+     */
+    Optional<WaterBody> findByBodyKey(String bodyKey);
+    
+    /**
+     * Find water bodies, optionally of one district or type
+     */
+    @Query("SELECT b FROM WaterBody b WHERE (:districtId IS NULL OR b.districtId = :districtId) " +
+           "AND (:type IS NULL OR b.type = :type)")
+    Page<WaterBody> search(@Param("districtId") Integer districtId,
+                           @Param("type") WaterBodyType type,
+                           Pageable pageable);
+}
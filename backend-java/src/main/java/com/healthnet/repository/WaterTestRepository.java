@@ -0,0 +1,88 @@
+package com.healthnet.repository;
+
+import com.healthnet.entity.WaterQuality;
+import com.healthnet.entity.WaterTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for WaterTest entity
+ * 
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Repository
+public interface WaterTestRepository extends JpaRepository<WaterTest, Long> {
+    
+    /**
+     * Check whether a sample id was already submitted
+     */
+    boolean existsBySampleId(String sampleId);
+    
+    /**
+     * Sample ids among the given ones that were already submitted
+     */
+    @Query("SELECT w.sampleId FROM WaterTest w WHERE w.sampleId IN :sampleIds")
+    List<String> findExistingSampleIds(@Param("sampleIds") Collection<String> sampleIds);
+    
+    /**
+     * Find tests, optionally of one district, water body or quality
+     */
+    @Query("SELECT w FROM WaterTest w WHERE (:districtId IS NULL OR w.districtId = :districtId) " +
+           "AND (:waterBodyId IS NULL OR w.waterBodyId = :waterBodyId) " +
+           "AND (:quality IS NULL OR w.quality = :quality)")
+    Page<WaterTest> search(@Param("districtId") Integer districtId,
+                           @Param("waterBodyId") Long waterBodyId,
+                           @Param("quality") WaterQuality quality,
+                           Pageable pageable);
+    
+    /**
+     * District id, village id, water body name, test time and quality of marginal and unsafe tests since a time
+     */
+    @Query("SELECT w.districtId, w.villageId, w.waterBodyName, w.testedAt, w.quality FROM WaterTest w " +
+           "WHERE w.quality <> com.healthnet.entity.WaterQuality.SAFE AND w.testedAt >= :since")
+    List<Object[]> findContaminatedRows(@Param("since") LocalDateTime since);
+    
+    /**
+     * Water body id, number of tests and first and last test time per water body
+     */
+    @Query("SELECT w.waterBodyId, COUNT(w), MIN(w.testedAt), MAX(w.testedAt) FROM WaterTest w " +
+           "WHERE w.waterBodyId IN :waterBodyIds GROUP BY w.waterBodyId")
+    List<Object[]> summarizeByWaterBody(@Param("waterBodyIds") Collection<Long> waterBodyIds);
+    
+    /**
+     * Water body id and quality of the latest test of each water body
+     */
+    @Query("SELECT w.waterBodyId, w.quality FROM WaterTest w WHERE w.waterBodyId IN :waterBodyIds " +
+           "AND w.testedAt = (SELECT MAX(l.testedAt) FROM WaterTest l WHERE l.waterBodyId = w.waterBodyId)")
+    List<Object[]> findLatestQualities(@Param("waterBodyIds") Collection<Long> waterBodyIds);
+    
+    /**
+     * Keys of water bodies with tests stored before they were registered
+     */
+    @Query("SELECT DISTINCT w.waterBodyKey FROM WaterTest w WHERE w.waterBodyId IS NULL")
+    List<String> findUnregisteredWaterBodyKeys();
+    
+    /**
+     * Latest test of a water body key, to register the water body from
+     */
+    Optional<WaterTest> findFirstByWaterBodyKeyOrderByTestedAtDesc(String waterBodyKey);
+    
+    /**
+     * Set the water body id of tests stored without one
+     */
+    @Modifying
+    @Query("UPDATE WaterTest w SET w.waterBodyId = :waterBodyId WHERE w.waterBodyKey = :waterBodyKey " +
+           "AND w.waterBodyId IS NULL")
+    int assignWaterBodyId(@Param("waterBodyKey") String waterBodyKey, @Param("waterBodyId") Long waterBodyId);
+}
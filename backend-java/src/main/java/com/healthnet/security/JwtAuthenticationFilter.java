@@ -3,6 +3,7 @@ package com.healthnet.security;
 import com.healthnet.entity.User;
 import com.healthnet.entity.UserRole;
 import com.healthnet.repository.UserRepository;
+import com.healthnet.service.StreamTicketService;
 import com.healthnet.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -28,12 +29,17 @@ import java.util.Optional;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
+    private static final String EVENT_STREAM_PATH = "/api/events/";
+    
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
+    private final StreamTicketService streamTicketService;
     
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserRepository userRepository) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserRepository userRepository,
+                                   StreamTicketService streamTicketService) {
         this.jwtUtil = jwtUtil;
         this.userRepository = userRepository;
+        this.streamTicketService = streamTicketService;
     }
     
     @Override
@@ -53,29 +59,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             } catch (Exception e) {
                 logger.error("JWT token validation failed: " + e.getMessage());
             }
+        } else if (request.getRequestURI().startsWith(EVENT_STREAM_PATH)) {
+            // EventSource cannot set headers, so event streams present a single-use ticket instead
+            String ticket = request.getParameter("ticket");
+            Long userId = ticket != null ? streamTicketService.redeem(ticket) : null;
+            if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                userRepository.findById(userId).ifPresent(user -> authenticate(user, request));
+            }
         }
         
         if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             Optional<User> userOptional = userRepository.findByEmail(email);
             
             if (userOptional.isPresent() && jwtUtil.validateToken(jwt)) {
-                User user = userOptional.get();
-                
-                // Create authorities based on user role
-                SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + user.getRole().name());
-                
-                UsernamePasswordAuthenticationToken authToken = 
-                    new UsernamePasswordAuthenticationToken(
-                        user, 
-                        null, 
-                        Collections.singletonList(authority)
-                    );
-                
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+                authenticate(userOptional.get(), request);
             }
         }
         
         filterChain.doFilter(request, response);
     }
+    
+    private void authenticate(User user, HttpServletRequest request) {
+        // Create authorities based on user role
+        SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + user.getRole().name());
+        
+        UsernamePasswordAuthenticationToken authToken = 
+            new UsernamePasswordAuthenticationToken(
+                user, 
+                null, 
+                Collections.singletonList(authority)
+            );
+        
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
 }
@@ -1,5 +1,6 @@
 package com.healthnet.security;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -42,15 +43,24 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authz -> authz
+                // Async dispatches of already authorized streaming responses
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+                
                 // Public endpoints
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/health-reports").permitAll() // Allow public health report submission
+                .requestMatchers("/api/map/boundaries", "/api/map/boundaries/**").permitAll() // Static map boundaries
+                .requestMatchers("/api/locations/suggest").permitAll() // Place name autocomplete on the public report form
+                .requestMatchers("/api/alerts/feed").permitAll() // Public alerts feed, served from cached snapshots
 
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
                 .requestMatchers("/actuator/health").permitAll()
                 
                 // Admin only endpoints
                 .requestMatchers("/api/users/**").hasAnyRole("ADMIN")
+                .requestMatchers("/api/health-reports/*/duplicates", "/api/health-reports/*/duplicate-of",
+                        "/api/health-reports/statistics/districts")
+                        .hasAnyRole("ADMIN", "DISTRICT_HEALTH_OFFICER") // Duplicate review and district counts
                 .requestMatchers("/api/health-reports/**").hasAnyRole("ADMIN", "HEALTH_OFFICER")
                 
                 // All other requests need authentication
@@ -0,0 +1,447 @@
+package com.healthnet.service;
+
+import com.healthnet.dto.SmsProviderStatusDto;
+import com.healthnet.entity.Alert;
+import com.healthnet.entity.AlertMessage;
+import com.healthnet.entity.DeliveryStatus;
+import com.healthnet.event.AlertQueuedEvent;
+import com.healthnet.exception.SmsGatewayException;
+import com.healthnet.repository.AlertMessageRepository;
+import com.healthnet.repository.AlertRepository;
+import com.healthnet.util.CircuitBreaker;
+import com.healthnet.util.TokenBucket;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sends queued alert messages from the outbox through the SMS gateways.
+ *
+ * A single dispatcher thread claims due messages in chunks (marking them
+ * with a claim token so no other pass sends them), shares them between the
+ * healthy providers by weight and cuts them into provider-sized batches,
+ * which a sender pool sends in parallel. Each provider has a token bucket
+ * for its rate limit and a circuit breaker: while a provider is failing its
+ * share goes to the others, or waits if none is left. Failed messages are
+ * retried with exponential backoff and jitter up to a maximum number of
+ * attempts; rejected numbers fail at once. Request threads only write the
+ * outbox, so an alert to tens of thousands of recipients returns at once.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class AlertDispatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(AlertDispatchService.class);
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final AlertMessageRepository alertMessageRepository;
+    private final AlertRepository alertRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final List<Lane> lanes;
+    private final ExecutorService dispatcher;
+    private final ExecutorService senders;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean wakeRequested = new AtomicBoolean(false);
+
+    @Value("${healthnet.alerts.dispatch.claim-size:2000}")
+    private int claimSize;
+
+    @Value("${healthnet.alerts.dispatch.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${healthnet.alerts.dispatch.backoff-initial-ms:2000}")
+    private long backoffInitialMillis;
+
+    @Value("${healthnet.alerts.dispatch.backoff-max-ms:300000}")
+    private long backoffMaxMillis;
+
+    @Value("${healthnet.alerts.dispatch.stale-claim-seconds:300}")
+    private long staleClaimSeconds;
+
+    public AlertDispatchService(AlertMessageRepository alertMessageRepository,
+                                AlertRepository alertRepository,
+                                PlatformTransactionManager transactionManager,
+                                ObjectProvider<SmsGateway> gateways,
+                                @Value("${healthnet.alerts.dispatch.sender-threads:8}") int senderThreads,
+                                @Value("${healthnet.alerts.dispatch.breaker-failure-threshold:5}") int failureThreshold,
+                                @Value("${healthnet.alerts.dispatch.breaker-open-seconds:30}") long openSeconds) {
+        this.alertMessageRepository = alertMessageRepository;
+        this.alertRepository = alertRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lanes = gateways.orderedStream()
+                .map(gateway -> new Lane(gateway, new CircuitBreaker(failureThreshold, openSeconds * 1000)))
+                .collect(Collectors.toList());
+        this.dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "alert-dispatch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger senderCount = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(Math.max(1, senderThreads), runnable -> {
+            Thread thread = new Thread(runnable, "alert-sender-" + senderCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Return messages left claimed by a previous run to the queue and send what is due
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (lanes.isEmpty()) {
+            log.warn("No SMS gateway configured; alert messages will stay queued");
+        } else {
+            log.info("Alert dispatch ready with SMS gateways {}",
+                    lanes.stream().map(lane -> lane.gateway.getName()).collect(Collectors.toList()));
+        }
+        recoverStaleClaims();
+        wake();
+    }
+
+    /**
+     * Start sending as soon as an alert's messages are committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAlertQueued(AlertQueuedEvent event) {
+        wake();
+    }
+
+    /**
+     * Pick up retries that have come due
+     */
+    @Scheduled(fixedDelayString = "${healthnet.alerts.dispatch.poll-interval-ms:1000}")
+    public void poll() {
+        wake();
+    }
+
+    /**
+     * Messages claimed longer ago than any send can take belong to a dispatcher that stopped
+     */
+    @Scheduled(fixedDelayString = "${healthnet.alerts.dispatch.stale-check-ms:60000}")
+    public void recoverStaleClaims() {
+        Integer released = transactionTemplate.execute(tx ->
+                alertMessageRepository.releaseStaleClaims(LocalDateTime.now().minusSeconds(staleClaimSeconds)));
+        if (released != null && released > 0) {
+            log.warn("Returned {} stale claimed alert messages to the queue", released);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    /**
+     * State and counters of every provider
+     */
+    public List<SmsProviderStatusDto> getProviderStatus() {
+        List<SmsProviderStatusDto> statuses = new ArrayList<>();
+        for (Lane lane : lanes) {
+            statuses.add(new SmsProviderStatusDto(lane.gateway.getName(), lane.breaker.getState().name(),
+                    lane.gateway.getRatePerSecond(), lane.gateway.getBatchSize(), lane.gateway.getWeight(),
+                    lane.sent.get(), lane.retried.get(), lane.rejected.get(), lane.callFailures.get()));
+        }
+        return statuses;
+    }
+
+    /**
+     * Outbox message counts per delivery status
+     */
+    public Map<DeliveryStatus, Long> getQueueCounts() {
+        Map<DeliveryStatus, Long> counts = new HashMap<>();
+        for (DeliveryStatus status : DeliveryStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (Object[] row : alertMessageRepository.countByStatus()) {
+            counts.put((DeliveryStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    private void wake() {
+        wakeRequested.set(true);
+        if (!lanes.isEmpty() && !dispatcher.isShutdown() && draining.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Shutting down; unsent messages stay queued for the next start
+                draining.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                wakeRequested.set(false);
+                List<AlertMessage> claimed = claim();
+                if (claimed.isEmpty()) {
+                    break;
+                }
+                dispatch(claimed);
+            }
+        } catch (RuntimeException e) {
+            log.error("Alert dispatch pass failed", e);
+        } finally {
+            draining.set(false);
+        }
+        // A wake that arrived while this pass was finishing still needs a pass
+        if (wakeRequested.get()) {
+            wake();
+        }
+    }
+
+    private List<AlertMessage> claim() {
+        String token = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        List<AlertMessage> claimed = transactionTemplate.execute(tx -> {
+            List<Long> ids = alertMessageRepository.findDueIds(now, PageRequest.of(0, claimSize));
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            alertMessageRepository.claim(ids, token, now);
+            return alertMessageRepository.findByClaimToken(token);
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    /**
+     * Share one claimed chunk between the healthy providers and wait until every batch is done
+     */
+    private void dispatch(List<AlertMessage> claimed) {
+        List<Lane> healthy = lanes.stream().filter(lane -> lane.breaker.isAvailable()).collect(Collectors.toList());
+        if (healthy.isEmpty()) {
+            long wait = lanes.stream().mapToLong(lane -> lane.breaker.millisUntilRetry()).min().orElse(1000);
+            log.warn("All SMS gateways are unavailable; deferring {} messages by {} ms", claimed.size(), wait);
+            persist(claimed, message -> release(message, Math.max(wait, 1000)));
+            return;
+        }
+
+        Set<Long> alertIds = claimed.stream().map(AlertMessage::getAlertId).collect(Collectors.toSet());
+        Map<Long, String> texts = new HashMap<>();
+        for (Alert alert : alertRepository.findAllById(alertIds)) {
+            texts.put(alert.getId(), alert.getMessageText());
+        }
+
+        // Smooth weighted round robin, so each provider's share is spread over the chunk
+        Map<Lane, List<AlertMessage>> shares = new HashMap<>();
+        int[] current = new int[healthy.size()];
+        int totalWeight = healthy.stream().mapToInt(lane -> Math.max(1, lane.gateway.getWeight())).sum();
+        for (AlertMessage message : claimed) {
+            int best = 0;
+            for (int i = 0; i < healthy.size(); i++) {
+                current[i] += Math.max(1, healthy.get(i).gateway.getWeight());
+                if (current[i] > current[best]) {
+                    best = i;
+                }
+            }
+            current[best] -= totalWeight;
+            shares.computeIfAbsent(healthy.get(best), lane -> new ArrayList<>()).add(message);
+        }
+
+        List<Future<?>> batches = new ArrayList<>();
+        for (Map.Entry<Lane, List<AlertMessage>> share : shares.entrySet()) {
+            Lane lane = share.getKey();
+            List<AlertMessage> messages = share.getValue();
+            int batchSize = Math.max(1, lane.gateway.getBatchSize());
+            for (int from = 0; from < messages.size(); from += batchSize) {
+                List<AlertMessage> batch = messages.subList(from, Math.min(from + batchSize, messages.size()));
+                batches.add(senders.submit(() -> send(lane, batch, texts)));
+            }
+        }
+        for (Future<?> batch : batches) {
+            try {
+                batch.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Alert batch failed unexpectedly", e);
+            }
+        }
+    }
+
+    private void send(Lane lane, List<AlertMessage> batch, Map<Long, String> texts) {
+        if (!lane.breaker.allowRequest()) {
+            // Opened by another batch since the chunk was shared out
+            long wait = Math.max(lane.breaker.millisUntilRetry(), 1000);
+            persist(batch, message -> release(message, wait));
+            return;
+        }
+        try {
+            lane.bucket.acquire(batch.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            persist(batch, message -> release(message, 0));
+            return;
+        }
+
+        List<SmsGateway.Message> messages = new ArrayList<>(batch.size());
+        for (AlertMessage message : batch) {
+            messages.add(new SmsGateway.Message(message.getId(), message.getPhone(), texts.get(message.getAlertId())));
+        }
+        List<SmsGateway.Result> results;
+        try {
+            results = lane.gateway.send(messages);
+            if (results == null || results.size() != batch.size()) {
+                throw new SmsGatewayException("Gateway returned " + (results == null ? 0 : results.size())
+                        + " results for " + batch.size() + " messages");
+            }
+            lane.breaker.recordSuccess();
+        } catch (RuntimeException e) {
+            lane.breaker.recordFailure();
+            lane.callFailures.incrementAndGet();
+            log.warn("SMS gateway {} failed a batch of {}: {}", lane.gateway.getName(), batch.size(), e.getMessage());
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            persist(batch, message -> retry(message, lane.gateway.getName(), error));
+            return;
+        }
+
+        String provider = lane.gateway.getName();
+        Map<Long, SmsGateway.Result> byId = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            byId.put(batch.get(i).getId(), results.get(i));
+        }
+        persist(batch, message -> {
+            SmsGateway.Result result = byId.get(message.getId());
+            switch (result.getOutcome()) {
+                case SENT:
+                    lane.sent.incrementAndGet();
+                    message.setStatus(DeliveryStatus.SENT);
+                    message.setProvider(provider);
+                    message.setProviderMessageId(result.getProviderMessageId());
+                    message.setAttempts(message.getAttempts() + 1);
+                    message.setSentAt(LocalDateTime.now());
+                    message.setLastError(null);
+                    message.setClaimToken(null);
+                    break;
+                case REJECTED:
+                    lane.rejected.incrementAndGet();
+                    message.setStatus(DeliveryStatus.FAILED);
+                    message.setProvider(provider);
+                    message.setAttempts(message.getAttempts() + 1);
+                    message.setLastError(truncate(result.getError()));
+                    message.setClaimToken(null);
+                    break;
+                default:
+                    lane.retried.incrementAndGet();
+                    retry(message, provider, result.getError());
+            }
+        });
+    }
+
+    /**
+     * Count a failed attempt and schedule the next one, or give up after the last
+     */
+    private void retry(AlertMessage message, String provider, String error) {
+        int attempts = message.getAttempts() + 1;
+        message.setAttempts(attempts);
+        message.setProvider(provider);
+        message.setLastError(truncate(error));
+        message.setClaimToken(null);
+        if (attempts >= maxAttempts) {
+            message.setStatus(DeliveryStatus.FAILED);
+            return;
+        }
+        long backoff = Math.min(backoffMaxMillis, backoffInitialMillis << Math.min(attempts - 1, 20));
+        // Jitter of +-20% keeps retries of one batch from arriving together
+        long delay = (long) (backoff * (0.8 + 0.4 * ThreadLocalRandom.current().nextDouble()));
+        message.setStatus(DeliveryStatus.PENDING);
+        message.setNextAttemptAt(LocalDateTime.now().plusNanos(delay * 1_000_000));
+    }
+
+    /**
+     * Put a message back without counting an attempt
+     */
+    private static void release(AlertMessage message, long delayMillis) {
+        message.setStatus(DeliveryStatus.PENDING);
+        message.setClaimToken(null);
+        message.setNextAttemptAt(LocalDateTime.now().plusNanos(delayMillis * 1_000_000));
+    }
+
+    /**
+     * Apply an outcome to managed copies of the messages and commit
+     */
+    private void persist(List<AlertMessage> batch, Consumer<AlertMessage> outcome) {
+        for (AlertMessage message : batch) {
+            outcome.accept(message);
+        }
+        Map<Long, AlertMessage> updates = batch.stream()
+                .collect(Collectors.toMap(AlertMessage::getId, Function.identity()));
+        transactionTemplate.executeWithoutResult(tx -> {
+            Set<Long> seen = new HashSet<>();
+            for (AlertMessage managed : alertMessageRepository.findAllById(updates.keySet())) {
+                AlertMessage update = updates.get(managed.getId());
+                managed.setStatus(update.getStatus());
+                managed.setAttempts(update.getAttempts());
+                managed.setNextAttemptAt(update.getNextAttemptAt());
+                managed.setClaimToken(update.getClaimToken());
+                managed.setProvider(update.getProvider());
+                managed.setProviderMessageId(update.getProviderMessageId());
+                managed.setLastError(update.getLastError());
+                managed.setSentAt(update.getSentAt());
+                seen.add(managed.getId());
+            }
+            if (seen.size() != updates.size()) {
+                log.warn("{} alert messages disappeared while being sent", updates.size() - seen.size());
+            }
+        });
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    private static final class Lane {
+        private final SmsGateway gateway;
+        private final CircuitBreaker breaker;
+        private final TokenBucket bucket;
+        private final AtomicLong sent = new AtomicLong();
+        private final AtomicLong retried = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong callFailures = new AtomicLong();
+
+        Lane(SmsGateway gateway, CircuitBreaker breaker) {
+            this.gateway = gateway;
+            this.breaker = breaker;
+            this.bucket = new TokenBucket(gateway.getRatePerSecond(), Math.max(1, gateway.getBurst()));
+        }
+    }
+}
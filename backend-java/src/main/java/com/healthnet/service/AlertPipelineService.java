@@ -0,0 +1,148 @@
+package com.healthnet.service;
+
+import com.healthnet.dto.AlertDto;
+import com.healthnet.dto.OutbreakSignalDto;
+import com.healthnet.entity.AlertType;
+import com.healthnet.entity.UrgencyLevel;
+import com.healthnet.entity.UserRole;
+import com.healthnet.event.OutbreakSignalEvent;
+import com.healthnet.event.ReportEscalationEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Turns detector output into alerts.
+ *
+ * Escalations of overdue reports become staff-only alerts to the officers
+ * of the report's district, created through the alert service so their SMS
+ * messages go out through the same outbox and dispatcher as any other
+ * alert. Outbreak signals become staff-only alerts to the same officers,
+ * one per district and detection window: the village, district-wide and
+ * all-symptom series that flag the same reports raise one alert, and
+ * another only if a later signal in that window is more severe. Each alert
+ * is created in a transaction of its own, so a failure is logged and does
+ * not affect the detector.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class AlertPipelineService {
+
+    private static final Logger log = LoggerFactory.getLogger(AlertPipelineService.class);
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("d MMM HH:mm", Locale.ENGLISH);
+
+    private final AlertService alertService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${healthnet.escalation.alert.min-level:1}")
+    private int escalationMinLevel;
+
+    @Value("${healthnet.escalation.alert.recipient-roles:DISTRICT_HEALTH_OFFICER}")
+    private List<UserRole> escalationRecipientRoles;
+
+    @Value("${healthnet.detection.alert.min-severity:MEDIUM}")
+    private UrgencyLevel signalMinSeverity;
+
+    @Value("${healthnet.detection.alert.recipient-roles:DISTRICT_HEALTH_OFFICER}")
+    private List<UserRole> signalRecipientRoles;
+
+    /** Latest outbreak signal alerted per normalized district */
+    private final Map<String, OutbreakSignalDto> signalAlerts = new ConcurrentHashMap<>();
+
+    public AlertPipelineService(AlertService alertService, PlatformTransactionManager transactionManager) {
+        this.alertService = alertService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Alert the district's officers about a report still pending past its deadline
+     */
+    @EventListener
+    public void onEscalation(ReportEscalationEvent event) {
+        if (event.getLevel() < escalationMinLevel || event.getDistrict() == null || event.getDistrict().isBlank()) {
+            return;
+        }
+        StringBuilder description = new StringBuilder();
+        description.append(event.getUrgency().getDisplayName()).append(" report ").append(event.getReportId())
+                .append(" from ").append(event.getDistrict()).append(" has been pending since ")
+                .append(event.getReportCreatedAt() != null ? TIME.format(event.getReportCreatedAt()) : "its creation");
+        if (event.getLevel() > 1) {
+            description.append(" (escalation ").append(event.getLevel()).append(')');
+        }
+
+        AlertDto request = new AlertDto();
+        request.setTitle("Overdue report " + event.getReportId());
+        request.setDescription(description.toString());
+        request.setType(AlertType.HEALTH_EMERGENCY);
+        request.setPriority(event.getUrgency());
+        request.setDistrict(event.getDistrict());
+        request.setRecipientRoles(escalationRecipientRoles);
+        create(request, "escalation of report " + event.getReportId());
+    }
+
+    /**
+     * Alert the district's officers about an outbreak signal, once per district and window unless it grows more severe
+     */
+    @EventListener
+    public void onOutbreakSignal(OutbreakSignalEvent event) {
+        OutbreakSignalDto signal = event.getSignal();
+        UrgencyLevel severity = UrgencyLevel.valueOf(signal.getSeverity());
+        if (severity.getPriorityScore() < signalMinSeverity.getPriorityScore()) {
+            return;
+        }
+        LocalDateTime stale = LocalDateTime.now().minusDays(2);
+        signalAlerts.values().removeIf(raised -> raised.getWindowStart().isBefore(stale));
+        boolean[] raise = new boolean[1];
+        signalAlerts.compute(signal.getDistrict().toLowerCase(Locale.ROOT), (district, raised) -> {
+            raise[0] = raised == null || !raised.getWindowStart().equals(signal.getWindowStart())
+                    || severity.getPriorityScore() > UrgencyLevel.valueOf(raised.getSeverity()).getPriorityScore();
+            return raise[0] ? signal : raised;
+        });
+        if (!raise[0]) {
+            return;
+        }
+
+        boolean allSymptoms = OutbreakDetectionService.ALL.equals(signal.getSymptom());
+        boolean districtWide = OutbreakDetectionService.ALL.equals(signal.getVillage());
+        String area = districtWide ? signal.getDistrict() : signal.getVillage() + ", " + signal.getDistrict();
+        String description = String.format(Locale.ROOT, "%d %s in %s since %s against %.1f expected (z = %.1f)",
+                signal.getObserved(), allSymptoms ? "reports" : "reports of " + signal.getSymptom(), area,
+                TIME.format(signal.getWindowStart()), signal.getExpected(), signal.getZScore());
+
+        AlertDto request = new AlertDto();
+        request.setTitle("Possible outbreak" + (allSymptoms ? "" : " of " + signal.getSymptom()) + " in " + area);
+        request.setDescription(description);
+        request.setType(AlertType.DISEASE_OUTBREAK);
+        request.setPriority(severity);
+        request.setDistrict(signal.getDistrict());
+        request.setLocation(districtWide ? null : signal.getVillage());
+        request.setRecipientRoles(signalRecipientRoles);
+        create(request, "outbreak signal in " + area);
+    }
+
+    private void create(AlertDto request, String cause) {
+        try {
+            AlertDto alert = transactionTemplate.execute(status -> alertService.createStaffAlert(request));
+            log.info("Raised alert {} for {} to {} recipients", alert != null ? alert.getId() : null, cause,
+                    alert != null ? alert.getRecipientCount() : 0);
+        } catch (RuntimeException e) {
+            log.warn("Could not raise an alert for {}: {}", cause, e.getMessage());
+        }
+    }
+}
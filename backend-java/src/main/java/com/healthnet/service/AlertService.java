@@ -0,0 +1,342 @@
+package com.healthnet.service;
+
+import com.healthnet.dto.AlertDto;
+import com.healthnet.entity.Alert;
+import com.healthnet.entity.AlertStatus;
+import com.healthnet.entity.DeliveryStatus;
+import com.healthnet.entity.User;
+import com.healthnet.entity.UserRole;
+import com.healthnet.event.AlertChangedEvent;
+import com.healthnet.event.AlertQueuedEvent;
+import com.healthnet.exception.ResourceNotFoundException;
+import com.healthnet.repository.AlertMessageRepository;
+import com.healthnet.repository.AlertRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for health alerts.
+ *
+ * Creating an alert writes the alert and one outbox message per recipient
+ * in the same transaction; recipients come from the in-memory recipient
+ * index and are inserted in JDBC batches. The dispatcher sends them after
+ * commit.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class AlertService {
+
+    private static final String ALL_DISTRICTS = "All Districts";
+    private static final String INSERT_MESSAGE = "INSERT INTO alert_messages "
+            + "(alert_id, user_id, phone, status, attempts, next_attempt_at, created_at) VALUES (?, ?, ?, ?, 0, ?, ?)";
+
+    private final AlertRepository alertRepository;
+    private final AlertMessageRepository alertMessageRepository;
+    private final LocationDictionaryService locationDictionaryService;
+    private final RecipientIndexService recipientIndexService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${healthnet.alerts.sms-prefix:NE HealthNet ALERT}")
+    private String smsPrefix;
+
+    @Value("${healthnet.alerts.max-sms-length:459}")
+    private int maxSmsLength;
+
+    @Value("${healthnet.alerts.insert-batch-size:1000}")
+    private int insertBatchSize;
+
+    public AlertService(AlertRepository alertRepository,
+                        AlertMessageRepository alertMessageRepository,
+                        LocationDictionaryService locationDictionaryService,
+                        RecipientIndexService recipientIndexService,
+                        JdbcTemplate jdbcTemplate,
+                        ApplicationEventPublisher eventPublisher) {
+        this.alertRepository = alertRepository;
+        this.alertMessageRepository = alertMessageRepository;
+        this.locationDictionaryService = locationDictionaryService;
+        this.recipientIndexService = recipientIndexService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Create an alert and queue an SMS for every recipient
+     */
+    public AlertDto createAlert(AlertDto request) {
+        return createAlert(request, null, false);
+    }
+
+    /**
+     * Create an alert raised by a surveillance rule and queue its messages
+     */
+    public AlertDto createRuleAlert(AlertDto request, Long ruleId) {
+        return createAlert(request, ruleId, false);
+    }
+
+    /**
+     * Create an alert for staff only, kept out of the public feed, and queue its messages
+     */
+    public AlertDto createStaffAlert(AlertDto request) {
+        return createAlert(request, null, true);
+    }
+
+    private AlertDto createAlert(AlertDto request, Long ruleId, boolean staffOnly) {
+        Alert alert = new Alert(request.getTitle().trim(), request.getDescription(), request.getType(),
+                request.getPriority());
+
+        // The frontend sends one district name, "All Districts" meaning everyone
+        Set<String> districtNames = new LinkedHashSet<>();
+        if (request.getDistrict() != null) {
+            districtNames.add(request.getDistrict().trim());
+        }
+        if (request.getDistricts() != null) {
+            request.getDistricts().stream().filter(Objects::nonNull).map(String::trim).forEach(districtNames::add);
+        }
+        districtNames.removeIf(name -> name.isEmpty() || ALL_DISTRICTS.equalsIgnoreCase(name));
+        // Districts outside the dictionary are kept by name and reach their users by name
+        List<Integer> districtIds = new ArrayList<>();
+        List<String> unmapped = new ArrayList<>();
+        for (String name : districtNames) {
+            Integer districtId = locationDictionaryService.findDistrictId(name);
+            if (districtId != null) {
+                districtIds.add(districtId);
+            } else {
+                unmapped.add(name);
+            }
+        }
+        List<String> states = request.getStates() == null ? List.of() : request.getStates().stream()
+                .filter(Objects::nonNull).map(String::trim).filter(state -> !state.isEmpty()).distinct()
+                .collect(Collectors.toList());
+        alert.setDistrict(districtNames.isEmpty() ? null : String.join(", ", districtNames));
+        alert.setDistrictIds(districtIds.isEmpty() ? null
+                : districtIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        alert.setStates(states.isEmpty() ? null : String.join(",", states));
+        alert.setLocation(request.getLocation());
+
+        Set<UserRole> roles = request.getRecipientRoles() == null || request.getRecipientRoles().isEmpty()
+                ? EnumSet.allOf(UserRole.class)
+                : EnumSet.copyOf(request.getRecipientRoles());
+        alert.setRecipientRoles(roles.stream().map(Enum::name).collect(Collectors.joining(",")));
+        alert.setMessageText(formatSms(alert));
+        alert.setRuleId(ruleId);
+        alert.setStaffOnly(staffOnly);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User) {
+            alert.setCreatedBy(((User) authentication.getPrincipal()).getId());
+        }
+
+        Alert savedAlert = alertRepository.save(alert);
+        int queued = enqueue(savedAlert.getId(), recipientIndexService.resolve(districtIds, unmapped, states, roles));
+        savedAlert.setRecipientCount(queued);
+        eventPublisher.publishEvent(new AlertQueuedEvent(savedAlert.getId(), queued));
+        eventPublisher.publishEvent(new AlertChangedEvent(savedAlert.getId()));
+
+        AlertDto dto = toDto(savedAlert);
+        dto.setQueued(queued);
+        return dto;
+    }
+
+    /**
+     * Number of users an alert to the districts, states and roles would reach
+     */
+    @Transactional(readOnly = true)
+    public int countRecipients(List<String> districts, List<String> states, List<UserRole> roles) {
+        List<Integer> districtIds = new ArrayList<>();
+        List<String> unmapped = new ArrayList<>();
+        if (districts != null) {
+            for (String name : districts) {
+                Integer districtId = locationDictionaryService.findDistrictId(name);
+                if (districtId != null) {
+                    districtIds.add(districtId);
+                } else if (name != null && !name.isBlank()) {
+                    unmapped.add(name);
+                }
+            }
+        }
+        return recipientIndexService.resolve(districtIds, unmapped, states, roles).size();
+    }
+
+    /**
+     * Get alerts, newest first by default, with their delivery progress
+     */
+    @Transactional(readOnly = true)
+    public Page<AlertDto> getAlerts(AlertStatus status, Pageable pageable) {
+        Page<Alert> alerts = status != null
+                ? alertRepository.findByStatus(status, pageable)
+                : alertRepository.findAll(pageable);
+        List<Long> ids = alerts.getContent().stream().map(Alert::getId).collect(Collectors.toList());
+        Map<Long, Map<DeliveryStatus, Long>> counts = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (Object[] row : alertMessageRepository.countByStatusForAlerts(ids)) {
+                counts.computeIfAbsent((Long) row[0], id -> new HashMap<>()).put((DeliveryStatus) row[1], (Long) row[2]);
+            }
+        }
+        return alerts.map(alert -> withCounts(toDto(alert), counts.getOrDefault(alert.getId(), Map.of())));
+    }
+
+    /**
+     * Get alert by ID with its delivery progress
+     */
+    @Transactional(readOnly = true)
+    public AlertDto getAlert(Long id) {
+        return withCounts(findAlert(id));
+    }
+
+    /**
+     * Update alert status
+     */
+    public AlertDto updateStatus(Long id, AlertStatus status) {
+        Alert alert = findAlert(id);
+        alert.setStatus(status);
+        Alert savedAlert = alertRepository.save(alert);
+        eventPublisher.publishEvent(new AlertChangedEvent(savedAlert.getId()));
+        return withCounts(savedAlert);
+    }
+
+    private AlertDto withCounts(Alert alert) {
+        Map<DeliveryStatus, Long> counts = new HashMap<>();
+        for (Object[] row : alertMessageRepository.countByStatusForAlert(alert.getId())) {
+            counts.put((DeliveryStatus) row[0], (Long) row[1]);
+        }
+        return withCounts(toDto(alert), counts);
+    }
+
+    /**
+     * Write one outbox message per recipient with batched JDBC inserts
+     */
+    private int enqueue(Long alertId, RecipientIndexService.Recipients recipients) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < recipients.size(); from += insertBatchSize) {
+            int start = from;
+            int count = Math.min(insertBatchSize, recipients.size() - from);
+            jdbcTemplate.batchUpdate(INSERT_MESSAGE, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement statement, int i) throws SQLException {
+                    statement.setLong(1, alertId);
+                    statement.setLong(2, recipients.userId(start + i));
+                    statement.setString(3, recipients.phone(start + i));
+                    statement.setString(4, DeliveryStatus.PENDING.name());
+                    statement.setTimestamp(5, now);
+                    statement.setTimestamp(6, now);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return count;
+                }
+            });
+        }
+        return recipients.size();
+    }
+
+    private Alert findAlert(Long id) {
+        return alertRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Alert not found with id: " + id));
+    }
+
+    /**
+     * SMS text in the GSM 7-bit alphabet, so every message is billed at 160
+     * characters per segment rather than the 70 of UCS-2
+     */
+    private String formatSms(Alert alert) {
+        StringBuilder text = new StringBuilder();
+        text.append(smsPrefix).append(' ').append(alert.getPriority().name()).append(" - ")
+                .append(alert.getType().getDisplayName()).append(": ").append(alert.getTitle().trim());
+        if (alert.getDescription() != null && !alert.getDescription().isBlank()) {
+            text.append(". ").append(alert.getDescription().trim());
+        }
+        List<String> areas = new ArrayList<>(split(alert.getDistrict(), ", "));
+        areas.addAll(split(alert.getStates(), ","));
+        text.append(". Area: ").append(areas.isEmpty() ? ALL_DISTRICTS : String.join(", ", areas));
+        if (alert.getLocation() != null && !alert.getLocation().isBlank()) {
+            text.append(", ").append(alert.getLocation().trim());
+        }
+        String gsm = toGsm(text.toString());
+        return gsm.length() > maxSmsLength ? gsm.substring(0, maxSmsLength - 3) + "..." : gsm;
+    }
+
+    private static String toGsm(String text) {
+        // Strip accents, then drop anything outside printable ASCII (emoji, other scripts)
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder out = new StringBuilder(decomposed.length());
+        boolean space = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = out.length() > 0;
+            } else if (c >= 0x21 && c <= 0x7e && "[]{}\\^~|`".indexOf(c) < 0) {
+                if (space && ".,;:!?)".indexOf(c) < 0) {
+                    out.append(' ');
+                }
+                space = false;
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    private static AlertDto withCounts(AlertDto dto, Map<DeliveryStatus, Long> counts) {
+        dto.setQueued(counts.getOrDefault(DeliveryStatus.PENDING, 0L) + counts.getOrDefault(DeliveryStatus.SENDING, 0L));
+        dto.setSent(counts.getOrDefault(DeliveryStatus.SENT, 0L));
+        dto.setFailed(counts.getOrDefault(DeliveryStatus.FAILED, 0L));
+        return dto;
+    }
+
+    private static AlertDto toDto(Alert alert) {
+        AlertDto dto = new AlertDto();
+        dto.setId(alert.getId());
+        dto.setTitle(alert.getTitle());
+        dto.setDescription(alert.getDescription());
+        dto.setType(alert.getType());
+        dto.setPriority(alert.getPriority());
+        dto.setStatus(alert.getStatus());
+        dto.setDistrict(alert.getDistrict() != null ? alert.getDistrict()
+                : alert.getStates() != null ? null : ALL_DISTRICTS);
+        dto.setDistricts(split(alert.getDistrict(), ", "));
+        dto.setStates(split(alert.getStates(), ","));
+        dto.setLocation(alert.getLocation());
+        dto.setRecipientRoles(split(alert.getRecipientRoles(), ",").stream()
+                .map(UserRole::valueOf).collect(Collectors.toList()));
+        dto.setRecipientCount(alert.getRecipientCount());
+        dto.setMessageText(alert.getMessageText());
+        dto.setCreatedBy(alert.getCreatedBy());
+        dto.setRuleId(alert.getRuleId());
+        dto.setStaffOnly(alert.isStaffOnly());
+        dto.setCreatedAt(alert.getCreatedAt());
+        dto.setUpdatedAt(alert.getUpdatedAt());
+        return dto;
+    }
+
+    private static List<String> split(String joined, String separator) {
+        return joined == null || joined.isEmpty() ? List.of() : Arrays.asList(joined.split(separator));
+    }
+}
@@ -193,7 +193,7 @@ public class AuthService {
     /**
      * Get designation based on user role
      */
-    private String getDesignation(UserRole role) {
+    public String getDesignation(UserRole role) {
         return switch (role) {
             case ADMIN -> "Government Official";
             case DISTRICT_HEALTH_OFFICER -> "Health Officer";
@@ -204,7 +204,7 @@ public class AuthService {
     /**
      * Get permissions based on user role
      */
-    private List<String> getPermissions(UserRole role) {
+    public List<String> getPermissions(UserRole role) {
         return switch (role) {
             case ADMIN -> List.of(
                 "view_all_reports", "manage_users", "view_analytics", 
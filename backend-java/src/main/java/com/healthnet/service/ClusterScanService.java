@@ -0,0 +1,564 @@
+package com.healthnet.service;
+
+import com.healthnet.dto.ClusterScanResultDto;
+import com.healthnet.dto.SpaceTimeClusterDto;
+import com.healthnet.repository.ArchivedHealthReportRepository;
+import com.healthnet.repository.HealthReportRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Retrospective space-time scan for report clusters that cross district
+ * boundaries.
+ *
+ * Reports are placed on the centroid of their GADM sub-district (or district
+ * when the village is not a known sub-district) and counted per day. Every
+ * candidate cylinder - a circle of the nearest areas around a centre, over a
+ * window of consecutive days - is scored with the space-time permutation
+ * likelihood ratio, which needs no population data: the expected count of a
+ * cylinder is its area total times its day total over all cases. Significance
+ * comes from Monte Carlo replicates that shuffle report dates across
+ * locations. Centres and replicates are evaluated on a dedicated ForkJoin pool.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class ClusterScanService {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterScanService.class);
+
+    /** Centres per leaf task of the observed scan */
+    private static final int CENTERS_PER_TASK = 8;
+
+    private final HealthReportRepository healthReportRepository;
+    private final ArchivedHealthReportRepository archivedReportRepository;
+    private final ReportArchiveService reportArchiveService;
+    private final GeoBoundaryService geoBoundaryService;
+    private final ForkJoinPool pool;
+    /** Runs scheduled scans, which can take minutes, off the shared scheduler threads */
+    private final ExecutorService scheduledRunner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cluster-scan");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile ClusterScanResultDto latestResult;
+
+    @Value("${healthnet.scan.enabled:true}")
+    private boolean enabled;
+
+    @Value("${healthnet.scan.lookback-days:365}")
+    private int lookbackDays;
+
+    @Value("${healthnet.scan.max-window-days:14}")
+    private int maxWindowDays;
+
+    @Value("${healthnet.scan.max-radius-km:100}")
+    private double maxRadiusKm;
+
+    @Value("${healthnet.scan.max-areas:30}")
+    private int maxAreas;
+
+    @Value("${healthnet.scan.max-case-fraction:0.5}")
+    private double maxCaseFraction;
+
+    @Value("${healthnet.scan.min-cases:3}")
+    private int minCases;
+
+    @Value("${healthnet.scan.replicates:999}")
+    private int replicates;
+
+    @Value("${healthnet.scan.max-clusters:10}")
+    private int maxClusters;
+
+    public ClusterScanService(HealthReportRepository healthReportRepository,
+                              ArchivedHealthReportRepository archivedReportRepository,
+                              ReportArchiveService reportArchiveService,
+                              GeoBoundaryService geoBoundaryService,
+                              @Value("${healthnet.scan.parallelism:0}") int parallelism) {
+        this.healthReportRepository = healthReportRepository;
+        this.archivedReportRepository = archivedReportRepository;
+        this.reportArchiveService = reportArchiveService;
+        this.geoBoundaryService = geoBoundaryService;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Scheduled scan over the lookback period (nightly by default)
+     */
+    @Scheduled(cron = "${healthnet.scan.cron:0 0 3 * * *}")
+    public void scheduledScan() {
+        if (enabled) {
+            scheduledRunner.execute(() -> {
+                try {
+                    runScan(null, null, null);
+                } catch (RuntimeException e) {
+                    log.error("Scheduled cluster scan failed", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Result of the most recent all-symptom scan, or null if none has run yet
+     */
+    public ClusterScanResultDto getLatestResult() {
+        return latestResult;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Scan reports created between the dates (inclusive, defaulting to the lookback
+     * period ending today), optionally only those with a symptom. Returns null if
+     * a scan is already in progress.
+     */
+    public ClusterScanResultDto runScan(LocalDate startDate, LocalDate endDate, String symptom) {
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusDays(lookbackDays - 1L);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("startDate must not be after endDate");
+        }
+        boolean allSymptoms = symptom == null || symptom.isBlank();
+
+        if (!running.compareAndSet(false, true)) {
+            log.info("Cluster scan already in progress, skipping");
+            return null;
+        }
+
+        try {
+            long began = System.currentTimeMillis();
+            LocalDateTime from = start.atStartOfDay();
+            LocalDateTime to = end.plusDays(1).atStartOfDay();
+            List<Object[]> rows = new ArrayList<>();
+            if (allSymptoms) {
+                rows.addAll(healthReportRepository.findScanRows(from, to));
+                rows.addAll(archivedReportRepository.findScanRows(from, to));
+            } else {
+                rows.addAll(healthReportRepository.findScanRowsBySymptom(symptom.trim(), from, to));
+                rows.addAll(reportArchiveService.getScanRowsBySymptom(symptom.trim(), from, to));
+            }
+
+            ScanModel model = buildModel(rows, start, (int) ChronoUnit.DAYS.between(start, end) + 1);
+
+            ClusterScanResultDto result = new ClusterScanResultDto();
+            result.setStartDate(start);
+            result.setEndDate(end);
+            result.setSymptom(allSymptoms ? null : symptom.trim());
+            result.setTotalCases(rows.size());
+            result.setUnlocatedCases(rows.size() - model.caseCount);
+            result.setLocations(model.areas.size());
+            result.setReplicates(model.caseCount > 0 ? replicates : 0);
+            result.setClusters(model.caseCount > 0 ? scan(model, start) : new ArrayList<>());
+            result.setCompletedAt(LocalDateTime.now());
+            result.setDurationMs(System.currentTimeMillis() - began);
+
+            log.info("Cluster scan of {} cases at {} locations over {} days found {} clusters in {} ms",
+                    model.caseCount, model.areas.size(), model.days, result.getClusters().size(), result.getDurationMs());
+            if (allSymptoms) {
+                latestResult = result;
+            }
+            return result;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduledRunner.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    private ScanModel buildModel(List<Object[]> rows, LocalDate start, int days) {
+        List<GeoBoundaryService.AdminArea> areas = new ArrayList<>();
+        Map<String, Integer> areaIndex = new HashMap<>();
+        int[] caseAreas = new int[rows.size()];
+        int[] caseDays = new int[rows.size()];
+        int caseCount = 0;
+
+        for (Object[] row : rows) {
+            GeoBoundaryService.AdminArea area = geoBoundaryService.resolve((String) row[0], (String) row[1]);
+            if (area == null || row[2] == null) {
+                continue;
+            }
+            Integer index = areaIndex.get(area.getGid());
+            if (index == null) {
+                index = areas.size();
+                areas.add(area);
+                areaIndex.put(area.getGid(), index);
+            }
+            caseAreas[caseCount] = index;
+            caseDays[caseCount] = (int) ChronoUnit.DAYS.between(start, ((LocalDateTime) row[2]).toLocalDate());
+            caseCount++;
+        }
+
+        ScanModel model = new ScanModel(areas, days, Arrays.copyOf(caseAreas, caseCount),
+                Arrays.copyOf(caseDays, caseCount));
+
+        // Nearest areas of every centre, closest first, within the radius and size limits
+        for (int center = 0; center < areas.size(); center++) {
+            GeoBoundaryService.AdminArea origin = areas.get(center);
+            Integer[] order = new Integer[areas.size()];
+            double[] distances = new double[areas.size()];
+            for (int j = 0; j < areas.size(); j++) {
+                order[j] = j;
+                distances[j] = GeoBoundaryService.distanceKm(origin.getLatitude(), origin.getLongitude(),
+                        areas.get(j).getLatitude(), areas.get(j).getLongitude());
+            }
+            Arrays.sort(order, Comparator.comparingDouble(j -> distances[j]));
+
+            int count = 0;
+            while (count < order.length && count < maxAreas && distances[order[count]] <= maxRadiusKm) {
+                count++;
+            }
+            model.neighbors[center] = new int[Math.max(count, 1)];
+            model.radii[center] = new double[model.neighbors[center].length];
+            for (int k = 0; k < model.neighbors[center].length; k++) {
+                model.neighbors[center][k] = order[k];
+                model.radii[center][k] = distances[order[k]];
+            }
+        }
+        return model;
+    }
+
+    private List<SpaceTimeClusterDto> scan(ScanModel model, LocalDate start) {
+        Cylinder[] best = new Cylinder[model.areas.size()];
+        int[] counts = model.counts(model.caseDays);
+        pool.invoke(new CenterScanTask(model, counts, best, 0, best.length));
+
+        double[] replicateMaxima = new double[replicates];
+        SplittableRandom random = new SplittableRandom();
+        SplittableRandom[] randoms = new SplittableRandom[replicates];
+        for (int r = 0; r < replicates; r++) {
+            randoms[r] = random.split();
+        }
+        pool.invoke(new ReplicateTask(model, randoms, replicateMaxima, 0, replicates));
+        Arrays.sort(replicateMaxima);
+
+        // Most likely cluster first, then secondary clusters that share no area with a better one
+        List<Cylinder> candidates = new ArrayList<>();
+        for (Cylinder cylinder : best) {
+            if (cylinder != null) {
+                candidates.add(cylinder);
+            }
+        }
+        candidates.sort(Comparator.comparingDouble((Cylinder c) -> c.llr).reversed());
+
+        List<SpaceTimeClusterDto> clusters = new ArrayList<>();
+        boolean[] used = new boolean[model.areas.size()];
+        for (Cylinder cylinder : candidates) {
+            if (clusters.size() >= maxClusters) {
+                break;
+            }
+            int[] members = model.neighbors[cylinder.center];
+            boolean overlaps = false;
+            for (int k = 0; k < cylinder.size; k++) {
+                overlaps |= used[members[k]];
+            }
+            if (overlaps) {
+                continue;
+            }
+            for (int k = 0; k < cylinder.size; k++) {
+                used[members[k]] = true;
+            }
+            clusters.add(toDto(model, cylinder, start, clusters.size() + 1, replicateMaxima));
+        }
+        return clusters;
+    }
+
+    private SpaceTimeClusterDto toDto(ScanModel model, Cylinder cylinder, LocalDate start, int rank,
+                                      double[] replicateMaxima) {
+        GeoBoundaryService.AdminArea center = model.areas.get(cylinder.center);
+        List<String> areas = new ArrayList<>();
+        Set<String> districts = new LinkedHashSet<>();
+        for (int k = 0; k < cylinder.size; k++) {
+            GeoBoundaryService.AdminArea area = model.areas.get(model.neighbors[cylinder.center][k]);
+            areas.add(area.getName());
+            districts.add(area.getDistrict());
+        }
+
+        // Replicates at least as extreme as the observed cylinder, from the sorted maxima
+        int index = Arrays.binarySearch(replicateMaxima, cylinder.llr);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        while (index > 0 && replicateMaxima[index - 1] >= cylinder.llr) {
+            index--;
+        }
+        int asExtreme = replicateMaxima.length - index;
+
+        SpaceTimeClusterDto dto = new SpaceTimeClusterDto();
+        dto.setRank(rank);
+        dto.setCenterGid(center.getGid());
+        dto.setCenterName(center.getName());
+        dto.setLatitude(center.getLatitude());
+        dto.setLongitude(center.getLongitude());
+        dto.setRadiusKm(model.radii[cylinder.center][cylinder.size - 1]);
+        dto.setAreas(areas);
+        dto.setDistricts(new ArrayList<>(districts));
+        dto.setStartDate(start.plusDays(cylinder.startDay));
+        dto.setEndDate(start.plusDays(cylinder.endDay - 1L));
+        dto.setObserved(cylinder.observed);
+        dto.setExpected(cylinder.expected);
+        dto.setRelativeRisk(cylinder.observed / cylinder.expected);
+        dto.setLogLikelihoodRatio(cylinder.llr);
+        dto.setPValue((asExtreme + 1.0) / (replicateMaxima.length + 1.0));
+        return dto;
+    }
+
+    /**
+     * Best cylinder around one centre, or null if none has an excess of cases
+     */
+    private Cylinder scanCenter(ScanModel model, int[] counts, int center, int[] zoneDays, int[] prefix) {
+        int days = model.days;
+        int total = model.caseCount;
+        int maxZoneCases = (int) (total * maxCaseFraction);
+        Arrays.fill(zoneDays, 0);
+
+        int zoneCases = 0;
+        double bestLlr = 0;
+        int bestSize = 0;
+        int bestStart = 0;
+        int bestEnd = 0;
+        int bestObserved = 0;
+        double bestExpected = 0;
+
+        int[] members = model.neighbors[center];
+        for (int k = 0; k < members.length; k++) {
+            int area = members[k];
+            int base = area * days;
+            for (int d = 0; d < days; d++) {
+                zoneDays[d] += counts[base + d];
+            }
+            // Area totals do not change under date permutation, so every replicate stops at the same size
+            zoneCases += model.areaTotals[area];
+            if (zoneCases > maxZoneCases && k > 0) {
+                break;
+            }
+            if (zoneCases < minCases) {
+                continue;
+            }
+
+            for (int d = 0; d < days; d++) {
+                prefix[d + 1] = prefix[d] + zoneDays[d];
+            }
+            double zoneShare = zoneCases / (double) total;
+            for (int s = 0; s < days; s++) {
+                int lastEnd = Math.min(days, s + maxWindowDays);
+                for (int e = s + 1; e <= lastEnd; e++) {
+                    int observed = prefix[e] - prefix[s];
+                    if (observed < minCases) {
+                        continue;
+                    }
+                    double expected = zoneShare * (model.dayPrefix[e] - model.dayPrefix[s]);
+                    if (observed <= expected) {
+                        continue;
+                    }
+                    double llr = logLikelihoodRatio(observed, expected, total);
+                    if (llr > bestLlr) {
+                        bestLlr = llr;
+                        bestSize = k + 1;
+                        bestStart = s;
+                        bestEnd = e;
+                        bestObserved = observed;
+                        bestExpected = expected;
+                    }
+                }
+            }
+        }
+        return bestSize == 0 ? null
+                : new Cylinder(center, bestSize, bestStart, bestEnd, bestObserved, bestExpected, bestLlr);
+    }
+
+    private static double logLikelihoodRatio(int observed, double expected, int total) {
+        double llr = observed * Math.log(observed / expected);
+        if (observed < total) {
+            llr += (total - observed) * Math.log((total - observed) / (total - expected));
+        }
+        return llr;
+    }
+
+    /**
+     * Observed scan: splits the centres across the pool
+     */
+    private final class CenterScanTask extends RecursiveAction {
+        private final ScanModel model;
+        private final int[] counts;
+        private final Cylinder[] best;
+        private final int from;
+        private final int to;
+
+        CenterScanTask(ScanModel model, int[] counts, Cylinder[] best, int from, int to) {
+            this.model = model;
+            this.counts = counts;
+            this.best = best;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CENTERS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new CenterScanTask(model, counts, best, from, middle),
+                          new CenterScanTask(model, counts, best, middle, to));
+                return;
+            }
+            int[] zoneDays = new int[model.days];
+            int[] prefix = new int[model.days + 1];
+            for (int center = from; center < to; center++) {
+                best[center] = scanCenter(model, counts, center, zoneDays, prefix);
+            }
+        }
+    }
+
+    /**
+     * Monte Carlo replicates: each leaf shuffles the report dates and records the
+     * maximum likelihood ratio over all centres
+     */
+    private final class ReplicateTask extends RecursiveAction {
+        private final ScanModel model;
+        private final SplittableRandom[] randoms;
+        private final double[] maxima;
+        private final int from;
+        private final int to;
+
+        ReplicateTask(ScanModel model, SplittableRandom[] randoms, double[] maxima, int from, int to) {
+            this.model = model;
+            this.randoms = randoms;
+            this.maxima = maxima;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ReplicateTask(model, randoms, maxima, from, middle),
+                          new ReplicateTask(model, randoms, maxima, middle, to));
+                return;
+            }
+            if (from >= to) {
+                return;
+            }
+
+            int[] days = model.caseDays.clone();
+            SplittableRandom random = randoms[from];
+            for (int i = days.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = days[i];
+                days[i] = days[j];
+                days[j] = swap;
+            }
+
+            int[] counts = model.counts(days);
+            int[] zoneDays = new int[model.days];
+            int[] prefix = new int[model.days + 1];
+            double max = 0;
+            for (int center = 0; center < model.areas.size(); center++) {
+                Cylinder cylinder = scanCenter(model, counts, center, zoneDays, prefix);
+                if (cylinder != null && cylinder.llr > max) {
+                    max = cylinder.llr;
+                }
+            }
+            maxima[from] = max;
+        }
+    }
+
+    /**
+     * Located cases and the neighbour lists of every candidate centre
+     */
+    private static final class ScanModel {
+        private final List<GeoBoundaryService.AdminArea> areas;
+        private final int days;
+        private final int caseCount;
+        private final int[] caseAreas;
+        private final int[] caseDays;
+        private final int[] areaTotals;
+        private final int[] dayPrefix;
+        private final int[][] neighbors;
+        private final double[][] radii;
+
+        ScanModel(List<GeoBoundaryService.AdminArea> areas, int days, int[] caseAreas, int[] caseDays) {
+            this.areas = areas;
+            this.days = days;
+            this.caseCount = caseAreas.length;
+            this.caseAreas = caseAreas;
+            this.caseDays = caseDays;
+            this.areaTotals = new int[areas.size()];
+            this.dayPrefix = new int[days + 1];
+            this.neighbors = new int[areas.size()][];
+            this.radii = new double[areas.size()][];
+
+            int[] dayTotals = new int[days];
+            for (int i = 0; i < caseCount; i++) {
+                areaTotals[caseAreas[i]]++;
+                dayTotals[caseDays[i]]++;
+            }
+            for (int d = 0; d < days; d++) {
+                dayPrefix[d + 1] = dayPrefix[d] + dayTotals[d];
+            }
+        }
+
+        /**
+         * Area-by-day case counts, flattened row-major by area
+         */
+        int[] counts(int[] days) {
+            int[] counts = new int[areas.size() * this.days];
+            for (int i = 0; i < caseCount; i++) {
+                counts[caseAreas[i] * this.days + days[i]]++;
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * A scored candidate: the first size neighbours of a centre over days [startDay, endDay)
+     */
+    private static final class Cylinder {
+        private final int center;
+        private final int size;
+        private final int startDay;
+        private final int endDay;
+        private final int observed;
+        private final double expected;
+        private final double llr;
+
+        Cylinder(int center, int size, int startDay, int endDay, int observed, double expected, double llr) {
+            this.center = center;
+            this.size = size;
+            this.startDay = startDay;
+            this.endDay = endDay;
+            this.observed = observed;
+            this.expected = expected;
+            this.llr = llr;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.healthnet.service;
+
+import com.healthnet.controller.HealthReportController;
+import com.healthnet.controller.UserController;
+import com.healthnet.dto.AlertDto;
+import com.healthnet.dto.DashboardDto;
+import com.healthnet.dto.IncidenceDto;
+import com.healthnet.dto.OutbreakSignalDto;
+import com.healthnet.dto.WaterOutbreakFindingDto;
+import com.healthnet.entity.AlertStatus;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Service class for the admin dashboard in one round trip.
+ *
+ * The sections (report and user statistics, district incidence, active
+ * alerts, outbreak signals and water-source findings) are computed by the
+ * services that already serve them, all at once on a small pool of their
+ * own, and collected against one deadline for the whole dashboard. A
+ * section still running at the deadline, or one that fails, is left out and
+ * named in the response instead of holding the others back. Requests that
+ * arrive while a dashboard is being computed wait for that computation and
+ * share its result, so a room of administrators refreshing together costs
+ * one set of queries.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class DashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+
+    private final HealthReportService healthReportService;
+    private final UserService userService;
+    private final IncidenceService incidenceService;
+    private final AlertService alertService;
+    private final OutbreakDetectionService outbreakDetectionService;
+    private final WaterCorrelationService waterCorrelationService;
+    private final ForkJoinPool pool;
+    private final AtomicReference<CompletableFuture<DashboardDto>> inFlight = new AtomicReference<>();
+
+    @Value("${healthnet.dashboard.deadline-ms:2000}")
+    private long deadlineMs;
+
+    @Value("${healthnet.dashboard.list-limit:10}")
+    private int listLimit;
+
+    public DashboardService(HealthReportService healthReportService,
+                            UserService userService,
+                            IncidenceService incidenceService,
+                            AlertService alertService,
+                            OutbreakDetectionService outbreakDetectionService,
+                            WaterCorrelationService waterCorrelationService,
+                            @Value("${healthnet.dashboard.parallelism:4}") int parallelism) {
+        this.healthReportService = healthReportService;
+        this.userService = userService;
+        this.incidenceService = incidenceService;
+        this.alertService = alertService;
+        this.outbreakDetectionService = outbreakDetectionService;
+        this.waterCorrelationService = waterCorrelationService;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * The dashboard, joining a computation already in progress if there is one
+     */
+    public DashboardDto getDashboard() {
+        CompletableFuture<DashboardDto> mine = new CompletableFuture<>();
+        CompletableFuture<DashboardDto> current = inFlight.compareAndExchange(null, mine);
+        if (current != null) {
+            try {
+                return current.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        try {
+            DashboardDto dashboard = compute();
+            mine.complete(dashboard);
+            return dashboard;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.compareAndSet(mine, null);
+        }
+    }
+
+    private DashboardDto compute() {
+        long began = System.currentTimeMillis();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+        PageRequest latestAlerts = PageRequest.of(0, listLimit, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        Section<HealthReportController.ReportStatistics> reports =
+                submit("reports", healthReportService::getReportStatistics);
+        Section<UserController.UserStatistics> users =
+                submit("users", userService::getUserStatistics);
+        Section<IncidenceDto> incidence =
+                submit("incidence", () -> incidenceService.getIncidence(null, null, null));
+        Section<List<AlertDto>> activeAlerts =
+                submit("activeAlerts", () -> alertService.getAlerts(AlertStatus.ACTIVE, latestAlerts).getContent());
+        Section<List<OutbreakSignalDto>> outbreakSignals =
+                submit("outbreakSignals", () -> limit(outbreakDetectionService.getActiveSignals(null)));
+        Section<List<WaterOutbreakFindingDto>> waterFindings =
+                submit("waterFindings", () -> waterCorrelationService.getFindings(null, listLimit));
+
+        DashboardDto dashboard = new DashboardDto();
+        dashboard.setReports(reports.await(deadline, dashboard));
+        dashboard.setUsers(users.await(deadline, dashboard));
+        dashboard.setIncidence(incidence.await(deadline, dashboard));
+        dashboard.setActiveAlerts(activeAlerts.await(deadline, dashboard));
+        dashboard.setOutbreakSignals(outbreakSignals.await(deadline, dashboard));
+        dashboard.setWaterFindings(waterFindings.await(deadline, dashboard));
+        dashboard.setGeneratedAt(LocalDateTime.now());
+        dashboard.setElapsedMs(System.currentTimeMillis() - began);
+        if (!dashboard.getTimedOut().isEmpty() || !dashboard.getFailed().isEmpty()) {
+            log.warn("Dashboard returned without sections {} (timed out) and {} (failed) after {} ms",
+                    dashboard.getTimedOut(), dashboard.getFailed(), dashboard.getElapsedMs());
+        }
+        return dashboard;
+    }
+
+    private <T> Section<T> submit(String name, Callable<T> work) {
+        return new Section<>(name, pool.submit(work));
+    }
+
+    private <T> List<T> limit(List<T> items) {
+        return items.size() > listLimit ? new ArrayList<>(items.subList(0, listLimit)) : items;
+    }
+
+    /**
+     * One section being computed on the pool
+     */
+    private static final class Section<T> {
+        private final String name;
+        private final ForkJoinTask<T> task;
+
+        private Section(String name, ForkJoinTask<T> task) {
+            this.name = name;
+            this.task = task;
+        }
+
+        /**
+         * The section's value, or null, recording it as timed out or failed, if it is not ready by the deadline
+         */
+        private T await(long deadline, DashboardDto dashboard) {
+            try {
+                return task.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // Cancelling only drops the result; a query already running finishes on its pool thread
+                task.cancel(true);
+                dashboard.getTimedOut().add(name);
+            } catch (ExecutionException e) {
+                log.warn("Dashboard section {} failed: {}", name, e.getCause().getMessage());
+                dashboard.getFailed().add(name);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                dashboard.getTimedOut().add(name);
+            }
+            return null;
+        }
+    }
+}
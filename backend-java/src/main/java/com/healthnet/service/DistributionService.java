@@ -13,6 +13,7 @@ import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,9 +29,12 @@ public class DistributionService {
     private static final String DATA_DIR = "Data-UAD";
     private static final String DISTRIBUTION_FILE = "distributionrecod.json";
     private final ObjectMapper objectMapper;
+    /** Records as last read or written; the file is only read again after a restart */
+    private volatile List<DistributionRecordDto> cachedRecords;
     
     public DistributionService() {
-        this.objectMapper = new ObjectMapper();
+        // Java time support for the record timestamps
+        this.objectMapper = new ObjectMapper().findAndRegisterModules();
         // Ensure Data-UAD directory exists
         createDataDirectoryIfNotExists();
     }
@@ -38,7 +42,7 @@ public class DistributionService {
     /**
      * Save a distribution record to the JSON file
      */
-    public DistributionRecordDto saveDistributionRecord(DistributionRecordDto recordDto) {
+    public synchronized DistributionRecordDto saveDistributionRecord(DistributionRecordDto recordDto) {
         try {
             // Generate ID and timestamp if not provided
             if (recordDto.getId() == null || recordDto.getId().isEmpty()) {
@@ -54,13 +58,14 @@ public class DistributionService {
             }
             
             // Read existing records
-            List<DistributionRecordDto> existingRecords = getAllDistributionRecords();
+            List<DistributionRecordDto> existingRecords = new ArrayList<>(getAllDistributionRecords());
             
             // Add new record
             existingRecords.add(recordDto);
             
             // Write back to file
             writeRecordsToFile(existingRecords);
+            cachedRecords = existingRecords;
             
             return recordDto;
             
@@ -73,6 +78,10 @@ public class DistributionService {
      * Get all distribution records
      */
     public List<DistributionRecordDto> getAllDistributionRecords() {
+        List<DistributionRecordDto> records = cachedRecords;
+        if (records != null) {
+            return new ArrayList<>(records);
+        }
         try {
             Path filePath = Paths.get(DATA_DIR, DISTRIBUTION_FILE);
             
@@ -85,13 +94,26 @@ public class DistributionService {
                 return new ArrayList<>();
             }
             
-            return objectMapper.readValue(content, new TypeReference<List<DistributionRecordDto>>() {});
+            records = objectMapper.readValue(content, new TypeReference<List<DistributionRecordDto>>() {});
+            cachedRecords = records;
+            return new ArrayList<>(records);
             
         } catch (IOException e) {
             throw new RuntimeException("Failed to read distribution records", e);
         }
     }
     
+    /**
+     * Get the most recent distribution records, newest first
+     */
+    public List<DistributionRecordDto> getRecentDistributionRecords(int limit) {
+        return getAllDistributionRecords().stream()
+                .sorted(Comparator.comparing(DistributionRecordDto::getTimestamp,
+                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .limit(limit)
+                .toList();
+    }
+    
     /**
      * Get distribution records by patient name
      */
@@ -0,0 +1,381 @@
+package com.healthnet.service;
+
+import com.healthnet.entity.HealthReport;
+import com.healthnet.entity.ReportStatus;
+import com.healthnet.event.HealthReportEvent;
+import com.healthnet.repository.HealthReportRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Near-duplicate report detection with MinHash and locality-sensitive hashing.
+ *
+ * A report is reduced to a set of tokens - words of the reporter's name and
+ * the description, the village and the symptoms - and summarized by a
+ * MinHash signature whose positions agree with probability equal to the
+ * Jaccard similarity of two token sets. Signatures are split into bands and
+ * every band is hashed into an in-memory bucket, so only reports sharing a
+ * whole band with the new one are compared: the cost of a lookup depends on
+ * the number of similar reports, not on the table size. Candidates must be
+ * in the same district within the time window and reach the similarity
+ * threshold; the best one's original report becomes the new report's
+ * duplicateOfId.
+ *
+ * The index holds only the reports of the window and is refilled from the
+ * database at startup. A report that is deleted or cancelled leaves it, and
+ * its duplicates then point at the oldest of them, which becomes the
+ * original. A report moved to the archive leaves it too; its duplicates keep
+ * pointing at it there.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class DuplicateDetectionService {
+
+    private static final Logger log = LoggerFactory.getLogger(DuplicateDetectionService.class);
+
+    private static final int MIN_WORD_LENGTH = 2;
+
+    private final HealthReportRepository healthReportRepository;
+    private final TransactionTemplate readOnlyTemplate;
+    private final boolean enabled;
+    private final int bands;
+    private final int rows;
+    private final double threshold;
+    private final long windowMillis;
+    /** Per hash function seed; the same across restarts so warmed signatures match */
+    private final long[] seeds;
+
+    /** Band hash to the reports in that bucket */
+    private final Map<Long, List<Entry>> buckets = new HashMap<>();
+    /** Indexed reports in arrival order, for expiry */
+    private final Deque<Entry> entries = new ArrayDeque<>();
+
+    public DuplicateDetectionService(HealthReportRepository healthReportRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${healthnet.dedup.enabled:true}") boolean enabled,
+                                     @Value("${healthnet.dedup.bands:16}") int bands,
+                                     @Value("${healthnet.dedup.rows:4}") int rows,
+                                     @Value("${healthnet.dedup.similarity-threshold:0.6}") double threshold,
+                                     @Value("${healthnet.dedup.window-hours:72}") long windowHours) {
+        if (bands < 1 || rows < 1) {
+            throw new IllegalArgumentException("Bands and rows must be positive");
+        }
+        this.healthReportRepository = healthReportRepository;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.bands = bands;
+        this.rows = rows;
+        this.threshold = threshold;
+        this.windowMillis = Duration.ofHours(windowHours).toMillis();
+        this.seeds = new SplittableRandom(0x5eedL).longs(bands * rows).toArray();
+    }
+
+    /**
+     * Index the reports of the window so duplicates of reports made before a
+     * restart are still found
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime since = LocalDateTime.now().minus(Duration.ofMillis(windowMillis));
+        int indexed = readOnlyTemplate.execute(status -> {
+            List<HealthReport> reports = new ArrayList<>(healthReportRepository.findByCreatedAtAfter(since));
+            reports.sort((a, b) -> a.getCreatedAt().compareTo(b.getCreatedAt()));
+            int count = 0;
+            for (HealthReport report : reports) {
+                Signature signature = report.getStatus() != ReportStatus.CANCELLED ? signature(report) : null;
+                if (signature != null) {
+                    index(report, signature);
+                    count++;
+                }
+            }
+            return count;
+        });
+        log.info("Duplicate detection indexed {} reports of the last {} hours", indexed,
+                Duration.ofMillis(windowMillis).toHours());
+    }
+
+    /**
+     * Link a new report to the original of its closest near-duplicate, if any.
+     * The returned signature is passed to {@link #index} once the report is saved.
+     */
+    public Signature link(HealthReport report) {
+        if (!enabled) {
+            return null;
+        }
+        Signature signature = signature(report);
+        if (signature == null) {
+            return null;
+        }
+        Entry best = null;
+        Long originalId = null;
+        double bestSimilarity = 0;
+        synchronized (this) {
+            expire(signature.time);
+            Set<Entry> seen = new HashSet<>();
+            for (int band = 0; band < bands; band++) {
+                List<Entry> bucket = buckets.get(bandKey(signature.values, band));
+                if (bucket == null) {
+                    continue;
+                }
+                for (Entry candidate : bucket) {
+                    if (!seen.add(candidate) || !candidate.districtKey.equals(signature.districtKey)
+                            || Math.abs(candidate.time - signature.time) > windowMillis) {
+                        continue;
+                    }
+                    double similarity = similarity(signature.values, candidate.values);
+                    if (similarity >= threshold && (best == null || similarity > bestSimilarity
+                            || (similarity == bestSimilarity && candidate.time > best.time))) {
+                        best = candidate;
+                        bestSimilarity = similarity;
+                    }
+                }
+            }
+            originalId = best != null ? best.originalId : null;
+        }
+        if (originalId != null) {
+            report.setDuplicateOfId(originalId);
+            report.setDuplicateSimilarity(Math.round(bestSimilarity * 1000) / 1000.0);
+        }
+        return signature;
+    }
+
+    /**
+     * Add a saved report to the index
+     */
+    public void index(HealthReport report, Signature signature) {
+        if (!enabled || signature == null || report.getId() == null) {
+            return;
+        }
+        Long originalId = report.getDuplicateOfId() != null ? report.getDuplicateOfId() : report.getId();
+        Entry entry = new Entry(report.getId(), originalId, signature);
+        synchronized (this) {
+            expire(signature.time);
+            for (int band = 0; band < bands; band++) {
+                buckets.computeIfAbsent(bandKey(signature.values, band), key -> new ArrayList<>(2)).add(entry);
+            }
+            entries.addLast(entry);
+        }
+    }
+
+    /**
+     * Make an indexed report the original of later duplicates again, after
+     * staff found its link to be wrong
+     */
+    public synchronized void unlink(Long reportId) {
+        for (Entry entry : entries) {
+            if (entry.id.equals(reportId)) {
+                entry.originalId = reportId;
+            }
+        }
+    }
+
+    /**
+     * Drop reports that left the live table, including those moved to the archive
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportEvent(HealthReportEvent event) {
+        if (enabled && event.getType() == HealthReportEvent.Type.DELETED) {
+            remove(event.getReportId());
+        }
+    }
+
+    /**
+     * Drop a deleted or cancelled report from the index, so no later report is linked to it
+     */
+    public synchronized void remove(Long reportId) {
+        Iterator<Entry> iterator = entries.iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.id.equals(reportId)) {
+                iterator.remove();
+                unbucket(entry);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Point the indexed duplicates of a removed original at the duplicate that took its place
+     */
+    public synchronized void reassign(Long originalId, Long promotedId) {
+        for (Entry entry : entries) {
+            if (entry.originalId.equals(originalId)) {
+                entry.originalId = promotedId;
+            }
+        }
+    }
+
+    /**
+     * Signature of a report, or null if it has no tokens
+     */
+    private Signature signature(HealthReport report) {
+        Set<String> tokens = new HashSet<>();
+        words(report.getReporterName(), "r:", tokens);
+        words(report.getDescription(), "d:", tokens);
+        if (report.getVillageId() != null) {
+            tokens.add("v:" + report.getVillageId());
+        } else if (report.getVillage() != null) {
+            tokens.add("v:" + GeoBoundaryService.normalize(report.getVillage()));
+        }
+        if (report.getSymptoms() != null) {
+            for (String symptom : report.getSymptoms()) {
+                if (symptom != null && !symptom.isBlank()) {
+                    tokens.add("s:" + symptom.trim().toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+
+        if (tokens.isEmpty()) {
+            // Nothing to compare; every empty report would otherwise match every other
+            return null;
+        }
+        int[] values = new int[bands * rows];
+        Arrays.fill(values, Integer.MAX_VALUE);
+        for (String token : tokens) {
+            long hash = hash(token);
+            for (int i = 0; i < values.length; i++) {
+                int value = (int) (mix(hash ^ seeds[i]) >>> 33);
+                if (value < values[i]) {
+                    values[i] = value;
+                }
+            }
+        }
+        String districtKey = report.getDistrictId() != null ? report.getDistrictId().toString()
+                : GeoBoundaryService.normalize(report.getDistrict() != null ? report.getDistrict() : "");
+        LocalDateTime createdAt = report.getCreatedAt() != null ? report.getCreatedAt() : LocalDateTime.now();
+        return new Signature(values, districtKey, createdAt.toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+
+    /**
+     * Drop reports that fell out of the window; callers hold the monitor
+     */
+    private void expire(long now) {
+        while (!entries.isEmpty() && entries.peekFirst().time < now - windowMillis) {
+            unbucket(entries.pollFirst());
+        }
+    }
+
+    private void unbucket(Entry entry) {
+        for (int band = 0; band < bands; band++) {
+            long key = bandKey(entry.values, band);
+            List<Entry> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(entry);
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    private long bandKey(int[] values, int band) {
+        long key = band;
+        for (int i = band * rows; i < (band + 1) * rows; i++) {
+            key = mix(key * 31 + values[i]);
+        }
+        return key;
+    }
+
+    private static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / a.length;
+    }
+
+    private static void words(String text, String prefix, Set<String> tokens) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{M}\\p{N}]+")) {
+            if (word.length() >= MIN_WORD_LENGTH) {
+                tokens.add(prefix + word);
+            }
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a
+     */
+    private static long hash(String token) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            hash ^= token.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * SplitMix64 finalizer
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * MinHash signature of a report with the fields candidates are filtered on
+     */
+    public static final class Signature {
+        private final int[] values;
+        private final String districtKey;
+        private final long time;
+
+        private Signature(int[] values, String districtKey, long time) {
+            this.values = values;
+            this.districtKey = districtKey;
+            this.time = time;
+        }
+    }
+
+    private static final class Entry {
+        private final Long id;
+        /** First report of the case: the report itself unless it is a duplicate */
+        private Long originalId;
+        private final int[] values;
+        private final String districtKey;
+        private final long time;
+
+        Entry(Long id, Long originalId, Signature signature) {
+            this.id = id;
+            this.originalId = originalId;
+            this.values = signature.values;
+            this.districtKey = signature.districtKey;
+            this.time = signature.time;
+        }
+    }
+}
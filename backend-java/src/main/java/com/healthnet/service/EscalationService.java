@@ -0,0 +1,266 @@
+package com.healthnet.service;
+
+import com.healthnet.entity.ReportStatus;
+import com.healthnet.entity.UrgencyLevel;
+import com.healthnet.event.HealthReportEvent;
+import com.healthnet.event.ReportEscalationEvent;
+import com.healthnet.repository.HealthReportRepository;
+import com.healthnet.util.HashedTimingWheel;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escalates reports that stay PENDING past a per-urgency deadline.
+ *
+ * A deadline is scheduled on a hashed timing wheel when a report is created
+ * and cancelled as soon as its status moves on, so tens of thousands of
+ * outstanding timers cost O(1) each. When a deadline passes, a
+ * ReportEscalationEvent is published, which the alert pipeline turns into a
+ * staff alert to the district's officers, and the next escalation level is
+ * scheduled one deadline later, up to the configured maximum. The level
+ * reached is stored on the report, so timers rebuilt after a restart resume
+ * at the next level rather than raising the same alerts again; a level that
+ * fell due while the server was down escalates immediately.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class EscalationService {
+
+    private static final Logger log = LoggerFactory.getLogger(EscalationService.class);
+
+    private static final int RECENT_LIMIT = 200;
+
+    private final HealthReportRepository healthReportRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<UrgencyLevel, Duration> deadlines = new EnumMap<>(UrgencyLevel.class);
+    private final int maxLevel;
+    private final HashedTimingWheel<Deadline> wheel;
+    private final Map<Long, HashedTimingWheel.Timeout<Deadline>> timers = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher;
+    private final Deque<ReportEscalationEvent> recent = new ArrayDeque<>();
+
+    public EscalationService(HealthReportRepository healthReportRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${healthnet.escalation.deadline-minutes.critical:60}") long criticalMinutes,
+                             @Value("${healthnet.escalation.deadline-minutes.high:240}") long highMinutes,
+                             @Value("${healthnet.escalation.deadline-minutes.medium:1440}") long mediumMinutes,
+                             @Value("${healthnet.escalation.deadline-minutes.low:0}") long lowMinutes,
+                             @Value("${healthnet.escalation.max-level:3}") int maxLevel,
+                             @Value("${healthnet.escalation.tick-ms:1000}") long tickMs,
+                             @Value("${healthnet.escalation.wheel-size:4096}") int wheelSize) {
+        this.healthReportRepository = healthReportRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxLevel = maxLevel;
+        putDeadline(UrgencyLevel.CRITICAL, criticalMinutes);
+        putDeadline(UrgencyLevel.HIGH, highMinutes);
+        putDeadline(UrgencyLevel.MEDIUM, mediumMinutes);
+        putDeadline(UrgencyLevel.LOW, lowMinutes);
+        this.dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "escalation-dispatch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.wheel = new HashedTimingWheel<>("escalation-wheel", tickMs, TimeUnit.MILLISECONDS, wheelSize,
+                deadline -> dispatcher.execute(() -> escalate(deadline)));
+    }
+
+    /**
+     * Rebuild timers for all pending reports after a restart, from the level each has reached
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Object[] row : healthReportRepository.findPendingEscalationRows()) {
+            Long reportId = (Long) row[0];
+            UrgencyLevel urgency = (UrgencyLevel) row[1];
+            LocalDateTime createdAt = (LocalDateTime) row[2];
+            int reached = row[4] != null ? (Integer) row[4] : 0;
+            LocalDateTime since = row[5] != null ? (LocalDateTime) row[5] : createdAt;
+            Duration deadline = deadlines.get(urgency);
+            if (deadline == null || since == null || reached >= maxLevel) {
+                continue;
+            }
+
+            // Levels that fell due while the server was down are raised once, at the highest of them
+            long overdueLevels = Duration.between(since, now).toMillis() / deadline.toMillis();
+            if (overdueLevels >= 1) {
+                int level = (int) Math.min(reached + overdueLevels, maxLevel);
+                schedule(new Deadline(reportId, (String) row[3], urgency, createdAt, level), Duration.ZERO);
+            } else {
+                schedule(new Deadline(reportId, (String) row[3], urgency, createdAt, reached + 1),
+                        deadline.minus(Duration.between(since, now)));
+            }
+        }
+        log.info("Escalation timers rebuilt for {} pending reports", timers.size());
+    }
+
+    /**
+     * Schedule on creation, cancel once the report leaves PENDING
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportEvent(HealthReportEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED, STATUS_CHANGED -> {
+                HashedTimingWheel.Timeout<Deadline> current = timers.get(event.getReportId());
+                if (event.getStatus() != ReportStatus.PENDING) {
+                    cancel(event.getReportId());
+                } else if (current == null || current.getPayload().urgency != event.getUrgency()) {
+                    cancel(event.getReportId());
+                    // Carry on from the next level that has not been raised
+                    int level = current != null ? current.getPayload().level
+                            : (event.getEscalationLevel() != null ? event.getEscalationLevel() : 0) + 1;
+                    Duration deadline = deadlines.get(event.getUrgency());
+                    if (deadline != null && level <= maxLevel) {
+                        schedule(new Deadline(event.getReportId(), event.getDistrict(), event.getUrgency(),
+                                event.getCreatedAt(), level), deadline);
+                    }
+                }
+            }
+            case DELETED -> cancel(event.getReportId());
+            default -> {
+                // Notes do not affect deadlines
+            }
+        }
+    }
+
+    /**
+     * Number of outstanding escalation timers
+     */
+    public int getOutstandingCount() {
+        return wheel.size();
+    }
+
+    /**
+     * Most recent escalations, newest first
+     */
+    public List<ReportEscalationEvent> getRecentEscalations() {
+        synchronized (recent) {
+            return new ArrayList<>(recent);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.stop();
+        dispatcher.shutdownNow();
+    }
+
+    private void putDeadline(UrgencyLevel urgency, long minutes) {
+        // A non-positive deadline disables escalation for that urgency
+        if (minutes > 0) {
+            deadlines.put(urgency, Duration.ofMinutes(minutes));
+        }
+    }
+
+    private void schedule(Deadline deadline, Duration delay) {
+        HashedTimingWheel.Timeout<Deadline> timeout =
+                wheel.schedule(deadline, Math.max(0, delay.toMillis()), TimeUnit.MILLISECONDS);
+        HashedTimingWheel.Timeout<Deadline> previous = timers.put(deadline.reportId, timeout);
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    private void cancel(Long reportId) {
+        HashedTimingWheel.Timeout<Deadline> timeout = timers.remove(reportId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    /**
+     * Runs on the dispatcher thread, never on the wheel worker
+     */
+    private void escalate(Deadline deadline) {
+        HashedTimingWheel.Timeout<Deadline> current = timers.get(deadline.reportId);
+        if (current == null || current.getPayload() != deadline) {
+            // Cancelled or rescheduled while the expiry was being handed over
+            return;
+        }
+
+        ReportEscalationEvent event = new ReportEscalationEvent(
+            deadline.reportId, deadline.district, deadline.urgency, deadline.level, deadline.createdAt);
+        synchronized (recent) {
+            recent.addFirst(event);
+            if (recent.size() > RECENT_LIMIT) {
+                recent.removeLast();
+            }
+        }
+        log.info("Escalating report {} ({}) to level {}", deadline.reportId, deadline.urgency, deadline.level);
+        try {
+            transactionTemplate.executeWithoutResult(tx -> healthReportRepository.recordEscalation(
+                    deadline.reportId, deadline.level, event.getEscalatedAt()));
+        } catch (RuntimeException e) {
+            // Still raise it; at worst a restart raises this level again
+            log.error("Failed to record escalation level {} of report {}", deadline.level, deadline.reportId, e);
+        }
+
+        if (deadline.level < maxLevel) {
+            Deadline next = new Deadline(deadline.reportId, deadline.district, deadline.urgency,
+                    deadline.createdAt, deadline.level + 1);
+            HashedTimingWheel.Timeout<Deadline> timeout =
+                    wheel.schedule(next, deadlines.get(deadline.urgency).toMillis(), TimeUnit.MILLISECONDS);
+            if (!timers.replace(deadline.reportId, current, timeout)) {
+                timeout.cancel();
+            }
+        } else {
+            timers.remove(deadline.reportId, current);
+        }
+
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            log.error("Failed to publish escalation for report {}", deadline.reportId, e);
+        }
+    }
+
+    /**
+     * Timer payload; compared by identity so stale expiries can be detected
+     */
+    private static final class Deadline {
+        private final Long reportId;
+        private final String district;
+        private final UrgencyLevel urgency;
+        private final LocalDateTime createdAt;
+        private final int level;
+
+        Deadline(Long reportId, String district, UrgencyLevel urgency, LocalDateTime createdAt, int level) {
+            this.reportId = reportId;
+            this.district = district;
+            this.urgency = urgency;
+            this.createdAt = createdAt;
+            this.level = level;
+        }
+    }
+}
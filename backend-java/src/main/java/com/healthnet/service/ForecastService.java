@@ -0,0 +1,399 @@
+package com.healthnet.service;
+
+import com.healthnet.dto.ForecastDto;
+import com.healthnet.dto.ForecastPointDto;
+import com.healthnet.entity.ReportStatus;
+import com.healthnet.event.HealthReportEvent;
+import com.healthnet.exception.ResourceNotFoundException;
+import com.healthnet.repository.ArchivedHealthReportRepository;
+import com.healthnet.repository.HealthReportRepository;
+import com.healthnet.util.HoltWinters;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Two-week caseload forecasts per district and symptom.
+ *
+ * A weekly-seasonal Holt-Winters model is fitted to the daily report counts
+ * of every district in the population file, in total and for each symptom
+ * reported often enough; both count archived reports as well as live ones,
+ * so history older than the retention period is not lost. Districts are
+ * fitted in parallel on a dedicated ForkJoin pool. Reports arriving during
+ * the day are counted in memory, and once a day closes each model is
+ * advanced by that day's count (an O(1) update) instead of being refitted;
+ * a full refit that also re-selects the smoothing parameters runs weekly. Forecasts and their prediction intervals
+ * are precomputed, so queries never touch the database.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class ForecastService {
+
+    private static final Logger log = LoggerFactory.getLogger(ForecastService.class);
+
+    /** Symptom key of the all-reports series */
+    public static final String ALL = "*";
+
+    private static final int WEEKLY_PERIOD = 7;
+
+    private final HealthReportRepository healthReportRepository;
+    private final ArchivedHealthReportRepository archivedReportRepository;
+    private final ReportArchiveService reportArchiveService;
+    private final PopulationService populationService;
+    private final ForkJoinPool pool;
+    /** Runs the weekly refit off the shared scheduler threads */
+    private final ExecutorService scheduledRunner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "forecast-refit");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Object lock = new Object();
+    private final Map<String, SeriesModel> models = new ConcurrentHashMap<>();
+    private final Map<String, ForecastDto> forecasts = new ConcurrentHashMap<>();
+    private final Map<LocalDate, Map<String, LongAdder>> liveCounts = new ConcurrentHashMap<>();
+    private volatile LocalDate fittedThrough;
+    private volatile LocalDateTime liveSince;
+
+    @Value("${healthnet.forecast.enabled:true}")
+    private boolean enabled;
+
+    @Value("${healthnet.forecast.history-days:364}")
+    private int historyDays;
+
+    @Value("${healthnet.forecast.horizon-days:14}")
+    private int horizonDays;
+
+    @Value("${healthnet.forecast.min-reports:10}")
+    private int minReports;
+
+    @Value("${healthnet.forecast.trend-damping:0.9}")
+    private double trendDamping;
+
+    @Value("${healthnet.forecast.interval-z:1.96}")
+    private double intervalZ;
+
+    public ForecastService(HealthReportRepository healthReportRepository,
+                           ArchivedHealthReportRepository archivedReportRepository,
+                           ReportArchiveService reportArchiveService,
+                           PopulationService populationService,
+                           @Value("${healthnet.forecast.parallelism:0}") int parallelism) {
+        this.healthReportRepository = healthReportRepository;
+        this.archivedReportRepository = archivedReportRepository;
+        this.reportArchiveService = reportArchiveService;
+        this.populationService = populationService;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (enabled) {
+            refit();
+        }
+    }
+
+    /**
+     * Weekly full refit, re-selecting the smoothing parameters
+     */
+    @Scheduled(cron = "${healthnet.forecast.refit-cron:0 30 4 * * SUN}")
+    public void scheduledRefit() {
+        if (enabled) {
+            scheduledRunner.execute(() -> {
+                try {
+                    refit();
+                } catch (RuntimeException e) {
+                    log.error("Scheduled forecast refit failed", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Advance every model by the days closed since the last fit
+     */
+    @Scheduled(cron = "${healthnet.forecast.close-cron:0 5 0 * * *}")
+    public void closeDays() {
+        synchronized (lock) {
+            LocalDate yesterday = LocalDate.now().minusDays(1);
+            if (fittedThrough == null || !fittedThrough.isBefore(yesterday)) {
+                return;
+            }
+
+            for (LocalDate day = fittedThrough.plusDays(1); !day.isAfter(yesterday); day = day.plusDays(1)) {
+                Map<String, LongAdder> counts = liveCounts.remove(day);
+                for (SeriesModel series : models.values()) {
+                    LongAdder count = counts != null ? counts.get(series.key) : null;
+                    series.model.update(count != null ? count.sum() : 0);
+                }
+            }
+            fittedThrough = yesterday;
+            publishForecasts(models.values());
+            log.debug("Forecasts advanced through {}", yesterday);
+        }
+    }
+
+    /**
+     * Count new reports towards the open day
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportEvent(HealthReportEvent event) {
+        LocalDateTime since = liveSince;
+        if (event.getType() != HealthReportEvent.Type.CREATED || event.getStatus() == ReportStatus.CANCELLED
+                || since == null || event.getCreatedAt().isBefore(since)) {
+            return;
+        }
+        LocalDate day = event.getCreatedAt().toLocalDate();
+        if (fittedThrough != null && !day.isAfter(fittedThrough)) {
+            // Late arrival for a closed day; picked up by the next full refit
+            return;
+        }
+        PopulationService.DistrictPopulation district = populationService.findDistrict(event.getDistrict());
+        if (district == null) {
+            return;
+        }
+
+        Map<String, LongAdder> counts = liveCounts.computeIfAbsent(day, d -> new ConcurrentHashMap<>());
+        counts.computeIfAbsent(key(district.getDistrict(), ALL), k -> new LongAdder()).increment();
+        for (String symptom : distinctSymptoms(event.getSymptoms())) {
+            counts.computeIfAbsent(key(district.getDistrict(), symptom), k -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Forecasts of a district, the all-reports series first
+     */
+    public List<ForecastDto> getForecasts(String district) {
+        PopulationService.DistrictPopulation population = requireDistrict(district);
+        String prefix = GeoBoundaryService.normalize(population.getDistrict()) + '|';
+        List<ForecastDto> result = new ArrayList<>();
+        for (Map.Entry<String, ForecastDto> entry : forecasts.entrySet()) {
+            if (entry.getKey().startsWith(prefix)) {
+                result.add(entry.getValue());
+            }
+        }
+        result.sort(Comparator.comparing((ForecastDto f) -> !ALL.equals(f.getSymptom()))
+                .thenComparing(ForecastDto::getSymptom));
+        return result;
+    }
+
+    /**
+     * Forecast of one district and symptom ("*" or null for all reports)
+     */
+    public ForecastDto getForecast(String district, String symptom) {
+        PopulationService.DistrictPopulation population = requireDistrict(district);
+        ForecastDto forecast = forecasts.get(key(population.getDistrict(), symptom != null ? symptom : ALL));
+        if (forecast == null) {
+            throw new ResourceNotFoundException("No forecast for symptom " + symptom + " in " + population.getDistrict());
+        }
+        return forecast;
+    }
+
+    /**
+     * Refit every model from the report history
+     */
+    public void refit() {
+        synchronized (lock) {
+            long began = System.currentTimeMillis();
+            LocalDate today = LocalDate.now();
+            LocalDate start = today.minusDays(historyDays);
+            LocalDateTime cutoff = LocalDateTime.now();
+
+            // Reports up to the cutoff come from the database, later ones from events
+            Map<String, LongAdder> todayCounts = new ConcurrentHashMap<>();
+            liveCounts.clear();
+            liveCounts.put(today, todayCounts);
+            liveSince = cutoff;
+
+            Map<String, double[]> series = new HashMap<>();
+            Map<String, String> symptomLabels = new HashMap<>();
+            for (PopulationService.DistrictPopulation district : populationService.getDistricts()) {
+                series.put(key(district.getDistrict(), ALL), new double[historyDays]);
+            }
+            List<Object[]> totals = new ArrayList<>(healthReportRepository.findScanRows(start.atStartOfDay(), cutoff));
+            totals.addAll(archivedReportRepository.findScanRows(start.atStartOfDay(), cutoff));
+            for (Object[] row : totals) {
+                count(series, todayCounts, symptomLabels, start, (String) row[0], ALL, (LocalDateTime) row[2]);
+            }
+            List<Object[]> symptomRows = new ArrayList<>(healthReportRepository.findSymptomRows(start.atStartOfDay(), cutoff));
+            symptomRows.addAll(reportArchiveService.getSymptomRows(start.atStartOfDay(), cutoff));
+            for (Object[] row : symptomRows) {
+                count(series, todayCounts, symptomLabels, start, (String) row[0], (String) row[1],
+                        (LocalDateTime) row[2]);
+            }
+
+            // One task per district, each fitting all series of that district
+            Map<PopulationService.DistrictPopulation, List<String>> keysByDistrict = new HashMap<>();
+            for (PopulationService.DistrictPopulation district : populationService.getDistricts()) {
+                keysByDistrict.put(district, new ArrayList<>());
+            }
+            for (Map.Entry<String, double[]> entry : series.entrySet()) {
+                String districtKey = entry.getKey().substring(0, entry.getKey().indexOf('|'));
+                PopulationService.DistrictPopulation district = populationService.findDistrict(districtKey);
+                if (entry.getKey().endsWith('|' + ALL) || sum(entry.getValue()) >= minReports) {
+                    keysByDistrict.get(district).add(entry.getKey());
+                }
+            }
+
+            List<Callable<List<SeriesModel>>> tasks = new ArrayList<>();
+            for (Map.Entry<PopulationService.DistrictPopulation, List<String>> entry : keysByDistrict.entrySet()) {
+                tasks.add(() -> {
+                    List<SeriesModel> fitted = new ArrayList<>();
+                    for (String key : entry.getValue()) {
+                        String symptom = key.endsWith('|' + ALL) ? ALL : symptomLabels.get(key);
+                        fitted.add(new SeriesModel(key, entry.getKey(), symptom,
+                                HoltWinters.fit(series.get(key), WEEKLY_PERIOD, trendDamping)));
+                    }
+                    return fitted;
+                });
+            }
+
+            List<SeriesModel> fitted = new ArrayList<>();
+            try {
+                for (Future<List<SeriesModel>> future : pool.invokeAll(tasks)) {
+                    fitted.addAll(future.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Forecast refit interrupted", e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Forecast refit failed", e.getCause());
+            }
+
+            models.clear();
+            forecasts.clear();
+            for (SeriesModel model : fitted) {
+                models.put(model.key, model);
+            }
+            fittedThrough = today.minusDays(1);
+            publishForecasts(fitted);
+
+            log.info("Fitted {} forecast series for {} districts in {} ms", fitted.size(), tasks.size(),
+                    System.currentTimeMillis() - began);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduledRunner.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    private void count(Map<String, double[]> series, Map<String, LongAdder> todayCounts,
+                       Map<String, String> symptomLabels, LocalDate start,
+                       String districtName, String symptom, LocalDateTime createdAt) {
+        PopulationService.DistrictPopulation district = populationService.findDistrict(districtName);
+        if (district == null || createdAt == null || symptom == null || symptom.isBlank()) {
+            return;
+        }
+        String key = key(district.getDistrict(), symptom);
+        int day = (int) ChronoUnit.DAYS.between(start, createdAt.toLocalDate());
+        if (day >= historyDays) {
+            todayCounts.computeIfAbsent(key, k -> new LongAdder()).increment();
+        } else if (day >= 0) {
+            series.computeIfAbsent(key, k -> new double[historyDays])[day]++;
+            symptomLabels.putIfAbsent(key, symptom.trim());
+        }
+    }
+
+    private void publishForecasts(Iterable<SeriesModel> series) {
+        LocalDate through = fittedThrough;
+        LocalDateTime now = LocalDateTime.now();
+        for (SeriesModel model : series) {
+            double[] expected = model.model.forecast(horizonDays);
+            List<ForecastPointDto> points = new ArrayList<>(horizonDays);
+            for (int h = 1; h <= horizonDays; h++) {
+                double spread = intervalZ * model.model.forecastStandardDeviation(h);
+                double value = expected[h - 1];
+                points.add(new ForecastPointDto(through.plusDays(h), Math.max(0, value),
+                        Math.max(0, value - spread), Math.max(0, value + spread)));
+            }
+
+            ForecastDto forecast = new ForecastDto();
+            forecast.setDistrict(model.district.getDistrict());
+            forecast.setState(model.district.getState());
+            forecast.setSymptom(model.symptom);
+            forecast.setFittedThrough(through);
+            forecast.setGeneratedAt(now);
+            forecast.setAlpha(model.model.getAlpha());
+            forecast.setBeta(model.model.getBeta());
+            forecast.setGamma(model.model.getGamma());
+            forecast.setResidualStdDev(Math.sqrt(model.model.residualVariance()));
+            forecast.setIntervalZ(intervalZ);
+            forecast.setPoints(points);
+            forecasts.put(model.key, forecast);
+        }
+    }
+
+    private PopulationService.DistrictPopulation requireDistrict(String district) {
+        PopulationService.DistrictPopulation population = populationService.findDistrict(district);
+        if (population == null) {
+            throw new ResourceNotFoundException("Unknown district: " + district);
+        }
+        return population;
+    }
+
+    private static Set<String> distinctSymptoms(List<String> symptoms) {
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String symptom : symptoms) {
+            if (symptom != null && !symptom.isBlank()) {
+                distinct.add(symptom.trim().toLowerCase());
+            }
+        }
+        return distinct;
+    }
+
+    private static double sum(double[] values) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    private static String key(String district, String symptom) {
+        return GeoBoundaryService.normalize(district) + '|' + symptom.trim().toLowerCase();
+    }
+
+    /**
+     * Fitted model of one district and symptom; only touched under the service lock
+     */
+    private static final class SeriesModel {
+        private final String key;
+        private final PopulationService.DistrictPopulation district;
+        private final String symptom;
+        private final HoltWinters model;
+
+        SeriesModel(String key, PopulationService.DistrictPopulation district, String symptom, HoltWinters model) {
+            this.key = key;
+            this.district = district;
+            this.symptom = symptom;
+            this.model = model;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.healthnet.service;
+
+import com.healthnet.dto.LocationSuggestionDto;
+import com.healthnet.entity.LocationType;
+import com.healthnet.util.SuggestionIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Typo-tolerant district and village autocomplete for the report form.
+ *
+ * The gazetteer holds the GADM districts and sub-districts (the known
+ * villages, as in the location dictionary) plus census districts missing
+ * from GADM. Every name is indexed under its GADM spelling variants and from
+ * each word start, so "khasi" finds "East Khasi Hills". Districts rank by
+ * population, ahead of villages. The index is built once and never changes,
+ * so lookups need no locking.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class GazetteerService {
+
+    private static final Logger log = LoggerFactory.getLogger(GazetteerService.class);
+
+    /** Separators, and the case changes inside GADM's run-together names such as "EastKhasiHills" */
+    private static final Pattern WORD_BREAK = Pattern.compile("[\\s\\-_/.()]+|(?<=[a-z])(?=[A-Z])");
+
+    private final GeoBoundaryService geoBoundaryService;
+    private final PopulationService populationService;
+    private volatile SuggestionIndex<Place> index;
+
+    @Value("${healthnet.gazetteer.max-suggestions:10}")
+    private int maxSuggestions;
+
+    @Value("${healthnet.gazetteer.fuzzy-min-length:3}")
+    private int fuzzyMinLength;
+
+    @Value("${healthnet.gazetteer.min-similarity:0.3}")
+    private double minSimilarity;
+
+    @Value("${healthnet.gazetteer.max-query-length:64}")
+    private int maxQueryLength;
+
+    public GazetteerService(GeoBoundaryService geoBoundaryService, PopulationService populationService) {
+        this.geoBoundaryService = geoBoundaryService;
+        this.populationService = populationService;
+    }
+
+    /**
+     * Build the index at startup rather than on the first keystroke
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        index();
+    }
+
+    /**
+     * Suggestions for a partly typed name, optionally only of one type or within one district
+     */
+    public List<LocationSuggestionDto> suggest(String query, LocationType type, String district, int limit) {
+        if (type == LocationType.STATE) {
+            throw new IllegalArgumentException("Suggestions cover districts and villages only");
+        }
+        // Checked before normalizing; no place name comes close, and fuzzy matching cost grows with the length
+        if (query != null && query.length() > maxQueryLength) {
+            throw new IllegalArgumentException("Query must be at most " + maxQueryLength + " characters");
+        }
+        String normalizedDistrict = district != null && !district.isBlank() ? GeoBoundaryService.normalize(district) : null;
+        Predicate<Place> filter = null;
+        if (type != null || normalizedDistrict != null) {
+            filter = place -> (type == null || place.type == type)
+                    && (normalizedDistrict == null || place.normalizedDistrict.equals(normalizedDistrict));
+        }
+
+        List<LocationSuggestionDto> suggestions = new ArrayList<>();
+        for (SuggestionIndex.Suggestion<Place> suggestion : index().suggest(GeoBoundaryService.normalize(query),
+                Math.min(Math.max(limit, 1), maxSuggestions), filter, fuzzyMinLength, minSimilarity)) {
+            Place place = suggestion.getItem();
+            suggestions.add(new LocationSuggestionDto(place.name, place.type, place.district, place.state, place.gid,
+                    suggestion.isFuzzy(), Math.round(suggestion.getScore() * 1000) / 1000.0));
+        }
+        return suggestions;
+    }
+
+    private SuggestionIndex<Place> index() {
+        SuggestionIndex<Place> current = index;
+        if (current == null) {
+            synchronized (this) {
+                current = index;
+                if (current == null) {
+                    current = build();
+                    index = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private SuggestionIndex<Place> build() {
+        long began = System.currentTimeMillis();
+        List<Place> districts = new ArrayList<>();
+        Set<String> known = new HashSet<>();
+        Set<String> gids = new HashSet<>();
+        for (GeoBoundaryService.AdminArea area : geoBoundaryService.getDistricts()) {
+            // Some areas are split over several features with the same id
+            if (!gids.add(area.getGid())) {
+                continue;
+            }
+            PopulationService.DistrictPopulation population = populationService.findDistrict(area.getName());
+            districts.add(new Place(area.getName(), LocationType.DISTRICT, area.getName(), area.getState(),
+                    area.getGid(), population != null ? population.getPopulation() : 0, area.getNames()));
+            for (String name : area.getNames()) {
+                known.add(GeoBoundaryService.normalize(name));
+            }
+        }
+        for (PopulationService.DistrictPopulation population : populationService.getDistricts()) {
+            if (known.add(GeoBoundaryService.normalize(population.getDistrict()))) {
+                districts.add(new Place(population.getDistrict(), LocationType.DISTRICT, population.getDistrict(),
+                        population.getState(), null, population.getPopulation(), List.of(population.getDistrict())));
+            }
+        }
+        districts.sort(Comparator.comparingLong((Place place) -> -place.population).thenComparing(place -> place.name));
+
+        List<Place> villages = new ArrayList<>();
+        for (GeoBoundaryService.AdminArea area : geoBoundaryService.getSubDistricts()) {
+            if (!gids.add(area.getGid())) {
+                continue;
+            }
+            villages.add(new Place(area.getName(), LocationType.VILLAGE, area.getDistrict(), area.getState(),
+                    area.getGid(), 0, area.getNames()));
+        }
+        villages.sort(Comparator.comparingInt((Place place) -> place.name.length()).thenComparing(place -> place.name));
+
+        List<Place> places = new ArrayList<>(districts);
+        places.addAll(villages);
+        List<List<String>> keys = new ArrayList<>(places.size());
+        for (Place place : places) {
+            keys.add(keys(place.names));
+        }
+        SuggestionIndex<Place> built = new SuggestionIndex<>(places, keys, maxSuggestions);
+        log.info("Gazetteer indexed {} districts and {} villages in {} ms",
+                districts.size(), villages.size(), System.currentTimeMillis() - began);
+        return built;
+    }
+
+    /**
+     * Each spelling of the name from every word start: "EastKhasiHills" gives
+     * "eastkhasihills", "khasihills" and "hills"
+     */
+    private static List<String> keys(List<String> names) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String spelling : names) {
+            // Some GADM variant lists are comma-separated rather than pipe-separated
+            for (String name : spelling.split(",")) {
+                String[] words = WORD_BREAK.split(name.trim());
+                for (int start = 0; start < words.length; start++) {
+                    String key = GeoBoundaryService.normalize(String.join(" ", List.of(words).subList(start, words.length)));
+                    if (!key.isEmpty()) {
+                        keys.add(key);
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(keys);
+    }
+
+    private static final class Place {
+        private final String name;
+        private final LocationType type;
+        private final String district;
+        private final String normalizedDistrict;
+        private final String state;
+        private final String gid;
+        private final long population;
+        private final List<String> names;
+
+        Place(String name, LocationType type, String district, String state, String gid, long population,
+              List<String> names) {
+            this.name = name;
+            this.type = type;
+            this.district = district;
+            this.normalizedDistrict = GeoBoundaryService.normalize(district);
+            this.state = state;
+            this.gid = gid;
+            this.population = population;
+            this.names = names;
+        }
+    }
+}
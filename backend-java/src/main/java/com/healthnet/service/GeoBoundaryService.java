@@ -0,0 +1,282 @@
+package com.healthnet.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Administrative boundaries of the northeast states, loaded once from the
+ * GADM GeoJSON files the frontend map also uses.
+ *
+ * Districts (level 2) and sub-districts (level 3) are indexed by normalized
+ * name together with their centroids, so report locations given as free-text
+ * village/district names can be placed on the map.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class GeoBoundaryService {
+
+    private static final Logger log = LoggerFactory.getLogger(GeoBoundaryService.class);
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    /** Census spellings that differ from the GADM names (normalized) */
+    private static final Map<String, String> SPELLING_VARIANTS = Map.of(
+        "lawangtlai", "lawngtlai"
+    );
+
+    private final ObjectMapper objectMapper;
+    private final Path geojsonDir;
+    private volatile Boundaries boundaries;
+
+    public GeoBoundaryService(ObjectMapper objectMapper,
+                              @Value("${healthnet.geojson-dir:../public/data/geojson}") String geojsonDir) {
+        this.objectMapper = objectMapper;
+        this.geojsonDir = Paths.get(geojsonDir);
+    }
+
+    /**
+     * All districts (GADM level 2)
+     */
+    public List<AdminArea> getDistricts() {
+        return boundaries().districts;
+    }
+
+    /**
+     * All sub-districts (GADM level 3)
+     */
+    public List<AdminArea> getSubDistricts() {
+        return boundaries().subDistricts;
+    }
+
+    /**
+     * Find a district by name, or null if it is not in the boundary files
+     */
+    public AdminArea findDistrict(String district) {
+        return boundaries().districtsByName.get(normalize(district));
+    }
+
+    /**
+     * Best known area for a report location: the sub-district whose name matches
+     * the village inside the given district, else the district itself, else null
+     */
+    public AdminArea resolve(String district, String village) {
+        Boundaries current = boundaries();
+        AdminArea districtArea = current.districtsByName.get(normalize(district));
+        if (village != null) {
+            String prefix = districtArea != null ? districtArea.getGid() : normalize(district);
+            AdminArea subDistrict = current.subDistrictsByName.get(prefix + '|' + normalize(village));
+            if (subDistrict != null) {
+                return subDistrict;
+            }
+        }
+        return districtArea;
+    }
+
+    /**
+     * Great-circle distance in kilometres
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * Lower-cased ASCII letters and digits only, so "Arunachal Pradesh" matches
+     * "ArunachalPradesh" and "Zünheboto" matches "Zunheboto"
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+        StringBuilder builder = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = Character.toLowerCase(decomposed.charAt(i));
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                builder.append(c);
+            }
+        }
+        String normalized = builder.toString();
+        return SPELLING_VARIANTS.getOrDefault(normalized, normalized);
+    }
+
+    private Boundaries boundaries() {
+        Boundaries current = boundaries;
+        if (current == null) {
+            synchronized (this) {
+                current = boundaries;
+                if (current == null) {
+                    current = load();
+                    boundaries = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Boundaries load() {
+        List<AdminArea> districts = readLevel(2);
+        List<AdminArea> subDistricts = readLevel(3);
+
+        Map<String, AdminArea> districtsByName = new HashMap<>();
+        for (AdminArea district : districts) {
+            districtsByName.putIfAbsent(normalize(district.getName()), district);
+        }
+
+        Map<String, AdminArea> subDistrictsByName = new HashMap<>();
+        for (AdminArea subDistrict : subDistricts) {
+            for (String name : subDistrict.getNames()) {
+                subDistrictsByName.putIfAbsent(subDistrict.getParentGid() + '|' + normalize(name), subDistrict);
+            }
+        }
+
+        log.info("Loaded {} districts and {} sub-districts from {}", districts.size(), subDistricts.size(), geojsonDir);
+        return new Boundaries(districts, subDistricts, districtsByName, subDistrictsByName);
+    }
+
+    private List<AdminArea> readLevel(int level) {
+        Path file = geojsonDir.resolve("gadm_NE_level" + level + ".geojson");
+        if (!Files.exists(file)) {
+            log.warn("Boundary file {} not found", file);
+            return Collections.emptyList();
+        }
+
+        List<AdminArea> areas = new ArrayList<>();
+        try (InputStream in = Files.newInputStream(file)) {
+            JsonNode root = objectMapper.readTree(in);
+            for (JsonNode feature : root.path("features")) {
+                JsonNode properties = feature.path("properties");
+                double[] centroid = centroid(feature.path("geometry"));
+                if (centroid == null) {
+                    continue;
+                }
+
+                List<String> names = new ArrayList<>();
+                names.add(properties.path("NAME_" + level).asText());
+                String variants = properties.path("VARNAME_" + level).asText("NA");
+                if (!variants.isBlank() && !"NA".equals(variants)) {
+                    for (String variant : variants.split("\\|")) {
+                        names.add(variant.trim());
+                    }
+                }
+
+                areas.add(new AdminArea(properties.path("GID_" + level).asText(),
+                        properties.path("GID_" + (level - 1)).asText(), level, names,
+                        properties.path("NAME_2").asText(), properties.path("NAME_1").asText(),
+                        centroid[1], centroid[0]));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read boundary file " + file, e);
+        }
+        return Collections.unmodifiableList(areas);
+    }
+
+    /**
+     * Area-weighted centroid (lon, lat) of a Polygon or MultiPolygon, holes subtracted
+     */
+    private static double[] centroid(JsonNode geometry) {
+        JsonNode coordinates = geometry.path("coordinates");
+        List<JsonNode> polygons = new ArrayList<>();
+        if ("Polygon".equals(geometry.path("type").asText())) {
+            polygons.add(coordinates);
+        } else {
+            coordinates.forEach(polygons::add);
+        }
+
+        double area = 0;
+        double cx = 0;
+        double cy = 0;
+        for (JsonNode polygon : polygons) {
+            for (JsonNode ring : polygon) {
+                // Outer rings and holes have opposite winding, so signed areas cancel correctly
+                for (int i = 0; i + 1 < ring.size(); i++) {
+                    double x0 = ring.get(i).get(0).asDouble();
+                    double y0 = ring.get(i).get(1).asDouble();
+                    double x1 = ring.get(i + 1).get(0).asDouble();
+                    double y1 = ring.get(i + 1).get(1).asDouble();
+                    double cross = x0 * y1 - x1 * y0;
+                    area += cross;
+                    cx += (x0 + x1) * cross;
+                    cy += (y0 + y1) * cross;
+                }
+            }
+        }
+        if (area == 0) {
+            return null;
+        }
+        return new double[] { cx / (3 * area), cy / (3 * area) };
+    }
+
+    private static final class Boundaries {
+        private final List<AdminArea> districts;
+        private final List<AdminArea> subDistricts;
+        private final Map<String, AdminArea> districtsByName;
+        private final Map<String, AdminArea> subDistrictsByName;
+
+        Boundaries(List<AdminArea> districts, List<AdminArea> subDistricts,
+                   Map<String, AdminArea> districtsByName, Map<String, AdminArea> subDistrictsByName) {
+            this.districts = districts;
+            this.subDistricts = subDistricts;
+            this.districtsByName = districtsByName;
+            this.subDistrictsByName = subDistrictsByName;
+        }
+    }
+
+    /**
+     * A district or sub-district with its centroid
+     */
+    public static final class AdminArea {
+        private final String gid;
+        private final String parentGid;
+        private final int level;
+        private final List<String> names;
+        private final String district;
+        private final String state;
+        private final double latitude;
+        private final double longitude;
+
+        AdminArea(String gid, String parentGid, int level, List<String> names,
+                  String district, String state, double latitude, double longitude) {
+            this.gid = gid;
+            this.parentGid = parentGid;
+            this.level = level;
+            this.names = Collections.unmodifiableList(names);
+            this.district = district;
+            this.state = state;
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+
+        public String getGid() { return gid; }
+        public String getParentGid() { return parentGid; }
+        public int getLevel() { return level; }
+        public String getName() { return names.get(0); }
+        public List<String> getNames() { return names; }
+        public String getDistrict() { return district; }
+        public String getState() { return state; }
+        public double getLatitude() { return latitude; }
+        public double getLongitude() { return longitude; }
+    }
+}
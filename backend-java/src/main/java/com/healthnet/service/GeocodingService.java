@@ -0,0 +1,261 @@
+package com.healthnet.service;
+
+import com.healthnet.dto.GeoLocationDto;
+import com.healthnet.entity.HealthReport;
+import com.healthnet.exception.ResourceNotFoundException;
+import com.healthnet.repository.HealthReportRepository;
+import com.healthnet.util.PolygonRTree;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Point-in-polygon geocoding of report coordinates to GADM areas.
+ *
+ * The full-resolution district (level 2) and sub-district (level 3)
+ * polygons are bulk-loaded into STR-packed R-trees once; a lookup descends a
+ * few bounding boxes and runs the exact test on one or two polygons, so
+ * reports are placed at ingest without a noticeable cost. GADM has no
+ * village polygons, so a report's village id is its sub-district. Reports
+ * stored before they had coordinates resolved are placed by a backfill that
+ * geocodes chunks in parallel, each chunk in its own transaction.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class GeocodingService {
+
+    private static final Logger log = LoggerFactory.getLogger(GeocodingService.class);
+
+    public static final String RESULT_PROCESSED = "processed";
+    public static final String RESULT_LOCATED = "located";
+    public static final String RESULT_OUTSIDE = "outside";
+
+    private final MapBoundaryService mapBoundaryService;
+    private final HealthReportRepository healthReportRepository;
+    private final LocationDictionaryService locationDictionaryService;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+    private final ForkJoinPool pool;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile Trees trees;
+
+    @Value("${healthnet.geocoding.backfill-chunk-size:500}")
+    private int chunkSize;
+
+    public GeocodingService(MapBoundaryService mapBoundaryService,
+                            HealthReportRepository healthReportRepository,
+                            LocationDictionaryService locationDictionaryService,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${healthnet.geocoding.parallelism:0}") int parallelism) {
+        this.mapBoundaryService = mapBoundaryService;
+        this.healthReportRepository = healthReportRepository;
+        this.locationDictionaryService = locationDictionaryService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Build the trees at startup rather than on the first report
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        trees();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Areas containing the coordinate, or null if it lies outside every district
+     */
+    public GeoLocationDto locate(double latitude, double longitude) {
+        validate(latitude, longitude);
+        Trees current = trees();
+        Map<String, String> subDistrict = current.subDistricts.find(longitude, latitude);
+        Map<String, String> area = subDistrict != null ? subDistrict : current.districts.find(longitude, latitude);
+        if (area == null) {
+            return null;
+        }
+        return new GeoLocationDto(latitude, longitude, area.get("GID_1"), area.get("NAME_1"),
+                area.get("GID_2"), area.get("NAME_2"),
+                subDistrict != null ? subDistrict.get("GID_3") : null,
+                subDistrict != null ? subDistrict.get("NAME_3") : null);
+    }
+
+    /**
+     * Set a report's district and village ids from its coordinates (cleared if
+     * it has none or they fall outside the map). Returns whether it was placed.
+     */
+    public boolean geocode(HealthReport report) {
+        if (report.getLatitude() == null && report.getLongitude() == null) {
+            report.setDistrictGid(null);
+            report.setVillageGid(null);
+            return false;
+        }
+        if (report.getLatitude() == null || report.getLongitude() == null) {
+            throw new IllegalArgumentException("Latitude and longitude must be given together");
+        }
+        GeoLocationDto location = locate(report.getLatitude(), report.getLongitude());
+        report.setDistrictGid(location != null ? location.getDistrictGid() : null);
+        report.setVillageGid(location != null ? location.getVillageGid() : null);
+        return location != null;
+    }
+
+    /**
+     * Geocode stored reports with coordinates: those not yet placed, or all of
+     * them after a boundary update. Returns null if a backfill is already running.
+     */
+    public Map<String, Integer> backfill(boolean all) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Geocoding backfill already in progress, skipping");
+            return null;
+        }
+
+        try {
+            long began = System.currentTimeMillis();
+            trees();
+            List<ForkJoinTask<int[]>> chunks = new ArrayList<>();
+            long afterId = 0;
+            while (true) {
+                long from = afterId;
+                List<Long> ids = readOnlyTemplate.execute(tx ->
+                        healthReportRepository.findGeocodeIds(from, all, PageRequest.of(0, chunkSize)));
+                if (ids == null || ids.isEmpty()) {
+                    break;
+                }
+                // Chunks are disjoint id ranges, so they can commit independently
+                chunks.add(pool.submit(() -> transactionTemplate.execute(tx -> geocodeChunk(ids))));
+                afterId = ids.get(ids.size() - 1);
+                if (ids.size() < chunkSize) {
+                    break;
+                }
+            }
+
+            int processed = 0;
+            int located = 0;
+            for (ForkJoinTask<int[]> chunk : chunks) {
+                int[] counts = Objects.requireNonNull(chunk.join());
+                processed += counts[0];
+                located += counts[1];
+            }
+
+            Map<String, Integer> result = new LinkedHashMap<>();
+            result.put(RESULT_PROCESSED, processed);
+            result.put(RESULT_LOCATED, located);
+            result.put(RESULT_OUTSIDE, processed - located);
+            log.info("Geocoded {} reports in {} chunks ({} outside the map) in {} ms", processed, chunks.size(),
+                    processed - located, System.currentTimeMillis() - began);
+            return result;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Check whether a backfill is currently in progress
+     */
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Geocode one chunk of reports. Runs inside its own transaction.
+     */
+    private int[] geocodeChunk(List<Long> ids) {
+        int located = 0;
+        List<HealthReport> reports = healthReportRepository.findAllById(ids);
+        for (HealthReport report : reports) {
+            try {
+                if (geocode(report)) {
+                    located++;
+                }
+            } catch (IllegalArgumentException e) {
+                // Stored before coordinates were validated; leave the report unplaced
+                report.setDistrictGid(null);
+                report.setVillageGid(null);
+            }
+            // A district name outside the dictionary may now be placed by its coordinates
+            if (report.getDistrictId() == null) {
+                locationDictionaryService.assign(report);
+            }
+        }
+        return new int[] { reports.size(), located };
+    }
+
+    private static void validate(double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("Coordinates out of range: " + latitude + ", " + longitude);
+        }
+    }
+
+    private Trees trees() {
+        Trees current = trees;
+        if (current == null) {
+            synchronized (this) {
+                current = trees;
+                if (current == null) {
+                    current = build();
+                    trees = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Trees build() {
+        long began = System.currentTimeMillis();
+        PolygonRTree<Map<String, String>> districts = tree(2);
+        PolygonRTree<Map<String, String>> subDistricts = tree(3);
+        log.info("Geocoding index built over {} districts and {} sub-districts in {} ms",
+                districts.size(), subDistricts.size(), System.currentTimeMillis() - began);
+        return new Trees(districts, subDistricts);
+    }
+
+    private PolygonRTree<Map<String, String>> tree(int level) {
+        List<Map<String, String>> properties = new ArrayList<>();
+        List<List<List<double[][]>>> polygons = new ArrayList<>();
+        try {
+            for (MapBoundaryService.BoundaryFeature feature : mapBoundaryService.getFeatures(level, "full")) {
+                properties.add(feature.getProperties());
+                polygons.add(feature.getPolygons());
+            }
+        } catch (ResourceNotFoundException e) {
+            log.warn("No level {} boundaries for geocoding", level);
+        }
+        return new PolygonRTree<>(properties, polygons);
+    }
+
+    private static final class Trees {
+        private final PolygonRTree<Map<String, String>> districts;
+        private final PolygonRTree<Map<String, String>> subDistricts;
+
+        Trees(PolygonRTree<Map<String, String>> districts, PolygonRTree<Map<String, String>> subDistricts) {
+            this.districts = districts;
+            this.subDistricts = subDistricts;
+        }
+    }
+}
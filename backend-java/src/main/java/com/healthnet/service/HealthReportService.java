@@ -1,9 +1,12 @@
 package com.healthnet.service;
 
 import com.healthnet.entity.HealthReport;
+import com.healthnet.entity.Location;
 import com.healthnet.entity.ReportStatus;
 import com.healthnet.entity.UrgencyLevel;
+import com.healthnet.event.HealthReportEvent;
 import com.healthnet.repository.HealthReportRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -12,7 +15,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service class for HealthReport operations
@@ -25,9 +31,24 @@ import java.util.List;
 public class HealthReportService {
     
     private final HealthReportRepository healthReportRepository;
-    
-    public HealthReportService(HealthReportRepository healthReportRepository) {
+    private final ApplicationEventPublisher eventPublisher;
+    private final GeocodingService geocodingService;
+    private final LocationDictionaryService locationDictionaryService;
+    private final SymptomExtractionService symptomExtractionService;
+    private final DuplicateDetectionService duplicateDetectionService;
+    
+    public HealthReportService(HealthReportRepository healthReportRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               GeocodingService geocodingService,
+                               LocationDictionaryService locationDictionaryService,
+                               SymptomExtractionService symptomExtractionService,
+                               DuplicateDetectionService duplicateDetectionService) {
         this.healthReportRepository = healthReportRepository;
+        this.eventPublisher = eventPublisher;
+        this.geocodingService = geocodingService;
+        this.locationDictionaryService = locationDictionaryService;
+        this.symptomExtractionService = symptomExtractionService;
+        this.duplicateDetectionService = duplicateDetectionService;
     }
     
     /**
@@ -58,7 +79,15 @@ public class HealthReportService {
             report.setConsentGiven(false);
         }
         
-        return healthReportRepository.save(report);
+        geocodingService.geocode(report);
+        locationDictionaryService.assign(report);
+        symptomExtractionService.annotate(report);
+        DuplicateDetectionService.Signature signature = duplicateDetectionService.link(report);
+        
+        HealthReport savedReport = healthReportRepository.save(report);
+        duplicateDetectionService.index(savedReport, signature);
+        eventPublisher.publishEvent(HealthReportEvent.of(HealthReportEvent.Type.CREATED, savedReport));
+        return savedReport;
     }
     
     /**
@@ -66,14 +95,20 @@ public class HealthReportService {
      */
     public HealthReport updateReport(Long id, HealthReport reportDetails) {
         HealthReport report = getReportById(id);
+        ReportStatus previousStatus = report.getStatus();
         
         // Update fields
         report.setReporterName(reportDetails.getReporterName());
         report.setReporterPhone(reportDetails.getReporterPhone());
         report.setVillage(reportDetails.getVillage());
         report.setDistrict(reportDetails.getDistrict());
+        report.setLatitude(reportDetails.getLatitude());
+        report.setLongitude(reportDetails.getLongitude());
+        geocodingService.geocode(report);
+        locationDictionaryService.assign(report);
         report.setSymptoms(reportDetails.getSymptoms());
         report.setDescription(reportDetails.getDescription());
+        symptomExtractionService.annotate(report);
         report.setUrgency(reportDetails.getUrgency());
         report.setStatus(reportDetails.getStatus());
         report.setPhotoUrls(reportDetails.getPhotoUrls());
@@ -82,7 +117,14 @@ public class HealthReportService {
         report.setProcessedAt(reportDetails.getProcessedAt());
         report.setAdminNotes(reportDetails.getAdminNotes());
         
-        return healthReportRepository.save(report);
+        HealthReport savedReport = healthReportRepository.save(report);
+        eventPublisher.publishEvent(previousStatus != savedReport.getStatus()
+                ? HealthReportEvent.statusChanged(savedReport, previousStatus)
+                : HealthReportEvent.of(HealthReportEvent.Type.UPDATED, savedReport));
+        if (previousStatus != ReportStatus.CANCELLED && savedReport.getStatus() == ReportStatus.CANCELLED) {
+            releaseDuplicates(savedReport);
+        }
+        return savedReport;
     }
     
     /**
@@ -90,21 +132,31 @@ public class HealthReportService {
      */
     public void deleteReport(Long id) {
         HealthReport report = getReportById(id);
+        HealthReportEvent event = HealthReportEvent.of(HealthReportEvent.Type.DELETED, report);
         healthReportRepository.delete(report);
+        eventPublisher.publishEvent(event);
+        releaseDuplicates(report);
     }
     
     /**
      * Get reports by district
      */
     public List<HealthReport> getReportsByDistrict(String district) {
-        return healthReportRepository.findByDistrict(district);
+        // Districts outside the dictionary are matched by name
+        return healthReportRepository.findInDistrict(locationDictionaryService.findDistrictId(district), district);
     }
     
     /**
      * Get reports by village
      */
     public List<HealthReport> getReportsByVillage(String village) {
-        return healthReportRepository.findByVillage(village);
+        // Village names are only unique within a district; villages outside the dictionary are matched by name
+        List<Integer> villageIds = locationDictionaryService.findVillageIds(village);
+        List<HealthReport> reports = new ArrayList<>(healthReportRepository.findUnmappedByVillage(village));
+        if (!villageIds.isEmpty()) {
+            reports.addAll(healthReportRepository.findByVillageIds(villageIds));
+        }
+        return reports;
     }
     
     /**
@@ -125,7 +177,8 @@ public class HealthReportService {
      * Get reports by district and status
      */
     public List<HealthReport> getReportsByDistrictAndStatus(String district, ReportStatus status) {
-        return healthReportRepository.findByDistrictAndStatus(district, status);
+        return healthReportRepository.findInDistrictAndStatus(locationDictionaryService.findDistrictId(district),
+                district, status);
     }
     
     /**
@@ -154,6 +207,7 @@ public class HealthReportService {
      */
     public HealthReport updateReportStatus(Long id, ReportStatus status) {
         HealthReport report = getReportById(id);
+        ReportStatus previousStatus = report.getStatus();
         report.setStatus(status);
         
         // If status is being changed to PROCESSED or RESOLVED, set processed info
@@ -166,7 +220,12 @@ public class HealthReportService {
             }
         }
         
-        return healthReportRepository.save(report);
+        HealthReport savedReport = healthReportRepository.save(report);
+        eventPublisher.publishEvent(HealthReportEvent.statusChanged(savedReport, previousStatus));
+        if (previousStatus != ReportStatus.CANCELLED && status == ReportStatus.CANCELLED) {
+            releaseDuplicates(savedReport);
+        }
+        return savedReport;
     }
     
     /**
@@ -175,7 +234,62 @@ public class HealthReportService {
     public HealthReport addAdminNotes(Long id, String notes) {
         HealthReport report = getReportById(id);
         report.setAdminNotes(notes);
-        return healthReportRepository.save(report);
+        HealthReport savedReport = healthReportRepository.save(report);
+        eventPublisher.publishEvent(HealthReportEvent.of(HealthReportEvent.Type.NOTES_ADDED, savedReport));
+        return savedReport;
+    }
+    
+    /**
+     * Get the near-duplicates linked to a report
+     */
+    public List<HealthReport> getDuplicates(Long id) {
+        getReportById(id);
+        return healthReportRepository.findByDuplicateOfIdOrderByCreatedAtAsc(id);
+    }
+    
+    /**
+     * Clear a report's duplicate link so it counts as a separate case
+     */
+    public HealthReport unlinkDuplicate(Long id) {
+        HealthReport report = getReportById(id);
+        report.setDuplicateOfId(null);
+        report.setDuplicateSimilarity(null);
+        HealthReport savedReport = healthReportRepository.save(report);
+        duplicateDetectionService.unlink(id);
+        eventPublisher.publishEvent(HealthReportEvent.of(HealthReportEvent.Type.UPDATED, savedReport));
+        return savedReport;
+    }
+    
+    /**
+     * Take a deleted or cancelled report out of duplicate detection; if it was an original, its oldest
+     * surviving duplicate becomes the original and the other duplicates point at that one
+     */
+    private void releaseDuplicates(HealthReport report) {
+        duplicateDetectionService.remove(report.getId());
+        if (report.getDuplicateOfId() != null) {
+            return;
+        }
+        List<HealthReport> duplicates = healthReportRepository.findByDuplicateOfIdOrderByCreatedAtAsc(report.getId());
+        if (duplicates.isEmpty()) {
+            return;
+        }
+        HealthReport promoted = duplicates.stream()
+                .filter(duplicate -> duplicate.getStatus() != ReportStatus.CANCELLED)
+                .findFirst()
+                .orElse(duplicates.get(0));
+        for (HealthReport duplicate : duplicates) {
+            if (duplicate == promoted) {
+                duplicate.setDuplicateOfId(null);
+                duplicate.setDuplicateSimilarity(null);
+            } else {
+                duplicate.setDuplicateOfId(promoted.getId());
+            }
+        }
+        healthReportRepository.saveAll(duplicates);
+        duplicateDetectionService.reassign(report.getId(), promoted.getId());
+        for (HealthReport duplicate : duplicates) {
+            eventPublisher.publishEvent(HealthReportEvent.of(HealthReportEvent.Type.UPDATED, duplicate));
+        }
     }
     
     /**
@@ -215,7 +329,8 @@ public class HealthReportService {
     public List<HealthReport> getReportsByDistrictAndDateRange(String district, 
                                                                LocalDateTime startDate, 
                                                                LocalDateTime endDate) {
-        return healthReportRepository.findByDistrictAndDateRange(district, startDate, endDate);
+        return healthReportRepository.findInDistrictAndDateRange(locationDictionaryService.findDistrictId(district),
+                district, startDate, endDate);
     }
     
     /**
@@ -258,10 +373,11 @@ public class HealthReportService {
         LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
         LocalDateTime endOfDay = startOfDay.plusDays(1);
         long todaysReports = healthReportRepository.findReportsCreatedToday(startOfDay, endOfDay).size();
+        long uniqueReports = healthReportRepository.countByDuplicateOfIdIsNull();
         
         return new com.healthnet.controller.HealthReportController.ReportStatistics(
             totalReports, pendingReports, processedReports, 
-            highUrgencyReports, criticalUrgencyReports, todaysReports
+            highUrgencyReports, criticalUrgencyReports, todaysReports, uniqueReports
         );
     }
     
@@ -269,7 +385,29 @@ public class HealthReportService {
      * Get reports with pagination by district
      */
     public Page<HealthReport> getReportsByDistrict(String district, Pageable pageable) {
-        return healthReportRepository.findByDistrict(district, pageable);
+        return healthReportRepository.findInDistrict(locationDictionaryService.findDistrictId(district), district,
+                pageable);
+    }
+    
+    /**
+     * Get report counts per district, keyed by canonical district name
+     */
+    public Map<String, Long> getReportCountsByDistrict() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (Object[] row : healthReportRepository.countGroupedByDistrictId()) {
+            Location district = locationDictionaryService.getLocation((Integer) row[0]);
+            if (district != null) {
+                rows.add(new Object[] {district.getName(), row[1]});
+            }
+        }
+        // Districts outside the dictionary are counted under the name reported
+        rows.addAll(healthReportRepository.countUnmappedGroupedByDistrict());
+        rows.sort((a, b) -> Long.compare((Long) b[1], (Long) a[1]));
+        for (Object[] row : rows) {
+            counts.merge((String) row[0], (Long) row[1], Long::sum);
+        }
+        return counts;
     }
     
     /**
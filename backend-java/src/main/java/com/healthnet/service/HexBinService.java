@@ -0,0 +1,298 @@
+package com.healthnet.service;
+
+import com.healthnet.dto.HexBinDto;
+import com.healthnet.dto.HexBinGridDto;
+import com.healthnet.entity.ReportStatus;
+import com.healthnet.event.HealthReportEvent;
+import com.healthnet.repository.HealthReportRepository;
+import com.healthnet.util.HexGrid;
+import com.healthnet.util.LongIntHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Hex-bin heatmap of geocoded reports at several resolutions.
+ *
+ * Every report with coordinates is counted in one hexagon per resolution of
+ * the grid, per day of creation, in primitive maps keyed by cell id; a second
+ * set of maps counts only open (pending or in progress) reports. Report
+ * events move a report's counts when it is created, edited, changes status
+ * or is deleted, so a heatmap query only sums the day maps of its window and
+ * keeps the cells in view. The resolution follows the map zoom and is
+ * coarsened until the view holds a bounded number of cells, so the response
+ * size does not grow with the number of reports.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class HexBinService {
+
+    private static final Logger log = LoggerFactory.getLogger(HexBinService.class);
+
+    /** Centre latitude of the North East region, where edge lengths hold */
+    private static final double REFERENCE_LATITUDE = 26.0;
+
+    private final HealthReportRepository healthReportRepository;
+    private final HexGrid grid;
+    private final int windowDays;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    /** Per resolution, one slot per day of the window (epoch day modulo window) */
+    private final DayCounts[][] days;
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    private volatile boolean ready;
+
+    @Value("${healthnet.map.hexbins.default-window-days:30}")
+    private int defaultWindowDays;
+
+    @Value("${healthnet.map.hexbins.min-edge-pixels:12}")
+    private double minEdgePixels;
+
+    @Value("${healthnet.map.hexbins.max-cells:2000}")
+    private int maxCells;
+
+    public HexBinService(HealthReportRepository healthReportRepository,
+                         @Value("${healthnet.map.hexbins.coarsest-edge-km:64}") double coarsestEdgeKm,
+                         @Value("${healthnet.map.hexbins.resolutions:7}") int resolutions,
+                         @Value("${healthnet.map.hexbins.window-days:90}") int windowDays) {
+        this.healthReportRepository = healthReportRepository;
+        this.grid = new HexGrid(coarsestEdgeKm, resolutions, REFERENCE_LATITUDE);
+        this.windowDays = windowDays;
+        this.days = new DayCounts[resolutions][windowDays];
+        for (int r = 0; r < resolutions; r++) {
+            for (int d = 0; d < windowDays; d++) {
+                days[r][d] = new DayCounts();
+            }
+        }
+    }
+
+    /**
+     * Bin the reports of the window
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        lock.writeLock().lock();
+        try {
+            long began = System.currentTimeMillis();
+            contributions.clear();
+            for (DayCounts[] resolution : days) {
+                for (DayCounts day : resolution) {
+                    day.reset(Long.MIN_VALUE);
+                }
+            }
+            LocalDateTime start = LocalDate.now().minusDays(windowDays - 1L).atStartOfDay();
+            LocalDateTime end = LocalDateTime.now().plusDays(1);
+            for (Object[] row : healthReportRepository.findCoordinateRows(start, end)) {
+                add((Long) row[0], (Double) row[1], (Double) row[2], (ReportStatus) row[3], (LocalDateTime) row[4]);
+            }
+            ready = true;
+            log.info("Hex-binned {} reports at {} resolutions in {} ms",
+                    contributions.size(), grid.resolutions(), System.currentTimeMillis() - began);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Move a report's counts to its current place and status
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportEvent(HealthReportEvent event) {
+        if (event.getType() == HealthReportEvent.Type.NOTES_ADDED) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                return;
+            }
+            // Re-applying a report replaces its previous contribution, so replays are harmless
+            remove(event.getReportId());
+            if (event.getType() != HealthReportEvent.Type.DELETED) {
+                add(event.getReportId(), event.getLatitude(), event.getLongitude(), event.getStatus(),
+                        event.getCreatedAt());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forget reports that have left the window
+     */
+    @Scheduled(cron = "${healthnet.map.hexbins.rollover-cron:0 0 0 * * *}")
+    public void rollover() {
+        long oldest = LocalDate.now().minusDays(windowDays - 1L).toEpochDay();
+        lock.writeLock().lock();
+        try {
+            contributions.values().removeIf(contribution -> contribution.epochDay < oldest);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Cells in a bounding box with their report counts over a date window. The
+     * resolution is taken as given, else chosen from the zoom, else the finest
+     * one; either way it is coarsened until the box holds at most max-cells.
+     */
+    public HexBinGridDto getHexBins(double south, double west, double north, double east,
+                                    LocalDate startDate, LocalDate endDate,
+                                    Integer resolution, Integer zoom, boolean openOnly) {
+        if (!(south >= -90 && north <= 90 && south < north) || !(west >= -180 && east <= 180 && west < east)) {
+            throw new IllegalArgumentException("Invalid bounding box: " + south + ", " + west + ", " + north + ", " + east);
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate end = endDate != null ? endDate : today;
+        LocalDate start = startDate != null ? startDate : end.minusDays(defaultWindowDays - 1L);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+        if (start.isBefore(today.minusDays(windowDays - 1L))) {
+            throw new IllegalArgumentException("Heatmap counts cover the last " + windowDays + " days only");
+        }
+        if (resolution != null && (resolution < 0 || resolution >= grid.resolutions())) {
+            throw new IllegalArgumentException("Resolution must be between 0 and " + (grid.resolutions() - 1));
+        }
+
+        int chosen = resolution != null ? resolution
+                : zoom != null ? grid.resolutionForZoom(zoom, minEdgePixels) : grid.resolutions() - 1;
+        while (chosen > 0 && grid.cellsCovering(chosen, south, west, north, east) > maxCells) {
+            chosen--;
+        }
+
+        LongIntHashMap totals = new LongIntHashMap();
+        LongIntHashMap open = new LongIntHashMap();
+        long from = start.toEpochDay();
+        long to = Math.min(end.toEpochDay(), today.toEpochDay() + 1);
+        lock.readLock().lock();
+        try {
+            for (long epochDay = from; epochDay <= to; epochDay++) {
+                DayCounts day = days[chosen][slot(epochDay)];
+                if (day.epochDay != epochDay) {
+                    continue;
+                }
+                day.total.forEach(totals::addTo);
+                day.open.forEach(open::addTo);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // Keep cells whose centre is within one cell of the box, so edge hexagons are drawn whole
+        double marginLat = grid.edgeKm(chosen) / 111.32;
+        double marginLon = marginLat / Math.cos(Math.toRadians(Math.max(Math.abs(south), Math.abs(north))));
+        List<HexBinDto> cells = new ArrayList<>();
+        long[] inView = new long[2];
+        LongIntHashMap counted = openOnly ? open : totals;
+        counted.forEach((cell, count) -> {
+            double[] center = grid.center(cell);
+            if (center[0] < south - marginLat || center[0] > north + marginLat
+                    || center[1] < west - marginLon || center[1] > east + marginLon) {
+                return;
+            }
+            int openCount = open.get(cell);
+            cells.add(new HexBinDto(Long.toHexString(cell), round(center[0]), round(center[1]),
+                    totals.get(cell), openCount));
+            inView[0] += totals.get(cell);
+            inView[1] += openCount;
+        });
+        cells.sort((a, b) -> a.getId().compareTo(b.getId()));
+
+        return new HexBinGridDto(chosen, grid.edgeKm(chosen), grid.edgeMercatorMeters(chosen), start, end,
+                inView[0], inView[1], cells);
+    }
+
+    /**
+     * Count a report in one cell per resolution; caller holds the write lock
+     */
+    private void add(Long reportId, Double latitude, Double longitude, ReportStatus status, LocalDateTime createdAt) {
+        if (latitude == null || longitude == null || createdAt == null || status == ReportStatus.CANCELLED
+                || !(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            return;
+        }
+        long epochDay = createdAt.toLocalDate().toEpochDay();
+        long today = LocalDate.now().toEpochDay();
+        if (epochDay <= today - windowDays || epochDay > today + 1) {
+            return;
+        }
+        boolean isOpen = status == ReportStatus.PENDING || status == ReportStatus.IN_PROGRESS;
+        long[] cells = new long[grid.resolutions()];
+        for (int r = 0; r < cells.length; r++) {
+            cells[r] = grid.cell(r, latitude, longitude);
+            DayCounts day = days[r][slot(epochDay)];
+            if (day.epochDay != epochDay) {
+                // The slot still holds a day that has left the window
+                day.reset(epochDay);
+            }
+            day.total.addTo(cells[r], 1);
+            if (isOpen) {
+                day.open.addTo(cells[r], 1);
+            }
+        }
+        contributions.put(reportId, new Contribution(epochDay, cells, isOpen));
+    }
+
+    private void remove(Long reportId) {
+        Contribution contribution = contributions.remove(reportId);
+        if (contribution == null) {
+            return;
+        }
+        for (int r = 0; r < contribution.cells.length; r++) {
+            DayCounts day = days[r][slot(contribution.epochDay)];
+            if (day.epochDay != contribution.epochDay) {
+                continue;
+            }
+            day.total.addTo(contribution.cells[r], -1);
+            if (contribution.open) {
+                day.open.addTo(contribution.cells[r], -1);
+            }
+        }
+    }
+
+    private int slot(long epochDay) {
+        return (int) Math.floorMod(epochDay, (long) windowDays);
+    }
+
+    private static double round(double degrees) {
+        return Math.round(degrees * 1e5) / 1e5;
+    }
+
+    private static final class DayCounts {
+        private long epochDay = Long.MIN_VALUE;
+        private final LongIntHashMap total = new LongIntHashMap();
+        private final LongIntHashMap open = new LongIntHashMap();
+
+        void reset(long epochDay) {
+            this.epochDay = epochDay;
+            total.clear();
+            open.clear();
+        }
+    }
+
+    private static final class Contribution {
+        private final long epochDay;
+        private final long[] cells;
+        private final boolean open;
+
+        Contribution(long epochDay, long[] cells, boolean open) {
+            this.epochDay = epochDay;
+            this.cells = cells;
+            this.open = open;
+        }
+    }
+}
@@ -0,0 +1,397 @@
+package com.healthnet.service;
+
+import com.healthnet.dto.AreaIncidenceDto;
+import com.healthnet.dto.IncidenceDto;
+import com.healthnet.entity.ReportStatus;
+import com.healthnet.event.HealthReportEvent;
+import com.healthnet.repository.HealthReportRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Population-normalized report incidence per district and state.
+ *
+ * Report counts are kept in memory per district and day, each day split by
+ * the combination of symptoms reported (a bitmask over the configured
+ * symptom codes plus one bit shared by every other symptom), so a window
+ * over any symptom set is a sum over at most a few hundred cells without
+ * double counting reports with several symptoms.
+ * Districts are joined to their population estimate and GADM ids once at
+ * startup, and counts are adjusted incrementally from report events, so
+ * requests never query the database.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class IncidenceService {
+
+    private static final Logger log = LoggerFactory.getLogger(IncidenceService.class);
+
+    /** Query code for reports with a symptom outside the configured codes */
+    public static final String OTHER = "other";
+
+    private final HealthReportRepository healthReportRepository;
+    private final ReportArchiveService reportArchiveService;
+    private final PopulationService populationService;
+    private final GeoBoundaryService geoBoundaryService;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> districtIndex = new HashMap<>();
+    private final Map<String, Integer> symptomBits = new HashMap<>();
+    private final int otherBit;
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    private List<DistrictEntry> districts;
+    private DayCell[][] cells;
+
+    @Value("${healthnet.incidence.retention-days:400}")
+    private int retentionDays;
+
+    @Value("${healthnet.incidence.default-window-days:30}")
+    private int defaultWindowDays;
+
+    public IncidenceService(HealthReportRepository healthReportRepository,
+                            ReportArchiveService reportArchiveService,
+                            PopulationService populationService,
+                            GeoBoundaryService geoBoundaryService,
+                            @Value("${healthnet.incidence.symptoms:fever,diarrhea,vomiting,headache,dehydration,stomach_pain,skin_rash,cough}") List<String> symptoms) {
+        this.healthReportRepository = healthReportRepository;
+        this.reportArchiveService = reportArchiveService;
+        this.populationService = populationService;
+        this.geoBoundaryService = geoBoundaryService;
+        for (String symptom : symptoms) {
+            String key = symptom.trim().toLowerCase();
+            if (!key.isEmpty() && !OTHER.equals(key) && symptomBits.size() < Long.SIZE - 1) {
+                symptomBits.putIfAbsent(key, symptomBits.size());
+            }
+        }
+        this.otherBit = symptomBits.size();
+        symptomBits.put(OTHER, otherBit);
+    }
+
+    /**
+     * Join districts to populations and GADM ids and load the retained counts
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        lock.writeLock().lock();
+        try {
+            long began = System.currentTimeMillis();
+            List<DistrictEntry> entries = new ArrayList<>();
+            for (PopulationService.DistrictPopulation population : populationService.getDistricts()) {
+                GeoBoundaryService.AdminArea area = geoBoundaryService.findDistrict(population.getDistrict());
+                districtIndex.put(GeoBoundaryService.normalize(population.getDistrict()), entries.size());
+                entries.add(new DistrictEntry(population, area != null ? area.getGid() : null,
+                        area != null ? area.getParentGid() : null));
+            }
+            districts = entries;
+            cells = new DayCell[entries.size()][retentionDays];
+            contributions.clear();
+
+            LocalDateTime start = LocalDate.now().minusDays(retentionDays - 1L).atStartOfDay();
+            LocalDateTime end = LocalDateTime.now().plusDays(1);
+
+            Map<Long, Long> masks = new HashMap<>();
+            for (Object[] row : healthReportRepository.findReportSymptomRows(start, end)) {
+                masks.merge((Long) row[0], symptomMask(List.of((String) row[1])), (a, b) -> a | b);
+            }
+            for (Object[] row : healthReportRepository.findIncidenceRows(start, end)) {
+                Long reportId = (Long) row[0];
+                add(reportId, (String) row[1], (LocalDateTime) row[2], masks.getOrDefault(reportId, 0L));
+            }
+            // Archived reports are never updated, so they are counted without a contribution
+            int archived = 0;
+            for (Object[] row : reportArchiveService.getReportSymptomRows(start, end)) {
+                Integer district = districtIndex.get(GeoBoundaryService.normalize((String) row[0]));
+                if (district != null && row[2] != null) {
+                    @SuppressWarnings("unchecked")
+                    List<String> symptoms = (List<String>) row[1];
+                    adjust(district, ((LocalDateTime) row[2]).toLocalDate().toEpochDay(), symptomMask(symptoms), 1);
+                    archived++;
+                }
+            }
+
+            log.info("Incidence counts loaded for {} districts ({} live, {} archived reports) in {} ms",
+                    entries.size(), contributions.size(), archived, System.currentTimeMillis() - began);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Keep counts in step with report changes
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportEvent(HealthReportEvent event) {
+        if (event.getType() == HealthReportEvent.Type.NOTES_ADDED || event.isArchived()) {
+            // Archived reports keep counting, as they do when loaded from the archive
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (cells == null) {
+                return;
+            }
+            // Re-applying a report replaces its previous contribution, so replays are harmless
+            remove(event.getReportId());
+            if (event.getType() != HealthReportEvent.Type.DELETED && event.getStatus() != ReportStatus.CANCELLED) {
+                add(event.getReportId(), event.getDistrict(), event.getCreatedAt(), symptomMask(event.getSymptoms()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forget per-report bookkeeping for days that have left the retention window
+     */
+    @Scheduled(cron = "${healthnet.incidence.prune-cron:0 15 0 * * *}")
+    public void prune() {
+        long oldest = LocalDate.now().minusDays(retentionDays - 1L).toEpochDay();
+        lock.writeLock().lock();
+        try {
+            contributions.values().removeIf(contribution -> contribution.epochDay < oldest);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Incidence per 100k over the window (inclusive, defaulting to the last 30
+     * days), counting reports with any of the symptoms, or all reports if none
+     * are given. The window is clipped to the retained days.
+     */
+    public IncidenceDto getIncidence(LocalDate startDate, LocalDate endDate, List<String> symptoms) {
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusDays(defaultWindowDays - 1L);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("startDate must not be after endDate");
+        }
+        LocalDate oldest = LocalDate.now().minusDays(retentionDays - 1L);
+        if (start.isBefore(oldest)) {
+            start = oldest;
+        }
+
+        Set<String> requested = new LinkedHashSet<>();
+        if (symptoms != null) {
+            for (String symptom : symptoms) {
+                if (symptom != null && !symptom.isBlank()) {
+                    requested.add(symptom.trim().toLowerCase());
+                }
+            }
+        }
+
+        List<AreaIncidenceDto> districtRows = new ArrayList<>();
+        Map<String, long[]> stateTotals = new LinkedHashMap<>();
+        Map<String, String> stateGids = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            if (cells == null) {
+                throw new IllegalStateException("Incidence counts are still loading");
+            }
+            long queryMask = 0;
+            boolean filtered = !requested.isEmpty();
+            for (String symptom : requested) {
+                Integer bit = symptomBits.get(symptom);
+                if (bit != null) {
+                    queryMask |= 1L << bit;
+                }
+            }
+
+            for (int d = 0; d < districts.size(); d++) {
+                DistrictEntry entry = districts.get(d);
+                long cases = 0;
+                if (!filtered || queryMask != 0) {
+                    for (long day = start.toEpochDay(); day <= end.toEpochDay(); day++) {
+                        DayCell cell = cells[d][slot(day)];
+                        if (cell != null && cell.epochDay == day) {
+                            cases += cell.count(queryMask);
+                        }
+                    }
+                }
+
+                PopulationService.DistrictPopulation population = entry.population;
+                districtRows.add(new AreaIncidenceDto(entry.gid, population.getDistrict(), population.getState(),
+                        population.getPopulation(), cases));
+                long[] totals = stateTotals.computeIfAbsent(population.getState(), s -> new long[2]);
+                totals[0] += population.getPopulation();
+                totals[1] += cases;
+                if (entry.stateGid != null) {
+                    // Districts in disputed areas carry GADM "Z" ids; prefer the state's own id
+                    stateGids.merge(population.getState(), entry.stateGid,
+                            (current, candidate) -> current.startsWith("Z") ? candidate : current);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<AreaIncidenceDto> stateRows = new ArrayList<>();
+        for (Map.Entry<String, long[]> state : stateTotals.entrySet()) {
+            stateRows.add(new AreaIncidenceDto(stateGids.get(state.getKey()), state.getKey(), state.getKey(),
+                    state.getValue()[0], state.getValue()[1]));
+        }
+
+        IncidenceDto result = new IncidenceDto();
+        result.setStartDate(start);
+        result.setEndDate(end);
+        result.setSymptoms(new ArrayList<>(requested));
+        result.setGeneratedAt(LocalDateTime.now());
+        result.setDistricts(districtRows);
+        result.setStates(stateRows);
+        return result;
+    }
+
+    private void add(Long reportId, String district, LocalDateTime createdAt, long mask) {
+        Integer index = districtIndex.get(GeoBoundaryService.normalize(district));
+        if (index == null || createdAt == null) {
+            return;
+        }
+        long epochDay = createdAt.toLocalDate().toEpochDay();
+        if (adjust(index, epochDay, mask, 1)) {
+            contributions.put(reportId, new Contribution(index, epochDay, mask));
+        }
+    }
+
+    private void remove(Long reportId) {
+        Contribution contribution = contributions.remove(reportId);
+        if (contribution != null) {
+            DayCell cell = cells[contribution.district][slot(contribution.epochDay)];
+            if (cell != null && cell.epochDay == contribution.epochDay) {
+                cell.add(contribution.mask, -1);
+            }
+        }
+    }
+
+    /**
+     * Apply a count change; returns false if the day is outside the retained window
+     */
+    private boolean adjust(int district, long epochDay, long mask, int delta) {
+        long today = LocalDate.now().toEpochDay();
+        if (epochDay <= today - retentionDays || epochDay > today + 1) {
+            return false;
+        }
+        int slot = slot(epochDay);
+        DayCell cell = cells[district][slot];
+        if (cell == null || cell.epochDay != epochDay) {
+            // The slot held a day that has since left the window
+            cell = new DayCell(epochDay);
+            cells[district][slot] = cell;
+        }
+        cell.add(mask, delta);
+        return true;
+    }
+
+    private int slot(long epochDay) {
+        return (int) Math.floorMod(epochDay, (long) retentionDays);
+    }
+
+    /**
+     * Bitmask of the symptoms, with any symptom outside the configured codes counted under the other bit
+     */
+    private long symptomMask(List<String> symptoms) {
+        long mask = 0;
+        for (String symptom : symptoms) {
+            if (symptom == null || symptom.isBlank()) {
+                continue;
+            }
+            String key = symptom.trim().toLowerCase();
+            Integer bit = symptomBits.get(key);
+            mask |= 1L << (bit != null ? bit : otherBit);
+        }
+        return mask;
+    }
+
+    private static final class DistrictEntry {
+        private final PopulationService.DistrictPopulation population;
+        private final String gid;
+        private final String stateGid;
+
+        DistrictEntry(PopulationService.DistrictPopulation population, String gid, String stateGid) {
+            this.population = population;
+            this.gid = gid;
+            this.stateGid = stateGid;
+        }
+    }
+
+    /**
+     * Where one live report is counted, so updates and deletes can undo it
+     */
+    private static final class Contribution {
+        private final int district;
+        private final long epochDay;
+        private final long mask;
+
+        Contribution(int district, long epochDay, long mask) {
+            this.district = district;
+            this.epochDay = epochDay;
+            this.mask = mask;
+        }
+    }
+
+    /**
+     * Report counts of one district and day, by symptom combination
+     */
+    private static final class DayCell {
+        private final long epochDay;
+        private int total;
+        private long[] masks = new long[4];
+        private int[] counts = new int[4];
+        private int size;
+
+        DayCell(long epochDay) {
+            this.epochDay = epochDay;
+        }
+
+        void add(long mask, int delta) {
+            total += delta;
+            if (mask == 0) {
+                return;
+            }
+            for (int i = 0; i < size; i++) {
+                if (masks[i] == mask) {
+                    counts[i] += delta;
+                    return;
+                }
+            }
+            if (size == masks.length) {
+                masks = Arrays.copyOf(masks, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            masks[size] = mask;
+            counts[size] = delta;
+            size++;
+        }
+
+        long count(long queryMask) {
+            if (queryMask == 0) {
+                return total;
+            }
+            long count = 0;
+            for (int i = 0; i < size; i++) {
+                if ((masks[i] & queryMask) != 0) {
+                    count += counts[i];
+                }
+            }
+            return count;
+        }
+    }
+}
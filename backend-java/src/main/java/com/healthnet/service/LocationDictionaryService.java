@@ -0,0 +1,439 @@
+package com.healthnet.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthnet.entity.HealthReport;
+import com.healthnet.entity.Location;
+import com.healthnet.entity.LocationType;
+import com.healthnet.entity.User;
+import com.healthnet.repository.HealthReportRepository;
+import com.healthnet.repository.LocationRepository;
+import com.healthnet.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical dictionary of states, districts and villages with compact integer ids.
+ *
+ * Built once at startup from reference data only: the GADM boundaries
+ * (states, districts and sub-districts, which serve as the known villages),
+ * the census district list and the curated alias file, which maps other
+ * spellings to those entries and may declare villages GADM does not know:
+ *
+ * <pre>
+ * { "districts": { "Gangtok": "East Sikkim" },
+ *   "villages": { "Phek": { "Chizami village": "Chizami" } } }
+ * </pre>
+ *
+ * Reports and users carry the ids next to their free-text names, so
+ * filtering and grouping compare indexed integers and spelling variants
+ * such as "Tirap" and "tirap " land on the same id. A report whose names
+ * match none of these takes the GADM areas its coordinates were geocoded
+ * to; otherwise it keeps its free text and a null id. Ingest never adds an
+ * entry, so lookups are served from memory and never write to the database.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class LocationDictionaryService {
+
+    private static final Logger log = LoggerFactory.getLogger(LocationDictionaryService.class);
+
+    private final LocationRepository locationRepository;
+    private final HealthReportRepository healthReportRepository;
+    private final UserRepository userRepository;
+    private final GeoBoundaryService geoBoundaryService;
+    private final PopulationService populationService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    /** Reference entries and aliases by spelling; fixed once loaded */
+    private final Map<String, Location> byKey = new ConcurrentHashMap<>();
+    /** Every stored entry, including ones no spelling resolves to any more */
+    private final Map<Integer, Location> byId = new ConcurrentHashMap<>();
+    /** GADM entries by GADM id */
+    private final Map<String, Location> byGid = new ConcurrentHashMap<>();
+
+    @Value("${healthnet.locations.aliases-file:${healthnet.data-dir:../Data-UAD}/location-aliases.json}")
+    private String aliasesFile;
+
+    public LocationDictionaryService(LocationRepository locationRepository,
+                                     HealthReportRepository healthReportRepository,
+                                     UserRepository userRepository,
+                                     GeoBoundaryService geoBoundaryService,
+                                     PopulationService populationService,
+                                     ObjectMapper objectMapper,
+                                     PlatformTransactionManager transactionManager) {
+        this.locationRepository = locationRepository;
+        this.healthReportRepository = healthReportRepository;
+        this.userRepository = userRepository;
+        this.geoBoundaryService = geoBoundaryService;
+        this.populationService = populationService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Store the reference entries that are missing and index them with their aliases, before any request is served
+     */
+    @PostConstruct
+    public void load() {
+        long began = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(tx -> {
+            Map<String, Location> stored = new HashMap<>();
+            for (Location location : locationRepository.findAll()) {
+                byId.put(location.getId(), location);
+                if (location.getGid() != null) {
+                    byGid.put(location.getGid(), location);
+                }
+                // A GADM entry wins over a spelling stored by ingest before the dictionary was closed
+                stored.merge(key(location.getType(), location.getNormalizedName(),
+                        location.getType() == LocationType.VILLAGE ? location.getParentId() : null),
+                        location, (a, b) -> a.getGid() != null ? a : b);
+            }
+            seed(stored);
+            loadAliases(stored);
+        });
+        log.info("Location dictionary resolves {} spellings to {} entries in {} ms",
+                byKey.size(), new HashSet<>(byKey.values()).size(), System.currentTimeMillis() - began);
+    }
+
+    /**
+     * Map reports and users stored without ids
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void initialize() {
+        long began = System.currentTimeMillis();
+        int reports = 0;
+        for (Object[] row : healthReportRepository.findUnassignedLocations()) {
+            String district = (String) row[0];
+            String village = (String) row[1];
+            Integer districtId = districtId(district);
+            Integer villageId = villageId(districtId, village);
+            if (districtId == null || (villageId == null && districtId.equals(row[2]))) {
+                continue;
+            }
+            Integer updated = transactionTemplate.execute(tx ->
+                    healthReportRepository.assignLocationIds(district, village, districtId, villageId));
+            reports += updated != null ? updated : 0;
+        }
+        for (Object[] row : healthReportRepository.findUnassignedGids()) {
+            String districtGid = (String) row[0];
+            String villageGid = (String) row[1];
+            Integer districtId = districtIdOfGid(districtGid);
+            Integer villageId = villageIdOfGid(districtId, villageGid);
+            if (districtId == null) {
+                continue;
+            }
+            Integer updated = transactionTemplate.execute(tx ->
+                    healthReportRepository.assignLocationIdsByGid(districtGid, villageGid, districtId, villageId));
+            reports += updated != null ? updated : 0;
+        }
+        int users = 0;
+        for (String district : userRepository.findUnassignedDistricts()) {
+            Integer districtId = districtId(district);
+            if (districtId == null) {
+                continue;
+            }
+            Integer updated = transactionTemplate.execute(tx -> userRepository.assignDistrictId(district, districtId));
+            users += updated != null ? updated : 0;
+        }
+
+        log.info("Mapped {} reports and {} users to location ids in {} ms",
+                reports, users, System.currentTimeMillis() - began);
+    }
+
+    /**
+     * Id of a known district or one of its aliases; null for a blank or unknown name
+     */
+    public Integer districtId(String district) {
+        Location location = byKey.get(key(LocationType.DISTRICT, GeoBoundaryService.normalize(district), null));
+        return location != null ? location.getId() : null;
+    }
+
+    /**
+     * Id of a known village of a district or one of its aliases; null for a blank or unknown name or district
+     */
+    public Integer villageId(Integer districtId, String village) {
+        if (districtId == null) {
+            return null;
+        }
+        Location location = byKey.get(key(LocationType.VILLAGE, GeoBoundaryService.normalize(village), districtId));
+        return location != null ? location.getId() : null;
+    }
+
+    /**
+     * Id of a known district, or null
+     */
+    public Integer findDistrictId(String district) {
+        return districtId(district);
+    }
+
+    /**
+     * Ids of the known districts among the names
+     */
+    public List<Integer> findDistrictIds(Collection<String> districts) {
+        List<Integer> ids = new ArrayList<>();
+        for (String district : districts) {
+            Integer id = findDistrictId(district);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Id of a known village in a known district, or null
+     */
+    public Integer findVillageId(String district, String village) {
+        return villageId(districtId(district), village);
+    }
+
+    /**
+     * Ids of the villages with this name in any district, including entries it resolved to before
+     */
+    public List<Integer> findVillageIds(String village) {
+        String normalized = GeoBoundaryService.normalize(village);
+        Set<Integer> ids = new TreeSet<>();
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        String suffix = '|' + normalized;
+        for (Map.Entry<String, Location> entry : byKey.entrySet()) {
+            if (entry.getValue().getType() == LocationType.VILLAGE && entry.getKey().endsWith(suffix)) {
+                ids.add(entry.getValue().getId());
+            }
+        }
+        for (Location location : byId.values()) {
+            if (location.getType() == LocationType.VILLAGE && location.getNormalizedName().equals(normalized)) {
+                ids.add(location.getId());
+            }
+        }
+        return new ArrayList<>(ids);
+    }
+
+    /**
+     * Known villages of a district, by name
+     */
+    public List<Location> getVillages(Integer districtId) {
+        Set<Location> villages = new HashSet<>();
+        for (Location location : byKey.values()) {
+            if (location.getType() == LocationType.VILLAGE && districtId.equals(location.getParentId())) {
+                villages.add(location);
+            }
+        }
+        List<Location> sorted = new ArrayList<>(villages);
+        sorted.sort((a, b) -> a.getName().compareToIgnoreCase(b.getName()));
+        return sorted;
+    }
+
+    /**
+     * Dictionary entry by id, or null
+     */
+    public Location getLocation(Integer id) {
+        return id != null ? byId.get(id) : null;
+    }
+
+    /**
+     * All entries, for callers that index the dictionary themselves
+     */
+    public List<Location> getLocations() {
+        List<Location> locations = new ArrayList<>(byId.values());
+        locations.sort((a, b) -> Integer.compare(a.getId(), b.getId()));
+        return locations;
+    }
+
+    /**
+     * Set a report's district and village ids from its names, falling back to
+     * the GADM areas it was geocoded to; call after geocoding
+     */
+    public void assign(HealthReport report) {
+        Integer districtId = districtId(report.getDistrict());
+        if (districtId == null) {
+            districtId = districtIdOfGid(report.getDistrictGid());
+        }
+        Integer villageId = villageId(districtId, report.getVillage());
+        if (villageId == null) {
+            villageId = villageIdOfGid(districtId, report.getVillageGid());
+        }
+        report.setDistrictId(districtId);
+        report.setVillageId(villageId);
+    }
+
+    /**
+     * Set a user's district id from its name
+     */
+    public void assign(User user) {
+        user.setDistrictId(districtId(user.getDistrict()));
+    }
+
+    private Integer districtIdOfGid(String gid) {
+        Location location = gid != null ? byGid.get(gid) : null;
+        return location != null && location.getType() == LocationType.DISTRICT ? location.getId() : null;
+    }
+
+    /**
+     * Id of the GADM village, if it lies in the district
+     */
+    private Integer villageIdOfGid(Integer districtId, String gid) {
+        Location location = districtId != null && gid != null ? byGid.get(gid) : null;
+        return location != null && location.getType() == LocationType.VILLAGE
+                && districtId.equals(location.getParentId()) ? location.getId() : null;
+    }
+
+    /**
+     * GADM states, districts and sub-districts, then census districts not in GADM; caller holds the transaction
+     */
+    private void seed(Map<String, Location> stored) {
+        Map<String, Integer> stateIds = new HashMap<>();
+        Map<String, Integer> districtIds = new HashMap<>();
+        for (GeoBoundaryService.AdminArea district : geoBoundaryService.getDistricts()) {
+            String stateGid = district.getParentGid();
+            Integer stateId = stateIds.computeIfAbsent(district.getState(), state -> register(stored,
+                    LocationType.STATE, state, null, stateGid.startsWith("Z") ? null : stateGid).getId());
+            Location location = register(stored, LocationType.DISTRICT, district.getName(), stateId, district.getGid());
+            districtIds.put(district.getGid(), location.getId());
+        }
+        for (GeoBoundaryService.AdminArea subDistrict : geoBoundaryService.getSubDistricts()) {
+            Integer districtId = districtIds.get(subDistrict.getParentGid());
+            if (districtId != null) {
+                register(stored, LocationType.VILLAGE, subDistrict.getName(), districtId, subDistrict.getGid());
+            }
+        }
+        for (PopulationService.DistrictPopulation population : populationService.getDistricts()) {
+            Integer stateId = stateIds.computeIfAbsent(population.getState(), state -> register(stored,
+                    LocationType.STATE, state, null, null).getId());
+            register(stored, LocationType.DISTRICT, population.getDistrict(), stateId, null);
+        }
+    }
+
+    /**
+     * District aliases and declared villages with their aliases from the alias file; caller holds the transaction
+     */
+    private void loadAliases(Map<String, Location> stored) {
+        Path file = Paths.get(aliasesFile);
+        if (!Files.exists(file)) {
+            log.info("Location alias file {} not found; only reference spellings resolve", file.toAbsolutePath());
+            return;
+        }
+        JsonNode root;
+        try (InputStream in = Files.newInputStream(file)) {
+            root = objectMapper.readTree(in);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read location alias file " + file, e);
+        }
+
+        int aliases = 0;
+        Iterator<Map.Entry<String, JsonNode>> districts = root.path("districts").fields();
+        while (districts.hasNext()) {
+            Map.Entry<String, JsonNode> alias = districts.next();
+            Integer districtId = districtId(alias.getValue().asText());
+            if (districtId == null) {
+                log.warn("Location alias {} names unknown district {}", alias.getKey(), alias.getValue().asText());
+                continue;
+            }
+            aliases += alias(key(LocationType.DISTRICT, GeoBoundaryService.normalize(alias.getKey()), null),
+                    byId.get(districtId));
+        }
+        Iterator<Map.Entry<String, JsonNode>> villageLists = root.path("villages").fields();
+        while (villageLists.hasNext()) {
+            Map.Entry<String, JsonNode> villages = villageLists.next();
+            Integer districtId = districtId(villages.getKey());
+            if (districtId == null) {
+                log.warn("Location aliases listed for unknown district {}", villages.getKey());
+                continue;
+            }
+            Iterator<Map.Entry<String, JsonNode>> entries = villages.getValue().fields();
+            while (entries.hasNext()) {
+                Map.Entry<String, JsonNode> alias = entries.next();
+                String name = alias.getValue().asText();
+                if (GeoBoundaryService.normalize(name).isEmpty()) {
+                    continue;
+                }
+                // A village GADM does not know is declared by being named here
+                Location village = register(stored, LocationType.VILLAGE, name, districtId, null);
+                aliases += alias(key(LocationType.VILLAGE, GeoBoundaryService.normalize(alias.getKey()), districtId),
+                        village);
+            }
+        }
+        log.info("Loaded {} location aliases from {}", aliases, file);
+    }
+
+    private int alias(String key, Location location) {
+        if (key.endsWith("|")) {
+            return 0;
+        }
+        Location existing = byKey.putIfAbsent(key, location);
+        if (existing != null && !existing.getId().equals(location.getId())) {
+            log.warn("Location alias {} already names entry {}; kept", key, existing.getId());
+            return 0;
+        }
+        return existing == null ? 1 : 0;
+    }
+
+    /**
+     * Reference entry for the key, reusing a stored one and completing its parent and GADM id, or storing a new one
+     */
+    private Location register(Map<String, Location> stored, LocationType type, String name, Integer parentId,
+                              String gid) {
+        String normalized = GeoBoundaryService.normalize(name);
+        // Districts are unique region-wide; their parent state is informational
+        String key = key(type, normalized, type == LocationType.VILLAGE ? parentId : null);
+        Location location = byKey.get(key);
+        if (location == null) {
+            location = stored.get(key);
+        }
+        if (location == null) {
+            location = locationRepository.save(new Location(type, name.trim(), normalized, parentId, gid));
+        } else if ((gid != null && location.getGid() == null) || (parentId != null && location.getParentId() == null)) {
+            // A name first seen in census data or at ingest turned out to be a GADM area; adopt its id and spelling
+            if (gid != null && location.getGid() == null) {
+                location.setGid(gid);
+                location.setName(name.trim());
+            }
+            if (parentId != null && location.getParentId() == null) {
+                location.setParentId(parentId);
+            }
+            location = locationRepository.save(location);
+        }
+        byKey.put(key, location);
+        byId.put(location.getId(), location);
+        if (location.getGid() != null) {
+            byGid.put(location.getGid(), location);
+        }
+        return location;
+    }
+
+    private static String key(LocationType type, String normalized, Integer parentId) {
+        return parentId != null ? type.name() + '|' + parentId + '|' + normalized : type.name() + '|' + normalized;
+    }
+}
@@ -0,0 +1,540 @@
+package com.healthnet.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthnet.dto.BoundaryVariantDto;
+import com.healthnet.exception.ResourceNotFoundException;
+import com.healthnet.util.BoundaryTopology;
+import com.healthnet.util.PrecompressedResponses;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves the GADM boundary files at several precomputed resolutions.
+ *
+ * Each level is turned into a shared-arc topology once; every resolution
+ * simplifies the arcs (so neighbouring districts stay gap-free), rounds
+ * coordinates to the precision the zoom range can show and drops properties
+ * the map does not use. Both GeoJSON and TopoJSON bodies are encoded up front
+ * together with a gzip variant and a strong ETag, so a request is a map
+ * lookup and a byte copy.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class MapBoundaryService {
+
+    private static final Logger log = LoggerFactory.getLogger(MapBoundaryService.class);
+
+    public static final String FORMAT_GEOJSON = "geojson";
+    public static final String FORMAT_TOPOJSON = "topojson";
+
+    private static final int[] LEVELS = { 1, 2, 3 };
+
+    /** Resolutions from coarsest to finest; clients pick the first whose max zoom covers theirs */
+    private static final List<Resolution> RESOLUTIONS = List.of(
+        new Resolution("low", 6, 0.02, 3, 10_000),
+        new Resolution("medium", 8, 0.005, 4, 10_000),
+        new Resolution("high", 10, 0.001, 4, 100_000),
+        new Resolution("full", Integer.MAX_VALUE, 0, 4, 100_000)
+    );
+
+    private final ObjectMapper objectMapper;
+    private final Path geojsonDir;
+    private final Map<Integer, LevelSource> sources = new ConcurrentHashMap<>();
+    private final Map<String, EncodedBoundary> variants = new ConcurrentHashMap<>();
+    private final Map<String, List<BoundaryFeature>> featureSets = new ConcurrentHashMap<>();
+
+    public MapBoundaryService(ObjectMapper objectMapper,
+                              @Value("${healthnet.geojson-dir:../public/data/geojson}") String geojsonDir) {
+        this.objectMapper = objectMapper;
+        this.geojsonDir = Paths.get(geojsonDir);
+    }
+
+    /**
+     * Encode every variant up front so the first map load is not slowed down
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void precompute() {
+        long began = System.currentTimeMillis();
+        int count = 0;
+        for (int level : LEVELS) {
+            if (!Files.exists(sourceFile(level))) {
+                continue;
+            }
+            for (Resolution resolution : RESOLUTIONS) {
+                getBoundary(level, resolution.name, FORMAT_GEOJSON);
+                getBoundary(level, resolution.name, FORMAT_TOPOJSON);
+                count += 2;
+            }
+        }
+        log.info("Precomputed {} boundary variants in {} ms", count, System.currentTimeMillis() - began);
+    }
+
+    /**
+     * Name of the coarsest resolution that is still sharp at the zoom level
+     */
+    public String resolutionForZoom(int zoom) {
+        for (Resolution resolution : RESOLUTIONS) {
+            if (zoom <= resolution.maxZoom) {
+                return resolution.name;
+            }
+        }
+        return RESOLUTIONS.get(RESOLUTIONS.size() - 1).name;
+    }
+
+    /**
+     * Encoded boundary of a level at a resolution, in GeoJSON or TopoJSON
+     */
+    public EncodedBoundary getBoundary(int level, String resolutionName, String format) {
+        Resolution resolution = findResolution(resolutionName);
+        String normalizedFormat = format != null ? format.toLowerCase() : FORMAT_GEOJSON;
+        if (!FORMAT_GEOJSON.equals(normalizedFormat) && !FORMAT_TOPOJSON.equals(normalizedFormat)) {
+            throw new IllegalArgumentException("Unsupported boundary format: " + format);
+        }
+        return variants.computeIfAbsent(level + "/" + resolution.name + "/" + normalizedFormat,
+                key -> encode(level, resolution, normalizedFormat));
+    }
+
+    /**
+     * Simplified geometry of a level's features at a resolution, for callers that render it themselves
+     */
+    public List<BoundaryFeature> getFeatures(int level, String resolutionName) {
+        Resolution resolution = findResolution(resolutionName);
+        return featureSets.computeIfAbsent(level + "/" + resolution.name, key -> buildFeatures(level, resolution));
+    }
+
+    /**
+     * Sizes and ETags of all precomputed variants
+     */
+    public List<BoundaryVariantDto> listVariants() {
+        List<BoundaryVariantDto> list = new ArrayList<>();
+        for (int level : LEVELS) {
+            if (!Files.exists(sourceFile(level))) {
+                continue;
+            }
+            for (Resolution resolution : RESOLUTIONS) {
+                for (String format : List.of(FORMAT_GEOJSON, FORMAT_TOPOJSON)) {
+                    EncodedBoundary boundary = getBoundary(level, resolution.name, format);
+                    list.add(new BoundaryVariantDto(level, resolution.name,
+                            resolution.maxZoom == Integer.MAX_VALUE ? null : resolution.maxZoom, format,
+                            boundary.body.length, boundary.gzipBody.length, boundary.etag));
+                }
+            }
+        }
+        return list;
+    }
+
+    private Resolution findResolution(String name) {
+        for (Resolution resolution : RESOLUTIONS) {
+            if (resolution.name.equalsIgnoreCase(name)) {
+                return resolution;
+            }
+        }
+        throw new IllegalArgumentException("Unknown resolution: " + name);
+    }
+
+    private Path sourceFile(int level) {
+        return geojsonDir.resolve("gadm_NE_level" + level + ".geojson");
+    }
+
+    private LevelSource source(int level) {
+        return sources.computeIfAbsent(level, this::load);
+    }
+
+    private LevelSource load(int level) {
+        Path file = sourceFile(level);
+        if (!Files.exists(file)) {
+            throw new ResourceNotFoundException("No boundaries for level " + level);
+        }
+
+        List<Map<String, String>> properties = new ArrayList<>();
+        List<List<List<double[][]>>> geometries = new ArrayList<>();
+        try (InputStream in = Files.newInputStream(file)) {
+            JsonNode root = objectMapper.readTree(in);
+            for (JsonNode feature : root.path("features")) {
+                properties.add(keptProperties(feature.path("properties"), level));
+                geometries.add(polygons(feature.path("geometry")));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read boundary file " + file, e);
+        }
+        return new LevelSource(properties, new BoundaryTopology(geometries));
+    }
+
+    /**
+     * Ids and names up to the level, plus the level's variant name and type
+     */
+    private static Map<String, String> keptProperties(JsonNode node, int level) {
+        Map<String, String> kept = new LinkedHashMap<>();
+        for (int i = 1; i <= level; i++) {
+            kept.put("GID_" + i, node.path("GID_" + i).asText(null));
+            kept.put("NAME_" + i, node.path("NAME_" + i).asText(null));
+        }
+        if (level > 1) {
+            kept.put("VARNAME_" + level, node.path("VARNAME_" + level).asText(null));
+            kept.put("ENGTYPE_" + level, node.path("ENGTYPE_" + level).asText(null));
+        }
+        return kept;
+    }
+
+    private static List<List<double[][]>> polygons(JsonNode geometry) {
+        List<JsonNode> polygonNodes = new ArrayList<>();
+        if ("Polygon".equals(geometry.path("type").asText())) {
+            polygonNodes.add(geometry.path("coordinates"));
+        } else {
+            geometry.path("coordinates").forEach(polygonNodes::add);
+        }
+
+        List<List<double[][]>> polygons = new ArrayList<>();
+        for (JsonNode polygonNode : polygonNodes) {
+            List<double[][]> rings = new ArrayList<>();
+            for (JsonNode ringNode : polygonNode) {
+                double[][] ring = new double[ringNode.size()][];
+                for (int i = 0; i < ring.length; i++) {
+                    ring[i] = new double[] { ringNode.get(i).get(0).asDouble(), ringNode.get(i).get(1).asDouble() };
+                }
+                rings.add(ring);
+            }
+            polygons.add(rings);
+        }
+        return polygons;
+    }
+
+    private EncodedBoundary encode(int level, Resolution resolution, String format) {
+        LevelSource source = source(level);
+        List<double[][]> arcs = source.topology.simplifyArcs(resolution.tolerance);
+        List<double[][]> originalArcs = source.topology.simplifyArcs(0);
+
+        // Rings that collapsed are dropped; a feature that would vanish keeps its original rings
+        List<int[][][]> kept = new ArrayList<>();
+        List<Boolean> simplified = new ArrayList<>();
+        for (int f = 0; f < source.topology.getFeatureCount(); f++) {
+            int[][][] featureArcs = keptRings(source.topology.getFeatureArcs(f), arcs);
+            boolean useSimplified = featureArcs.length > 0;
+            kept.add(useSimplified ? featureArcs : keptRings(source.topology.getFeatureArcs(f), originalArcs));
+            simplified.add(useSimplified);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            if (FORMAT_TOPOJSON.equals(format)) {
+                writeTopoJson(generator, level, resolution, source, kept, simplified, arcs, originalArcs);
+            } else {
+                writeGeoJson(generator, resolution, source, kept, simplified, arcs, originalArcs);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to encode boundaries", e);
+        }
+
+        byte[] body = out.toByteArray();
+        return new EncodedBoundary(body, PrecompressedResponses.gzip(body), PrecompressedResponses.etag(body),
+                FORMAT_TOPOJSON.equals(format) ? "application/json" : "application/geo+json");
+    }
+
+    private List<BoundaryFeature> buildFeatures(int level, Resolution resolution) {
+        LevelSource source = source(level);
+        List<double[][]> arcs = source.topology.simplifyArcs(resolution.tolerance);
+        List<double[][]> originalArcs = source.topology.simplifyArcs(0);
+
+        List<BoundaryFeature> built = new ArrayList<>();
+        for (int f = 0; f < source.topology.getFeatureCount(); f++) {
+            List<double[][]> featureArcs = arcs;
+            int[][][] kept = keptRings(source.topology.getFeatureArcs(f), arcs);
+            if (kept.length == 0) {
+                featureArcs = originalArcs;
+                kept = keptRings(source.topology.getFeatureArcs(f), originalArcs);
+            }
+
+            List<List<double[][]>> polygons = new ArrayList<>();
+            double[] bbox = { Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE };
+            for (int[][] polygon : kept) {
+                List<double[][]> rings = new ArrayList<>();
+                for (int[] ring : polygon) {
+                    rings.add(BoundaryTopology.ring(ring, featureArcs));
+                }
+                for (double[] point : rings.get(0)) {
+                    bbox[0] = Math.min(bbox[0], point[0]);
+                    bbox[1] = Math.min(bbox[1], point[1]);
+                    bbox[2] = Math.max(bbox[2], point[0]);
+                    bbox[3] = Math.max(bbox[3], point[1]);
+                }
+                polygons.add(rings);
+            }
+            if (!polygons.isEmpty()) {
+                built.add(new BoundaryFeature(source.properties.get(f), polygons, bbox));
+            }
+        }
+        return Collections.unmodifiableList(built);
+    }
+
+    private static int[][][] keptRings(int[][][] polygons, List<double[][]> arcs) {
+        List<int[][]> keptPolygons = new ArrayList<>();
+        for (int[][] polygon : polygons) {
+            if (BoundaryTopology.ring(polygon[0], arcs) == null) {
+                continue;
+            }
+            List<int[]> rings = new ArrayList<>();
+            for (int[] ring : polygon) {
+                if (BoundaryTopology.ring(ring, arcs) != null) {
+                    rings.add(ring);
+                }
+            }
+            keptPolygons.add(rings.toArray(new int[0][]));
+        }
+        return keptPolygons.toArray(new int[0][][]);
+    }
+
+    private static void writeGeoJson(JsonGenerator generator, Resolution resolution, LevelSource source,
+                                     List<int[][][]> kept, List<Boolean> simplified,
+                                     List<double[][]> arcs, List<double[][]> originalArcs) throws IOException {
+        double scale = Math.pow(10, resolution.decimals);
+        generator.writeStartObject();
+        generator.writeStringField("type", "FeatureCollection");
+        generator.writeArrayFieldStart("features");
+        for (int f = 0; f < kept.size(); f++) {
+            List<double[][]> featureArcs = simplified.get(f) ? arcs : originalArcs;
+            generator.writeStartObject();
+            generator.writeStringField("type", "Feature");
+            writeProperties(generator, source.properties.get(f));
+            generator.writeObjectFieldStart("geometry");
+            generator.writeStringField("type", "MultiPolygon");
+            generator.writeArrayFieldStart("coordinates");
+            for (int[][] polygon : kept.get(f)) {
+                generator.writeStartArray();
+                for (int[] ring : polygon) {
+                    generator.writeStartArray();
+                    for (double[] point : BoundaryTopology.ring(ring, featureArcs)) {
+                        generator.writeStartArray();
+                        generator.writeNumber(Math.round(point[0] * scale) / scale);
+                        generator.writeNumber(Math.round(point[1] * scale) / scale);
+                        generator.writeEndArray();
+                    }
+                    generator.writeEndArray();
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void writeTopoJson(JsonGenerator generator, int level, Resolution resolution, LevelSource source,
+                                      List<int[][][]> kept, List<Boolean> simplified,
+                                      List<double[][]> arcs, List<double[][]> originalArcs) throws IOException {
+        // Features that fell back to their original rings get their own copies of those arcs
+        List<double[][]> allArcs = new ArrayList<>(arcs);
+        Map<Integer, Integer> originalCopies = new LinkedHashMap<>();
+        for (int f = 0; f < kept.size(); f++) {
+            if (!simplified.get(f)) {
+                for (int[][] polygon : kept.get(f)) {
+                    for (int[] ring : polygon) {
+                        for (int reference : ring) {
+                            int index = reference >= 0 ? reference : ~reference;
+                            if (!originalCopies.containsKey(index)) {
+                                originalCopies.put(index, allArcs.size());
+                                allArcs.add(originalArcs.get(index));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        double minX = Double.MAX_VALUE;
+        double minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE;
+        double maxY = -Double.MAX_VALUE;
+        for (double[][] arc : allArcs) {
+            for (double[] point : arc) {
+                minX = Math.min(minX, point[0]);
+                minY = Math.min(minY, point[1]);
+                maxX = Math.max(maxX, point[0]);
+                maxY = Math.max(maxY, point[1]);
+            }
+        }
+        int steps = resolution.quantization - 1;
+        double kx = maxX > minX ? (maxX - minX) / steps : 1;
+        double ky = maxY > minY ? (maxY - minY) / steps : 1;
+
+        generator.writeStartObject();
+        generator.writeStringField("type", "Topology");
+        generator.writeArrayFieldStart("bbox");
+        generator.writeNumber(minX);
+        generator.writeNumber(minY);
+        generator.writeNumber(maxX);
+        generator.writeNumber(maxY);
+        generator.writeEndArray();
+        generator.writeObjectFieldStart("transform");
+        generator.writeArrayFieldStart("scale");
+        generator.writeNumber(kx);
+        generator.writeNumber(ky);
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("translate");
+        generator.writeNumber(minX);
+        generator.writeNumber(minY);
+        generator.writeEndArray();
+        generator.writeEndObject();
+
+        generator.writeObjectFieldStart("objects");
+        generator.writeObjectFieldStart("level" + level);
+        generator.writeStringField("type", "GeometryCollection");
+        generator.writeArrayFieldStart("geometries");
+        for (int f = 0; f < kept.size(); f++) {
+            generator.writeStartObject();
+            generator.writeStringField("type", "MultiPolygon");
+            writeProperties(generator, source.properties.get(f));
+            generator.writeArrayFieldStart("arcs");
+            for (int[][] polygon : kept.get(f)) {
+                generator.writeStartArray();
+                for (int[] ring : polygon) {
+                    generator.writeStartArray();
+                    for (int reference : ring) {
+                        if (simplified.get(f)) {
+                            generator.writeNumber(reference);
+                        } else {
+                            int copy = originalCopies.get(reference >= 0 ? reference : ~reference);
+                            generator.writeNumber(reference >= 0 ? copy : ~copy);
+                        }
+                    }
+                    generator.writeEndArray();
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeEndObject();
+
+        // Quantized, delta-encoded arcs
+        generator.writeArrayFieldStart("arcs");
+        for (double[][] arc : allArcs) {
+            generator.writeStartArray();
+            long previousX = 0;
+            long previousY = 0;
+            for (int i = 0; i < arc.length; i++) {
+                long x = Math.round((arc[i][0] - minX) / kx);
+                long y = Math.round((arc[i][1] - minY) / ky);
+                if (i > 0 && i < arc.length - 1 && x == previousX && y == previousY) {
+                    continue;
+                }
+                generator.writeStartArray();
+                generator.writeNumber(x - previousX);
+                generator.writeNumber(y - previousY);
+                generator.writeEndArray();
+                previousX = x;
+                previousY = y;
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void writeProperties(JsonGenerator generator, Map<String, String> properties) throws IOException {
+        generator.writeObjectFieldStart("properties");
+        Iterator<Map.Entry<String, String>> iterator = properties.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, String> property = iterator.next();
+            if (property.getValue() != null && !"NA".equals(property.getValue())) {
+                generator.writeStringField(property.getKey(), property.getValue());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private static final class Resolution {
+        private final String name;
+        private final int maxZoom;
+        private final double tolerance;
+        private final int decimals;
+        private final int quantization;
+
+        Resolution(String name, int maxZoom, double tolerance, int decimals, int quantization) {
+            this.name = name;
+            this.maxZoom = maxZoom;
+            this.tolerance = tolerance;
+            this.decimals = decimals;
+            this.quantization = quantization;
+        }
+    }
+
+    private static final class LevelSource {
+        private final List<Map<String, String>> properties;
+        private final BoundaryTopology topology;
+
+        LevelSource(List<Map<String, String>> properties, BoundaryTopology topology) {
+            this.properties = properties;
+            this.topology = topology;
+        }
+    }
+
+    /**
+     * A feature's kept properties and simplified polygons ([lon, lat] rings, first ring exterior)
+     */
+    public static final class BoundaryFeature {
+        private final Map<String, String> properties;
+        private final List<List<double[][]>> polygons;
+        private final double[] bbox;
+
+        BoundaryFeature(Map<String, String> properties, List<List<double[][]>> polygons, double[] bbox) {
+            this.properties = Collections.unmodifiableMap(properties);
+            this.polygons = Collections.unmodifiableList(polygons);
+            this.bbox = bbox;
+        }
+
+        public Map<String, String> getProperties() { return properties; }
+        public List<List<double[][]>> getPolygons() { return polygons; }
+        public double getMinLongitude() { return bbox[0]; }
+        public double getMinLatitude() { return bbox[1]; }
+        public double getMaxLongitude() { return bbox[2]; }
+        public double getMaxLatitude() { return bbox[3]; }
+    }
+
+    /**
+     * A precomputed response body with its gzip variant and strong ETag (without quotes)
+     */
+    public static final class EncodedBoundary {
+        private final byte[] body;
+        private final byte[] gzipBody;
+        private final String etag;
+        private final String contentType;
+
+        EncodedBoundary(byte[] body, byte[] gzipBody, String etag, String contentType) {
+            this.body = body;
+            this.gzipBody = gzipBody;
+            this.etag = etag;
+            this.contentType = contentType;
+        }
+
+        public byte[] getBody() { return body; }
+        public byte[] getGzipBody() { return gzipBody; }
+        public String getEtag() { return etag; }
+        public String getContentType() { return contentType; }
+    }
+}
@@ -0,0 +1,124 @@
+package com.healthnet.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthnet.dto.MobileBootstrapDto;
+import com.healthnet.entity.Location;
+import com.healthnet.entity.User;
+import com.healthnet.util.EncodedBody;
+import com.healthnet.util.JwtUtil;
+import com.healthnet.util.PrecompressedResponses;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Start-up bundle for the staff app on slow mobile links.
+ *
+ * Everything the staff dashboard asks for when it opens (the user behind
+ * the token, their designation and permissions, the known villages and
+ * population of their district, the alerts reaching it and recent medicine
+ * distributions) comes back in one response. Each part is read from a cache
+ * its service already keeps: the principal loaded by the authentication
+ * filter, the location dictionary, the alert feed snapshot (embedded as
+ * its serialized JSON) and the distribution records in memory. The bundle
+ * is then tagged by content. The gzip variant is kept per user and reused
+ * while the content stays the same, so a revalidation costs one
+ * serialization and no compression.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class MobileBootstrapService {
+
+    private final AuthService authService;
+    private final LocationDictionaryService locationDictionaryService;
+    private final PopulationService populationService;
+    private final PublicAlertFeedService publicAlertFeedService;
+    private final DistributionService distributionService;
+    private final JwtUtil jwtUtil;
+    private final ObjectMapper objectMapper;
+    /** Last bundle sent to each user */
+    private final Map<Long, EncodedBody> lastBundles = new ConcurrentHashMap<>();
+
+    @Value("${healthnet.bootstrap.distribution-records:20}")
+    private int distributionRecords;
+
+    public MobileBootstrapService(AuthService authService,
+                                  LocationDictionaryService locationDictionaryService,
+                                  PopulationService populationService,
+                                  PublicAlertFeedService publicAlertFeedService,
+                                  DistributionService distributionService,
+                                  JwtUtil jwtUtil,
+                                  ObjectMapper objectMapper) {
+        this.authService = authService;
+        this.locationDictionaryService = locationDictionaryService;
+        this.populationService = populationService;
+        this.publicAlertFeedService = publicAlertFeedService;
+        this.distributionService = distributionService;
+        this.jwtUtil = jwtUtil;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Encoded bundle for the signed-in user and their token, with alert labels in a language of the site
+     */
+    public EncodedBody getBundle(User user, String token, String language) {
+        MobileBootstrapDto bundle = new MobileBootstrapDto();
+        bundle.setId(user.getId());
+        bundle.setName(user.getName());
+        bundle.setEmail(user.getEmail());
+        bundle.setPhone(user.getPhone());
+        bundle.setRole(user.getRole());
+        bundle.setDesignation(authService.getDesignation(user.getRole()));
+        bundle.setState(user.getState());
+        bundle.setPermissions(authService.getPermissions(user.getRole()));
+        Date expiration = jwtUtil.getExpirationDateFromToken(token);
+        bundle.setTokenExpiresAt(LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault()));
+
+        Location district = locationDictionaryService.getLocation(user.getDistrictId());
+        String feedDistrict = null;
+        List<String> villages = new ArrayList<>();
+        if (district != null) {
+            feedDistrict = district.getName();
+            bundle.setDistrict(district.getName());
+            PopulationService.DistrictPopulation population = populationService.findDistrict(district.getName());
+            bundle.setDistrictPopulation(population != null ? population.getPopulation() : null);
+            for (Location village : locationDictionaryService.getVillages(district.getId())) {
+                villages.add(village.getName());
+            }
+        } else {
+            bundle.setDistrict(user.getDistrict());
+        }
+        bundle.setVillages(villages);
+
+        // The feed snapshot is already serialized; its body is embedded as is
+        EncodedBody feed = publicAlertFeedService.getFeed(feedDistrict, language);
+        bundle.setAlerts(new String(feed.getBody(), StandardCharsets.UTF_8));
+        bundle.setDistributionRecords(distributionService.getRecentDistributionRecords(distributionRecords));
+
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(bundle);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize bootstrap bundle", e);
+        }
+        String etag = PrecompressedResponses.etag(body);
+        EncodedBody last = lastBundles.get(user.getId());
+        if (last != null && last.getEtag().equals(etag)) {
+            return last;
+        }
+        EncodedBody encoded = EncodedBody.of(body);
+        lastBundles.put(user.getId(), encoded);
+        return encoded;
+    }
+}
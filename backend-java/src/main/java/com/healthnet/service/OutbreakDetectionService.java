@@ -0,0 +1,359 @@
+package com.healthnet.service;
+
+import com.healthnet.dto.OutbreakSignalDto;
+import com.healthnet.entity.ReportStatus;
+import com.healthnet.event.HealthReportEvent;
+import com.healthnet.event.OutbreakSignalEvent;
+import com.healthnet.repository.HealthReportRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streaming outbreak detector attached to report ingestion.
+ *
+ * For every (district, village, symptom) - plus district-wide and all-symptom
+ * roll-ups - it keeps a ring buffer of per-bucket report counts and an
+ * EWMA baseline (mean and variance) with a one-sided CUSUM, updated each time
+ * a bucket closes. Every arrival scores the current bucket against the
+ * baseline and raises a signal when the count is both large enough and
+ * anomalous. All state is in memory: at startup the baselines are seeded by
+ * replaying the reports of the last ring's worth of buckets, and after that
+ * the database is never queried, so each arrival costs a handful of map
+ * lookups and arithmetic per key. Series idle for longer than the ring are
+ * evicted, their baseline having decayed to nothing. New signals are
+ * published for the alert pipeline, which alerts the district's officers.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class OutbreakDetectionService {
+
+    /** Wildcard used for district-wide and all-symptom roll-ups */
+    public static final String ALL = "*";
+
+    private static final Logger log = LoggerFactory.getLogger(OutbreakDetectionService.class);
+
+    private static final int MAX_SIGNALS = 1000;
+
+    private final HealthReportRepository healthReportRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<String, SeriesState> series = new ConcurrentHashMap<>();
+    private final Map<String, OutbreakSignalDto> activeSignals = new ConcurrentHashMap<>();
+
+    private final long bucketMillis;
+    private final int ringSize;
+    private final double lambda;
+    private final double zThreshold;
+    private final double cusumSlack;
+    private final double cusumThreshold;
+    private final int minCount;
+    private final double priorMean;
+    private final Duration signalTtl;
+    /** Highest report id replayed at startup; later events for these reports are skipped */
+    private volatile long seededThrough;
+
+    public OutbreakDetectionService(HealthReportRepository healthReportRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${healthnet.detection.bucket-hours:24}") long bucketHours,
+                                    @Value("${healthnet.detection.ring-buckets:28}") int ringSize,
+                                    @Value("${healthnet.detection.ewma-lambda:0.1}") double lambda,
+                                    @Value("${healthnet.detection.z-threshold:3.0}") double zThreshold,
+                                    @Value("${healthnet.detection.cusum-slack:0.5}") double cusumSlack,
+                                    @Value("${healthnet.detection.cusum-threshold:4.0}") double cusumThreshold,
+                                    @Value("${healthnet.detection.min-count:3}") int minCount,
+                                    @Value("${healthnet.detection.prior-mean:0.2}") double priorMean,
+                                    @Value("${healthnet.detection.signal-ttl-hours:48}") long signalTtlHours) {
+        this.healthReportRepository = healthReportRepository;
+        this.eventPublisher = eventPublisher;
+        this.bucketMillis = Duration.ofHours(bucketHours).toMillis();
+        this.ringSize = ringSize;
+        this.lambda = lambda;
+        this.zThreshold = zThreshold;
+        this.cusumSlack = cusumSlack;
+        this.cusumThreshold = cusumThreshold;
+        this.minCount = minCount;
+        this.priorMean = priorMean;
+        this.signalTtl = Duration.ofHours(signalTtlHours);
+    }
+
+    /**
+     * Seed the baselines from the reports of the last ring's worth of buckets, without raising signals
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initialize() {
+        long began = System.currentTimeMillis();
+        LocalDateTime since = LocalDateTime.now().minus(Duration.ofMillis(bucketMillis * ringSize));
+        int replayed = 0;
+        long through = 0L;
+        // One row per symptom; rows of a report are adjacent
+        Long reportId = null;
+        Object[] first = null;
+        List<String> symptoms = new ArrayList<>();
+        for (Object[] row : healthReportRepository.findSymptomRows(since)) {
+            if (!((Long) row[0]).equals(reportId)) {
+                if (first != null) {
+                    count((String) first[1], (String) first[2], symptoms, (LocalDateTime) first[4], false);
+                    replayed++;
+                }
+                reportId = (Long) row[0];
+                first = row;
+                symptoms = new ArrayList<>();
+                through = Math.max(through, reportId);
+            }
+            if (row[5] != null) {
+                symptoms.add((String) row[5]);
+            }
+        }
+        if (first != null) {
+            count((String) first[1], (String) first[2], symptoms, (LocalDateTime) first[4], false);
+            replayed++;
+        }
+        seededThrough = through;
+        log.info("Seeded {} outbreak series from {} recent reports in {} ms",
+                series.size(), replayed, System.currentTimeMillis() - began);
+    }
+
+    /**
+     * Score every new report as it is ingested, skipping near-duplicates of counted cases
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportEvent(HealthReportEvent event) {
+        if (event.getType() != HealthReportEvent.Type.CREATED || event.getStatus() == ReportStatus.CANCELLED
+                || event.getDuplicateOfId() != null
+                || (event.getReportId() != null && event.getReportId() <= seededThrough)) {
+            return;
+        }
+        count(event.getDistrict(), event.getVillage(), event.getSymptoms(), event.getCreatedAt(), true);
+    }
+
+    /**
+     * Drop series that have seen no report for longer than the ring
+     */
+    @Scheduled(cron = "${healthnet.detection.prune-cron:0 10 0 * * *}")
+    public void prune() {
+        long bucket = localMillis(LocalDateTime.now()) / bucketMillis;
+        int before = series.size();
+        for (Map.Entry<String, SeriesState> entry : series.entrySet()) {
+            SeriesState state = entry.getValue();
+            synchronized (state) {
+                if (bucket - state.headBucket >= ringSize) {
+                    state.evicted = true;
+                    series.remove(entry.getKey(), state);
+                }
+            }
+        }
+        log.info("Evicted {} idle outbreak series; {} tracked", before - series.size(), series.size());
+    }
+
+    /**
+     * Active outbreak signals, strongest first, optionally filtered by district
+     */
+    public List<OutbreakSignalDto> getActiveSignals(String district) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(signalTtl);
+        activeSignals.values().removeIf(signal -> signal.getDetectedAt().isBefore(cutoff));
+
+        List<OutbreakSignalDto> signals = new ArrayList<>();
+        for (OutbreakSignalDto signal : activeSignals.values()) {
+            if (district == null || district.isBlank() || signal.getDistrict().equalsIgnoreCase(district.trim())) {
+                signals.add(signal);
+            }
+        }
+        signals.sort(Comparator.comparingDouble(OutbreakSignalDto::getZScore).reversed());
+        return signals;
+    }
+
+    /**
+     * Recent bucket counts for one series, oldest first (empty if the series is unknown)
+     */
+    public int[] getRecentCounts(String district, String village, String symptom) {
+        SeriesState state = series.get(key(district, village != null ? village : ALL, symptom != null ? symptom : ALL));
+        if (state == null) {
+            return new int[0];
+        }
+        synchronized (state) {
+            state.advance(localMillis(LocalDateTime.now()) / bucketMillis);
+            int[] counts = new int[ringSize];
+            for (int i = 0; i < ringSize; i++) {
+                counts[i] = state.ring[(int) Math.floorMod(state.headBucket - ringSize + 1 + i, (long) ringSize)];
+            }
+            return counts;
+        }
+    }
+
+    public int getTrackedSeriesCount() {
+        return series.size();
+    }
+
+    private void count(String district, String village, List<String> reported, LocalDateTime createdAt,
+                       boolean live) {
+        long time = localMillis(createdAt);
+        // Spellings differing only in case or spaces are one series, as SymptomExtractionService stores them
+        Set<String> symptoms = new LinkedHashSet<>();
+        for (String symptom : reported) {
+            if (symptom != null && !symptom.isBlank()) {
+                symptoms.add(symptom.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        symptoms.add(ALL);
+
+        for (String symptom : symptoms) {
+            record(district, village, symptom, time, live);
+            record(district, ALL, symptom, time, live);
+        }
+    }
+
+    private void record(String district, String village, String symptom, long time, boolean live) {
+        String key = key(district, village, symptom);
+        long bucket = time / bucketMillis;
+
+        OutbreakSignalDto signal = null;
+        while (true) {
+            SeriesState state = series.computeIfAbsent(key, k -> new SeriesState(district, village, symptom));
+            synchronized (state) {
+                if (state.evicted) {
+                    // Pruned after the lookup; count in its replacement
+                    continue;
+                }
+                state.advance(Math.max(bucket, state.headBucket));
+                if (state.headBucket - bucket >= ringSize) {
+                    // Too old to affect any window we still hold
+                    return;
+                }
+                int slot = (int) Math.floorMod(bucket, (long) ringSize);
+                int observed = ++state.ring[slot];
+
+                if (live && bucket == state.headBucket) {
+                    signal = state.score(observed);
+                }
+            }
+            break;
+        }
+
+        if (signal != null) {
+            OutbreakSignalDto previous = activeSignals.put(key, signal);
+            // Only announce a signal once per bucket, or when it escalates
+            if (previous == null || !previous.getWindowStart().equals(signal.getWindowStart())
+                    || !previous.getSeverity().equals(signal.getSeverity())) {
+                if (activeSignals.size() > MAX_SIGNALS) {
+                    getActiveSignals(null);
+                }
+                eventPublisher.publishEvent(new OutbreakSignalEvent(signal));
+            }
+        }
+    }
+
+    /**
+     * Local wall-clock millis, so daily buckets start at local midnight
+     */
+    private static long localMillis(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1000;
+    }
+
+    private static String key(String district, String village, String symptom) {
+        return normalize(district) + '|' + normalize(village) + '|' + normalize(symptom);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase();
+    }
+
+    /**
+     * Ring buffer and EWMA/CUSUM state of one series. Guarded by its own monitor.
+     */
+    private final class SeriesState {
+        private final String district;
+        private final String village;
+        private final String symptom;
+        private final int[] ring = new int[ringSize];
+        private long headBucket = -1;
+        private double mean = priorMean;
+        private double variance = 1.0;
+        private double cusum;
+        /** Set once pruned from the map, so a concurrent arrival recounts in a fresh series */
+        private boolean evicted;
+
+        SeriesState(String district, String village, String symptom) {
+            this.district = district;
+            this.village = village;
+            this.symptom = symptom;
+        }
+
+        /**
+         * Close buckets up to the target, folding each closed count into the baseline
+         */
+        void advance(long targetBucket) {
+            if (headBucket < 0) {
+                headBucket = targetBucket;
+                return;
+            }
+            // Beyond a ring's worth of empty buckets only the baseline decay matters
+            long steps = Math.min(targetBucket - headBucket, 366);
+            for (long i = 0; i < steps; i++) {
+                int slot = (int) Math.floorMod(headBucket, (long) ringSize);
+                update(ring[slot]);
+                headBucket++;
+                ring[(int) Math.floorMod(headBucket, (long) ringSize)] = 0;
+            }
+            if (headBucket < targetBucket) {
+                headBucket = targetBucket;
+                Arrays.fill(ring, 0);
+            }
+        }
+
+        private void update(int closedCount) {
+            double sd = standardDeviation();
+            cusum = Math.max(0, cusum + (closedCount - mean) / sd - cusumSlack);
+            double diff = closedCount - mean;
+            mean += lambda * diff;
+            variance = (1 - lambda) * (variance + lambda * diff * diff);
+        }
+
+        private double standardDeviation() {
+            // Counts are roughly Poisson, so never trust a variance below the mean (or 1)
+            return Math.sqrt(Math.max(variance, Math.max(mean, 1.0)));
+        }
+
+        /**
+         * Score the open bucket against the baseline; returns a signal or null
+         */
+        OutbreakSignalDto score(int observed) {
+            if (observed < minCount) {
+                return null;
+            }
+            double sd = standardDeviation();
+            double z = (observed - mean) / sd;
+            double provisionalCusum = Math.max(0, cusum + z - cusumSlack);
+            if (z < zThreshold && provisionalCusum < cusumThreshold) {
+                return null;
+            }
+
+            String severity = z >= 2 * zThreshold ? "HIGH" : z >= zThreshold ? "MEDIUM" : "LOW";
+            LocalDateTime windowStart = LocalDateTime.ofEpochSecond(headBucket * bucketMillis / 1000, 0, ZoneOffset.UTC);
+            return new OutbreakSignalDto(district, village, symptom, observed, mean, z, provisionalCusum,
+                    severity, windowStart, LocalDateTime.now());
+        }
+    }
+}
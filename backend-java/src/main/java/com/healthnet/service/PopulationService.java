@@ -0,0 +1,139 @@
+package com.healthnet.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * District population estimates from Data-UAD/population.json, loaded once
+ * and indexed by normalized district name.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class PopulationService {
+
+    private static final Logger log = LoggerFactory.getLogger(PopulationService.class);
+
+    private static final String POPULATION_FILE = "population.json";
+
+    private final ObjectMapper objectMapper;
+    private final Path dataDir;
+    private volatile Populations populations;
+
+    public PopulationService(ObjectMapper objectMapper,
+                             @Value("${healthnet.data-dir:../Data-UAD}") String dataDir) {
+        this.objectMapper = objectMapper;
+        this.dataDir = Paths.get(dataDir);
+    }
+
+    /**
+     * All districts with a population estimate
+     */
+    public List<DistrictPopulation> getDistricts() {
+        return populations().districts;
+    }
+
+    /**
+     * Population estimate of a district, or null if unknown
+     */
+    public DistrictPopulation findDistrict(String district) {
+        return populations().byName.get(GeoBoundaryService.normalize(district));
+    }
+
+    private Populations populations() {
+        Populations current = populations;
+        if (current == null) {
+            synchronized (this) {
+                current = populations;
+                if (current == null) {
+                    current = load();
+                    populations = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Populations load() {
+        Path file = dataDir.resolve(POPULATION_FILE);
+        List<DistrictPopulation> districts = new ArrayList<>();
+        Map<String, DistrictPopulation> byName = new HashMap<>();
+
+        if (!Files.exists(file)) {
+            log.warn("Population file {} not found", file);
+            return new Populations(districts, byName);
+        }
+
+        try (InputStream in = Files.newInputStream(file)) {
+            JsonNode states = objectMapper.readTree(in).path("states");
+            Iterator<Map.Entry<String, JsonNode>> stateFields = states.fields();
+            while (stateFields.hasNext()) {
+                Map.Entry<String, JsonNode> state = stateFields.next();
+                // Each state repeats "districts" as a count and as a name -> population object
+                JsonNode districtNode = state.getValue().path("districts");
+                if (!districtNode.isObject()) {
+                    continue;
+                }
+                Iterator<Map.Entry<String, JsonNode>> districtFields = districtNode.fields();
+                while (districtFields.hasNext()) {
+                    Map.Entry<String, JsonNode> district = districtFields.next();
+                    DistrictPopulation population = new DistrictPopulation(
+                            district.getKey(), state.getKey(), district.getValue().asLong());
+                    districts.add(population);
+                    byName.putIfAbsent(GeoBoundaryService.normalize(district.getKey()), population);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read population file " + file, e);
+        }
+
+        log.info("Loaded population estimates for {} districts", districts.size());
+        return new Populations(Collections.unmodifiableList(districts), byName);
+    }
+
+    private static final class Populations {
+        private final List<DistrictPopulation> districts;
+        private final Map<String, DistrictPopulation> byName;
+
+        Populations(List<DistrictPopulation> districts, Map<String, DistrictPopulation> byName) {
+            this.districts = districts;
+            this.byName = byName;
+        }
+    }
+
+    /**
+     * Population estimate of one district
+     */
+    public static final class DistrictPopulation {
+        private final String district;
+        private final String state;
+        private final long population;
+
+        DistrictPopulation(String district, String state, long population) {
+            this.district = district;
+            this.state = state;
+            this.population = population;
+        }
+
+        public String getDistrict() { return district; }
+        public String getState() { return state; }
+        public long getPopulation() { return population; }
+    }
+}
@@ -0,0 +1,319 @@
+package com.healthnet.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthnet.dto.PublicAlertDto;
+import com.healthnet.dto.PublicAlertFeedDto;
+import com.healthnet.entity.Alert;
+import com.healthnet.entity.AlertStatus;
+import com.healthnet.entity.AlertType;
+import com.healthnet.entity.Location;
+import com.healthnet.entity.UrgencyLevel;
+import com.healthnet.event.AlertChangedEvent;
+import com.healthnet.repository.AlertRepository;
+import com.healthnet.util.EncodedBody;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Public alerts feed served from precomputed snapshots.
+ *
+ * The feed holds the open alerts and those resolved recently. They are
+ * loaded from the database only when an alert changes (and hourly, so
+ * resolved alerts age out). Each district and language gets its own
+ * snapshot: the JSON body, its gzip variant and a strong ETag. A snapshot is
+ * built on first request and kept until the alerts change, so serving the
+ * feed touches neither the database nor the serializer. Labels come from
+ * the frontend's alerts translations; unknown languages fall back to English.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class PublicAlertFeedService {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicAlertFeedService.class);
+
+    private static final String DEFAULT_LANGUAGE = "en";
+    private static final String ALL_DISTRICTS = "All Districts";
+    /** Snapshot key of the feed over all districts */
+    private static final int ALL = 0;
+
+    private static final Map<String, String> ENGLISH = Map.of(
+            "title", "Health Alerts",
+            "no_alerts", "No active alerts",
+            "critical", "Critical",
+            "high", "High",
+            "medium", "Medium",
+            "low", "Low",
+            "ongoing", "Ongoing",
+            "resolved", "Resolved");
+
+    private final AlertRepository alertRepository;
+    private final LocationDictionaryService locationDictionaryService;
+    private final ObjectMapper objectMapper;
+    private volatile Map<String, Map<String, String>> labels = Map.of(DEFAULT_LANGUAGE, ENGLISH);
+    private volatile Feed feed = new Feed(List.of());
+
+    @Value("${healthnet.alerts.feed.locales-dir:../src/locales}")
+    private String localesDir;
+
+    @Value("${healthnet.alerts.feed.resolved-days:7}")
+    private int resolvedDays;
+
+    @Value("${healthnet.alerts.feed.max-alerts:100}")
+    private int maxAlerts;
+
+    public PublicAlertFeedService(AlertRepository alertRepository,
+                                  LocationDictionaryService locationDictionaryService,
+                                  ObjectMapper objectMapper) {
+        this.alertRepository = alertRepository;
+        this.locationDictionaryService = locationDictionaryService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Load the translations and the current alerts
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        loadLabels();
+        refresh();
+    }
+
+    /**
+     * Reload after an alert was created or changed status
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAlertChanged(AlertChangedEvent event) {
+        refresh();
+    }
+
+    /**
+     * Reload the alerts and drop every snapshot
+     */
+    @Scheduled(cron = "${healthnet.alerts.feed.refresh-cron:0 0 * * * *}")
+    public synchronized void refresh() {
+        List<Alert> alerts = alertRepository.findPublicAlerts(LocalDateTime.now().minusDays(resolvedDays),
+                PageRequest.of(0, maxAlerts));
+        List<FeedAlert> loaded = new ArrayList<>(alerts.size());
+        for (Alert alert : alerts) {
+            loaded.add(new FeedAlert(alert));
+        }
+        // A new feed object invalidates all snapshots at once; builds for the old one are not kept
+        feed = new Feed(loaded);
+    }
+
+    /**
+     * Languages with translations
+     */
+    public Set<String> getLanguages() {
+        return labels.keySet();
+    }
+
+    /**
+     * Snapshot of the feed for a district (null or "All Districts" for all) in a language
+     */
+    public EncodedBody getFeed(String district, String language) {
+        int districtId = ALL;
+        if (district != null && !district.isBlank() && !ALL_DISTRICTS.equalsIgnoreCase(district.trim())) {
+            Integer found = locationDictionaryService.findDistrictId(district);
+            if (found == null) {
+                throw new IllegalArgumentException("Unknown district: " + district);
+            }
+            districtId = found;
+        }
+        String chosen = language(language);
+        Feed current = feed;
+        int target = districtId;
+        return current.snapshots.computeIfAbsent(districtId + ":" + chosen, key -> build(current, target, chosen));
+    }
+
+    private EncodedBody build(Feed current, int districtId, String language) {
+        Map<String, String> text = labels.getOrDefault(language, ENGLISH);
+        String districtName = ALL_DISTRICTS;
+        String stateKey = null;
+        if (districtId != ALL) {
+            Location location = locationDictionaryService.getLocation(districtId);
+            districtName = location != null ? location.getName() : districtName;
+            Location state = location != null ? locationDictionaryService.getLocation(location.getParentId()) : null;
+            stateKey = state != null ? state.getNormalizedName() : null;
+        }
+
+        List<PublicAlertDto> alerts = new ArrayList<>();
+        LocalDateTime lastUpdated = null;
+        for (FeedAlert alert : current.alerts) {
+            if (districtId != ALL && !alert.reaches(districtId, stateKey)) {
+                continue;
+            }
+            alerts.add(alert.toDto(text));
+            if (lastUpdated == null || (alert.updatedAt != null && alert.updatedAt.isAfter(lastUpdated))) {
+                lastUpdated = alert.updatedAt;
+            }
+        }
+        PublicAlertFeedDto dto = new PublicAlertFeedDto(districtName, language, label(text, "title"),
+                label(text, "no_alerts"), lastUpdated, alerts);
+        try {
+            return EncodedBody.of(objectMapper.writeValueAsBytes(dto));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize alerts feed", e);
+        }
+    }
+
+    private String language(String requested) {
+        if (requested == null || requested.isBlank()) {
+            return DEFAULT_LANGUAGE;
+        }
+        String code = requested.trim().toLowerCase(Locale.ROOT);
+        if (labels.containsKey(code)) {
+            return code;
+        }
+        // "hi-IN" or "hi_IN" to "hi"
+        String base = code.split("[-_]")[0];
+        return labels.containsKey(base) ? base : DEFAULT_LANGUAGE;
+    }
+
+    private void loadLabels() {
+        Map<String, Map<String, String>> loaded = new HashMap<>();
+        loaded.put(DEFAULT_LANGUAGE, ENGLISH);
+        Path dir = Paths.get(localesDir);
+        if (Files.isDirectory(dir)) {
+            try (DirectoryStream<Path> languages = Files.newDirectoryStream(dir, Files::isDirectory)) {
+                for (Path language : languages) {
+                    Path file = language.resolve("alerts.json");
+                    if (!Files.exists(file)) {
+                        continue;
+                    }
+                    try (InputStream in = Files.newInputStream(file)) {
+                        JsonNode root = objectMapper.readTree(in);
+                        Map<String, String> text = new HashMap<>(ENGLISH);
+                        for (String key : ENGLISH.keySet()) {
+                            if (root.hasNonNull(key)) {
+                                text.put(key, root.get(key).asText());
+                            }
+                        }
+                        loaded.put(language.getFileName().toString().toLowerCase(Locale.ROOT), Map.copyOf(text));
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("Failed to read alert translations from {}: {}", dir.toAbsolutePath(), e.getMessage());
+            }
+        } else {
+            log.warn("Alert translations not found at {}; the public feed is served in English only",
+                    dir.toAbsolutePath());
+        }
+        labels = Map.copyOf(loaded);
+        log.info("Public alerts feed available in {} languages", loaded.size());
+    }
+
+    private static String label(Map<String, String> text, String key) {
+        return text.getOrDefault(key, ENGLISH.get(key));
+    }
+
+    private static final class Feed {
+        private final List<FeedAlert> alerts;
+        /** Keyed by district id (0 for all) and language */
+        private final Map<String, EncodedBody> snapshots = new ConcurrentHashMap<>();
+
+        Feed(List<FeedAlert> alerts) {
+            this.alerts = alerts;
+        }
+    }
+
+    /**
+     * Immutable copy of an alert's public fields and targets
+     */
+    private static final class FeedAlert {
+        private final Long id;
+        private final String title;
+        private final String description;
+        private final AlertType type;
+        private final UrgencyLevel priority;
+        private final AlertStatus status;
+        private final String area;
+        private final String location;
+        private final Set<Integer> districtIds;
+        private final Set<String> stateKeys;
+        /** Whether the alert names no district or state, so it reaches everyone */
+        private final boolean everywhere;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+
+        FeedAlert(Alert alert) {
+            this.id = alert.getId();
+            this.title = alert.getTitle();
+            this.description = alert.getDescription();
+            this.type = alert.getType();
+            this.priority = alert.getPriority();
+            this.status = alert.getStatus();
+            this.location = alert.getLocation();
+            this.districtIds = split(alert.getDistrictIds()).stream().map(Integer::valueOf).collect(Collectors.toSet());
+            this.stateKeys = split(alert.getStates()).stream().map(GeoBoundaryService::normalize)
+                    .collect(Collectors.toSet());
+            this.everywhere = alert.getDistrict() == null && stateKeys.isEmpty();
+            List<String> areas = new ArrayList<>();
+            if (alert.getDistrict() != null) {
+                areas.add(alert.getDistrict());
+            }
+            areas.addAll(split(alert.getStates()));
+            this.area = areas.isEmpty() ? ALL_DISTRICTS : String.join(", ", areas);
+            this.createdAt = alert.getCreatedAt();
+            this.updatedAt = alert.getUpdatedAt();
+        }
+
+        /**
+         * Whether the alert targets the district, its state or everyone
+         */
+        boolean reaches(int districtId, String stateKey) {
+            return everywhere || districtIds.contains(districtId)
+                    || (stateKey != null && stateKeys.contains(stateKey));
+        }
+
+        PublicAlertDto toDto(Map<String, String> text) {
+            PublicAlertDto dto = new PublicAlertDto();
+            dto.setId(id);
+            dto.setTitle(title);
+            dto.setDescription(description);
+            dto.setType(type);
+            dto.setTypeLabel(type.getDisplayName());
+            dto.setPriority(priority);
+            dto.setPriorityLabel(label(text, priority.name().toLowerCase(Locale.ROOT)));
+            dto.setStatus(status);
+            dto.setStatusLabel(label(text, status == AlertStatus.RESOLVED ? "resolved" : "ongoing"));
+            dto.setArea(area);
+            dto.setLocation(location);
+            dto.setCreatedAt(createdAt);
+            dto.setUpdatedAt(updatedAt);
+            return dto;
+        }
+
+        private static List<String> split(String joined) {
+            return joined == null || joined.isEmpty() ? List.of() : Arrays.asList(joined.split(","));
+        }
+    }
+}
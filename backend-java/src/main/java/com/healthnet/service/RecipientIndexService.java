@@ -0,0 +1,443 @@
+package com.healthnet.service;
+
+import com.healthnet.entity.UserRole;
+import com.healthnet.entity.UserStatus;
+import com.healthnet.event.UserChangedEvent;
+import com.healthnet.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory index of alert recipients by district and role and by state and role.
+ *
+ * Every active user with a phone number sits in one group per district and
+ * role, one per state and role and one per role; users whose district is not
+ * in the location dictionary are grouped by district name instead. A group is a sorted array of
+ * user ids with a parallel array of phone numbers. Groups are immutable and
+ * published through a volatile snapshot, so resolving the recipients of an
+ * alert takes no lock and, for a single group, allocates nothing. User events
+ * replace only the groups the user leaves and joins; a periodic rebuild picks
+ * up changes made outside the user service.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class RecipientIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecipientIndexService.class);
+
+    private static final UserRole[] ROLES = UserRole.values();
+
+    private final UserRepository userRepository;
+    /** Current entry of every indexed user; guarded by this */
+    private final Map<Long, Member> members = new HashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of(), Map.of(), emptyByRole());
+
+    public RecipientIndexService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Index all active users once district ids have been assigned, before
+     * start-up escalations of reports that went overdue while the server was down raise alerts
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * Rebuild from the database, for users changed without going through the user service
+     */
+    @Scheduled(cron = "${healthnet.alerts.recipients.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        long began = System.currentTimeMillis();
+        int indexed;
+        // Read under the lock, so a user event cannot be overwritten by older rows
+        synchronized (this) {
+            List<Object[]> rows = userRepository.findRecipientRows();
+            members.clear();
+            for (Object[] row : rows) {
+                Integer districtId = (Integer) row[3];
+                Member member = new Member((Long) row[0], (String) row[1], (UserRole) row[2], districtId,
+                        districtId == null ? stateKey((String) row[5]) : null, stateKey((String) row[4]));
+                members.put(member.id, member);
+            }
+            snapshot = build(members.values());
+            indexed = members.size();
+        }
+        log.info("Indexed {} alert recipients in {} ms", indexed, System.currentTimeMillis() - began);
+    }
+
+    /**
+     * Move a user between groups after it was updated or deleted
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onUserChanged(UserChangedEvent event) {
+        Member before = members.remove(event.getUserId());
+        Member after = null;
+        if (!event.isDeleted() && event.getStatus() == UserStatus.ACTIVE && event.getRole() != null
+                && event.getPhone() != null && !event.getPhone().isBlank()) {
+            after = new Member(event.getUserId(), event.getPhone(), event.getRole(), event.getDistrictId(),
+                    event.getDistrictId() == null ? stateKey(event.getDistrict()) : null, stateKey(event.getState()));
+            members.put(after.id, after);
+        }
+        if (before == null && after == null) {
+            return;
+        }
+
+        Snapshot current = snapshot;
+        Map<Long, Group> byDistrict = new HashMap<>(current.byDistrict);
+        Map<String, Group[]> byDistrictName = new HashMap<>(current.byDistrictName);
+        Map<String, Group[]> byState = new HashMap<>(current.byState);
+        Group[] byRole = current.byRole.clone();
+        if (before != null) {
+            if (before.districtId != null) {
+                byDistrict.computeIfPresent(districtKey(before.districtId, before.role),
+                        (key, group) -> emptyToNull(group.without(before.id)));
+            }
+            if (before.districtName != null) {
+                leave(byDistrictName, before.districtName, before);
+            }
+            if (before.state != null) {
+                leave(byState, before.state, before);
+            }
+            byRole[before.role.ordinal()] = byRole[before.role.ordinal()].without(before.id);
+        }
+        if (after != null) {
+            Member added = after;
+            if (added.districtId != null) {
+                byDistrict.merge(districtKey(added.districtId, added.role), Group.EMPTY.with(added.id, added.phone),
+                        (group, single) -> group.with(added.id, added.phone));
+            }
+            if (added.districtName != null) {
+                join(byDistrictName, added.districtName, added);
+            }
+            if (added.state != null) {
+                join(byState, added.state, added);
+            }
+            byRole[added.role.ordinal()] = byRole[added.role.ordinal()].with(added.id, added.phone);
+        }
+        snapshot = new Snapshot(byDistrict, byDistrictName, byState, byRole);
+    }
+
+    private static void leave(Map<String, Group[]> byName, String name, Member member) {
+        Group[] roles = byName.get(name).clone();
+        roles[member.role.ordinal()] = roles[member.role.ordinal()].without(member.id);
+        byName.put(name, roles);
+    }
+
+    private static void join(Map<String, Group[]> byName, String name, Member member) {
+        Group[] roles = byName.containsKey(name) ? byName.get(name).clone() : emptyByRole();
+        roles[member.role.ordinal()] = roles[member.role.ordinal()].with(member.id, member.phone);
+        byName.put(name, roles);
+    }
+
+    /**
+     * Users of the roles in any of the districts or states, each once; everyone of
+     * the roles when no district or state is given, every role when none is given.
+     * The returned arrays may be shared with the index and must not be changed.
+     */
+    public Recipients resolve(Collection<Integer> districtIds, Collection<String> states, Collection<UserRole> roles) {
+        return resolve(districtIds, List.of(), states, roles);
+    }
+
+    /**
+     * As {@link #resolve(Collection, Collection, Collection)}, also reaching the users
+     * of districts that are not in the location dictionary by their district name
+     */
+    public Recipients resolve(Collection<Integer> districtIds, Collection<String> unmappedDistricts,
+                              Collection<String> states, Collection<UserRole> roles) {
+        Snapshot current = snapshot;
+        Set<UserRole> wanted = roles == null || roles.isEmpty() ? EnumSet.allOf(UserRole.class) : EnumSet.copyOf(roles);
+        boolean byDistrict = (districtIds != null && !districtIds.isEmpty())
+                || (unmappedDistricts != null && !unmappedDistricts.isEmpty());
+        boolean byState = states != null && !states.isEmpty();
+
+        List<Group> groups = new ArrayList<>();
+        if (!byDistrict && !byState) {
+            for (UserRole role : wanted) {
+                groups.add(current.byRole[role.ordinal()]);
+            }
+        }
+        if (districtIds != null && !districtIds.isEmpty()) {
+            for (Integer districtId : new HashSet<>(districtIds)) {
+                for (UserRole role : wanted) {
+                    Group group = districtId != null ? current.byDistrict.get(districtKey(districtId, role)) : null;
+                    if (group != null) {
+                        groups.add(group);
+                    }
+                }
+            }
+        }
+        if (unmappedDistricts != null && !unmappedDistricts.isEmpty()) {
+            addNamed(groups, current.byDistrictName, unmappedDistricts, wanted);
+        }
+        if (byState) {
+            addNamed(groups, current.byState, states, wanted);
+        }
+        // Groups of one kind are disjoint; a user can be in both a district and a state group
+        return combine(groups, byDistrict && byState);
+    }
+
+    private static void addNamed(List<Group> groups, Map<String, Group[]> byName, Collection<String> names,
+                                 Set<UserRole> wanted) {
+        Set<String> keys = new HashSet<>();
+        for (String name : names) {
+            keys.add(stateKey(name));
+        }
+        for (String key : keys) {
+            Group[] named = key != null ? byName.get(key) : null;
+            if (named != null) {
+                for (UserRole role : wanted) {
+                    groups.add(named[role.ordinal()]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of indexed users
+     */
+    public int size() {
+        return Arrays.stream(snapshot.byRole).mapToInt(group -> group.ids.length).sum();
+    }
+
+    private static Recipients combine(List<Group> groups, boolean overlapping) {
+        groups.removeIf(group -> group.ids.length == 0);
+        if (groups.isEmpty()) {
+            return new Recipients(Group.EMPTY.ids, Group.EMPTY.phones);
+        }
+        if (groups.size() == 1) {
+            return new Recipients(groups.get(0).ids, groups.get(0).phones);
+        }
+        int total = groups.stream().mapToInt(group -> group.ids.length).sum();
+        long[] ids = new long[total];
+        String[] phones = new String[total];
+        int n = 0;
+        if (!overlapping) {
+            for (Group group : groups) {
+                System.arraycopy(group.ids, 0, ids, n, group.ids.length);
+                System.arraycopy(group.phones, 0, phones, n, group.phones.length);
+                n += group.ids.length;
+            }
+            return new Recipients(ids, phones);
+        }
+        // k-way merge of the sorted groups, keeping the first copy of every id
+        int[] positions = new int[groups.size()];
+        while (true) {
+            int best = -1;
+            long bestId = Long.MAX_VALUE;
+            for (int g = 0; g < positions.length; g++) {
+                long[] groupIds = groups.get(g).ids;
+                if (positions[g] < groupIds.length && groupIds[positions[g]] < bestId) {
+                    best = g;
+                    bestId = groupIds[positions[g]];
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            ids[n] = bestId;
+            phones[n] = groups.get(best).phones[positions[best]];
+            n++;
+            for (int g = 0; g < positions.length; g++) {
+                long[] groupIds = groups.get(g).ids;
+                if (positions[g] < groupIds.length && groupIds[positions[g]] == bestId) {
+                    positions[g]++;
+                }
+            }
+        }
+        return new Recipients(Arrays.copyOf(ids, n), Arrays.copyOf(phones, n));
+    }
+
+    private static Snapshot build(Collection<Member> all) {
+        Map<Long, List<Member>> districtLists = new HashMap<>();
+        Map<String, List<List<Member>>> districtNameLists = new HashMap<>();
+        Map<String, List<List<Member>>> stateLists = new HashMap<>();
+        List<List<Member>> roleLists = new ArrayList<>();
+        for (int r = 0; r < ROLES.length; r++) {
+            roleLists.add(new ArrayList<>());
+        }
+        for (Member member : all) {
+            if (member.districtId != null) {
+                districtLists.computeIfAbsent(districtKey(member.districtId, member.role), key -> new ArrayList<>())
+                        .add(member);
+            }
+            if (member.districtName != null) {
+                byRoleLists(districtNameLists, member.districtName).get(member.role.ordinal()).add(member);
+            }
+            if (member.state != null) {
+                byRoleLists(stateLists, member.state).get(member.role.ordinal()).add(member);
+            }
+            roleLists.get(member.role.ordinal()).add(member);
+        }
+        Map<Long, Group> byDistrict = new HashMap<>();
+        districtLists.forEach((key, members) -> byDistrict.put(key, Group.of(members)));
+        Map<String, Group[]> byDistrictName = new HashMap<>();
+        districtNameLists.forEach((name, lists) ->
+                byDistrictName.put(name, lists.stream().map(Group::of).toArray(Group[]::new)));
+        Map<String, Group[]> byState = new HashMap<>();
+        stateLists.forEach((state, lists) -> byState.put(state, lists.stream().map(Group::of).toArray(Group[]::new)));
+        Group[] byRole = roleLists.stream().map(Group::of).toArray(Group[]::new);
+        return new Snapshot(byDistrict, byDistrictName, byState, byRole);
+    }
+
+    private static List<List<Member>> byRoleLists(Map<String, List<List<Member>>> byName, String name) {
+        return byName.computeIfAbsent(name, key -> {
+            List<List<Member>> lists = new ArrayList<>();
+            for (int r = 0; r < ROLES.length; r++) {
+                lists.add(new ArrayList<>());
+            }
+            return lists;
+        });
+    }
+
+    private static long districtKey(int districtId, UserRole role) {
+        return ((long) districtId << 8) | role.ordinal();
+    }
+
+    private static String stateKey(String state) {
+        String normalized = GeoBoundaryService.normalize(state);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    private static Group emptyToNull(Group group) {
+        return group.ids.length == 0 ? null : group;
+    }
+
+    private static Group[] emptyByRole() {
+        Group[] groups = new Group[ROLES.length];
+        Arrays.fill(groups, Group.EMPTY);
+        return groups;
+    }
+
+    private static final class Member {
+        private final long id;
+        private final String phone;
+        private final UserRole role;
+        private final Integer districtId;
+        /** Normalised district name, only for users whose district is not in the dictionary */
+        private final String districtName;
+        private final String state;
+
+        Member(long id, String phone, UserRole role, Integer districtId, String districtName, String state) {
+            this.id = id;
+            this.phone = phone;
+            this.role = role;
+            this.districtId = districtId;
+            this.districtName = districtName;
+            this.state = state;
+        }
+    }
+
+    /**
+     * Immutable group of users: ids in ascending order and their phone numbers
+     */
+    private static final class Group {
+        private static final Group EMPTY = new Group(new long[0], new String[0]);
+
+        private final long[] ids;
+        private final String[] phones;
+
+        Group(long[] ids, String[] phones) {
+            this.ids = ids;
+            this.phones = phones;
+        }
+
+        static Group of(List<Member> members) {
+            members.sort((a, b) -> Long.compare(a.id, b.id));
+            long[] ids = new long[members.size()];
+            String[] phones = new String[members.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = members.get(i).id;
+                phones[i] = members.get(i).phone;
+            }
+            return new Group(ids, phones);
+        }
+
+        Group with(long id, String phone) {
+            int at = Arrays.binarySearch(ids, id);
+            if (at >= 0) {
+                String[] replaced = phones.clone();
+                replaced[at] = phone;
+                return new Group(ids, replaced);
+            }
+            at = -at - 1;
+            long[] grownIds = new long[ids.length + 1];
+            String[] grownPhones = new String[ids.length + 1];
+            System.arraycopy(ids, 0, grownIds, 0, at);
+            System.arraycopy(phones, 0, grownPhones, 0, at);
+            grownIds[at] = id;
+            grownPhones[at] = phone;
+            System.arraycopy(ids, at, grownIds, at + 1, ids.length - at);
+            System.arraycopy(phones, at, grownPhones, at + 1, ids.length - at);
+            return new Group(grownIds, grownPhones);
+        }
+
+        Group without(long id) {
+            int at = Arrays.binarySearch(ids, id);
+            if (at < 0) {
+                return this;
+            }
+            long[] shrunkIds = new long[ids.length - 1];
+            String[] shrunkPhones = new String[ids.length - 1];
+            System.arraycopy(ids, 0, shrunkIds, 0, at);
+            System.arraycopy(phones, 0, shrunkPhones, 0, at);
+            System.arraycopy(ids, at + 1, shrunkIds, at, ids.length - at - 1);
+            System.arraycopy(phones, at + 1, shrunkPhones, at, ids.length - at - 1);
+            return new Group(shrunkIds, shrunkPhones);
+        }
+    }
+
+    private static final class Snapshot {
+        private final Map<Long, Group> byDistrict;
+        private final Map<String, Group[]> byDistrictName;
+        private final Map<String, Group[]> byState;
+        private final Group[] byRole;
+
+        Snapshot(Map<Long, Group> byDistrict, Map<String, Group[]> byDistrictName, Map<String, Group[]> byState,
+                 Group[] byRole) {
+            this.byDistrict = byDistrict;
+            this.byDistrictName = byDistrictName;
+            this.byState = byState;
+            this.byRole = byRole;
+        }
+    }
+
+    /**
+     * Resolved recipients: user ids and phone numbers at the same positions
+     */
+    public static final class Recipients {
+        private final long[] userIds;
+        private final String[] phones;
+
+        Recipients(long[] userIds, String[] phones) {
+            this.userIds = userIds;
+            this.phones = phones;
+        }
+
+        public int size() { return userIds.length; }
+        public long userId(int i) { return userIds[i]; }
+        public String phone(int i) { return phones[i]; }
+    }
+}
@@ -0,0 +1,464 @@
+package com.healthnet.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthnet.dto.ArchivedReportSummaryDto;
+import com.healthnet.dto.HealthReportDto;
+import com.healthnet.entity.ArchivedHealthReport;
+import com.healthnet.entity.HealthReport;
+import com.healthnet.entity.ReportStatus;
+import com.healthnet.event.HealthReportEvent;
+import com.healthnet.exception.ResourceNotFoundException;
+import com.healthnet.repository.ArchivedHealthReportRepository;
+import com.healthnet.repository.HealthReportRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Retention engine that moves old resolved/processed health reports into the
+ * compressed archive store.
+ *
+ * Reports are archived in bounded chunks, each in its own short transaction,
+ * with a pause between chunks so the hot table is never locked for long.
+ * Policies are configured as STATUS:days pairs, e.g. "RESOLVED:120,PROCESSED:180".
+ * Runs happen on a background thread, one at a time; every archived report is
+ * announced as an archived DELETED event once its chunk commits, so in-memory
+ * indexes drop it.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class ReportArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportArchiveService.class);
+
+    private static final String ANONYMIZED_REPORTER = "Anonymized";
+
+    private final HealthReportRepository healthReportRepository;
+    private final ArchivedHealthReportRepository archivedReportRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    /** Archived reports per status of the last completed run, or null before the first */
+    private volatile Map<ReportStatus, Integer> lastRun;
+    /** Runs retention, which pauses between chunks, off the request and shared scheduler threads */
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "report-retention");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${healthnet.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${healthnet.retention.policies:RESOLVED:120,PROCESSED:180}")
+    private String policies;
+
+    @Value("${healthnet.retention.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${healthnet.retention.throttle-ms:250}")
+    private long throttleMs;
+
+    @Value("${healthnet.retention.max-chunks-per-run:500}")
+    private int maxChunksPerRun;
+
+    @Value("${healthnet.retention.anonymize:true}")
+    private boolean anonymize;
+
+    public ReportArchiveService(HealthReportRepository healthReportRepository,
+                                ArchivedHealthReportRepository archivedReportRepository,
+                                ObjectMapper objectMapper,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager) {
+        this.healthReportRepository = healthReportRepository;
+        this.archivedReportRepository = archivedReportRepository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Scheduled retention run (nightly by default)
+     */
+    @Scheduled(cron = "${healthnet.retention.cron:0 30 2 * * *}")
+    public void scheduledRun() {
+        if (enabled && !startRetention()) {
+            log.info("Retention run already in progress, skipping");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+    }
+
+    /**
+     * Start a run of all retention policies in the background. Returns false,
+     * starting nothing, if a run is already in progress.
+     */
+    public boolean startRetention() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            runner.execute(() -> {
+                try {
+                    lastRun = runRetention();
+                } catch (RuntimeException e) {
+                    log.error("Retention run failed", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * Number of archived reports per status of the last completed run, or null if none has completed
+     */
+    public Map<ReportStatus, Integer> getLastRun() {
+        return lastRun;
+    }
+
+    /**
+     * Run all retention policies once; the caller holds the running flag
+     */
+    private Map<ReportStatus, Integer> runRetention() {
+        Map<ReportStatus, Integer> archived = new EnumMap<>(ReportStatus.class);
+        int chunksLeft = maxChunksPerRun;
+        for (Map.Entry<ReportStatus, Integer> policy : parsePolicies(policies).entrySet()) {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(policy.getValue());
+            int total = 0;
+
+            while (chunksLeft-- > 0) {
+                List<Long> ids = readOnlyTemplate.execute(tx -> healthReportRepository.findArchivableIds(
+                        policy.getKey(), cutoff, PageRequest.of(0, chunkSize)));
+                if (ids == null || ids.isEmpty()) {
+                    break;
+                }
+
+                Integer moved = transactionTemplate.execute(tx -> archiveChunk(ids));
+                total += moved != null ? moved : 0;
+
+                if (ids.size() < chunkSize || !pause()) {
+                    break;
+                }
+            }
+
+            archived.put(policy.getKey(), total);
+            if (total > 0) {
+                log.info("Archived {} {} reports older than {}", total, policy.getKey(), cutoff);
+            }
+        }
+
+        return archived;
+    }
+
+    /**
+     * Check whether a retention run is currently in progress
+     */
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Query-through lookup: the hot table first, then the archive
+     */
+    public HealthReportDto findReport(Long id) {
+        HealthReportDto hot = readOnlyTemplate.execute(tx ->
+                healthReportRepository.findById(id).map(this::toDto).orElse(null));
+        if (hot != null) {
+            return hot;
+        }
+        return getArchivedReport(id);
+    }
+
+    /**
+     * Get a single archived report with its symptoms and photos restored
+     */
+    public HealthReportDto getArchivedReport(Long id) {
+        ArchivedHealthReport archived = archivedReportRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Archived report not found with id: " + id));
+        return decode(archived.getPayload());
+    }
+
+    /**
+     * District, symptom and time of every symptom of archived reports created in a date range,
+     * in the shape of the hot table's symptom rows. Symptoms of reports archived before they
+     * were kept outside the payload are decoded once and stored.
+     */
+    public List<Object[]> getSymptomRows(LocalDateTime startDate, LocalDateTime endDate) {
+        List<Object[]> rows = new ArrayList<>();
+        forEachArchived(startDate, endDate, (district, village, symptoms, createdAt) -> {
+            for (String symptom : symptoms) {
+                rows.add(new Object[] { district, symptom, createdAt });
+            }
+        });
+        return rows;
+    }
+
+    /**
+     * District, symptoms and time of each archived report created in a date range
+     */
+    public List<Object[]> getReportSymptomRows(LocalDateTime startDate, LocalDateTime endDate) {
+        List<Object[]> rows = new ArrayList<>();
+        forEachArchived(startDate, endDate, (district, village, symptoms, createdAt) ->
+                rows.add(new Object[] { district, symptoms, createdAt }));
+        return rows;
+    }
+
+    /**
+     * District, village and time of archived reports with a symptom (case insensitive) created
+     * in a date range, in the shape of the hot table's scan rows
+     */
+    public List<Object[]> getScanRowsBySymptom(String symptom, LocalDateTime startDate, LocalDateTime endDate) {
+        List<Object[]> rows = new ArrayList<>();
+        forEachArchived(startDate, endDate, (district, village, symptoms, createdAt) -> {
+            for (String reported : symptoms) {
+                if (reported.equalsIgnoreCase(symptom)) {
+                    rows.add(new Object[] { district, village, createdAt });
+                    return;
+                }
+            }
+        });
+        return rows;
+    }
+
+    /**
+     * Visit the non-cancelled archived reports created in a date range with their symptoms, decoding
+     * and storing once the symptoms of reports archived before they were kept outside the payload
+     */
+    private void forEachArchived(LocalDateTime startDate, LocalDateTime endDate, ArchivedSymptoms visitor) {
+        List<Long> undecoded = new ArrayList<>();
+        List<Object[]> archived = readOnlyTemplate.execute(tx -> archivedReportRepository.findSymptomRows(startDate, endDate));
+        for (Object[] row : archived != null ? archived : List.<Object[]>of()) {
+            if (row[3] == null) {
+                undecoded.add((Long) row[0]);
+                continue;
+            }
+            List<String> symptoms = new ArrayList<>();
+            for (String symptom : ((String) row[3]).split("\n")) {
+                if (!symptom.isEmpty()) {
+                    symptoms.add(symptom);
+                }
+            }
+            visitor.accept((String) row[1], (String) row[2], symptoms, (LocalDateTime) row[4]);
+        }
+
+        for (int from = 0; from < undecoded.size(); from += chunkSize) {
+            List<Long> ids = undecoded.subList(from, Math.min(undecoded.size(), from + chunkSize));
+            transactionTemplate.execute(tx -> {
+                for (ArchivedHealthReport report : archivedReportRepository.findAllById(ids)) {
+                    List<String> symptoms = decode(report.getPayload()).getSymptoms();
+                    report.setSymptoms(joinSymptoms(symptoms));
+                    visitor.accept(report.getDistrict(), report.getVillage(),
+                            symptoms != null ? symptoms : List.of(), report.getCreatedAt());
+                }
+                return null;
+            });
+        }
+        if (!undecoded.isEmpty()) {
+            log.info("Stored the symptoms of {} archived reports outside their payloads", undecoded.size());
+        }
+    }
+
+    @FunctionalInterface
+    private interface ArchivedSymptoms {
+        void accept(String district, String village, List<String> symptoms, LocalDateTime createdAt);
+    }
+
+    /**
+     * Search archived reports by district and creation date range (all optional)
+     */
+    public Page<ArchivedReportSummaryDto> searchArchive(String district, LocalDateTime startDate,
+                                                        LocalDateTime endDate, Pageable pageable) {
+        LocalDateTime from = startDate != null ? startDate : LocalDateTime.of(1970, 1, 1, 0, 0);
+        LocalDateTime to = endDate != null ? endDate : LocalDateTime.now().plusDays(1);
+
+        if (district == null || district.isBlank()) {
+            return archivedReportRepository.findSummaries(from, to, pageable);
+        }
+        return archivedReportRepository.findSummariesByDistrict(district, from, to, pageable);
+    }
+
+    /**
+     * Move one chunk of reports to the archive. Runs inside its own transaction.
+     */
+    private int archiveChunk(List<Long> ids) {
+        List<HealthReport> reports = healthReportRepository.findAllById(ids);
+        LocalDateTime now = LocalDateTime.now();
+
+        for (HealthReport report : reports) {
+            entityManager.persist(toArchive(report, now));
+            // Delivered to the report listeners once this chunk commits
+            eventPublisher.publishEvent(HealthReportEvent.archived(report));
+        }
+
+        // Removing through the entity deletes the symptom and photo rows as well
+        healthReportRepository.deleteAll(reports);
+        return reports.size();
+    }
+
+    private ArchivedHealthReport toArchive(HealthReport report, LocalDateTime archivedAt) {
+        HealthReportDto dto = toDto(report);
+        if (anonymize) {
+            dto.setReporterName(ANONYMIZED_REPORTER);
+            dto.setReporterPhone(null);
+            // A reporter's exact position can identify them; the area ids stay
+            dto.setLatitude(null);
+            dto.setLongitude(null);
+        }
+
+        ArchivedHealthReport archived = new ArchivedHealthReport();
+        archived.setId(report.getId());
+        archived.setVillage(report.getVillage());
+        archived.setDistrict(report.getDistrict());
+        archived.setUrgency(report.getUrgency());
+        archived.setStatus(report.getStatus());
+        archived.setCreatedAt(report.getCreatedAt());
+        archived.setProcessedAt(report.getProcessedAt());
+        archived.setArchivedAt(archivedAt);
+        archived.setAnonymized(anonymize);
+        archived.setSymptoms(joinSymptoms(dto.getSymptoms()));
+        archived.setPayload(encode(dto));
+        return archived;
+    }
+
+    private static String joinSymptoms(List<String> symptoms) {
+        if (symptoms == null) {
+            return "";
+        }
+        StringBuilder joined = new StringBuilder();
+        for (String symptom : symptoms) {
+            if (symptom != null && !symptom.isBlank()) {
+                if (joined.length() > 0) {
+                    joined.append('\n');
+                }
+                joined.append(symptom.trim().replace('\n', ' '));
+            }
+        }
+        return joined.toString();
+    }
+
+    private HealthReportDto toDto(HealthReport report) {
+        HealthReportDto dto = new HealthReportDto();
+        dto.setId(report.getId());
+        dto.setReporterName(report.getReporterName());
+        dto.setReporterPhone(report.getReporterPhone());
+        dto.setVillage(report.getVillage());
+        dto.setDistrict(report.getDistrict());
+        dto.setDistrictId(report.getDistrictId());
+        dto.setVillageId(report.getVillageId());
+        dto.setLatitude(report.getLatitude());
+        dto.setLongitude(report.getLongitude());
+        dto.setDistrictGid(report.getDistrictGid());
+        dto.setVillageGid(report.getVillageGid());
+        dto.setSymptoms(report.getSymptoms() != null ? new ArrayList<>(report.getSymptoms()) : null);
+        dto.setDescription(report.getDescription());
+        dto.setUrgency(report.getUrgency());
+        dto.setStatus(report.getStatus());
+        dto.setPhotoUrls(report.getPhotoUrls() != null ? new ArrayList<>(report.getPhotoUrls()) : null);
+        dto.setConsentGiven(report.getConsentGiven());
+        dto.setCreatedAt(report.getCreatedAt());
+        dto.setUpdatedAt(report.getUpdatedAt());
+        dto.setProcessedBy(report.getProcessedBy());
+        dto.setProcessedAt(report.getProcessedAt());
+        dto.setAdminNotes(report.getAdminNotes());
+        return dto;
+    }
+
+    private byte[] encode(HealthReportDto dto) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            objectMapper.writeValue(out, dto);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to compress report " + dto.getId(), e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private HealthReportDto decode(byte[] payload) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(in, HealthReportDto.class);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read archived report payload", e);
+        }
+    }
+
+    /**
+     * Sleep between chunks; returns false if the thread was interrupted
+     */
+    private boolean pause() {
+        if (throttleMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(throttleMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    static Map<ReportStatus, Integer> parsePolicies(String spec) {
+        Map<ReportStatus, Integer> parsed = new EnumMap<>(ReportStatus.class);
+        if (spec == null || spec.isBlank()) {
+            return parsed;
+        }
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid retention policy: " + entry);
+            }
+            ReportStatus status = ReportStatus.valueOf(parts[0].trim().toUpperCase());
+            if (status == ReportStatus.PENDING || status == ReportStatus.IN_PROGRESS) {
+                throw new IllegalArgumentException("Open reports cannot be archived: " + status);
+            }
+            parsed.put(status, Integer.parseInt(parts[1].trim()));
+        }
+        return parsed;
+    }
+}
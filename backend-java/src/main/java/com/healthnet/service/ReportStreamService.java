@@ -0,0 +1,277 @@
+package com.healthnet.service;
+
+import com.healthnet.dto.ReportStreamEventDto;
+import com.healthnet.entity.User;
+import com.healthnet.entity.UserRole;
+import com.healthnet.event.HealthReportEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes report created / status changed / notes added events to dashboard
+ * subscribers over Server-Sent Events.
+ *
+ * Events are filtered per subscriber by the district and role of the
+ * authenticated user. Each subscriber has a bounded buffer drained by a small
+ * sender pool, so a slow connection never blocks report ingestion; a
+ * subscriber whose buffer overflows is disconnected and resumes from its last
+ * event id against the in-memory replay ring. Event ids start from the boot
+ * time, so an id from before a restart is never mistaken for a recent one.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class ReportStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportStreamService.class);
+
+    /** Marks a RESET in a subscriber's buffer, so it is sent in order with the events */
+    private static final ReportStreamEventDto RESET = new ReportStreamEventDto();
+
+    private final Object dispatchLock = new Object();
+    /** Seeded from the boot time so ids keep growing across restarts */
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final AtomicLong subscriberIds = new AtomicLong();
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final ReportStreamEventDto[] replay;
+    private final int bufferSize;
+    private final long emitterTimeoutMs;
+    private final ExecutorService sender;
+    private int replayNext;
+
+    public ReportStreamService(@Value("${healthnet.stream.replay-size:2048}") int replaySize,
+                               @Value("${healthnet.stream.buffer-size:256}") int bufferSize,
+                               @Value("${healthnet.stream.timeout-ms:1800000}") long emitterTimeoutMs,
+                               @Value("${healthnet.stream.sender-threads:4}") int senderThreads) {
+        this.replay = new ReportStreamEventDto[replaySize];
+        this.bufferSize = bufferSize;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        AtomicInteger threadIds = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "report-stream-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Open a stream for the given user, replaying buffered events after lastEventId if present
+     */
+    public SseEmitter subscribe(User user, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(subscriberIds.incrementAndGet(), emitter, user);
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        synchronized (dispatchLock) {
+            if (lastEventId != null && !enqueueReplay(subscriber, lastEventId)) {
+                subscriber.buffer.offer(RESET);
+            }
+            subscribers.put(subscriber.id, subscriber);
+        }
+        subscriber.schedule();
+        return emitter;
+    }
+
+    /**
+     * Fan a committed report change out to matching subscribers
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportEvent(HealthReportEvent event) {
+        if (event.getType() == HealthReportEvent.Type.UPDATED || event.isArchived()) {
+            // Retention moving old reports is not report activity
+            return;
+        }
+
+        synchronized (dispatchLock) {
+            ReportStreamEventDto dto = new ReportStreamEventDto(sequence.incrementAndGet(), event);
+            replay[replayNext] = dto;
+            replayNext = (replayNext + 1) % replay.length;
+
+            for (Subscriber subscriber : subscribers.values()) {
+                if (subscriber.accepts(dto)) {
+                    subscriber.enqueue(dto);
+                }
+            }
+        }
+    }
+
+    /**
+     * Keep idle connections alive and detect dead ones
+     */
+    @Scheduled(fixedDelayString = "${healthnet.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.heartbeat();
+        }
+    }
+
+    /**
+     * Number of currently connected subscribers
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(subscriber -> subscriber.emitter.complete());
+        sender.shutdownNow();
+    }
+
+    /**
+     * Queue buffered events newer than lastEventId. Returns false when the gap
+     * can no longer be filled from the replay ring, or the id was never issued
+     * by this instance, and the client must refetch.
+     */
+    private boolean enqueueReplay(Subscriber subscriber, long lastEventId) {
+        long latest = sequence.get();
+        if (lastEventId == latest) {
+            return true;
+        }
+        if (lastEventId > latest) {
+            return false;
+        }
+        if (latest - lastEventId > replay.length) {
+            return false;
+        }
+
+        List<ReportStreamEventDto> missed = new ArrayList<>();
+        for (int i = 0; i < replay.length; i++) {
+            ReportStreamEventDto dto = replay[(replayNext + i) % replay.length];
+            if (dto != null && dto.getEventId() > lastEventId && subscriber.accepts(dto)) {
+                missed.add(dto);
+            }
+        }
+        if (missed.size() > bufferSize) {
+            return false;
+        }
+        missed.forEach(subscriber.buffer::offer);
+        return true;
+    }
+
+    /**
+     * One connected dashboard with its own bounded send buffer
+     */
+    private final class Subscriber {
+
+        private final long id;
+        private final SseEmitter emitter;
+        private final String district;
+        private final boolean seesNotes;
+        private final ArrayBlockingQueue<ReportStreamEventDto> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private volatile boolean closed;
+
+        Subscriber(long id, SseEmitter emitter, User user) {
+            this.id = id;
+            this.emitter = emitter;
+            this.district = user.getRole() == UserRole.ADMIN ? null : normalize(user.getDistrict());
+            this.seesNotes = user.getRole() == UserRole.ADMIN || user.getRole() == UserRole.DISTRICT_HEALTH_OFFICER;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        boolean accepts(ReportStreamEventDto dto) {
+            if (dto.getType() == HealthReportEvent.Type.NOTES_ADDED && !seesNotes) {
+                return false;
+            }
+            return district == null || district.equals(normalize(dto.getDistrict()));
+        }
+
+        void enqueue(ReportStreamEventDto dto) {
+            if (closed) {
+                return;
+            }
+            if (!buffer.offer(dto)) {
+                // Slow consumer: drop the connection, the client resumes via Last-Event-ID
+                log.debug("Report stream subscriber {} overflowed, disconnecting", id);
+                emitter.complete();
+                close();
+                return;
+            }
+            schedule();
+        }
+
+        void schedule() {
+            if (!closed && !buffer.isEmpty() && scheduled.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        void heartbeat() {
+            if (!scheduled.get()) {
+                sender.execute(() -> send(SseEmitter.event().comment("heartbeat")));
+            }
+        }
+
+        private void drain() {
+            try {
+                ReportStreamEventDto dto;
+                while (!closed && (dto = buffer.poll()) != null) {
+                    if (dto == RESET) {
+                        if (!send(SseEmitter.event().name("RESET").data("{}", MediaType.APPLICATION_JSON))) {
+                            return;
+                        }
+                        continue;
+                    }
+                    if (!send(SseEmitter.event()
+                            .id(Long.toString(dto.getEventId()))
+                            .name(dto.getType().name())
+                            .data(dto, MediaType.APPLICATION_JSON))) {
+                        return;
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+                schedule();
+            }
+        }
+
+        private boolean send(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return false;
+            }
+            try {
+                synchronized (emitter) {
+                    emitter.send(event);
+                }
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                close();
+                return false;
+            }
+        }
+
+        void close() {
+            closed = true;
+            buffer.clear();
+            subscribers.remove(id);
+        }
+    }
+
+    private static String normalize(String district) {
+        return district == null ? "" : district.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,555 @@
+package com.healthnet.service;
+
+import com.healthnet.dto.AlertDto;
+import com.healthnet.entity.AlertType;
+import com.healthnet.entity.ReportStatus;
+import com.healthnet.entity.RuleScope;
+import com.healthnet.entity.SurveillanceRule;
+import com.healthnet.entity.UrgencyLevel;
+import com.healthnet.entity.UserRole;
+import com.healthnet.event.HealthReportEvent;
+import com.healthnet.event.SurveillanceRuleChangedEvent;
+import com.healthnet.repository.HealthReportRepository;
+import com.healthnet.repository.SurveillanceRuleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Surveillance rules engine evaluated on report ingestion.
+ *
+ * Enabled rules are compiled into an immutable matcher. Rules with the same
+ * conditions - symptom, district, minimum urgency, scope and window - share
+ * one counter, so each distinct condition is evaluated once per report
+ * however many thresholds hang off it. Counters are indexed by symptom and
+ * district with wildcards: a report looks up two entries per symptom, plus
+ * two for "any symptom", and touches only the counters it can match, so
+ * evaluation cost follows the matching rules rather than the rule count.
+ *
+ * For every area a counter keeps the times of its newest reports, as many
+ * as its largest threshold, so "N reports within the window" is a single
+ * comparison against the N-th newest. Counters are rebuilt from recent
+ * reports at startup and whenever the rules change. A rule fires at most
+ * once per area per cooldown; firing creates an alert in its own transaction.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class RulesEngineService {
+
+    private static final Logger log = LoggerFactory.getLogger(RulesEngineService.class);
+
+    /** Index wildcard for rules on any symptom or any district */
+    private static final String ANY = "*";
+
+    private final SurveillanceRuleRepository surveillanceRuleRepository;
+    private final HealthReportRepository healthReportRepository;
+    private final LocationDictionaryService locationDictionaryService;
+    private final AlertService alertService;
+    private final TransactionTemplate transactionTemplate;
+    /** Evaluation holds the read lock; recompiling and pruning hold the write lock */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    /** Firing history by rule id, kept across recompiles */
+    private final Map<Long, RuleStats> stats = new ConcurrentHashMap<>();
+    private volatile Engine engine = new Engine(Map.of(), List.of(), 0L);
+
+    public RulesEngineService(SurveillanceRuleRepository surveillanceRuleRepository,
+                              HealthReportRepository healthReportRepository,
+                              LocationDictionaryService locationDictionaryService,
+                              AlertService alertService,
+                              PlatformTransactionManager transactionManager) {
+        this.surveillanceRuleRepository = surveillanceRuleRepository;
+        this.healthReportRepository = healthReportRepository;
+        this.locationDictionaryService = locationDictionaryService;
+        this.alertService = alertService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Compile the rules and replay recent reports; areas already over a
+     * threshold count as fired, so a restart does not repeat their alerts
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload(true);
+    }
+
+    /**
+     * Recompile after a rule was created, updated or deleted. Areas over a
+     * new or changed threshold fire on their next matching report.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRuleChanged(SurveillanceRuleChangedEvent event) {
+        reload(false);
+    }
+
+    /**
+     * Evaluate every new report that is not a near-duplicate against the rules
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportEvent(HealthReportEvent event) {
+        if (event.getType() == HealthReportEvent.Type.DELETED) {
+            forget(event);
+            return;
+        }
+        if (event.getType() != HealthReportEvent.Type.CREATED || event.getStatus() == ReportStatus.CANCELLED
+                || event.getDuplicateOfId() != null) {
+            // A near-duplicate is another report of a case already counted
+            return;
+        }
+
+        List<Firing> firings;
+        lock.readLock().lock();
+        try {
+            Engine current = engine;
+            if (current.counters.isEmpty()
+                    || (event.getReportId() != null && event.getReportId() <= current.replayedThrough)) {
+                return;
+            }
+            firings = evaluate(current, event.getDistrict(), event.getVillage(), event.getUrgency(),
+                    event.getSymptoms(), localMillis(event.getCreatedAt()), Mode.LIVE);
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (Firing firing : firings) {
+            raise(firing);
+        }
+    }
+
+    /**
+     * Recount from the database when a deleted or archived report may still sit in a window
+     */
+    private void forget(HealthReportEvent event) {
+        Engine current = engine;
+        long maxWindow = current.counters.stream().mapToLong(counter -> counter.windowMillis).max().orElse(0L);
+        if (maxWindow > 0 && event.getCreatedAt().isAfter(LocalDateTime.now().minus(Duration.ofMillis(maxWindow)))) {
+            reload(false);
+        }
+    }
+
+    /**
+     * Times a rule has fired since startup
+     */
+    public long getFirings(Long ruleId) {
+        RuleStats ruleStats = ruleId != null ? stats.get(ruleId) : null;
+        return ruleStats != null ? ruleStats.firings.get() : 0;
+    }
+
+    /**
+     * When a rule last fired since startup, or null
+     */
+    public LocalDateTime getLastFiredAt(Long ruleId) {
+        RuleStats ruleStats = ruleId != null ? stats.get(ruleId) : null;
+        return ruleStats != null ? ruleStats.lastFiredAt : null;
+    }
+
+    /**
+     * Drop areas with no report inside their window and expired cooldowns
+     */
+    @Scheduled(cron = "${healthnet.rules.prune-cron:0 0 * * * *}")
+    public void prune() {
+        long now = localMillis(LocalDateTime.now());
+        lock.writeLock().lock();
+        try {
+            int dropped = 0;
+            for (Counter counter : engine.counters) {
+                long since = now - counter.windowMillis;
+                int before = counter.windows.size();
+                counter.windows.values().removeIf(window -> window.newest() < since);
+                dropped += before - counter.windows.size();
+                for (CompiledRule rule : counter.rules) {
+                    rule.stats.lastFired.values().removeIf(time -> time < now - rule.cooldownMillis);
+                }
+            }
+            if (dropped > 0) {
+                log.debug("Pruned {} idle rule counter areas", dropped);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void reload(boolean seedCooldowns) {
+        lock.writeLock().lock();
+        try {
+            List<SurveillanceRule> rules = surveillanceRuleRepository.findByEnabledTrue();
+            stats.keySet().retainAll(rules.stream().map(SurveillanceRule::getId).collect(Collectors.toSet()));
+            Engine compiled = compile(rules);
+            int replayed = 0;
+            long replayedThrough = 0L;
+            if (!compiled.counters.isEmpty()) {
+                long maxWindow = compiled.counters.stream().mapToLong(counter -> counter.windowMillis).max().orElse(0L);
+                LocalDateTime since = LocalDateTime.now().minus(Duration.ofMillis(maxWindow));
+                Mode mode = seedCooldowns ? Mode.SEED : Mode.REPLAY;
+
+                // One row per symptom; rows of a report are adjacent
+                Long reportId = null;
+                Object[] first = null;
+                List<String> symptoms = new ArrayList<>();
+                for (Object[] row : healthReportRepository.findSymptomRows(since)) {
+                    if (!((Long) row[0]).equals(reportId)) {
+                        if (first != null) {
+                            replay(compiled, first, symptoms, mode);
+                            replayed++;
+                        }
+                        reportId = (Long) row[0];
+                        first = row;
+                        symptoms = new ArrayList<>();
+                        replayedThrough = Math.max(replayedThrough, reportId);
+                    }
+                    if (row[5] != null) {
+                        symptoms.add((String) row[5]);
+                    }
+                }
+                if (first != null) {
+                    replay(compiled, first, symptoms, mode);
+                    replayed++;
+                }
+            }
+            engine = new Engine(compiled.index, compiled.counters, replayedThrough);
+            log.info("Compiled {} surveillance rules into {} counters; replayed {} recent reports",
+                    rules.size(), compiled.counters.size(), replayed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void replay(Engine compiled, Object[] row, List<String> symptoms, Mode mode) {
+        evaluate(compiled, (String) row[1], (String) row[2], (UrgencyLevel) row[3], symptoms,
+                localMillis((LocalDateTime) row[4]), mode);
+    }
+
+    private Engine compile(List<SurveillanceRule> rules) {
+        // Rules with identical conditions share a counter
+        Map<String, List<CompiledRule>> bySignature = new LinkedHashMap<>();
+        Map<String, SurveillanceRule> definitions = new HashMap<>();
+        for (SurveillanceRule rule : rules) {
+            String signature = symptomKey(rule.getSymptom()) + "|"
+                    + (rule.getDistrictId() != null ? rule.getDistrictId().toString() : ANY) + "|"
+                    + (rule.getMinUrgency() != null ? rule.getMinUrgency().getPriorityScore() : 0) + "|"
+                    + rule.getScope() + "|" + rule.getWindowHours();
+            RuleStats ruleStats = stats.computeIfAbsent(rule.getId(), id -> new RuleStats());
+            bySignature.computeIfAbsent(signature, key -> new ArrayList<>()).add(new CompiledRule(rule, ruleStats));
+            definitions.putIfAbsent(signature, rule);
+        }
+
+        List<Counter> counters = new ArrayList<>(bySignature.size());
+        Map<String, List<Counter>> index = new HashMap<>();
+        for (Map.Entry<String, List<CompiledRule>> entry : bySignature.entrySet()) {
+            SurveillanceRule definition = definitions.get(entry.getKey());
+            Counter counter = new Counter(definition, entry.getValue());
+            counters.add(counter);
+            String indexKey = symptomKey(definition.getSymptom()) + "|"
+                    + (definition.getDistrictId() != null ? definition.getDistrictId().toString() : ANY);
+            index.computeIfAbsent(indexKey, key -> new ArrayList<>()).add(counter);
+        }
+        Map<String, Counter[]> frozen = new HashMap<>();
+        index.forEach((key, list) -> frozen.put(key, list.toArray(new Counter[0])));
+        return new Engine(frozen, counters, 0L);
+    }
+
+    private List<Firing> evaluate(Engine current, String district, String village, UrgencyLevel urgency,
+                                  List<String> symptoms, long time, Mode mode) {
+        Integer districtId = district != null ? locationDictionaryService.findDistrictId(district) : null;
+        Set<String> keys = new LinkedHashSet<>();
+        if (symptoms != null) {
+            for (String symptom : symptoms) {
+                if (symptom != null && !symptom.isBlank()) {
+                    keys.add(symptomKey(symptom));
+                }
+            }
+        }
+        keys.add(ANY);
+
+        Report report = new Report(district, village, urgency != null ? urgency.getPriorityScore() : 0, time,
+                GeoBoundaryService.normalize(district != null ? district : ""));
+        List<Firing> firings = new ArrayList<>(0);
+        for (String key : keys) {
+            if (districtId != null) {
+                match(current.index.get(key + "|" + districtId), report, mode, firings);
+            }
+            match(current.index.get(key + "|" + ANY), report, mode, firings);
+        }
+        return firings;
+    }
+
+    private void match(Counter[] counters, Report report, Mode mode, List<Firing> firings) {
+        if (counters == null) {
+            return;
+        }
+        for (Counter counter : counters) {
+            if (report.urgencyScore < counter.minUrgencyScore) {
+                continue;
+            }
+            String area = switch (counter.scope) {
+                case VILLAGE -> report.districtKey + "|"
+                        + GeoBoundaryService.normalize(report.village != null ? report.village : "");
+                case DISTRICT -> report.districtKey;
+                case ALL -> "";
+            };
+            Window window = counter.windows.computeIfAbsent(area, key -> new Window(counter.capacity));
+            synchronized (window) {
+                window.add(report.time);
+                long newest = window.newest();
+                long since = newest - counter.windowMillis;
+                for (CompiledRule rule : counter.rules) {
+                    if (!window.reached(rule.threshold, since)) {
+                        // Rules are sorted by threshold, so no later one is reached either
+                        break;
+                    }
+                    Long lastFired = rule.stats.lastFired.get(area);
+                    if (lastFired != null && newest - lastFired < rule.cooldownMillis) {
+                        continue;
+                    }
+                    if (mode == Mode.REPLAY) {
+                        continue;
+                    }
+                    rule.stats.lastFired.put(area, newest);
+                    if (mode == Mode.LIVE) {
+                        firings.add(new Firing(rule, window.countSince(since), report));
+                    }
+                }
+            }
+        }
+    }
+
+    private void raise(Firing firing) {
+        CompiledRule rule = firing.rule;
+        Report report = firing.report;
+        String area = switch (rule.scope) {
+            case VILLAGE -> report.village + ", " + report.district;
+            case DISTRICT -> report.district;
+            case ALL -> rule.district != null ? rule.district : "all districts";
+        };
+        StringBuilder description = new StringBuilder();
+        description.append(firing.count).append(firing.count == 1 ? " report" : " reports");
+        if (rule.symptom != null) {
+            description.append(" of ").append(rule.symptom);
+        }
+        if (rule.minUrgency != null) {
+            description.append(" at ").append(rule.minUrgency.getDisplayName().toLowerCase(Locale.ROOT))
+                    .append(" urgency or above");
+        }
+        description.append(" in ").append(area).append(" within ").append(rule.windowHours).append(" hours");
+
+        AlertDto request = new AlertDto();
+        request.setTitle(rule.name);
+        request.setDescription(description.toString());
+        request.setType(rule.alertType);
+        request.setPriority(rule.alertPriority);
+        request.setDistrict(rule.scope != RuleScope.ALL ? report.district : rule.district);
+        request.setLocation(rule.scope == RuleScope.VILLAGE ? report.village : null);
+        request.setRecipientRoles(rule.recipientRoles);
+        try {
+            AlertDto alert = transactionTemplate.execute(status -> alertService.createRuleAlert(request, rule.id));
+            rule.stats.firings.incrementAndGet();
+            rule.stats.lastFiredAt = LocalDateTime.now();
+            log.info("Surveillance rule {} '{}' fired for {}: alert {} to {} recipients", rule.id, rule.name, area,
+                    alert != null ? alert.getId() : null, alert != null ? alert.getRecipientCount() : 0);
+        } catch (RuntimeException e) {
+            log.warn("Surveillance rule {} '{}' fired for {} but the alert could not be created: {}",
+                    rule.id, rule.name, area, e.getMessage());
+        }
+    }
+
+    private static String symptomKey(String symptom) {
+        return symptom == null || symptom.isBlank() ? ANY : symptom.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static long localMillis(LocalDateTime time) {
+        return (time != null ? time : LocalDateTime.now()).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * How a report is counted: live reports fire alerts; replayed reports only
+     * fill the counters, and when seeding also mark areas over a threshold as fired
+     */
+    private enum Mode { LIVE, SEED, REPLAY }
+
+    private static final class Engine {
+        /** Counters by "symptom|districtId", either part possibly the wildcard */
+        private final Map<String, Counter[]> index;
+        private final List<Counter> counters;
+        /** Highest report id counted by the replay; its events are skipped */
+        private final long replayedThrough;
+
+        Engine(Map<String, Counter[]> index, List<Counter> counters, long replayedThrough) {
+            this.index = index;
+            this.counters = counters;
+            this.replayedThrough = replayedThrough;
+        }
+    }
+
+    /**
+     * Reports matching one set of conditions, per area, and the rules firing on them
+     */
+    private static final class Counter {
+        private final int minUrgencyScore;
+        private final RuleScope scope;
+        private final long windowMillis;
+        /** Ascending by threshold */
+        private final CompiledRule[] rules;
+        private final int capacity;
+        private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+        Counter(SurveillanceRule definition, List<CompiledRule> rules) {
+            this.minUrgencyScore = definition.getMinUrgency() != null ? definition.getMinUrgency().getPriorityScore() : 0;
+            this.scope = definition.getScope();
+            this.windowMillis = Duration.ofHours(definition.getWindowHours()).toMillis();
+            this.rules = rules.stream().sorted(Comparator.comparingInt(rule -> rule.threshold))
+                    .toArray(CompiledRule[]::new);
+            this.capacity = this.rules[this.rules.length - 1].threshold;
+        }
+    }
+
+    /**
+     * Times of the newest reports in one area, ascending, at most as many as
+     * the largest threshold on the counter
+     */
+    private static final class Window {
+        private final long[] times;
+        private int size;
+
+        Window(int capacity) {
+            this.times = new long[capacity];
+        }
+
+        void add(long time) {
+            int i;
+            if (size < times.length) {
+                i = size++;
+            } else if (time <= times[0]) {
+                // Older than every kept report; cannot change the newest N
+                return;
+            } else {
+                System.arraycopy(times, 1, times, 0, size - 1);
+                i = size - 1;
+            }
+            // Reports mostly arrive in order, so this rarely moves anything
+            while (i > 0 && times[i - 1] > time) {
+                times[i] = times[i - 1];
+                i--;
+            }
+            times[i] = time;
+        }
+
+        /** Whether the threshold-th newest report is inside the window */
+        boolean reached(int threshold, long since) {
+            return size >= threshold && times[size - threshold] >= since;
+        }
+
+        int countSince(long since) {
+            int index = Arrays.binarySearch(times, 0, size, since);
+            if (index < 0) {
+                return size + index + 1;
+            }
+            while (index > 0 && times[index - 1] == since) {
+                index--;
+            }
+            return size - index;
+        }
+
+        long newest() {
+            return size == 0 ? Long.MIN_VALUE : times[size - 1];
+        }
+    }
+
+    /**
+     * Immutable copy of the rule fields needed to evaluate and fire it
+     */
+    private static final class CompiledRule {
+        private final Long id;
+        private final String name;
+        private final String symptom;
+        private final String district;
+        private final UrgencyLevel minUrgency;
+        private final RuleScope scope;
+        private final int threshold;
+        private final int windowHours;
+        private final long cooldownMillis;
+        private final AlertType alertType;
+        private final UrgencyLevel alertPriority;
+        private final List<UserRole> recipientRoles;
+        private final RuleStats stats;
+
+        CompiledRule(SurveillanceRule rule, RuleStats stats) {
+            this.id = rule.getId();
+            this.name = rule.getName();
+            this.symptom = rule.getSymptom();
+            this.district = rule.getDistrict();
+            this.minUrgency = rule.getMinUrgency();
+            this.scope = rule.getScope();
+            this.threshold = rule.getThreshold();
+            this.windowHours = rule.getWindowHours();
+            this.cooldownMillis = Duration.ofHours(rule.getCooldownHours()).toMillis();
+            this.alertType = rule.getAlertType();
+            this.alertPriority = rule.getAlertPriority();
+            this.recipientRoles = rule.getRecipientRoles() == null ? null
+                    : Arrays.stream(rule.getRecipientRoles().split(",")).map(UserRole::valueOf)
+                            .collect(Collectors.toList());
+            this.stats = stats;
+        }
+    }
+
+    private static final class RuleStats {
+        private final AtomicLong firings = new AtomicLong();
+        private volatile LocalDateTime lastFiredAt;
+        /** Report time of the last firing by area */
+        private final Map<String, Long> lastFired = new ConcurrentHashMap<>();
+    }
+
+    private static final class Report {
+        private final String district;
+        private final String village;
+        private final int urgencyScore;
+        private final long time;
+        private final String districtKey;
+
+        Report(String district, String village, int urgencyScore, long time, String districtKey) {
+            this.district = district;
+            this.village = village;
+            this.urgencyScore = urgencyScore;
+            this.time = time;
+            this.districtKey = districtKey;
+        }
+    }
+
+    private static final class Firing {
+        private final CompiledRule rule;
+        private final int count;
+        private final Report report;
+
+        Firing(CompiledRule rule, int count, Report report) {
+            this.rule = rule;
+            this.count = count;
+            this.report = report;
+        }
+    }
+}
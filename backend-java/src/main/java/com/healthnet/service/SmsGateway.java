@@ -0,0 +1,110 @@
+package com.healthnet.service;
+
+import java.util.List;
+
+/**
+ * SMS provider plugged into the alert dispatcher.
+ *
+ * Every Spring bean implementing this interface becomes a provider lane
+ * with its own rate limit and circuit breaker; traffic is shared between
+ * healthy lanes by weight. An implementation sends a batch in as few
+ * provider calls as its API allows and reports one result per message, or
+ * throws SmsGatewayException when the call failed as a whole.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public interface SmsGateway {
+
+    /**
+     * Provider name, stored on every message it sends
+     */
+    String getName();
+
+    /**
+     * Sustained messages per second the provider account allows
+     */
+    double getRatePerSecond();
+
+    /**
+     * Messages that may be sent at once before the rate applies
+     */
+    int getBurst();
+
+    /**
+     * Largest batch the provider accepts in one call
+     */
+    int getBatchSize();
+
+    /**
+     * Relative share of traffic while several providers are healthy
+     */
+    default int getWeight() {
+        return 1;
+    }
+
+    /**
+     * Send a batch; results are in the order of the messages
+     */
+    List<Result> send(List<Message> batch);
+
+    /**
+     * One SMS to send
+     */
+    final class Message {
+        private final Long id;
+        private final String to;
+        private final String text;
+
+        public Message(Long id, String to, String text) {
+            this.id = id;
+            this.to = to;
+            this.text = text;
+        }
+
+        public Long getId() { return id; }
+        public String getTo() { return to; }
+        public String getText() { return text; }
+    }
+
+    /**
+     * Provider outcome for one message
+     */
+    final class Result {
+
+        public enum Outcome {
+            /** Accepted by the provider */
+            SENT,
+            /** Failed for now (throttled, temporary error); worth retrying */
+            RETRY,
+            /** Refused for good (invalid or blocked number) */
+            REJECTED
+        }
+
+        private final Outcome outcome;
+        private final String providerMessageId;
+        private final String error;
+
+        private Result(Outcome outcome, String providerMessageId, String error) {
+            this.outcome = outcome;
+            this.providerMessageId = providerMessageId;
+            this.error = error;
+        }
+
+        public static Result sent(String providerMessageId) {
+            return new Result(Outcome.SENT, providerMessageId, null);
+        }
+
+        public static Result retry(String error) {
+            return new Result(Outcome.RETRY, null, error);
+        }
+
+        public static Result rejected(String error) {
+            return new Result(Outcome.REJECTED, null, error);
+        }
+
+        public Outcome getOutcome() { return outcome; }
+        public String getProviderMessageId() { return providerMessageId; }
+        public String getError() { return error; }
+    }
+}
@@ -0,0 +1,69 @@
+package com.healthnet.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived, single-use tickets for opening event streams.
+ *
+ * EventSource cannot set an Authorization header, so a dashboard first asks
+ * for a ticket with its bearer token and then opens the stream with the
+ * ticket in the query string. A ticket names the user it was issued to,
+ * expires after a few seconds and is consumed by the first request that
+ * presents it, so what ends up in access and proxy logs is useless by the
+ * time anyone reads it.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class StreamTicketService {
+
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+    @Value("${healthnet.stream.ticket-ttl-ms:30000}")
+    private long ticketTtlMs;
+
+    /**
+     * Issue a ticket for a user
+     */
+    public String issue(Long userId) {
+        long now = System.currentTimeMillis();
+        tickets.values().removeIf(ticket -> ticket.expiresAt <= now);
+        String value = UUID.randomUUID().toString();
+        tickets.put(value, new Ticket(userId, now + ticketTtlMs));
+        return value;
+    }
+
+    /**
+     * Consume a ticket, returning the id of the user it was issued to, or null if it is unknown, used or expired
+     */
+    public Long redeem(String value) {
+        Ticket ticket = tickets.remove(value);
+        if (ticket == null || ticket.expiresAt <= System.currentTimeMillis()) {
+            return null;
+        }
+        return ticket.userId;
+    }
+
+    /**
+     * Lifetime of a ticket in seconds
+     */
+    public long getTtlSeconds() {
+        return Math.max(1, ticketTtlMs / 1000);
+    }
+
+    private static final class Ticket {
+        private final Long userId;
+        private final long expiresAt;
+
+        private Ticket(Long userId, long expiresAt) {
+            this.userId = userId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.healthnet.service;
+
+import com.healthnet.exception.SmsGatewayException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Local SMS gateway that sends nothing, for development and load tests.
+ *
+ * Accepts every well-formed number after a configurable latency per call,
+ * rejects malformed numbers for good, and can fail a share of messages or
+ * whole calls to exercise the dispatcher's retries and circuit breaker.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "healthnet.alerts.stub.enabled", havingValue = "true", matchIfMissing = true)
+public class StubSmsGateway implements SmsGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(StubSmsGateway.class);
+
+    private static final Pattern PHONE = Pattern.compile("\\+?[0-9]{10,15}");
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Value("${healthnet.alerts.stub.rate-per-second:500}")
+    private double ratePerSecond;
+
+    @Value("${healthnet.alerts.stub.burst:1000}")
+    private int burst;
+
+    @Value("${healthnet.alerts.stub.batch-size:100}")
+    private int batchSize;
+
+    @Value("${healthnet.alerts.stub.latency-ms:20}")
+    private long latencyMillis;
+
+    @Value("${healthnet.alerts.stub.message-failure-rate:0}")
+    private double messageFailureRate;
+
+    @Value("${healthnet.alerts.stub.call-failure-rate:0}")
+    private double callFailureRate;
+
+    @Override
+    public String getName() {
+        return "stub";
+    }
+
+    @Override
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    @Override
+    public int getBurst() {
+        return burst;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public List<Result> send(List<Message> batch) {
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SmsGatewayException("Interrupted while sending", e);
+            }
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < callFailureRate) {
+            throw new SmsGatewayException("Simulated provider outage");
+        }
+
+        List<Result> results = new ArrayList<>(batch.size());
+        for (Message message : batch) {
+            if (!PHONE.matcher(message.getTo().replaceAll("[\\s-]", "")).matches()) {
+                results.add(Result.rejected("Invalid phone number"));
+            } else if (random.nextDouble() < messageFailureRate) {
+                results.add(Result.retry("Simulated temporary failure"));
+            } else {
+                results.add(Result.sent("stub-" + sequence.incrementAndGet()));
+            }
+        }
+        log.debug("Stub gateway accepted a batch of {} messages", batch.size());
+        return results;
+    }
+}
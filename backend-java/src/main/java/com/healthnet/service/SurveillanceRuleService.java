@@ -0,0 +1,163 @@
+package com.healthnet.service;
+
+import com.healthnet.dto.SurveillanceRuleDto;
+import com.healthnet.entity.AlertType;
+import com.healthnet.entity.RuleScope;
+import com.healthnet.entity.SurveillanceRule;
+import com.healthnet.entity.User;
+import com.healthnet.entity.UserRole;
+import com.healthnet.event.SurveillanceRuleChangedEvent;
+import com.healthnet.exception.ResourceNotFoundException;
+import com.healthnet.repository.SurveillanceRuleRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for surveillance rules.
+ *
+ * Rules are plain rows; every change is announced so the rules engine
+ * recompiles its matcher after commit.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class SurveillanceRuleService {
+
+    private final SurveillanceRuleRepository surveillanceRuleRepository;
+    private final LocationDictionaryService locationDictionaryService;
+    private final RulesEngineService rulesEngineService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SurveillanceRuleService(SurveillanceRuleRepository surveillanceRuleRepository,
+                                   LocationDictionaryService locationDictionaryService,
+                                   RulesEngineService rulesEngineService,
+                                   ApplicationEventPublisher eventPublisher) {
+        this.surveillanceRuleRepository = surveillanceRuleRepository;
+        this.locationDictionaryService = locationDictionaryService;
+        this.rulesEngineService = rulesEngineService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Get all rules by name
+     */
+    @Transactional(readOnly = true)
+    public List<SurveillanceRuleDto> getRules() {
+        return surveillanceRuleRepository.findAll(Sort.by("name", "id")).stream()
+                .map(this::toDto).collect(Collectors.toList());
+    }
+
+    /**
+     * Get rule by ID
+     */
+    @Transactional(readOnly = true)
+    public SurveillanceRuleDto getRule(Long id) {
+        return toDto(findRule(id));
+    }
+
+    /**
+     * Create a rule
+     */
+    public SurveillanceRuleDto createRule(SurveillanceRuleDto request) {
+        SurveillanceRule rule = new SurveillanceRule();
+        apply(rule, request);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User) {
+            rule.setCreatedBy(((User) authentication.getPrincipal()).getId());
+        }
+        SurveillanceRule savedRule = surveillanceRuleRepository.save(rule);
+        eventPublisher.publishEvent(new SurveillanceRuleChangedEvent(savedRule.getId()));
+        return toDto(savedRule);
+    }
+
+    /**
+     * Replace a rule's definition
+     */
+    public SurveillanceRuleDto updateRule(Long id, SurveillanceRuleDto request) {
+        SurveillanceRule rule = findRule(id);
+        apply(rule, request);
+        SurveillanceRule savedRule = surveillanceRuleRepository.save(rule);
+        eventPublisher.publishEvent(new SurveillanceRuleChangedEvent(savedRule.getId()));
+        return toDto(savedRule);
+    }
+
+    /**
+     * Delete a rule; alerts it raised are kept
+     */
+    public void deleteRule(Long id) {
+        SurveillanceRule rule = findRule(id);
+        surveillanceRuleRepository.delete(rule);
+        eventPublisher.publishEvent(new SurveillanceRuleChangedEvent(id));
+    }
+
+    private void apply(SurveillanceRule rule, SurveillanceRuleDto request) {
+        rule.setName(request.getName().trim());
+        rule.setEnabled(request.getEnabled() == null || request.getEnabled());
+        rule.setSymptom(blankToNull(request.getSymptom()));
+
+        String district = blankToNull(request.getDistrict());
+        Integer districtId = null;
+        if (district != null) {
+            districtId = locationDictionaryService.findDistrictId(district);
+            if (districtId == null) {
+                throw new IllegalArgumentException("Unknown district: " + district);
+            }
+        }
+        rule.setDistrict(district);
+        rule.setDistrictId(districtId);
+
+        rule.setMinUrgency(request.getMinUrgency());
+        rule.setScope(request.getScope() != null ? request.getScope() : RuleScope.VILLAGE);
+        rule.setThreshold(request.getThreshold());
+        rule.setWindowHours(request.getWindowHours());
+        rule.setCooldownHours(request.getCooldownHours() != null ? request.getCooldownHours() : request.getWindowHours());
+        rule.setAlertType(request.getAlertType() != null ? request.getAlertType() : AlertType.DISEASE_OUTBREAK);
+        rule.setAlertPriority(request.getAlertPriority());
+        rule.setRecipientRoles(request.getRecipientRoles() == null || request.getRecipientRoles().isEmpty() ? null
+                : EnumSet.copyOf(request.getRecipientRoles()).stream().map(Enum::name).collect(Collectors.joining(",")));
+    }
+
+    private SurveillanceRule findRule(Long id) {
+        return surveillanceRuleRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Surveillance rule not found with id: " + id));
+    }
+
+    private SurveillanceRuleDto toDto(SurveillanceRule rule) {
+        SurveillanceRuleDto dto = new SurveillanceRuleDto();
+        dto.setId(rule.getId());
+        dto.setName(rule.getName());
+        dto.setEnabled(rule.getEnabled());
+        dto.setSymptom(rule.getSymptom());
+        dto.setDistrict(rule.getDistrict());
+        dto.setMinUrgency(rule.getMinUrgency());
+        dto.setScope(rule.getScope());
+        dto.setThreshold(rule.getThreshold());
+        dto.setWindowHours(rule.getWindowHours());
+        dto.setCooldownHours(rule.getCooldownHours());
+        dto.setAlertType(rule.getAlertType());
+        dto.setAlertPriority(rule.getAlertPriority());
+        dto.setRecipientRoles(rule.getRecipientRoles() == null ? List.of()
+                : Arrays.stream(rule.getRecipientRoles().split(",")).map(UserRole::valueOf).collect(Collectors.toList()));
+        dto.setCreatedBy(rule.getCreatedBy());
+        dto.setCreatedAt(rule.getCreatedAt());
+        dto.setUpdatedAt(rule.getUpdatedAt());
+        dto.setFirings(rulesEngineService.getFirings(rule.getId()));
+        dto.setLastFiredAt(rulesEngineService.getLastFiredAt(rule.getId()));
+        return dto;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,275 @@
+package com.healthnet.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthnet.entity.HealthReport;
+import com.healthnet.util.AhoCorasick;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Extracts canonical symptom codes from free-text report descriptions.
+ *
+ * Lexicons are JSON files per language, one per locale of the frontend
+ * ("as.json", "hi.json", ...), mapping each symptom code to the words for
+ * it. All terms of all languages are compiled into one Aho-Corasick
+ * automaton, so a description is scanned once whatever the number of
+ * languages and terms. Terms match whole words; a term ending in "*" also
+ * matches longer words starting with it, for inflected forms. Text and
+ * terms are normalized alike: NFC, lower case, and every run of characters
+ * other than letters, digits and combining marks folded to one space.
+ *
+ * The lexicon directory is checked periodically; when a file changes a new
+ * automaton is built on the scheduler thread and swapped in, so ingest keeps
+ * using the previous one meanwhile and never waits.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class SymptomExtractionService {
+
+    private static final Logger log = LoggerFactory.getLogger(SymptomExtractionService.class);
+
+    private static final String PREFIX_MARK = "*";
+
+    private final ObjectMapper objectMapper;
+    private volatile Lexicon lexicon = Lexicon.EMPTY;
+
+    @Value("${healthnet.symptoms.lexicon-dir:${healthnet.data-dir:../Data-UAD}/symptom-lexicon}")
+    private String lexiconDir;
+
+    @Value("${healthnet.symptoms.max-description-length:5000}")
+    private int maxDescriptionLength;
+
+    public SymptomExtractionService(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Build the automaton before the first report arrives
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reloadIfChanged();
+    }
+
+    /**
+     * Rebuild the automaton when a lexicon file was added, changed or removed
+     */
+    @Scheduled(fixedDelayString = "${healthnet.symptoms.reload-check-ms:30000}",
+               initialDelayString = "${healthnet.symptoms.reload-check-ms:30000}")
+    public void reloadIfChanged() {
+        Path dir = Paths.get(lexiconDir);
+        String fingerprint = fingerprint(dir);
+        if (fingerprint.equals(lexicon.fingerprint)) {
+            return;
+        }
+        if (fingerprint.isEmpty()) {
+            log.warn("Symptom lexicons not found at {}; descriptions will not be scanned", dir.toAbsolutePath());
+            lexicon = Lexicon.EMPTY;
+            return;
+        }
+        try {
+            lexicon = load(dir, fingerprint);
+        } catch (IOException | RuntimeException e) {
+            // Keep serving the previous lexicon; a half-edited file is retried on the next check
+            log.warn("Failed to load symptom lexicons from {}: {}", dir.toAbsolutePath(), e.getMessage());
+        }
+    }
+
+    /**
+     * Add the symptom codes found in a report's description to its symptoms
+     */
+    public void annotate(HealthReport report) {
+        Set<String> codes = extract(report.getDescription());
+        if (codes.isEmpty()) {
+            return;
+        }
+        List<String> symptoms = report.getSymptoms() != null ? new ArrayList<>(report.getSymptoms()) : new ArrayList<>();
+        Set<String> present = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (String symptom : symptoms) {
+            if (symptom != null) {
+                present.add(symptom.trim());
+            }
+        }
+        for (String code : codes) {
+            if (present.add(code)) {
+                symptoms.add(code);
+            }
+        }
+        report.setSymptoms(symptoms);
+    }
+
+    /**
+     * Symptom codes mentioned in a text, in order of first mention
+     */
+    public Set<String> extract(String text) {
+        Lexicon current = lexicon;
+        if (text == null || text.isBlank() || current.automaton == null) {
+            return Set.of();
+        }
+        String normalized = normalize(text.length() > maxDescriptionLength
+                ? text.substring(0, maxDescriptionLength) : text);
+        Set<String> codes = new LinkedHashSet<>();
+        current.automaton.search(normalized, (id, end) -> {
+            int start = end - current.lengths[id];
+            boolean startsWord = start == 0 || normalized.charAt(start - 1) == ' ';
+            boolean endsWord = end == normalized.length() || normalized.charAt(end) == ' ';
+            if (startsWord && (endsWord || current.prefix[id])) {
+                codes.add(current.codes[id]);
+            }
+        });
+        return codes;
+    }
+
+    /**
+     * Languages with a lexicon
+     */
+    public Set<String> getLanguages() {
+        return lexicon.languages;
+    }
+
+    private Lexicon load(Path dir, String fingerprint) throws IOException {
+        // Terms in a stable order so rebuilds from the same files are identical
+        Map<String, String> termCodes = new TreeMap<>();
+        Set<String> languages = new TreeSet<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.json")) {
+            for (Path file : files) {
+                String language = file.getFileName().toString().replaceFirst("\\.json$", "").toLowerCase(Locale.ROOT);
+                try (InputStream in = Files.newInputStream(file)) {
+                    JsonNode root = objectMapper.readTree(in);
+                    Iterator<Map.Entry<String, JsonNode>> entries = root.fields();
+                    while (entries.hasNext()) {
+                        Map.Entry<String, JsonNode> entry = entries.next();
+                        String code = entry.getKey().trim().toLowerCase(Locale.ROOT);
+                        for (JsonNode term : entry.getValue()) {
+                            String raw = term.asText().trim();
+                            boolean prefix = raw.endsWith(PREFIX_MARK);
+                            String key = normalize(prefix ? raw.substring(0, raw.length() - 1) : raw).trim();
+                            if (key.isEmpty()) {
+                                continue;
+                            }
+                            String previous = termCodes.put(key + (prefix ? PREFIX_MARK : ""), code);
+                            if (previous != null && !previous.equals(code)) {
+                                log.warn("Symptom term '{}' in {} maps to both {} and {}", raw, file.getFileName(),
+                                        previous, code);
+                            }
+                        }
+                    }
+                }
+                languages.add(language);
+            }
+        }
+
+        AhoCorasick.Builder builder = AhoCorasick.builder();
+        String[] codes = new String[termCodes.size()];
+        int[] lengths = new int[termCodes.size()];
+        boolean[] prefix = new boolean[termCodes.size()];
+        int id = 0;
+        for (Map.Entry<String, String> entry : termCodes.entrySet()) {
+            String key = entry.getKey();
+            prefix[id] = key.endsWith(PREFIX_MARK);
+            String pattern = prefix[id] ? key.substring(0, key.length() - 1) : key;
+            codes[id] = entry.getValue();
+            lengths[id] = pattern.length();
+            builder.add(pattern, id);
+            id++;
+        }
+        AhoCorasick automaton = builder.build();
+        log.info("Symptom lexicons loaded: {} terms in {} languages, {} automaton states",
+                automaton.getPatternCount(), languages.size(), automaton.getStateCount());
+        return new Lexicon(automaton, codes, lengths, prefix, Set.copyOf(languages), fingerprint);
+    }
+
+    /**
+     * Names, sizes and modification times of the lexicon files; empty if there are none
+     */
+    private static String fingerprint(Path dir) {
+        if (!Files.isDirectory(dir)) {
+            return "";
+        }
+        Set<String> entries = new TreeSet<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.json")) {
+            for (Path file : files) {
+                entries.add(file.getFileName() + ":" + Files.size(file) + ":" + Files.getLastModifiedTime(file).toMillis());
+            }
+        } catch (IOException e) {
+            log.warn("Failed to list symptom lexicons in {}: {}", dir.toAbsolutePath(), e.getMessage());
+            return "";
+        }
+        return String.join(",", entries);
+    }
+
+    /**
+     * NFC, lower case, zero-width joiners dropped, and every run of other
+     * characters than letters, digits and combining marks as one space
+     */
+    private static String normalize(String text) {
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder out = new StringBuilder(composed.length() + 2);
+        boolean space = false;
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            int type = Character.getType(c);
+            if (type == Character.FORMAT) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c) || type == Character.NON_SPACING_MARK
+                    || type == Character.COMBINING_SPACING_MARK || Character.isSurrogate(c)) {
+                if (space && out.length() > 0) {
+                    out.append(' ');
+                }
+                space = false;
+                out.append(c);
+            } else {
+                space = true;
+            }
+        }
+        return out.toString();
+    }
+
+    private static final class Lexicon {
+        private static final Lexicon EMPTY = new Lexicon(null, new String[0], new int[0], new boolean[0], Set.of(), "");
+
+        private final AhoCorasick automaton;
+        /** Symptom code, pattern length and prefix flag by pattern id */
+        private final String[] codes;
+        private final int[] lengths;
+        private final boolean[] prefix;
+        private final Set<String> languages;
+        private final String fingerprint;
+
+        Lexicon(AhoCorasick automaton, String[] codes, int[] lengths, boolean[] prefix, Set<String> languages,
+                String fingerprint) {
+            this.automaton = automaton;
+            this.codes = codes;
+            this.lengths = lengths;
+            this.prefix = prefix;
+            this.languages = languages;
+            this.fingerprint = fingerprint;
+        }
+    }
+}
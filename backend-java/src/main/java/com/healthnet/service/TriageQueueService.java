@@ -0,0 +1,386 @@
+package com.healthnet.service;
+
+import com.healthnet.dto.TriageItemDto;
+import com.healthnet.entity.ReportStatus;
+import com.healthnet.entity.UrgencyLevel;
+import com.healthnet.event.HealthReportEvent;
+import com.healthnet.exception.ResourceNotFoundException;
+import com.healthnet.repository.HealthReportRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory triage queue of pending health reports.
+ *
+ * Reports are ordered by urgency priority score and then by age, and are
+ * handed out to officers under time-limited leases. A lease that is not
+ * renewed expires back into the queue, so two officers never work the same
+ * report and abandoned claims are not lost. Claims and releases are
+ * O(log n) skip-list operations; the queue is seeded from the database at
+ * startup and kept current from report events.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class TriageQueueService {
+
+    private static final Logger log = LoggerFactory.getLogger(TriageQueueService.class);
+
+    private static final Comparator<Entry> PRIORITY_ORDER = Comparator
+            .comparingInt((Entry e) -> -e.urgency.getPriorityScore())
+            .thenComparingLong(e -> e.createdAtMillis)
+            .thenComparingLong(e -> e.reportId);
+
+    private final HealthReportRepository healthReportRepository;
+    private final Duration leaseDuration;
+
+    /** All pending reports, leased or not */
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    /** Unleased reports; removal from this set is what makes a claim exclusive */
+    private final ConcurrentSkipListSet<Entry> available = new ConcurrentSkipListSet<>(PRIORITY_ORDER);
+    /** Unleased reports per normalized district, for district-scoped claims */
+    private final Map<String, ConcurrentSkipListSet<Entry>> availableByDistrict = new ConcurrentHashMap<>();
+    private final DelayQueue<Lease> leaseExpiry = new DelayQueue<>();
+
+    public TriageQueueService(HealthReportRepository healthReportRepository,
+                              @Value("${healthnet.triage.lease-minutes:15}") long leaseMinutes) {
+        this.healthReportRepository = healthReportRepository;
+        this.leaseDuration = Duration.ofMinutes(leaseMinutes);
+    }
+
+    /**
+     * Seed the queue from the pending reports in the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void seed() {
+        for (Object[] row : healthReportRepository.findPendingTriageRows()) {
+            offer((Long) row[0], (UrgencyLevel) row[1], (LocalDateTime) row[2], (String) row[3], null);
+        }
+        log.info("Triage queue seeded with {} pending reports", entries.size());
+    }
+
+    /**
+     * Keep the queue in step with committed report changes
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportEvent(HealthReportEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED, STATUS_CHANGED -> {
+                Entry current = entries.get(event.getReportId());
+                if (event.getStatus() == ReportStatus.PENDING) {
+                    if (current == null) {
+                        offer(event.getReportId(), event.getUrgency(), event.getCreatedAt(), event.getDistrict(), null);
+                    } else if (current.urgency != event.getUrgency()
+                            || !current.district.equals(normalize(event.getDistrict()))) {
+                        // A new urgency re-sorts the report and a new district re-keys it; an officer
+                        // working it keeps the lease. Another event may have replaced the entry meanwhile.
+                        if (remove(current)) {
+                            offer(event.getReportId(), event.getUrgency(), event.getCreatedAt(), event.getDistrict(),
+                                    takeLease(current));
+                        }
+                    }
+                } else if (current != null && remove(current)) {
+                    takeLease(current);
+                }
+            }
+            case DELETED -> {
+                Entry current = entries.get(event.getReportId());
+                if (current != null && remove(current)) {
+                    takeLease(current);
+                }
+            }
+            default -> {
+                // Notes do not affect triage order
+            }
+        }
+    }
+
+    /**
+     * Claim the highest priority unleased report, optionally limited to one district.
+     * Returns null when nothing is available.
+     */
+    public TriageItemDto claim(Long userId, String district) {
+        while (true) {
+            Entry candidate;
+            if (district == null || district.isBlank()) {
+                candidate = available.pollFirst();
+            } else {
+                ConcurrentSkipListSet<Entry> districtQueue = availableByDistrict.get(normalize(district));
+                candidate = districtQueue != null ? districtQueue.pollFirst() : null;
+                // The global set arbitrates between concurrent district and global claims
+                if (candidate != null && !available.remove(candidate)) {
+                    continue;
+                }
+            }
+            if (candidate == null) {
+                return null;
+            }
+
+            ConcurrentSkipListSet<Entry> districtQueue = availableByDistrict.get(candidate.district);
+            if (districtQueue != null) {
+                districtQueue.remove(candidate);
+            }
+
+            if (entries.get(candidate.reportId) != candidate) {
+                // Completed or re-prioritized while we were claiming it
+                continue;
+            }
+            Lease lease = new Lease(candidate, userId, System.currentTimeMillis() + leaseDuration.toMillis());
+            candidate.lease = lease;
+            leaseExpiry.add(lease);
+            return toDto(candidate);
+        }
+    }
+
+    /**
+     * Extend a lease held by the user
+     */
+    public TriageItemDto renew(Long reportId, Long userId) {
+        Entry entry = requireLeasedBy(reportId, userId);
+        synchronized (entry) {
+            Lease renewed = new Lease(entry, userId, System.currentTimeMillis() + leaseDuration.toMillis());
+            entry.lease = renewed;
+            leaseExpiry.add(renewed);
+        }
+        return toDto(entry);
+    }
+
+    /**
+     * Give a leased report back to the queue
+     */
+    public void release(Long reportId, Long userId) {
+        while (true) {
+            Entry entry = requireLeasedBy(reportId, userId);
+            Lease lease = entry.lease;
+            synchronized (entry) {
+                if (entry.lease != lease) {
+                    // Carried over to a re-queued entry; release that one instead
+                    continue;
+                }
+                entry.lease = null;
+            }
+            // A replaced entry must not come back; its replacement was queued without the lease
+            if (entries.get(reportId) == entry) {
+                makeAvailable(entry);
+            }
+            return;
+        }
+    }
+
+    /**
+     * Top of the queue (unleased reports only), optionally limited to one district
+     */
+    public List<TriageItemDto> peek(String district, int limit) {
+        Iterator<Entry> iterator;
+        if (district == null || district.isBlank()) {
+            iterator = available.iterator();
+        } else {
+            ConcurrentSkipListSet<Entry> districtQueue = availableByDistrict.get(normalize(district));
+            if (districtQueue == null) {
+                return List.of();
+            }
+            iterator = districtQueue.iterator();
+        }
+
+        List<TriageItemDto> items = new ArrayList<>(Math.min(limit, 64));
+        while (iterator.hasNext() && items.size() < limit) {
+            items.add(toDto(iterator.next()));
+        }
+        return items;
+    }
+
+    /**
+     * Reports currently leased by a user
+     */
+    public List<TriageItemDto> getLeasesOf(Long userId) {
+        List<TriageItemDto> items = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            Lease lease = entry.lease;
+            if (lease != null && lease.userId.equals(userId)) {
+                items.add(toDto(entry));
+            }
+        }
+        items.sort(Comparator.comparing(TriageItemDto::getLeaseExpiresAt));
+        return items;
+    }
+
+    public int getPendingCount() {
+        return entries.size();
+    }
+
+    public int getAvailableCount() {
+        return available.size();
+    }
+
+    /**
+     * Return expired leases to the queue
+     */
+    @Scheduled(fixedDelayString = "${healthnet.triage.expiry-check-ms:1000}")
+    public void expireLeases() {
+        Lease lease;
+        while ((lease = leaseExpiry.poll()) != null) {
+            Entry entry = lease.entry;
+            boolean expired;
+            synchronized (entry) {
+                // Renewed or released leases leave stale queue entries behind; only the current one counts
+                expired = entry.lease == lease;
+                if (expired) {
+                    entry.lease = null;
+                }
+            }
+            if (expired && entries.get(entry.reportId) == entry) {
+                makeAvailable(entry);
+            }
+        }
+    }
+
+    /**
+     * Add a pending report, still leased if it carries over an unexpired lease from a previous entry
+     */
+    private void offer(Long reportId, UrgencyLevel urgency, LocalDateTime createdAt, String district, Lease held) {
+        long createdAtMillis = (createdAt != null ? createdAt : LocalDateTime.now())
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Entry entry = new Entry(reportId, urgency != null ? urgency : UrgencyLevel.LOW, createdAtMillis, normalize(district));
+        entry.displayDistrict = district;
+        if (held != null && !held.isExpired()) {
+            Lease lease = new Lease(entry, held.userId, held.expiresAtMillis);
+            entry.lease = lease;
+            if (entries.putIfAbsent(reportId, entry) == null) {
+                leaseExpiry.add(lease);
+            }
+        } else if (entries.putIfAbsent(reportId, entry) == null) {
+            makeAvailable(entry);
+        }
+    }
+
+    /**
+     * Take an entry out of the queue unless it has already been replaced or removed; returns whether it was
+     */
+    private boolean remove(Entry entry) {
+        if (!entries.remove(entry.reportId, entry)) {
+            return false;
+        }
+        available.remove(entry);
+        ConcurrentSkipListSet<Entry> districtQueue = availableByDistrict.get(entry.district);
+        if (districtQueue != null) {
+            districtQueue.remove(entry);
+        }
+        return true;
+    }
+
+    /**
+     * Clear the lease of a removed entry, returning it, if any
+     */
+    private Lease takeLease(Entry entry) {
+        synchronized (entry) {
+            Lease held = entry.lease;
+            entry.lease = null;
+            return held;
+        }
+    }
+
+    private void makeAvailable(Entry entry) {
+        availableByDistrict.computeIfAbsent(entry.district, d -> new ConcurrentSkipListSet<>(PRIORITY_ORDER)).add(entry);
+        available.add(entry);
+    }
+
+    private Entry requireLeasedBy(Long reportId, Long userId) {
+        Entry entry = entries.get(reportId);
+        if (entry == null) {
+            throw new ResourceNotFoundException("Report is not pending triage: " + reportId);
+        }
+        Lease lease = entry.lease;
+        if (lease == null || !lease.userId.equals(userId) || lease.isExpired()) {
+            throw new IllegalArgumentException("Report " + reportId + " is not leased by the current user");
+        }
+        return entry;
+    }
+
+    private TriageItemDto toDto(Entry entry) {
+        Lease lease = entry.lease;
+        return new TriageItemDto(
+            entry.reportId,
+            entry.displayDistrict,
+            entry.urgency,
+            LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.createdAtMillis), ZoneId.systemDefault()),
+            lease != null ? lease.userId : null,
+            lease != null ? LocalDateTime.ofInstant(Instant.ofEpochMilli(lease.expiresAtMillis), ZoneId.systemDefault()) : null
+        );
+    }
+
+    private static String normalize(String district) {
+        return district == null ? "" : district.trim().toLowerCase();
+    }
+
+    /**
+     * A pending report in the queue. Ordering fields are immutable.
+     */
+    private static final class Entry {
+        private final long reportId;
+        private final UrgencyLevel urgency;
+        private final long createdAtMillis;
+        private final String district;
+        private String displayDistrict;
+        private volatile Lease lease;
+
+        Entry(long reportId, UrgencyLevel urgency, long createdAtMillis, String district) {
+            this.reportId = reportId;
+            this.urgency = urgency;
+            this.createdAtMillis = createdAtMillis;
+            this.district = district;
+        }
+    }
+
+    /**
+     * A time-limited claim on an entry
+     */
+    private static final class Lease implements Delayed {
+        private final Entry entry;
+        private final Long userId;
+        private final long expiresAtMillis;
+
+        Lease(Entry entry, Long userId, long expiresAtMillis) {
+            this.entry = entry;
+            this.userId = userId;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAtMillis;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expiresAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(expiresAtMillis, ((Lease) other).expiresAtMillis);
+        }
+    }
+}
@@ -2,8 +2,12 @@ package com.healthnet.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -14,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.healthnet.entity.User;
 import com.healthnet.entity.UserRole;
 import com.healthnet.entity.UserStatus;
+import com.healthnet.event.UserChangedEvent;
 import com.healthnet.repository.UserRepository;
 
 /**
@@ -27,9 +32,15 @@ import com.healthnet.repository.UserRepository;
 public class UserService {
     
     private final UserRepository userRepository;
+    private final LocationDictionaryService locationDictionaryService;
+    private final ApplicationEventPublisher eventPublisher;
     
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository,
+                       LocationDictionaryService locationDictionaryService,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.locationDictionaryService = locationDictionaryService;
+        this.eventPublisher = eventPublisher;
     }
     
     /**
@@ -88,12 +99,15 @@ public class UserService {
         user.setRole(userDetails.getRole());
         user.setStatus(userDetails.getStatus());
         user.setDistrict(userDetails.getDistrict());
+        locationDictionaryService.assign(user);
         user.setState(userDetails.getState());
         user.setOriginalRole(userDetails.getOriginalRole());
         user.setPermissions(userDetails.getPermissions());
         user.setLastActive(LocalDateTime.now());
         
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(savedUser));
+        return savedUser;
     }
     
     /**
@@ -102,6 +116,7 @@ public class UserService {
     public void deleteUser(Long id) {
         User user = getUserById(id);
         userRepository.delete(user);
+        eventPublisher.publishEvent(UserChangedEvent.deleted(user));
     }
     
     /**
@@ -122,7 +137,7 @@ public class UserService {
      * Get users by district
      */
     public List<User> getUsersByDistrict(String district) {
-        return userRepository.findByDistrict(district);
+        return getUsersByDistricts(List.of(district));
     }
     
     /**
@@ -139,7 +154,9 @@ public class UserService {
         User user = getUserById(id);
         user.setStatus(status);
         user.setLastActive(LocalDateTime.now());
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(savedUser));
+        return savedUser;
     }
     
     /**
@@ -215,7 +232,12 @@ public class UserService {
      * Get users by multiple districts
      */
     public List<User> getUsersByDistricts(List<String> districts) {
-        return userRepository.findByDistricts(districts);
+        // Districts outside the dictionary are matched by name
+        List<Integer> districtIds = locationDictionaryService.findDistrictIds(districts);
+        List<String> names = districts.stream().filter(Objects::nonNull)
+                .map(name -> name.trim().toLowerCase(Locale.ROOT)).filter(name -> !name.isEmpty())
+                .distinct().collect(Collectors.toList());
+        return names.isEmpty() ? List.of() : userRepository.findInDistricts(districtIds, names);
     }
     
     /**
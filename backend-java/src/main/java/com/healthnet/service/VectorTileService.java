@@ -0,0 +1,535 @@
+package com.healthnet.service;
+
+import com.healthnet.entity.ReportStatus;
+import com.healthnet.event.HealthReportEvent;
+import com.healthnet.exception.ResourceNotFoundException;
+import com.healthnet.repository.HealthReportRepository;
+import com.healthnet.util.PrecompressedResponses;
+import com.healthnet.util.VectorTileEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Mapbox Vector Tiles of the GADM boundaries with live report counts.
+ *
+ * Tiles hold a states, districts and sub-districts layer (the finer layers
+ * from configurable zooms on), cut from the boundaries simplified for the
+ * zoom and clipped to the tile. Each feature carries the number of reports
+ * placed in it over the count window; counts are kept in memory per area and
+ * day and adjusted from report events. Encoded tiles sit in an LRU cache
+ * bounded by bytes; a report change evicts only the tiles showing its
+ * district or state, and day rollover clears the cache.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class VectorTileService {
+
+    private static final Logger log = LoggerFactory.getLogger(VectorTileService.class);
+
+    public static final String CONTENT_TYPE = "application/vnd.mapbox-vector-tile";
+
+    private static final int EXTENT = 4096;
+    private static final int BUFFER = 64;
+    private static final int MAX_SUPPORTED_ZOOM = 22;
+    /** Rough per-entry overhead of a cached tile beyond its bodies */
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final HealthReportRepository healthReportRepository;
+    private final GeoBoundaryService geoBoundaryService;
+    private final MapBoundaryService mapBoundaryService;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, AreaCounts> counts = new HashMap<>();
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    private final Map<String, String> stateOfDistrict = new HashMap<>();
+    private final Map<String, Set<Long>> tilesByArea = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final TileCache cache;
+    private final List<TileLayer> layers;
+    private volatile boolean ready;
+
+    @Value("${healthnet.map.tiles.max-zoom:14}")
+    private int maxZoom;
+
+    @Value("${healthnet.map.tiles.count-window-days:30}")
+    private int windowDays;
+
+    public VectorTileService(HealthReportRepository healthReportRepository,
+                             GeoBoundaryService geoBoundaryService,
+                             MapBoundaryService mapBoundaryService,
+                             @Value("${healthnet.map.tiles.cache-max-bytes:67108864}") long cacheMaxBytes,
+                             @Value("${healthnet.map.tiles.district-min-zoom:5}") int districtMinZoom,
+                             @Value("${healthnet.map.tiles.sub-district-min-zoom:7}") int subDistrictMinZoom) {
+        this.healthReportRepository = healthReportRepository;
+        this.geoBoundaryService = geoBoundaryService;
+        this.mapBoundaryService = mapBoundaryService;
+        this.cache = new TileCache(cacheMaxBytes);
+        this.layers = List.of(
+            new TileLayer("states", 1, 0),
+            new TileLayer("districts", 2, districtMinZoom),
+            new TileLayer("subdistricts", 3, subDistrictMinZoom)
+        );
+    }
+
+    /**
+     * Place the reports of the count window on districts and sub-districts
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        lock.writeLock().lock();
+        try {
+            long began = System.currentTimeMillis();
+            for (GeoBoundaryService.AdminArea district : geoBoundaryService.getDistricts()) {
+                stateOfDistrict.put(district.getGid(), district.getParentGid());
+            }
+            counts.clear();
+            contributions.clear();
+
+            LocalDateTime start = LocalDate.now().minusDays(windowDays - 1L).atStartOfDay();
+            LocalDateTime end = LocalDateTime.now().plusDays(1);
+            for (Object[] row : healthReportRepository.findLocationRows(start, end)) {
+                add((Long) row[0], (String) row[1], (String) row[2], (String) row[3], (String) row[4],
+                        (LocalDateTime) row[5]);
+            }
+            ready = true;
+            log.info("Tile report counts loaded for {} reports in {} ms",
+                    contributions.size(), System.currentTimeMillis() - began);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adjust counts and evict the tiles showing the areas a report left or entered
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportEvent(HealthReportEvent event) {
+        if (event.getType() == HealthReportEvent.Type.NOTES_ADDED) {
+            return;
+        }
+        Set<String> changed = new HashSet<>();
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                return;
+            }
+            // Re-applying a report replaces its previous contribution, so replays are harmless
+            Contribution previous = remove(event.getReportId());
+            Contribution current = null;
+            if (event.getType() != HealthReportEvent.Type.DELETED && event.getStatus() != ReportStatus.CANCELLED) {
+                current = add(event.getReportId(), event.getDistrict(), event.getVillage(),
+                        event.getDistrictGid(), event.getVillageGid(), event.getCreatedAt());
+            }
+            if (previous != null && !previous.sameAs(current)) {
+                previous.collectInvalidationKeys(changed);
+            }
+            if (current != null && !current.sameAs(previous)) {
+                current.collectInvalidationKeys(changed);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        invalidate(changed);
+    }
+
+    /**
+     * Counts move to a new window at midnight, so every cached tile is stale
+     */
+    @Scheduled(cron = "${healthnet.map.tiles.rollover-cron:0 0 0 * * *}")
+    public void rollover() {
+        long oldest = LocalDate.now().minusDays(windowDays - 1L).toEpochDay();
+        lock.writeLock().lock();
+        try {
+            contributions.values().removeIf(contribution -> contribution.epochDay < oldest);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        generation.incrementAndGet();
+        cache.clear();
+        tilesByArea.clear();
+    }
+
+    /**
+     * Encoded tile z/x/y, from the cache when it is still current
+     */
+    public EncodedTile getTile(int z, int x, int y) {
+        if (z < 0 || z > Math.min(maxZoom, MAX_SUPPORTED_ZOOM)) {
+            throw new IllegalArgumentException("Zoom must be between 0 and " + Math.min(maxZoom, MAX_SUPPORTED_ZOOM));
+        }
+        int tiles = 1 << z;
+        if (x < 0 || x >= tiles || y < 0 || y >= tiles) {
+            throw new IllegalArgumentException("Tile " + z + "/" + x + "/" + y + " does not exist");
+        }
+
+        long key = ((long) z << 58) | ((long) x << 29) | y;
+        EncodedTile cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Register before caching and re-check afterwards, so an event that
+        // changed counts while the tile was built cannot leave it cached
+        long built = generation.get();
+        EncodedTile tile = build(z, x, y);
+        for (String area : tile.areas) {
+            tilesByArea.computeIfAbsent(area, a -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+        List<Map.Entry<Long, EncodedTile>> evicted = cache.put(key, tile);
+        if (generation.get() != built) {
+            cache.remove(key);
+        }
+        for (Map.Entry<Long, EncodedTile> entry : evicted) {
+            unregister(entry.getKey(), entry.getValue());
+        }
+        return tile;
+    }
+
+    private EncodedTile build(int z, int x, int y) {
+        double tiles = 1 << z;
+        double west = x / tiles * 360 - 180;
+        double east = (x + 1) / tiles * 360 - 180;
+        double north = Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y / tiles))));
+        double south = Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * (y + 1) / tiles))));
+        double marginX = (east - west) * BUFFER / EXTENT;
+        double marginY = (north - south) * BUFFER / EXTENT;
+
+        String resolution = mapBoundaryService.resolutionForZoom(z);
+        VectorTileEncoder encoder = new VectorTileEncoder(EXTENT, BUFFER);
+        Set<String> areas = new HashSet<>();
+        for (TileLayer layer : layers) {
+            if (z < layer.minZoom) {
+                continue;
+            }
+            List<MapBoundaryService.BoundaryFeature> features;
+            try {
+                features = mapBoundaryService.getFeatures(layer.level, resolution);
+            } catch (ResourceNotFoundException e) {
+                continue;
+            }
+
+            for (int i = 0; i < features.size(); i++) {
+                MapBoundaryService.BoundaryFeature feature = features.get(i);
+                if (feature.getMaxLongitude() < west - marginX || feature.getMinLongitude() > east + marginX
+                        || feature.getMaxLatitude() < south - marginY || feature.getMinLatitude() > north + marginY) {
+                    continue;
+                }
+                Map<String, String> properties = feature.getProperties();
+                String gid = properties.get("GID_" + layer.level);
+                String parentGid = layer.level > 1 ? properties.get("GID_" + (layer.level - 1)) : null;
+
+                Map<String, Object> attributes = new LinkedHashMap<>();
+                attributes.put("gid", gid);
+                attributes.put("name", properties.get("NAME_" + layer.level));
+                attributes.put("parent_gid", parentGid);
+                attributes.put("reports", count(gid));
+                if (encoder.addPolygonFeature(layer.name, i + 1L, attributes, project(feature, z, x, y))) {
+                    // Sub-district counts only change along with their district's
+                    areas.add(layer.level == 3 ? parentGid : gid);
+                }
+            }
+        }
+
+        byte[] body = encoder.encode();
+        return new EncodedTile(body, PrecompressedResponses.gzip(body), PrecompressedResponses.etag(body), areas);
+    }
+
+    /**
+     * Web Mercator projection of a feature into the tile's pixel space
+     */
+    private static List<List<double[][]>> project(MapBoundaryService.BoundaryFeature feature, int z, int x, int y) {
+        double scale = (1 << z) * (double) EXTENT;
+        List<List<double[][]>> projected = new ArrayList<>(feature.getPolygons().size());
+        for (List<double[][]> polygon : feature.getPolygons()) {
+            List<double[][]> rings = new ArrayList<>(polygon.size());
+            for (double[][] ring : polygon) {
+                double[][] points = new double[ring.length][];
+                for (int i = 0; i < ring.length; i++) {
+                    double latitude = Math.toRadians(ring[i][1]);
+                    double px = (ring[i][0] + 180) / 360 * scale - (double) x * EXTENT;
+                    double py = (1 - Math.log(Math.tan(latitude) + 1 / Math.cos(latitude)) / Math.PI) / 2 * scale
+                            - (double) y * EXTENT;
+                    points[i] = new double[] { px, py };
+                }
+                rings.add(points);
+            }
+            projected.add(rings);
+        }
+        return projected;
+    }
+
+    private void invalidate(Set<String> areas) {
+        if (areas.isEmpty()) {
+            return;
+        }
+        generation.incrementAndGet();
+        for (String area : areas) {
+            Set<Long> keys = tilesByArea.remove(area);
+            if (keys != null) {
+                for (Long key : keys) {
+                    cache.remove(key);
+                }
+            }
+        }
+    }
+
+    private void unregister(Long key, EncodedTile tile) {
+        for (String area : tile.areas) {
+            Set<Long> keys = tilesByArea.get(area);
+            if (keys != null) {
+                keys.remove(key);
+            }
+        }
+    }
+
+    private long count(String gid) {
+        long today = LocalDate.now().toEpochDay();
+        lock.readLock().lock();
+        try {
+            AreaCounts areaCounts = counts.get(gid);
+            return areaCounts != null ? areaCounts.sum(today - windowDays, today + 1) : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Count a report in its sub-district, district and state, placed by the GADM ids
+     * geocoded from its position or else by its district and village names; caller
+     * holds the write lock
+     */
+    private Contribution add(Long reportId, String district, String village,
+                             String districtGid, String subDistrictGid, LocalDateTime createdAt) {
+        if (createdAt == null) {
+            return null;
+        }
+        long epochDay = createdAt.toLocalDate().toEpochDay();
+        long today = LocalDate.now().toEpochDay();
+        if (epochDay <= today - windowDays || epochDay > today + 1) {
+            return null;
+        }
+        if (districtGid == null) {
+            GeoBoundaryService.AdminArea area = geoBoundaryService.resolve(district, village);
+            if (area == null) {
+                return null;
+            }
+            districtGid = area.getLevel() == 3 ? area.getParentGid() : area.getGid();
+            subDistrictGid = area.getLevel() == 3 ? area.getGid() : null;
+        }
+
+        Contribution contribution = new Contribution(subDistrictGid, districtGid,
+                stateOfDistrict.get(districtGid), epochDay);
+        for (String gid : contribution.gids()) {
+            // One slot per counted day: the window plus tomorrow, allowed for clock skew
+            counts.computeIfAbsent(gid, g -> new AreaCounts(windowDays + 1)).add(epochDay, 1);
+        }
+        contributions.put(reportId, contribution);
+        return contribution;
+    }
+
+    private Contribution remove(Long reportId) {
+        Contribution contribution = contributions.remove(reportId);
+        if (contribution != null) {
+            for (String gid : contribution.gids()) {
+                AreaCounts areaCounts = counts.get(gid);
+                if (areaCounts != null) {
+                    areaCounts.add(contribution.epochDay, -1);
+                }
+            }
+        }
+        return contribution;
+    }
+
+    private static final class TileLayer {
+        private final String name;
+        private final int level;
+        private final int minZoom;
+
+        TileLayer(String name, int level, int minZoom) {
+            this.name = name;
+            this.level = level;
+            this.minZoom = minZoom;
+        }
+    }
+
+    /**
+     * Where one live report is counted, so updates and deletes can undo it
+     */
+    private static final class Contribution {
+        private final String subDistrictGid;
+        private final String districtGid;
+        private final String stateGid;
+        private final long epochDay;
+
+        Contribution(String subDistrictGid, String districtGid, String stateGid, long epochDay) {
+            this.subDistrictGid = subDistrictGid;
+            this.districtGid = districtGid;
+            this.stateGid = stateGid;
+            this.epochDay = epochDay;
+        }
+
+        List<String> gids() {
+            List<String> gids = new ArrayList<>(3);
+            if (subDistrictGid != null) {
+                gids.add(subDistrictGid);
+            }
+            gids.add(districtGid);
+            if (stateGid != null) {
+                gids.add(stateGid);
+            }
+            return gids;
+        }
+
+        void collectInvalidationKeys(Set<String> keys) {
+            keys.add(districtGid);
+            if (stateGid != null) {
+                keys.add(stateGid);
+            }
+        }
+
+        boolean sameAs(Contribution other) {
+            return other != null && epochDay == other.epochDay && districtGid.equals(other.districtGid)
+                    && Objects.equals(subDistrictGid, other.subDistrictGid);
+        }
+    }
+
+    /**
+     * Report counts of one area per day, in a ring with a slot per counted day
+     */
+    private static final class AreaCounts {
+        private final long[] days;
+        private final int[] counts;
+
+        AreaCounts(int slots) {
+            days = new long[slots];
+            counts = new int[slots];
+            Arrays.fill(days, Long.MIN_VALUE);
+        }
+
+        void add(long epochDay, int delta) {
+            int slot = (int) Math.floorMod(epochDay, (long) days.length);
+            if (days[slot] != epochDay) {
+                if (delta < 0) {
+                    // The day has already left the window
+                    return;
+                }
+                days[slot] = epochDay;
+                counts[slot] = 0;
+            }
+            counts[slot] += delta;
+        }
+
+        /**
+         * Sum over days after the first bound up to and including the second
+         */
+        long sum(long afterDay, long lastDay) {
+            long sum = 0;
+            for (int i = 0; i < days.length; i++) {
+                if (days[i] > afterDay && days[i] <= lastDay) {
+                    sum += counts[i];
+                }
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * Byte-bounded LRU of encoded tiles
+     */
+    private static final class TileCache {
+        private final long maxBytes;
+        private final LinkedHashMap<Long, EncodedTile> tiles = new LinkedHashMap<>(256, 0.75f, true);
+        private long bytes;
+
+        TileCache(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        synchronized EncodedTile get(long key) {
+            return tiles.get(key);
+        }
+
+        /**
+         * Cache a tile and return the entries evicted to make room
+         */
+        synchronized List<Map.Entry<Long, EncodedTile>> put(long key, EncodedTile tile) {
+            EncodedTile previous = tiles.put(key, tile);
+            if (previous != null) {
+                bytes -= previous.size();
+            }
+            bytes += tile.size();
+
+            List<Map.Entry<Long, EncodedTile>> evicted = new ArrayList<>();
+            Iterator<Map.Entry<Long, EncodedTile>> eldest = tiles.entrySet().iterator();
+            while (bytes > maxBytes && eldest.hasNext()) {
+                Map.Entry<Long, EncodedTile> entry = eldest.next();
+                if (entry.getKey() == key) {
+                    continue;
+                }
+                bytes -= entry.getValue().size();
+                evicted.add(Map.entry(entry.getKey(), entry.getValue()));
+                eldest.remove();
+            }
+            return evicted;
+        }
+
+        synchronized void remove(long key) {
+            EncodedTile removed = tiles.remove(key);
+            if (removed != null) {
+                bytes -= removed.size();
+            }
+        }
+
+        synchronized void clear() {
+            tiles.clear();
+            bytes = 0;
+        }
+    }
+
+    /**
+     * An encoded tile with its gzip variant, strong ETag (without quotes) and the areas it shows
+     */
+    public static final class EncodedTile {
+        private final byte[] body;
+        private final byte[] gzipBody;
+        private final String etag;
+        private final Set<String> areas;
+
+        EncodedTile(byte[] body, byte[] gzipBody, String etag, Set<String> areas) {
+            this.body = body;
+            this.gzipBody = gzipBody;
+            this.etag = etag;
+            this.areas = areas;
+        }
+
+        public byte[] getBody() { return body; }
+        public byte[] getGzipBody() { return gzipBody; }
+        public String getEtag() { return etag; }
+
+        long size() {
+            return body.length + gzipBody.length + ENTRY_OVERHEAD_BYTES;
+        }
+    }
+}
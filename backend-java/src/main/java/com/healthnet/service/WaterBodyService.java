@@ -0,0 +1,414 @@
+package com.healthnet.service;
+
+import com.healthnet.dto.WaterBodyDto;
+import com.healthnet.dto.WaterSeriesDto;
+import com.healthnet.dto.WaterSeriesPointDto;
+import com.healthnet.entity.WaterBody;
+import com.healthnet.entity.WaterBodyType;
+import com.healthnet.entity.WaterParameter;
+import com.healthnet.entity.WaterQuality;
+import com.healthnet.entity.WaterTest;
+import com.healthnet.exception.ResourceNotFoundException;
+import com.healthnet.repository.WaterBodyRepository;
+import com.healthnet.repository.WaterTestRepository;
+import com.healthnet.util.Downsampler;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Service class for the registry of tested water bodies and their readings over time.
+ *
+ * Every water test is attached to a water body with a stable id. Known keys
+ * (normalized district, village and name) are resolved from memory while
+ * the test is stored; a new water body is registered, and its tests
+ * attached to it, on a registry thread of its own once the tests are
+ * committed, so ingest never holds a lock or a second connection for it.
+ * Tests stored before the registry existed are attached at startup.
+ * The readings of one parameter of one water body form a time series read
+ * straight from the (water body, test time) index over the requested range
+ * and reduced on the server to at most the requested number of points, so
+ * a trend chart costs the same payload whether the body was tested ten
+ * times or ten thousand.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class WaterBodyService {
+
+    private static final Logger log = LoggerFactory.getLogger(WaterBodyService.class);
+
+    /** Column or expression of water_tests holding each parameter; fixed, never built from input */
+    private static final Map<WaterParameter, String> COLUMNS = new EnumMap<>(WaterParameter.class);
+
+    static {
+        COLUMNS.put(WaterParameter.PH, "ph");
+        COLUMNS.put(WaterParameter.TURBIDITY, "turbidity");
+        COLUMNS.put(WaterParameter.BACTERIA, "CASE WHEN bacterial_presence THEN 1 ELSE 0 END");
+        COLUMNS.put(WaterParameter.TOTAL_DISSOLVED_SOLIDS, "total_dissolved_solids");
+        COLUMNS.put(WaterParameter.HARDNESS, "hardness");
+        COLUMNS.put(WaterParameter.CHLORIDE, "chloride");
+        COLUMNS.put(WaterParameter.NITRATE, "nitrate");
+        COLUMNS.put(WaterParameter.ARSENIC, "arsenic");
+        COLUMNS.put(WaterParameter.FLUORIDE, "fluoride");
+    }
+
+    private final WaterBodyRepository waterBodyRepository;
+    private final WaterTestRepository waterTestRepository;
+    private final LocationDictionaryService locationDictionaryService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, WaterBody> byKey = new ConcurrentHashMap<>();
+    private final ExecutorService registry = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "water-body-registry");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean loaded;
+
+    @Value("${healthnet.water.series.default-points:500}")
+    private int defaultPoints;
+
+    @Value("${healthnet.water.series.max-points:2000}")
+    private int maxPoints;
+
+    public WaterBodyService(WaterBodyRepository waterBodyRepository,
+                            WaterTestRepository waterTestRepository,
+                            LocationDictionaryService locationDictionaryService,
+                            JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager) {
+        this.waterBodyRepository = waterBodyRepository;
+        this.waterTestRepository = waterTestRepository;
+        this.locationDictionaryService = locationDictionaryService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Load the registry and attach tests stored without a water body
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        registry.execute(() -> {
+            long began = System.currentTimeMillis();
+            ensureLoaded();
+            int tests = 0;
+            for (String key : waterTestRepository.findUnregisteredWaterBodyKeys()) {
+                WaterTest latest = waterTestRepository.findFirstByWaterBodyKeyOrderByTestedAtDesc(key).orElse(null);
+                if (latest == null) {
+                    continue;
+                }
+                if (latest.getDistrictId() == null) {
+                    Integer districtId = locationDictionaryService.districtId(latest.getDistrict());
+                    latest.setDistrictId(districtId);
+                    latest.setVillageId(locationDictionaryService.villageId(districtId, latest.getVillage()));
+                }
+                tests += attach(latest);
+            }
+            log.info("Water body registry holds {} water bodies; attached {} tests in {} ms",
+                    byKey.size(), tests, System.currentTimeMillis() - began);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        registry.shutdownNow();
+    }
+
+    /**
+     * Id of the water body of a classified test, or null if its water body is not registered yet
+     */
+    public Long resolve(WaterTest test) {
+        ensureLoaded();
+        WaterBody existing = byKey.get(test.getWaterBodyKey());
+        return existing != null ? existing.getId() : null;
+    }
+
+    /**
+     * Register the new water bodies of stored tests and the first position of known ones, after the current
+     * transaction commits or at once outside one
+     */
+    public void register(List<WaterTest> tests) {
+        List<WaterTest> pending = new ArrayList<>();
+        for (WaterTest test : tests) {
+            WaterBody existing = byKey.get(test.getWaterBodyKey());
+            if (existing == null || (existing.getLatitude() == null && test.getLatitude() != null)) {
+                pending.add(test);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        Runnable registration = () -> {
+            for (WaterTest test : pending) {
+                try {
+                    attach(test);
+                } catch (RuntimeException e) {
+                    log.error("Could not register water body {}", test.getWaterBodyKey(), e);
+                }
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    registry.execute(registration);
+                }
+            });
+        } else {
+            registry.execute(registration);
+        }
+    }
+
+    /**
+     * Register a test's water body if it is new, or take the test's position if it has none, and attach its
+     * unregistered tests; runs on the registry thread, which alone writes the registry
+     */
+    private int attach(WaterTest test) {
+        ensureLoaded();
+        String key = test.getWaterBodyKey();
+        WaterBody body = byKey.get(key);
+        if (body == null) {
+            body = transactionTemplate.execute(tx -> waterBodyRepository.save(newWaterBody(test)));
+            byKey.put(key, body);
+        } else if (body.getLatitude() == null && test.getLatitude() != null) {
+            // Registered from a test without a position; take the first one reported
+            Long id = body.getId();
+            body = transactionTemplate.execute(tx -> {
+                WaterBody stored = waterBodyRepository.findById(id).orElseThrow();
+                stored.setLatitude(test.getLatitude());
+                stored.setLongitude(test.getLongitude());
+                if (stored.getLandmark() == null) {
+                    stored.setLandmark(test.getLandmark());
+                }
+                return waterBodyRepository.save(stored);
+            });
+            byKey.put(key, body);
+        }
+        Long waterBodyId = body.getId();
+        Integer updated = transactionTemplate.execute(tx -> waterTestRepository.assignWaterBodyId(key, waterBodyId));
+        return updated != null ? updated : 0;
+    }
+
+    /**
+     * Get water bodies, optionally of one district or type, with a summary of their tests
+     */
+    @Transactional(readOnly = true)
+    public Page<WaterBodyDto> getWaterBodies(String district, WaterBodyType type, Pageable pageable) {
+        Integer districtId = null;
+        if (district != null && !district.isBlank()) {
+            districtId = locationDictionaryService.findDistrictId(district);
+            if (districtId == null) {
+                return Page.empty(pageable);
+            }
+        }
+        Page<WaterBody> bodies = waterBodyRepository.search(districtId, type, pageable);
+        if (bodies.isEmpty()) {
+            return bodies.map(this::toDto);
+        }
+        List<Long> ids = bodies.map(WaterBody::getId).getContent();
+        Map<Long, Object[]> summaries = new HashMap<>();
+        for (Object[] row : waterTestRepository.summarizeByWaterBody(ids)) {
+            summaries.put((Long) row[0], row);
+        }
+        Map<Long, WaterQuality> latest = new HashMap<>();
+        for (Object[] row : waterTestRepository.findLatestQualities(ids)) {
+            latest.merge((Long) row[0], (WaterQuality) row[1], (a, b) -> a.compareTo(b) >= 0 ? a : b);
+        }
+        return bodies.map(body -> withSummary(toDto(body), summaries.get(body.getId()), latest.get(body.getId())));
+    }
+
+    /**
+     * Get water body by ID
+     */
+    @Transactional(readOnly = true)
+    public WaterBodyDto getWaterBody(Long id) {
+        WaterBody body = findWaterBody(id);
+        List<Long> ids = List.of(id);
+        List<Object[]> summary = waterTestRepository.summarizeByWaterBody(ids);
+        WaterQuality quality = null;
+        for (Object[] row : waterTestRepository.findLatestQualities(ids)) {
+            WaterQuality candidate = (WaterQuality) row[1];
+            quality = quality == null || candidate.compareTo(quality) > 0 ? candidate : quality;
+        }
+        return withSummary(toDto(body), summary.isEmpty() ? null : summary.get(0), quality);
+    }
+
+    /**
+     * Readings of one parameter of a water body within a range, reduced to at most the given number of points
+     */
+    public WaterSeriesDto getSeries(Long id, WaterParameter parameter, LocalDateTime from, LocalDateTime to,
+                                    Integer points, Downsampler.Method method) {
+        if (parameter == null) {
+            throw new IllegalArgumentException("Parameter is required");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("Start of the range must not be after its end");
+        }
+        int limit = points != null ? points : defaultPoints;
+        if (limit < 3 || limit > maxPoints) {
+            throw new IllegalArgumentException("Points must be between 3 and " + maxPoints);
+        }
+        Downsampler.Method chosen = method != null ? method : Downsampler.Method.LTTB;
+        WaterBody body = findWaterBody(id);
+
+        String column = COLUMNS.get(parameter);
+        String measured = parameter == WaterParameter.BACTERIA ? "bacterial_presence" : column;
+        StringBuilder sql = new StringBuilder("SELECT tested_at, ").append(column)
+                .append(" FROM water_tests WHERE water_body_id = ? AND ").append(measured).append(" IS NOT NULL");
+        List<Object> arguments = new ArrayList<>(3);
+        arguments.add(body.getId());
+        if (from != null) {
+            sql.append(" AND tested_at >= ?");
+            arguments.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND tested_at <= ?");
+            arguments.add(Timestamp.valueOf(to));
+        }
+        sql.append(" ORDER BY tested_at, id");
+
+        Series series = new Series();
+        jdbcTemplate.query(sql.toString(), rs -> {
+            series.add(rs.getTimestamp(1).getTime(), rs.getDouble(2));
+        }, arguments.toArray());
+
+        long[] times = Arrays.copyOf(series.times, series.size);
+        double[] values = Arrays.copyOf(series.values, series.size);
+        int[] kept = Downsampler.downsample(chosen, times, values, limit);
+        List<WaterSeriesPointDto> result = new ArrayList<>(kept.length);
+        for (int index : kept) {
+            result.add(new WaterSeriesPointDto(new Timestamp(times[index]).toLocalDateTime(), values[index]));
+        }
+
+        WaterSeriesDto dto = new WaterSeriesDto();
+        dto.setWaterBodyId(body.getId());
+        dto.setParameter(parameter);
+        dto.setUnit(parameter.getUnit());
+        dto.setAcceptableMin(finiteOrNull(parameter.getAcceptableMin()));
+        dto.setAcceptableMax(finiteOrNull(parameter.getAcceptableMax()));
+        dto.setPermissibleMin(finiteOrNull(parameter.getPermissibleMin()));
+        dto.setPermissibleMax(finiteOrNull(parameter.getPermissibleMax()));
+        dto.setFrom(from);
+        dto.setTo(to);
+        dto.setTotalPoints(series.size);
+        dto.setMethod(chosen);
+        dto.setPoints(result);
+        return dto;
+    }
+
+    private WaterBody findWaterBody(Long id) {
+        return waterBodyRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Water body not found with id: " + id));
+    }
+
+    private static WaterBody newWaterBody(WaterTest test) {
+        WaterBody body = new WaterBody();
+        body.setBodyKey(test.getWaterBodyKey());
+        body.setName(test.getWaterBodyName());
+        body.setType(test.getWaterBodyType());
+        body.setTypeOther(test.getWaterBodyTypeOther());
+        body.setVillage(test.getVillage());
+        body.setDistrict(test.getDistrict());
+        body.setState(test.getState());
+        body.setDistrictId(test.getDistrictId());
+        body.setVillageId(test.getVillageId());
+        body.setLatitude(test.getLatitude());
+        body.setLongitude(test.getLongitude());
+        body.setLandmark(test.getLandmark());
+        return body;
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    for (WaterBody body : waterBodyRepository.findAll()) {
+                        byKey.put(body.getBodyKey(), body);
+                    }
+                    loaded = true;
+                }
+            }
+        }
+    }
+
+    private static Double finiteOrNull(double value) {
+        return Double.isInfinite(value) ? null : value;
+    }
+
+    private static WaterBodyDto withSummary(WaterBodyDto dto, Object[] summary, WaterQuality lastQuality) {
+        if (summary != null) {
+            dto.setTestCount((Long) summary[1]);
+            dto.setFirstTestedAt((LocalDateTime) summary[2]);
+            dto.setLastTestedAt((LocalDateTime) summary[3]);
+        }
+        dto.setLastQuality(lastQuality);
+        return dto;
+    }
+
+    /**
+     * Convert WaterBody entity to DTO
+     */
+    private WaterBodyDto toDto(WaterBody body) {
+        WaterBodyDto dto = new WaterBodyDto();
+        dto.setId(body.getId());
+        dto.setName(body.getName());
+        dto.setType(body.getType().name().toLowerCase(Locale.ROOT));
+        dto.setTypeOther(body.getTypeOther());
+        dto.setVillage(body.getVillage());
+        dto.setDistrict(body.getDistrict());
+        dto.setState(body.getState());
+        dto.setLatitude(body.getLatitude());
+        dto.setLongitude(body.getLongitude());
+        dto.setLandmark(body.getLandmark());
+        dto.setCreatedAt(body.getCreatedAt());
+        return dto;
+    }
+
+    /**
+     * Growable primitive arrays of one series, so long ranges are not boxed row by row
+     */
+    private static final class Series {
+        private long[] times = new long[256];
+        private double[] values = new double[256];
+        private int size;
+
+        private void add(long time, double value) {
+            if (size == times.length) {
+                times = Arrays.copyOf(times, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            times[size] = time;
+            values[size] = value;
+            size++;
+        }
+    }
+}
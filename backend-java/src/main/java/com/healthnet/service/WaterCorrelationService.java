@@ -0,0 +1,387 @@
+package com.healthnet.service;
+
+import com.healthnet.dto.WaterOutbreakFindingDto;
+import com.healthnet.entity.Location;
+import com.healthnet.entity.LocationType;
+import com.healthnet.entity.ReportStatus;
+import com.healthnet.entity.WaterQuality;
+import com.healthnet.event.HealthReportEvent;
+import com.healthnet.event.WaterContaminationEvent;
+import com.healthnet.repository.HealthReportRepository;
+import com.healthnet.repository.WaterTestRepository;
+import com.healthnet.util.LaggedCorrelation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Correlation of gastrointestinal reports with contaminated water samples.
+ *
+ * Every village and district keeps two daily series over a sliding window:
+ * reports with a gastrointestinal symptom, and marginal or unsafe water
+ * samples (an unsafe sample counts fully, a marginal one partly). Their
+ * correlation at each lag up to the longest incubation period considered is
+ * maintained incrementally by {@link LaggedCorrelation} as reports and
+ * samples arrive, so the history is read once at startup and never again.
+ * Each counted report remembers where it was counted, so an update, status
+ * change, cancellation, duplicate link or deletion takes it back out before
+ * it is counted again as it now stands.
+ *
+ * An area is a likely water-source outbreak when it had contamination
+ * within the lag period, enough cases since, and its cases follow its
+ * contamination: the best lag's correlation reaches the minimum. Findings
+ * are ranked by that correlation weighted by the number of cases.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class WaterCorrelationService {
+
+    private static final Logger log = LoggerFactory.getLogger(WaterCorrelationService.class);
+
+    private final HealthReportRepository healthReportRepository;
+    private final WaterTestRepository waterTestRepository;
+    private final LocationDictionaryService locationDictionaryService;
+    private final TransactionTemplate readOnlyTemplate;
+    private final boolean enabled;
+    private final int windowDays;
+    private final int maxLagDays;
+    private final int minCases;
+    private final double minCorrelation;
+    private final double marginalWeight;
+    private final Set<String> symptoms;
+
+    /** Series by village and by district id; guarded by this */
+    private final Map<Integer, Area> villages = new HashMap<>();
+    private final Map<Integer, Area> districts = new HashMap<>();
+    /** Where each counted report was counted, so it can be taken back out; guarded by this */
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+
+    public WaterCorrelationService(HealthReportRepository healthReportRepository,
+                                   WaterTestRepository waterTestRepository,
+                                   LocationDictionaryService locationDictionaryService,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${healthnet.correlation.enabled:true}") boolean enabled,
+                                   @Value("${healthnet.correlation.window-days:60}") int windowDays,
+                                   @Value("${healthnet.correlation.max-lag-days:14}") int maxLagDays,
+                                   @Value("${healthnet.correlation.min-cases:3}") int minCases,
+                                   @Value("${healthnet.correlation.min-correlation:0.3}") double minCorrelation,
+                                   @Value("${healthnet.correlation.marginal-weight:0.5}") double marginalWeight,
+                                   @Value("${healthnet.correlation.symptoms:diarrhea,vomiting,dehydration,stomach_pain,jaundice}") List<String> symptoms) {
+        if (windowDays < 2 || maxLagDays < 0 || maxLagDays >= windowDays) {
+            throw new IllegalArgumentException("Correlation window must be at least 2 days and longer than the lag");
+        }
+        this.healthReportRepository = healthReportRepository;
+        this.waterTestRepository = waterTestRepository;
+        this.locationDictionaryService = locationDictionaryService;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.windowDays = windowDays;
+        this.maxLagDays = maxLagDays;
+        this.minCases = minCases;
+        this.minCorrelation = minCorrelation;
+        this.marginalWeight = marginalWeight;
+        this.symptoms = symptoms.stream()
+                .map(symptom -> symptom.trim().toLowerCase(Locale.ROOT))
+                .filter(symptom -> !symptom.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Fill the series from the reports and samples of the window and lag period
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        long today = LocalDate.now().toEpochDay();
+        LocalDateTime since = LocalDate.ofEpochDay(today - windowDays - maxLagDays + 1).atStartOfDay();
+        readOnlyTemplate.executeWithoutResult(status -> {
+            synchronized (this) {
+                villages.clear();
+                districts.clear();
+                contributions.clear();
+                int samples = 0;
+                for (Object[] row : waterTestRepository.findContaminatedRows(since)) {
+                    recordContamination((Integer) row[0], (Integer) row[1], (String) row[2],
+                            day((LocalDateTime) row[3]), weight((WaterQuality) row[4]), today);
+                    samples++;
+                }
+
+                // One row per symptom of a report, in creation order
+                int cases = 0;
+                long reportId = -1;
+                boolean counted = false;
+                for (Object[] row : healthReportRepository.findSymptomRows(since)) {
+                    long id = (Long) row[0];
+                    if (id != reportId) {
+                        reportId = id;
+                        counted = false;
+                    }
+                    if (!counted && isGastrointestinal((String) row[5])) {
+                        counted = true;
+                        recordCase(id, (String) row[1], (String) row[2], day((LocalDateTime) row[4]), today);
+                        cases++;
+                    }
+                }
+                log.info("Water correlation loaded {} contaminated samples and {} gastrointestinal reports in {} villages",
+                        samples, cases, villages.size());
+            }
+        });
+    }
+
+    /**
+     * Count a report with a gastrointestinal symptom that is not cancelled or a near-duplicate, replacing
+     * whatever it counted before
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportEvent(HealthReportEvent event) {
+        if (!enabled || event.getType() == HealthReportEvent.Type.NOTES_ADDED || event.getReportId() == null) {
+            return;
+        }
+        boolean counts = event.getType() != HealthReportEvent.Type.DELETED
+                && event.getStatus() != ReportStatus.CANCELLED && event.getDuplicateOfId() == null
+                && event.getSymptoms() != null && event.getSymptoms().stream().anyMatch(this::isGastrointestinal);
+        LocalDateTime createdAt = event.getCreatedAt() != null ? event.getCreatedAt() : LocalDateTime.now();
+        synchronized (this) {
+            // Re-applying a report replaces its previous contribution, so replays of loaded reports are harmless
+            removeCase(event.getReportId());
+            if (counts) {
+                recordCase(event.getReportId(), event.getDistrict(), event.getVillage(), day(createdAt),
+                        LocalDate.now().toEpochDay());
+            }
+        }
+    }
+
+    /**
+     * Count the marginal and unsafe samples of a water body
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWaterContamination(WaterContaminationEvent event) {
+        if (!enabled) {
+            return;
+        }
+        long today = LocalDate.now().toEpochDay();
+        synchronized (this) {
+            for (WaterContaminationEvent.Sample sample : event.getSamples()) {
+                recordContamination(event.getDistrictId(), event.getVillageId(), event.getWaterBodyName(),
+                        day(sample.getTestedAt()), weight(sample.getQuality()), today);
+            }
+        }
+    }
+
+    /**
+     * Likely water-source outbreaks, strongest first, optionally within one district
+     */
+    public List<WaterOutbreakFindingDto> getFindings(String district, int limit) {
+        Integer districtId = null;
+        if (district != null && !district.isBlank()) {
+            districtId = locationDictionaryService.findDistrictId(district);
+            if (districtId == null) {
+                throw new IllegalArgumentException("Unknown district: " + district);
+            }
+        }
+        long today = LocalDate.now().toEpochDay();
+        List<WaterOutbreakFindingDto> findings = new ArrayList<>();
+        synchronized (this) {
+            for (Map.Entry<Integer, Area> entry : districts.entrySet()) {
+                if (districtId == null || districtId.equals(entry.getKey())) {
+                    addFinding(findings, LocationType.DISTRICT, entry.getKey(), entry.getValue(), today);
+                }
+            }
+            for (Map.Entry<Integer, Area> entry : villages.entrySet()) {
+                if (districtId == null || districtId.equals(entry.getValue().districtId)) {
+                    addFinding(findings, LocationType.VILLAGE, entry.getKey(), entry.getValue(), today);
+                }
+            }
+        }
+        findings.sort(Comparator.comparingDouble(WaterOutbreakFindingDto::getScore).reversed());
+        return findings.size() > limit ? new ArrayList<>(findings.subList(0, limit)) : findings;
+    }
+
+    /**
+     * Drop areas with nothing left in their window
+     */
+    @Scheduled(cron = "${healthnet.correlation.prune-cron:0 20 0 * * *}")
+    public synchronized void prune() {
+        long today = LocalDate.now().toEpochDay();
+        int before = villages.size() + districts.size();
+        for (Map<Integer, Area> areas : List.of(villages, districts)) {
+            areas.values().removeIf(area -> {
+                area.series.advanceTo(today);
+                area.waterBodies.values().removeIf(day -> day < today - maxLagDays);
+                return area.series.isEmpty();
+            });
+        }
+        contributions.values().removeIf(contribution -> contribution.day < today - windowDays + 1);
+        log.debug("Water correlation pruned {} idle areas", before - villages.size() - districts.size());
+    }
+
+    private void addFinding(List<WaterOutbreakFindingDto> findings, LocationType level, Integer areaId, Area area,
+                            long today) {
+        LaggedCorrelation series = area.series;
+        series.advanceTo(today);
+        long contaminatedSince = series.firstExposureSince(today - maxLagDays);
+        if (contaminatedSince < 0) {
+            return;
+        }
+        int cases = (int) series.outcomeSince(contaminatedSince);
+        if (cases < minCases) {
+            return;
+        }
+        int bestLag = 0;
+        double best = series.correlation(0);
+        for (int lag = 1; lag <= maxLagDays; lag++) {
+            double correlation = series.correlation(lag);
+            if (correlation > best) {
+                best = correlation;
+                bestLag = lag;
+            }
+        }
+        if (best < minCorrelation) {
+            return;
+        }
+
+        WaterOutbreakFindingDto finding = new WaterOutbreakFindingDto();
+        finding.setLevel(level);
+        finding.setAreaId(areaId);
+        Location location = locationDictionaryService.getLocation(areaId);
+        finding.setArea(location != null ? location.getName() : null);
+        Location districtLocation = area.districtId != null ? locationDictionaryService.getLocation(area.districtId) : null;
+        finding.setDistrict(districtLocation != null ? districtLocation.getName() : null);
+        finding.setScore(round(best * Math.log1p(cases)));
+        finding.setCorrelation(round(best));
+        finding.setLagDays(bestLag);
+        finding.setCases(cases);
+        finding.setBaselineDailyCases(round(series.meanOutcome()));
+        finding.setContaminatedSince(LocalDate.ofEpochDay(contaminatedSince));
+        finding.setLastContaminatedOn(LocalDate.ofEpochDay(series.lastExposure()));
+        finding.setWaterBodies(area.waterBodies.entrySet().stream()
+                .filter(body -> body.getValue() >= today - maxLagDays)
+                .map(Map.Entry::getKey)
+                .sorted()
+                .collect(Collectors.toList()));
+        findings.add(finding);
+    }
+
+    private void recordCase(Long reportId, String district, String village, long day, long today) {
+        Integer districtId = locationDictionaryService.findDistrictId(district);
+        if (districtId == null || day < today - windowDays + 1) {
+            return;
+        }
+        area(districts, districtId, districtId, today).series.addOutcome(day, 1);
+        Integer villageId = locationDictionaryService.findVillageId(district, village);
+        if (villageId != null) {
+            area(villages, villageId, districtId, today).series.addOutcome(day, 1);
+        }
+        contributions.put(reportId, new Contribution(districtId, villageId, day));
+    }
+
+    private void removeCase(Long reportId) {
+        Contribution contribution = contributions.remove(reportId);
+        if (contribution == null) {
+            return;
+        }
+        // An area pruned since had nothing left in its window, this case included
+        Area district = districts.get(contribution.districtId);
+        if (district != null) {
+            district.series.addOutcome(contribution.day, -1);
+        }
+        Area village = contribution.villageId != null ? villages.get(contribution.villageId) : null;
+        if (village != null) {
+            village.series.addOutcome(contribution.day, -1);
+        }
+    }
+
+    private void recordContamination(Integer districtId, Integer villageId, String waterBody, long day, double weight,
+                                     long today) {
+        if (districtId == null || weight == 0) {
+            return;
+        }
+        // Samples are dated by the tester and may be up to a day ahead of the server clock
+        long sampleDay = Math.min(day, today);
+        List<Area> areas = new ArrayList<>(2);
+        areas.add(area(districts, districtId, districtId, today));
+        if (villageId != null) {
+            areas.add(area(villages, villageId, districtId, today));
+        }
+        for (Area area : areas) {
+            area.series.addExposure(sampleDay, weight);
+            if (waterBody != null) {
+                area.waterBodies.merge(waterBody, sampleDay, Math::max);
+            }
+        }
+    }
+
+    private Area area(Map<Integer, Area> areas, Integer id, Integer districtId, long today) {
+        return areas.computeIfAbsent(id, key -> new Area(districtId, new LaggedCorrelation(windowDays, maxLagDays, today)));
+    }
+
+    private boolean isGastrointestinal(String symptom) {
+        return symptom != null && symptoms.contains(symptom.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private double weight(WaterQuality quality) {
+        return switch (quality) {
+            case UNSAFE -> 1;
+            case MARGINAL -> marginalWeight;
+            case SAFE -> 0;
+        };
+    }
+
+    private static long day(LocalDateTime time) {
+        return time.toLocalDate().toEpochDay();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    /**
+     * Where one report is counted
+     */
+    private static final class Contribution {
+        private final Integer districtId;
+        private final Integer villageId;
+        private final long day;
+
+        Contribution(Integer districtId, Integer villageId, long day) {
+            this.districtId = districtId;
+            this.villageId = villageId;
+            this.day = day;
+        }
+    }
+
+    private static final class Area {
+        private final Integer districtId;
+        private final LaggedCorrelation series;
+        /** Contaminated water bodies by the day of their last marginal or unsafe sample */
+        private final Map<String, Long> waterBodies = new HashMap<>();
+
+        Area(Integer districtId, LaggedCorrelation series) {
+            this.districtId = districtId;
+            this.series = series;
+        }
+    }
+}
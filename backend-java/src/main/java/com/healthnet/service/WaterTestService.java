@@ -0,0 +1,594 @@
+package com.healthnet.service;
+
+import com.healthnet.dto.WaterTestBatchResultDto;
+import com.healthnet.dto.WaterTestDto;
+import com.healthnet.entity.User;
+import com.healthnet.entity.WaterBodyType;
+import com.healthnet.entity.WaterParameter;
+import com.healthnet.entity.WaterQuality;
+import com.healthnet.entity.WaterTest;
+import com.healthnet.event.WaterContaminationEvent;
+import com.healthnet.exception.DuplicateResourceException;
+import com.healthnet.exception.ResourceNotFoundException;
+import com.healthnet.repository.WaterTestRepository;
+import com.healthnet.util.ThresholdTable;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for water quality tests.
+ *
+ * Every sample is classified against the limits of {@link WaterParameter},
+ * compiled once into a {@link ThresholdTable}: the measured values are laid
+ * out in a double array in parameter order and classified in a single pass,
+ * giving the sample's quality and the parameters outside their acceptable
+ * limit. Bulk uploads from laboratories are checked for repeated sample ids
+ * up front, then split into chunks that are validated, classified and
+ * batch-inserted in parallel, each chunk in its own transaction. Once
+ * samples are stored, one contamination event is published per water body
+ * with marginal or unsafe samples. Each sample is attached to its water
+ * body in the registry kept by {@link WaterBodyService}.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+@Service
+public class WaterTestService {
+
+    private static final Logger log = LoggerFactory.getLogger(WaterTestService.class);
+
+    private static final String INSERT_TEST = "INSERT INTO water_tests (sample_id, water_body_name, water_body_type, " +
+            "water_body_type_other, water_body_key, water_body_id, village, district, state, district_id, village_id, latitude, " +
+            "longitude, landmark, ph, turbidity, bacterial_presence, total_dissolved_solids, hardness, chloride, " +
+            "nitrate, arsenic, fluoride, tested_at, tested_by, observations, recommendations, quality, " +
+            "exceeded_parameters, submitted_by, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /** IN-list size when looking up sample ids already stored */
+    private static final int LOOKUP_BATCH_SIZE = 1000;
+
+    private static final WaterParameter[] PARAMETERS = WaterParameter.values();
+    private static final WaterQuality[] QUALITIES = WaterQuality.values();
+
+    private final WaterTestRepository waterTestRepository;
+    private final LocationDictionaryService locationDictionaryService;
+    private final WaterBodyService waterBodyService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool pool;
+    private final ThresholdTable limits;
+
+    @Value("${healthnet.water.ingest.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${healthnet.water.ingest.max-batch-size:20000}")
+    private int maxBatchSize;
+
+    public WaterTestService(WaterTestRepository waterTestRepository,
+                            LocationDictionaryService locationDictionaryService,
+                            WaterBodyService waterBodyService,
+                            JdbcTemplate jdbcTemplate,
+                            ApplicationEventPublisher eventPublisher,
+                            Validator validator,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${healthnet.water.ingest.parallelism:0}") int parallelism) {
+        this.waterTestRepository = waterTestRepository;
+        this.locationDictionaryService = locationDictionaryService;
+        this.waterBodyService = waterBodyService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.limits = compileLimits();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Store and classify one water test
+     */
+    @Transactional
+    public WaterTestDto createTest(WaterTestDto request) {
+        String sampleId = trimToNull(request.getSampleId());
+        if (sampleId != null && waterTestRepository.existsBySampleId(sampleId)) {
+            throw new DuplicateResourceException("Water test already submitted with sample id: " + sampleId);
+        }
+        WaterTest test = toEntity(request, currentUserId(), LocalDateTime.now());
+        WaterTest savedTest = waterTestRepository.save(test);
+        waterBodyService.register(List.of(savedTest));
+        publishContamination(List.of(savedTest));
+        return toDto(savedTest);
+    }
+
+    /**
+     * Store and classify a batch of water tests. Invalid samples and repeated
+     * sample ids are rejected individually; the others are stored.
+     */
+    public WaterTestBatchResultDto ingest(List<WaterTestDto> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one water test is required");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new IllegalArgumentException("At most " + maxBatchSize + " water tests can be uploaded at once");
+        }
+        long began = System.currentTimeMillis();
+        Long submittedBy = currentUserId();
+        LocalDateTime now = LocalDateTime.now();
+        List<WaterTestBatchResultDto.RowError> errors = new ArrayList<>();
+
+        // Sample ids must be unique across the upload and the stored tests; checked here, before chunks run apart
+        Map<String, Integer> firstIndex = new HashMap<>();
+        boolean[] rejected = new boolean[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            WaterTestDto request = requests.get(i);
+            String sampleId = request != null ? trimToNull(request.getSampleId()) : null;
+            if (request == null) {
+                rejected[i] = true;
+                errors.add(new WaterTestBatchResultDto.RowError(i, null, "Water test is empty"));
+            } else if (sampleId != null && firstIndex.putIfAbsent(sampleId, i) != null) {
+                rejected[i] = true;
+                errors.add(new WaterTestBatchResultDto.RowError(i, sampleId,
+                        "Sample id repeats row " + firstIndex.get(sampleId)));
+            }
+        }
+        Set<String> existing = findExistingSampleIds(firstIndex.keySet());
+        for (String sampleId : existing) {
+            int index = firstIndex.get(sampleId);
+            rejected[index] = true;
+            errors.add(new WaterTestBatchResultDto.RowError(index, sampleId, "Sample id already submitted"));
+        }
+
+        List<ForkJoinTask<ChunkResult>> chunks = new ArrayList<>();
+        int[] indexes = new int[requests.size()];
+        int pending = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            if (!rejected[i]) {
+                indexes[pending++] = i;
+            }
+        }
+        for (int from = 0; from < pending; from += chunkSize) {
+            int[] chunk = Arrays.copyOfRange(indexes, from, Math.min(from + chunkSize, pending));
+            chunks.add(pool.submit(() -> storeChunk(requests, chunk, submittedBy, now)));
+        }
+
+        List<WaterTest> stored = new ArrayList<>(pending);
+        for (ForkJoinTask<ChunkResult> chunk : chunks) {
+            ChunkResult result = Objects.requireNonNull(chunk.join());
+            stored.addAll(result.stored);
+            errors.addAll(result.errors);
+        }
+        errors.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+
+        WaterTestBatchResultDto result = new WaterTestBatchResultDto();
+        result.setReceived(requests.size());
+        result.setAccepted(stored.size());
+        result.setRejected(requests.size() - stored.size());
+        int[] counts = new int[QUALITIES.length];
+        for (WaterTest test : stored) {
+            counts[test.getQuality().ordinal()]++;
+        }
+        result.setSafe(counts[WaterQuality.SAFE.ordinal()]);
+        result.setMarginal(counts[WaterQuality.MARGINAL.ordinal()]);
+        result.setUnsafe(counts[WaterQuality.UNSAFE.ordinal()]);
+        result.setContaminatedWaterBodies(publishContamination(stored));
+        result.setErrors(errors);
+        result.setElapsedMs(System.currentTimeMillis() - began);
+        log.info("Stored {} of {} water tests in {} chunks ({} marginal, {} unsafe) in {} ms", stored.size(),
+                requests.size(), chunks.size(), result.getMarginal(), result.getUnsafe(), result.getElapsedMs());
+        return result;
+    }
+
+    /**
+     * Get water tests, newest first unless sorted otherwise, optionally of one district, water body or quality
+     */
+    @Transactional(readOnly = true)
+    public Page<WaterTestDto> getTests(String district, Long waterBodyId, WaterQuality quality, Pageable pageable) {
+        Integer districtId = null;
+        if (district != null && !district.isBlank()) {
+            districtId = locationDictionaryService.findDistrictId(district);
+            if (districtId == null) {
+                return Page.empty(pageable);
+            }
+        }
+        return waterTestRepository.search(districtId, waterBodyId, quality, pageable).map(this::toDto);
+    }
+
+    /**
+     * Get water test by ID
+     */
+    @Transactional(readOnly = true)
+    public WaterTestDto getTest(Long id) {
+        return waterTestRepository.findById(id).map(this::toDto)
+                .orElseThrow(() -> new ResourceNotFoundException("Water test not found with id: " + id));
+    }
+
+    /**
+     * Validate, classify and insert one chunk of an upload in its own transaction
+     */
+    private ChunkResult storeChunk(List<WaterTestDto> requests, int[] indexes, Long submittedBy, LocalDateTime now) {
+        ChunkResult result = new ChunkResult();
+        List<Integer> rows = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            WaterTestDto request = requests.get(index);
+            String violations = validator.validate(request).stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            if (!violations.isEmpty()) {
+                result.errors.add(new WaterTestBatchResultDto.RowError(index, request.getSampleId(), violations));
+                continue;
+            }
+            try {
+                result.stored.add(toEntity(request, submittedBy, now));
+                rows.add(index);
+            } catch (IllegalArgumentException e) {
+                result.errors.add(new WaterTestBatchResultDto.RowError(index, request.getSampleId(), e.getMessage()));
+            }
+        }
+        if (result.stored.isEmpty()) {
+            return result;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(tx -> insert(result.stored));
+            waterBodyService.register(result.stored);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent upload stored one of the sample ids after the check; the whole chunk was rolled back
+            log.warn("Water test chunk of {} samples rejected: {}", result.stored.size(), e.getMostSpecificCause().getMessage());
+            for (int i = 0; i < rows.size(); i++) {
+                result.errors.add(new WaterTestBatchResultDto.RowError(rows.get(i), result.stored.get(i).getSampleId(),
+                        "Not stored: a sample id of this chunk was submitted at the same time"));
+            }
+            result.stored.clear();
+        }
+        return result;
+    }
+
+    private void insert(List<WaterTest> tests) {
+        jdbcTemplate.batchUpdate(INSERT_TEST, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                WaterTest test = tests.get(i);
+                statement.setString(1, test.getSampleId());
+                statement.setString(2, test.getWaterBodyName());
+                statement.setString(3, test.getWaterBodyType().name());
+                statement.setString(4, test.getWaterBodyTypeOther());
+                statement.setString(5, test.getWaterBodyKey());
+                statement.setObject(6, test.getWaterBodyId(), Types.BIGINT);
+                statement.setString(7, test.getVillage());
+                statement.setString(8, test.getDistrict());
+                statement.setString(9, test.getState());
+                statement.setObject(10, test.getDistrictId(), Types.INTEGER);
+                statement.setObject(11, test.getVillageId(), Types.INTEGER);
+                statement.setObject(12, test.getLatitude(), Types.DOUBLE);
+                statement.setObject(13, test.getLongitude(), Types.DOUBLE);
+                statement.setString(14, test.getLandmark());
+                statement.setObject(15, test.getPh(), Types.DOUBLE);
+                statement.setObject(16, test.getTurbidity(), Types.DOUBLE);
+                statement.setObject(17, test.getBacterialPresence(), Types.BOOLEAN);
+                statement.setObject(18, test.getTotalDissolvedSolids(), Types.DOUBLE);
+                statement.setObject(19, test.getHardness(), Types.DOUBLE);
+                statement.setObject(20, test.getChloride(), Types.DOUBLE);
+                statement.setObject(21, test.getNitrate(), Types.DOUBLE);
+                statement.setObject(22, test.getArsenic(), Types.DOUBLE);
+                statement.setObject(23, test.getFluoride(), Types.DOUBLE);
+                statement.setTimestamp(24, Timestamp.valueOf(test.getTestedAt()));
+                statement.setString(25, test.getTestedBy());
+                statement.setString(26, test.getObservations());
+                statement.setString(27, test.getRecommendations());
+                statement.setString(28, test.getQuality().name());
+                statement.setString(29, test.getExceededParameters());
+                statement.setObject(30, test.getSubmittedBy(), Types.BIGINT);
+                statement.setTimestamp(31, Timestamp.valueOf(test.getCreatedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return tests.size();
+            }
+        });
+    }
+
+    /**
+     * Publish one event per water body with marginal or unsafe tests; returns the number of such water bodies
+     */
+    private int publishContamination(List<WaterTest> tests) {
+        Map<String, List<WaterTest>> byWaterBody = new LinkedHashMap<>();
+        for (WaterTest test : tests) {
+            if (test.getQuality() != WaterQuality.SAFE) {
+                byWaterBody.computeIfAbsent(test.getWaterBodyKey(), key -> new ArrayList<>()).add(test);
+            }
+        }
+        for (List<WaterTest> samples : byWaterBody.values()) {
+            WaterTest latest = samples.get(0);
+            WaterQuality worst = WaterQuality.SAFE;
+            Set<WaterParameter> parameters = EnumSet.noneOf(WaterParameter.class);
+            List<WaterContaminationEvent.Sample> contaminated = new ArrayList<>(samples.size());
+            for (WaterTest sample : samples) {
+                contaminated.add(new WaterContaminationEvent.Sample(sample.getTestedAt(), sample.getQuality()));
+                if (sample.getTestedAt().isAfter(latest.getTestedAt())) {
+                    latest = sample;
+                }
+                if (sample.getQuality().compareTo(worst) > 0) {
+                    worst = sample.getQuality();
+                }
+                parameters.addAll(parseParameters(sample.getExceededParameters()));
+            }
+            eventPublisher.publishEvent(new WaterContaminationEvent(latest.getWaterBodyKey(), latest.getWaterBodyName(),
+                    latest.getVillage(), latest.getDistrict(), latest.getDistrictId(), latest.getVillageId(), worst,
+                    Set.copyOf(parameters), contaminated, latest.getTestedAt()));
+        }
+        return byWaterBody.size();
+    }
+
+    /**
+     * Convert a submitted test into a classified entity; throws IllegalArgumentException for unusable values
+     */
+    private WaterTest toEntity(WaterTestDto request, Long submittedBy, LocalDateTime now) {
+        WaterTest test = new WaterTest();
+        test.setSampleId(trimToNull(request.getSampleId()));
+        test.setWaterBodyName(request.getWaterBodyName().trim());
+        test.setWaterBodyType(parseWaterBodyType(request.getWaterBodyType()));
+        test.setWaterBodyTypeOther(test.getWaterBodyType() == WaterBodyType.OTHER
+                ? trimToNull(request.getWaterBodyTypeOther()) : null);
+        test.setVillage(request.getVillage().trim());
+        test.setDistrict(request.getDistrict().trim());
+        test.setState(trimToNull(request.getState()));
+        test.setWaterBodyKey(waterBodyKey(test.getDistrict(), test.getVillage(), test.getWaterBodyName()));
+        Integer districtId = locationDictionaryService.districtId(test.getDistrict());
+        test.setDistrictId(districtId);
+        test.setVillageId(locationDictionaryService.villageId(districtId, test.getVillage()));
+        setPosition(test, request);
+        test.setLandmark(trimToNull(request.getLandmark()));
+
+        test.setPh(request.getPH());
+        test.setTurbidity(request.getTurbidity());
+        test.setBacterialPresence(parseBacterialPresence(request.getBacterialPresence()));
+        test.setTotalDissolvedSolids(request.getTotalDissolvedSolids());
+        test.setHardness(request.getHardness());
+        test.setChloride(request.getChloride());
+        test.setNitrate(request.getNitrate());
+        test.setArsenic(request.getArsenic());
+        test.setFluoride(request.getFluoride());
+
+        LocalDateTime testedAt = request.getTestDate().atTime(
+                request.getTestTime() != null ? request.getTestTime() : LocalTime.MIDNIGHT);
+        if (testedAt.isAfter(now.plusDays(1))) {
+            throw new IllegalArgumentException("Test date must not be in the future");
+        }
+        test.setTestedAt(testedAt);
+        test.setTestedBy(request.getTestedBy().trim());
+        test.setObservations(trimToNull(request.getObservations()));
+        test.setRecommendations(trimToNull(request.getRecommendations()));
+        test.setSubmittedBy(submittedBy);
+        test.setCreatedAt(now);
+        classify(test);
+        // A new water body is registered only once the test is stored, so a rejected sample never registers one
+        test.setWaterBodyId(waterBodyService.resolve(test));
+        return test;
+    }
+
+    /**
+     * Set a test's quality and the parameters outside their acceptable limit
+     */
+    private void classify(WaterTest test) {
+        double[] sample = new double[PARAMETERS.length];
+        sample[WaterParameter.PH.ordinal()] = valueOf(test.getPh());
+        sample[WaterParameter.TURBIDITY.ordinal()] = valueOf(test.getTurbidity());
+        sample[WaterParameter.BACTERIA.ordinal()] = test.getBacterialPresence() == null ? Double.NaN
+                : test.getBacterialPresence() ? 1 : 0;
+        sample[WaterParameter.TOTAL_DISSOLVED_SOLIDS.ordinal()] = valueOf(test.getTotalDissolvedSolids());
+        sample[WaterParameter.HARDNESS.ordinal()] = valueOf(test.getHardness());
+        sample[WaterParameter.CHLORIDE.ordinal()] = valueOf(test.getChloride());
+        sample[WaterParameter.NITRATE.ordinal()] = valueOf(test.getNitrate());
+        sample[WaterParameter.ARSENIC.ordinal()] = valueOf(test.getArsenic());
+        sample[WaterParameter.FLUORIDE.ordinal()] = valueOf(test.getFluoride());
+
+        int packed = limits.evaluate(sample);
+        test.setQuality(QUALITIES[ThresholdTable.worst(packed)]);
+        StringBuilder exceeded = new StringBuilder();
+        for (WaterParameter parameter : PARAMETERS) {
+            if (ThresholdTable.level(packed, parameter.ordinal()) != ThresholdTable.LEVEL_OK) {
+                exceeded.append(exceeded.length() > 0 ? "," : "").append(parameter.name());
+            }
+        }
+        test.setExceededParameters(exceeded.length() > 0 ? exceeded.toString() : null);
+    }
+
+    /**
+     * Position from "latitude, longitude" coordinates, or else from the separate values
+     */
+    private static void setPosition(WaterTest test, WaterTestDto request) {
+        Double latitude = request.getLatitude();
+        Double longitude = request.getLongitude();
+        String coordinates = trimToNull(request.getCoordinates());
+        if (coordinates != null) {
+            String[] parts = coordinates.split("\\s*[,;]\\s*|\\s+");
+            try {
+                if (parts.length != 2) {
+                    throw new NumberFormatException();
+                }
+                latitude = Double.parseDouble(parts[0]);
+                longitude = Double.parseDouble(parts[1]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Coordinates must be given as \"latitude, longitude\": " + coordinates);
+            }
+        }
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalArgumentException("Latitude and longitude must be given together");
+        }
+        if (latitude != null && (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180)) {
+            throw new IllegalArgumentException("Coordinates are out of range: " + latitude + ", " + longitude);
+        }
+        test.setLatitude(latitude);
+        test.setLongitude(longitude);
+    }
+
+    private static WaterBodyType parseWaterBodyType(String value) {
+        try {
+            return WaterBodyType.valueOf(value.trim().toUpperCase(Locale.ROOT).replace(' ', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown water body type: " + value);
+        }
+    }
+
+    private static Boolean parseBacterialPresence(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "positive", "present", "yes", "true" -> true;
+            case "negative", "absent", "no", "false" -> false;
+            default -> throw new IllegalArgumentException("Bacterial presence must be positive or negative: " + value);
+        };
+    }
+
+    /**
+     * Normalized district, village and name of a water body
+     */
+    public static String waterBodyKey(String district, String village, String name) {
+        return GeoBoundaryService.normalize(district) + "|" + GeoBoundaryService.normalize(village) + "|"
+                + GeoBoundaryService.normalize(name);
+    }
+
+    private Set<String> findExistingSampleIds(Set<String> sampleIds) {
+        Set<String> existing = new HashSet<>();
+        List<String> ids = new ArrayList<>(sampleIds);
+        for (int from = 0; from < ids.size(); from += LOOKUP_BATCH_SIZE) {
+            existing.addAll(waterTestRepository.findExistingSampleIds(
+                    ids.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, ids.size()))));
+        }
+        return existing;
+    }
+
+    private static ThresholdTable compileLimits() {
+        int size = PARAMETERS.length;
+        double[] acceptableMin = new double[size];
+        double[] acceptableMax = new double[size];
+        double[] permissibleMin = new double[size];
+        double[] permissibleMax = new double[size];
+        for (WaterParameter parameter : PARAMETERS) {
+            int i = parameter.ordinal();
+            acceptableMin[i] = parameter.getAcceptableMin();
+            acceptableMax[i] = parameter.getAcceptableMax();
+            permissibleMin[i] = parameter.getPermissibleMin();
+            permissibleMax[i] = parameter.getPermissibleMax();
+        }
+        return ThresholdTable.compile(acceptableMin, acceptableMax, permissibleMin, permissibleMax);
+    }
+
+    private static List<WaterParameter> parseParameters(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(",")).map(WaterParameter::valueOf).collect(Collectors.toList());
+    }
+
+    private static double valueOf(Double value) {
+        return value != null ? value : Double.NaN;
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof User
+                ? ((User) authentication.getPrincipal()).getId() : null;
+    }
+
+    /**
+     * Convert WaterTest entity to DTO
+     */
+    private WaterTestDto toDto(WaterTest test) {
+        WaterTestDto dto = new WaterTestDto();
+        dto.setId(test.getId());
+        dto.setSampleId(test.getSampleId());
+        dto.setWaterBodyName(test.getWaterBodyName());
+        dto.setWaterBodyType(test.getWaterBodyType().name().toLowerCase(Locale.ROOT));
+        dto.setWaterBodyTypeOther(test.getWaterBodyTypeOther());
+        dto.setWaterBodyKey(test.getWaterBodyKey());
+        dto.setWaterBodyId(test.getWaterBodyId());
+        dto.setVillage(test.getVillage());
+        dto.setDistrict(test.getDistrict());
+        dto.setState(test.getState());
+        dto.setLatitude(test.getLatitude());
+        dto.setLongitude(test.getLongitude());
+        if (test.getLatitude() != null) {
+            dto.setCoordinates(test.getLatitude() + ", " + test.getLongitude());
+        }
+        dto.setLandmark(test.getLandmark());
+        dto.setPH(test.getPh());
+        dto.setTurbidity(test.getTurbidity());
+        if (test.getBacterialPresence() != null) {
+            dto.setBacterialPresence(test.getBacterialPresence() ? "positive" : "negative");
+        }
+        dto.setTotalDissolvedSolids(test.getTotalDissolvedSolids());
+        dto.setHardness(test.getHardness());
+        dto.setChloride(test.getChloride());
+        dto.setNitrate(test.getNitrate());
+        dto.setArsenic(test.getArsenic());
+        dto.setFluoride(test.getFluoride());
+        dto.setTestDate(test.getTestedAt().toLocalDate());
+        dto.setTestTime(test.getTestedAt().toLocalTime());
+        dto.setTestedBy(test.getTestedBy());
+        dto.setObservations(test.getObservations());
+        dto.setRecommendations(test.getRecommendations());
+        dto.setQuality(test.getQuality());
+        dto.setExceededParameters(parseParameters(test.getExceededParameters()));
+        dto.setSubmittedBy(test.getSubmittedBy());
+        dto.setCreatedAt(test.getCreatedAt());
+        return dto;
+    }
+
+    private static final class ChunkResult {
+        private final List<WaterTest> stored = new ArrayList<>();
+        private final List<WaterTestBatchResultDto.RowError> errors = new ArrayList<>();
+    }
+}
@@ -0,0 +1,181 @@
+package com.healthnet.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton for finding many patterns in one pass over a text.
+ *
+ * Patterns are added with an integer id and compiled into a trie with
+ * failure links; each node's outputs include those of its failure chain, so
+ * a search visits every text character once and reports each occurrence of
+ * every pattern, overlapping ones included. Transitions are stored as sorted
+ * character arrays, searched by bisection. An automaton is immutable once
+ * built and safe to share between threads.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public final class AhoCorasick {
+
+    /**
+     * Receives each match as the pattern id and the end offset (exclusive) in the text
+     */
+    @FunctionalInterface
+    public interface MatchHandler {
+        void onMatch(int patternId, int end);
+    }
+
+    private static final int[] NONE = new int[0];
+
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] fail;
+    private final int[][] outputs;
+    private final int patternCount;
+
+    private AhoCorasick(char[][] labels, int[][] targets, int[] fail, int[][] outputs, int patternCount) {
+        this.labels = labels;
+        this.targets = targets;
+        this.fail = fail;
+        this.outputs = outputs;
+        this.patternCount = patternCount;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Report every pattern occurrence in the text, in order of end offset
+     */
+    public void search(CharSequence text, MatchHandler handler) {
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = step(node, c)) < 0 && node != 0) {
+                node = fail[node];
+            }
+            node = next < 0 ? 0 : next;
+            for (int id : outputs[node]) {
+                handler.onMatch(id, i + 1);
+            }
+        }
+    }
+
+    public int getPatternCount() {
+        return patternCount;
+    }
+
+    public int getStateCount() {
+        return fail.length;
+    }
+
+    private int step(int node, char c) {
+        int index = Arrays.binarySearch(labels[node], c);
+        return index >= 0 ? targets[node][index] : -1;
+    }
+
+    public static final class Builder {
+
+        private final List<Map<Character, Integer>> children = new ArrayList<>();
+        private final List<List<Integer>> ends = new ArrayList<>();
+        private int patternCount;
+
+        private Builder() {
+            newNode();
+        }
+
+        /**
+         * Add a pattern; the same id may be used for several patterns
+         */
+        public Builder add(CharSequence pattern, int id) {
+            if (pattern.length() == 0) {
+                throw new IllegalArgumentException("Pattern must not be empty");
+            }
+            int node = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                Integer next = children.get(node).get(pattern.charAt(i));
+                if (next == null) {
+                    next = newNode();
+                    children.get(node).put(pattern.charAt(i), next);
+                }
+                node = next;
+            }
+            ends.get(node).add(id);
+            patternCount++;
+            return this;
+        }
+
+        public AhoCorasick build() {
+            int size = children.size();
+            char[][] labels = new char[size][];
+            int[][] targets = new int[size][];
+            for (int node = 0; node < size; node++) {
+                Map<Character, Integer> edges = children.get(node);
+                labels[node] = new char[edges.size()];
+                targets[node] = new int[edges.size()];
+                int i = 0;
+                // TreeMap iterates in character order, as bisection needs
+                for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                    labels[node][i] = edge.getKey();
+                    targets[node][i] = edge.getValue();
+                    i++;
+                }
+            }
+
+            // Breadth-first, so a node's failure target is complete before the node
+            int[] fail = new int[size];
+            int[][] outputs = new int[size][];
+            outputs[0] = toArray(ends.get(0), NONE);
+            Deque<Integer> queue = new ArrayDeque<>();
+            for (int child : targets[0]) {
+                fail[child] = 0;
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                outputs[node] = toArray(ends.get(node), outputs[fail[node]]);
+                for (int i = 0; i < labels[node].length; i++) {
+                    char c = labels[node][i];
+                    int child = targets[node][i];
+                    int state = fail[node];
+                    int next;
+                    while ((next = step(labels, targets, state, c)) < 0 && state != 0) {
+                        state = fail[state];
+                    }
+                    fail[child] = next < 0 || next == child ? 0 : next;
+                    queue.add(child);
+                }
+            }
+            return new AhoCorasick(labels, targets, fail, outputs, patternCount);
+        }
+
+        private int newNode() {
+            children.add(new TreeMap<>());
+            ends.add(new ArrayList<>());
+            return children.size() - 1;
+        }
+
+        private static int step(char[][] labels, int[][] targets, int node, char c) {
+            int index = Arrays.binarySearch(labels[node], c);
+            return index >= 0 ? targets[node][index] : -1;
+        }
+
+        private static int[] toArray(List<Integer> own, int[] inherited) {
+            if (own.isEmpty()) {
+                return inherited;
+            }
+            int[] merged = Arrays.copyOf(own.stream().mapToInt(Integer::intValue).toArray(),
+                    own.size() + inherited.length);
+            System.arraycopy(inherited, 0, merged, own.size(), inherited.length);
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.healthnet.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared-arc topology of a set of polygon features, used to simplify
+ * administrative boundaries without opening gaps or overlaps between
+ * neighbours.
+ *
+ * Every ring is cut at junctions - vertices where the set of adjacent
+ * polygons changes - into arcs, and arcs shared by two neighbours are stored
+ * once. Simplifying an arc (Douglas-Peucker, endpoints kept) therefore moves
+ * both sides of a border together, and rings rebuilt from the simplified arcs
+ * still tile the plane exactly as the originals did. The same arcs back the
+ * TopoJSON encoding.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class BoundaryTopology {
+
+    private static final double COORDINATE_SCALE = 1e7;
+
+    private final List<double[][]> arcs = new ArrayList<>();
+    /** Per feature, per polygon, per ring: arc references (~index for a reversed arc) */
+    private final List<int[][][]> features = new ArrayList<>();
+
+    /**
+     * Build the topology of features given as polygons of rings of [lon, lat] points
+     */
+    public BoundaryTopology(List<List<List<double[][]>>> polygonsByFeature) {
+        Map<Long, long[]> neighbours = new HashMap<>();
+        Map<Long, Boolean> junctions = new HashMap<>();
+        for (List<List<double[][]>> polygons : polygonsByFeature) {
+            for (List<double[][]> polygon : polygons) {
+                for (double[][] ring : polygon) {
+                    markJunctions(open(ring), neighbours, junctions);
+                }
+            }
+        }
+
+        Map<ArcKey, Integer> arcIndex = new HashMap<>();
+        for (List<List<double[][]>> polygons : polygonsByFeature) {
+            int[][][] featureArcs = new int[polygons.size()][][];
+            for (int p = 0; p < polygons.size(); p++) {
+                List<double[][]> polygon = polygons.get(p);
+                featureArcs[p] = new int[polygon.size()][];
+                for (int r = 0; r < polygon.size(); r++) {
+                    featureArcs[p][r] = cutRing(open(polygon.get(r)), junctions, arcIndex);
+                }
+            }
+            features.add(featureArcs);
+        }
+    }
+
+    public int getFeatureCount() {
+        return features.size();
+    }
+
+    /**
+     * Arcs simplified with the given tolerance (in degrees); zero keeps every point
+     */
+    public List<double[][]> simplifyArcs(double tolerance) {
+        List<double[][]> simplified = new ArrayList<>(arcs.size());
+        for (double[][] arc : arcs) {
+            simplified.add(tolerance > 0 ? simplify(arc, tolerance) : arc);
+        }
+        return simplified;
+    }
+
+    /**
+     * Arc references of a feature: per polygon, per ring (first ring is the exterior)
+     */
+    public int[][][] getFeatureArcs(int feature) {
+        return features.get(feature);
+    }
+
+    /**
+     * Rebuild a closed ring from (simplified) arcs; returns null if it collapsed below a triangle
+     */
+    public static double[][] ring(int[] references, List<double[][]> arcs) {
+        List<double[]> points = new ArrayList<>();
+        for (int reference : references) {
+            double[][] arc = arcs.get(reference >= 0 ? reference : ~reference);
+            boolean reversed = reference < 0;
+            for (int i = points.isEmpty() ? 0 : 1; i < arc.length; i++) {
+                points.add(arc[reversed ? arc.length - 1 - i : i]);
+            }
+        }
+        // Closed: first point repeated at the end, so a triangle has four points
+        if (points.size() < 4) {
+            return null;
+        }
+        return points.toArray(new double[0][]);
+    }
+
+    private static double[][] open(double[][] ring) {
+        int length = ring.length;
+        if (length > 1 && key(ring[0]) == key(ring[length - 1])) {
+            length--;
+        }
+        return Arrays.copyOf(ring, length);
+    }
+
+    private static void markJunctions(double[][] ring, Map<Long, long[]> neighbours, Map<Long, Boolean> junctions) {
+        int n = ring.length;
+        for (int i = 0; i < n; i++) {
+            long point = key(ring[i]);
+            long previous = key(ring[(i + n - 1) % n]);
+            long next = key(ring[(i + 1) % n]);
+            long[] pair = previous < next ? new long[] { previous, next } : new long[] { next, previous };
+
+            long[] seen = neighbours.putIfAbsent(point, pair);
+            if (seen != null && !Arrays.equals(seen, pair)) {
+                junctions.put(point, Boolean.TRUE);
+            }
+        }
+    }
+
+    private int[] cutRing(double[][] ring, Map<Long, Boolean> junctions, Map<ArcKey, Integer> arcIndex) {
+        int n = ring.length;
+        int start = -1;
+        for (int i = 0; i < n && start < 0; i++) {
+            if (junctions.containsKey(key(ring[i]))) {
+                start = i;
+            }
+        }
+
+        if (start < 0) {
+            // No junction: the whole ring is one closed arc, started at its smallest vertex
+            int smallest = 0;
+            for (int i = 1; i < n; i++) {
+                if (key(ring[i]) < key(ring[smallest])) {
+                    smallest = i;
+                }
+            }
+            double[][] arc = new double[n + 1][];
+            for (int i = 0; i <= n; i++) {
+                arc[i] = ring[(smallest + i) % n];
+            }
+            return new int[] { reference(arc, arcIndex) };
+        }
+
+        List<Integer> references = new ArrayList<>();
+        List<double[]> current = new ArrayList<>();
+        current.add(ring[start]);
+        for (int step = 1; step <= n; step++) {
+            double[] point = ring[(start + step) % n];
+            current.add(point);
+            if (junctions.containsKey(key(point))) {
+                references.add(reference(current.toArray(new double[0][]), arcIndex));
+                current = new ArrayList<>();
+                current.add(point);
+            }
+        }
+
+        int[] result = new int[references.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = references.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Index of an arc, reusing an existing arc traversed in either direction
+     */
+    private int reference(double[][] arc, Map<ArcKey, Integer> arcIndex) {
+        long[] keys = new long[arc.length];
+        for (int i = 0; i < arc.length; i++) {
+            keys[i] = key(arc[i]);
+        }
+        Integer existing = arcIndex.get(new ArcKey(keys));
+        if (existing != null) {
+            return existing;
+        }
+
+        long[] reversed = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            reversed[i] = keys[keys.length - 1 - i];
+        }
+        existing = arcIndex.get(new ArcKey(reversed));
+        if (existing != null) {
+            return ~existing;
+        }
+        if (keys[0] == keys[keys.length - 1]) {
+            // Closed arcs may be shared starting from another vertex (e.g. an enclave's border)
+            Integer rotated = findRotated(keys, arcIndex);
+            if (rotated != null) {
+                return rotated;
+            }
+        }
+
+        int index = arcs.size();
+        arcs.add(arc);
+        arcIndex.put(new ArcKey(keys), index);
+        return index;
+    }
+
+    private static Integer findRotated(long[] keys, Map<ArcKey, Integer> arcIndex) {
+        int n = keys.length - 1;
+        int smallest = 0;
+        for (int i = 1; i < n; i++) {
+            if (keys[i] < keys[smallest]) {
+                smallest = i;
+            }
+        }
+        long[] forward = new long[n + 1];
+        long[] backward = new long[n + 1];
+        for (int i = 0; i <= n; i++) {
+            forward[i] = keys[(smallest + i) % n];
+            backward[i] = keys[((smallest - i) % n + n) % n];
+        }
+        Integer existing = arcIndex.get(new ArcKey(forward));
+        if (existing != null) {
+            return existing;
+        }
+        existing = arcIndex.get(new ArcKey(backward));
+        return existing != null ? ~existing : null;
+    }
+
+    private static long key(double[] point) {
+        long x = Math.round(point[0] * COORDINATE_SCALE);
+        long y = Math.round(point[1] * COORDINATE_SCALE);
+        return (x << 32) ^ (y & 0xffffffffL);
+    }
+
+    /**
+     * Douglas-Peucker keeping both endpoints; closed arcs keep at least a triangle
+     */
+    private static double[][] simplify(double[][] arc, double tolerance) {
+        int n = arc.length;
+        if (n <= 2) {
+            return arc;
+        }
+        boolean[] keep = new boolean[n];
+        keep[0] = true;
+        keep[n - 1] = true;
+
+        if (key(arc[0]) == key(arc[n - 1])) {
+            // A closed arc has no baseline; split it at the point farthest from the start
+            int farthest = 1;
+            double best = -1;
+            for (int i = 1; i < n - 1; i++) {
+                double dx = arc[i][0] - arc[0][0];
+                double dy = arc[i][1] - arc[0][1];
+                double distance = dx * dx + dy * dy;
+                if (distance > best) {
+                    best = distance;
+                    farthest = i;
+                }
+            }
+            keep[farthest] = true;
+            douglasPeucker(arc, 0, farthest, tolerance * tolerance, keep);
+            douglasPeucker(arc, farthest, n - 1, tolerance * tolerance, keep);
+        } else {
+            douglasPeucker(arc, 0, n - 1, tolerance * tolerance, keep);
+        }
+
+        List<double[]> points = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (keep[i]) {
+                points.add(arc[i]);
+            }
+        }
+        return points.toArray(new double[0][]);
+    }
+
+    private static void douglasPeucker(double[][] points, int first, int last, double toleranceSquared,
+                                       boolean[] keep) {
+        // Iterative to stay safe on very long arcs
+        int[] stack = new int[2 * (last - first + 1)];
+        int top = 0;
+        stack[top++] = first;
+        stack[top++] = last;
+        while (top > 0) {
+            int end = stack[--top];
+            int begin = stack[--top];
+            double maxDistance = -1;
+            int index = -1;
+            for (int i = begin + 1; i < end; i++) {
+                double distance = segmentDistanceSquared(points[i], points[begin], points[end]);
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    index = i;
+                }
+            }
+            if (index >= 0 && maxDistance > toleranceSquared) {
+                keep[index] = true;
+                stack[top++] = begin;
+                stack[top++] = index;
+                stack[top++] = index;
+                stack[top++] = end;
+            }
+        }
+    }
+
+    private static double segmentDistanceSquared(double[] p, double[] a, double[] b) {
+        double dx = b[0] - a[0];
+        double dy = b[1] - a[1];
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared == 0 ? 0 : ((p[0] - a[0]) * dx + (p[1] - a[1]) * dy) / lengthSquared;
+        t = Math.max(0, Math.min(1, t));
+        double x = a[0] + t * dx - p[0];
+        double y = a[1] + t * dy - p[1];
+        return x * x + y * y;
+    }
+
+    private static final class ArcKey {
+        private final long[] keys;
+        private final int hash;
+
+        ArcKey(long[] keys) {
+            this.keys = keys;
+            this.hash = Arrays.hashCode(keys);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ArcKey && Arrays.equals(keys, ((ArcKey) other).keys);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.healthnet.util;
+
+import java.util.Arrays;
+
+/**
+ * Reduction of a time series to a fixed number of points for charting.
+ *
+ * Both methods return the indexes of the points to keep, in time order, so
+ * the caller keeps its own representation of times and values. Largest
+ * Triangle Three Buckets keeps the first and last points and, from each of
+ * the equal-count buckets between them, the point forming the largest
+ * triangle with the point kept before it and the average of the next
+ * bucket; it preserves the visual shape of the line. Min/max splits the
+ * time range into equal spans and keeps the lowest and highest point of
+ * each, so no spike is lost, at up to two points per span.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public final class Downsampler {
+
+    /**
+     * Downsampling methods
+     */
+    public enum Method {
+        LTTB,
+        MINMAX
+    }
+
+    private Downsampler() {
+    }
+
+    /**
+     * Indexes of at most the given number of points chosen by a method
+     */
+    public static int[] downsample(Method method, long[] times, double[] values, int points) {
+        return method == Method.MINMAX ? minMax(times, values, points) : lttb(times, values, points);
+    }
+
+    /**
+     * Indexes of at most threshold points chosen by Largest Triangle Three Buckets
+     */
+    public static int[] lttb(long[] times, double[] values, int threshold) {
+        int size = times.length;
+        if (threshold >= size || size <= 2) {
+            return all(size);
+        }
+        if (threshold < 3) {
+            throw new IllegalArgumentException("At least 3 points are needed to downsample a series");
+        }
+        int[] kept = new int[threshold];
+        int count = 0;
+        kept[count++] = 0;
+
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        int previous = 0;
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+
+            // Average of the next bucket; the last point stands in for the bucket after the last
+            int nextStart = end;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, size);
+            double averageTime = 0;
+            double averageValue = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageTime += times[i];
+                averageValue += values[i];
+            }
+            int nextCount = nextEnd - nextStart;
+            averageTime /= nextCount;
+            averageValue /= nextCount;
+
+            double originTime = times[previous];
+            double originValue = values[previous];
+            double largest = -1;
+            int chosen = start;
+            for (int i = start; i < end; i++) {
+                // Twice the triangle area; the factor does not change which is largest
+                double area = Math.abs((originTime - averageTime) * (values[i] - originValue)
+                        - (originTime - times[i]) * (averageValue - originValue));
+                if (area > largest) {
+                    largest = area;
+                    chosen = i;
+                }
+            }
+            kept[count++] = chosen;
+            previous = chosen;
+        }
+        kept[count++] = size - 1;
+        return kept;
+    }
+
+    /**
+     * Indexes of the lowest and highest point of each of points / 2 equal time spans
+     */
+    public static int[] minMax(long[] times, double[] values, int points) {
+        int size = times.length;
+        if (points >= size || size <= 2) {
+            return all(size);
+        }
+        int buckets = Math.max(1, points / 2);
+        long first = times[0];
+        double span = (double) (times[size - 1] - first) + 1;
+        int[] kept = new int[buckets * 2];
+        int count = 0;
+        int i = 0;
+        for (int bucket = 0; bucket < buckets && i < size; bucket++) {
+            int min = i;
+            int max = i;
+            while (i < size && (long) ((times[i] - first) / span * buckets) <= bucket) {
+                if (values[i] < values[min]) {
+                    min = i;
+                }
+                if (values[i] > values[max]) {
+                    max = i;
+                }
+                i++;
+            }
+            if (i == min) {
+                // Empty span: the first point belongs to a later one
+                continue;
+            }
+            kept[count++] = Math.min(min, max);
+            if (min != max) {
+                kept[count++] = Math.max(min, max);
+            }
+        }
+        return Arrays.copyOf(kept, count);
+    }
+
+    private static int[] all(int size) {
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        return indexes;
+    }
+}
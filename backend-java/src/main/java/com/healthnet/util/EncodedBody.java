@@ -0,0 +1,31 @@
+package com.healthnet.util;
+
+/**
+ * A response body encoded once: the bytes, their gzip variant and a strong ETag (without quotes).
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public final class EncodedBody {
+
+    private final byte[] body;
+    private final byte[] gzipBody;
+    private final String etag;
+
+    private EncodedBody(byte[] body, byte[] gzipBody, String etag) {
+        this.body = body;
+        this.gzipBody = gzipBody;
+        this.etag = etag;
+    }
+
+    /**
+     * Compress and tag a body
+     */
+    public static EncodedBody of(byte[] body) {
+        return new EncodedBody(body, PrecompressedResponses.gzip(body), PrecompressedResponses.etag(body));
+    }
+
+    public byte[] getBody() { return body; }
+    public byte[] getGzipBody() { return gzipBody; }
+    public String getEtag() { return etag; }
+}
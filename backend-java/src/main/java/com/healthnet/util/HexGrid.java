@@ -0,0 +1,142 @@
+package com.healthnet.util;
+
+/**
+ * Pointy-top hexagonal grids over Web Mercator at a series of resolutions.
+ *
+ * Resolution 0 has the coarsest cells and every following resolution halves
+ * the edge length, so each coarse cell spans about four cells of the next
+ * resolution. Edges are given in kilometres at the reference latitude and
+ * are constant in Mercator units, so cells look regular on the web map.
+ * Points are assigned with axial coordinates and cube rounding. A cell id
+ * packs the resolution and the axial coordinates into one non-zero long.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class HexGrid {
+
+    private static final double EARTH_RADIUS_M = 6378137.0;
+    private static final double SQRT3 = Math.sqrt(3);
+    private static final int AXIS_BITS = 28;
+    private static final long AXIS_OFFSET = 1L << (AXIS_BITS - 1);
+    private static final long AXIS_MASK = (1L << AXIS_BITS) - 1;
+
+    private final double[] edges;
+    private final double[] edgesKm;
+
+    /**
+     * Grids from the coarsest edge length (km at the reference latitude) down over the given number of resolutions
+     */
+    public HexGrid(double coarsestEdgeKm, int resolutions, double referenceLatitude) {
+        if (coarsestEdgeKm <= 0 || resolutions < 1 || resolutions > 15) {
+            throw new IllegalArgumentException("Need a positive edge and 1 to 15 resolutions");
+        }
+        double mercatorScale = 1 / Math.cos(Math.toRadians(referenceLatitude));
+        edges = new double[resolutions];
+        edgesKm = new double[resolutions];
+        for (int r = 0; r < resolutions; r++) {
+            edgesKm[r] = coarsestEdgeKm / (1 << r);
+            edges[r] = edgesKm[r] * 1000 * mercatorScale;
+        }
+    }
+
+    public int resolutions() {
+        return edges.length;
+    }
+
+    public double edgeKm(int resolution) {
+        return edgesKm[resolution];
+    }
+
+    /**
+     * Edge length in Web Mercator metres, the unit map clients draw in
+     */
+    public double edgeMercatorMeters(int resolution) {
+        return edges[resolution];
+    }
+
+    /**
+     * Id of the cell containing the coordinate
+     */
+    public long cell(int resolution, double latitude, double longitude) {
+        double size = edges[resolution];
+        double x = mercatorX(longitude);
+        double y = mercatorY(latitude);
+        double q = (SQRT3 / 3 * x - y / 3) / size;
+        double r = (2.0 / 3 * y) / size;
+
+        // Cube rounding: round all three coordinates, then fix the one that moved most
+        double s = -q - r;
+        long rq = Math.round(q);
+        long rr = Math.round(r);
+        long rs = Math.round(s);
+        double dq = Math.abs(rq - q);
+        double dr = Math.abs(rr - r);
+        double ds = Math.abs(rs - s);
+        if (dq > dr && dq > ds) {
+            rq = -rr - rs;
+        } else if (dr > ds) {
+            rr = -rq - rs;
+        }
+        return pack(resolution, rq, rr);
+    }
+
+    public static int resolution(long cell) {
+        return (int) (cell >>> (2 * AXIS_BITS)) - 1;
+    }
+
+    /**
+     * Centre of a cell as { latitude, longitude }
+     */
+    public double[] center(long cell) {
+        int resolution = resolution(cell);
+        long q = ((cell >>> AXIS_BITS) & AXIS_MASK) - AXIS_OFFSET;
+        long r = (cell & AXIS_MASK) - AXIS_OFFSET;
+        double size = edges[resolution];
+        double x = size * (SQRT3 * q + SQRT3 / 2 * r);
+        double y = size * 1.5 * r;
+        return new double[] { latitude(y), x / EARTH_RADIUS_M * 180 / Math.PI };
+    }
+
+    /**
+     * Finest resolution whose edge spans at least the given number of pixels at a map zoom
+     */
+    public int resolutionForZoom(int zoom, double minEdgePixels) {
+        double metersPerPixel = 2 * Math.PI * EARTH_RADIUS_M / (256 * Math.pow(2, zoom));
+        for (int r = edges.length - 1; r > 0; r--) {
+            if (edges[r] / metersPerPixel >= minEdgePixels) {
+                return r;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Approximate number of cells of a resolution covering a bounding box
+     */
+    public double cellsCovering(int resolution, double south, double west, double north, double east) {
+        double width = mercatorX(east) - mercatorX(west);
+        double height = mercatorY(north) - mercatorY(south);
+        double size = edges[resolution];
+        return width * height / (1.5 * SQRT3 * size * size);
+    }
+
+    private static long pack(int resolution, long q, long r) {
+        return ((long) (resolution + 1) << (2 * AXIS_BITS))
+                | (((q + AXIS_OFFSET) & AXIS_MASK) << AXIS_BITS)
+                | ((r + AXIS_OFFSET) & AXIS_MASK);
+    }
+
+    private static double mercatorX(double longitude) {
+        return EARTH_RADIUS_M * Math.toRadians(longitude);
+    }
+
+    private static double mercatorY(double latitude) {
+        double clamped = Math.max(-85.05112878, Math.min(85.05112878, latitude));
+        return EARTH_RADIUS_M * Math.log(Math.tan(Math.PI / 4 + Math.toRadians(clamped) / 2));
+    }
+
+    private static double latitude(double mercatorY) {
+        return Math.toDegrees(2 * Math.atan(Math.exp(mercatorY / EARTH_RADIUS_M)) - Math.PI / 2);
+    }
+}
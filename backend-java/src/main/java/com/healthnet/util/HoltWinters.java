@@ -0,0 +1,151 @@
+package com.healthnet.util;
+
+/**
+ * Additive Holt-Winters model with a damped trend for daily count series.
+ *
+ * The smoothing parameters are chosen by a small grid search minimising the
+ * one-step-ahead squared error; after fitting the model can be advanced one
+ * observation at a time with {@link #update(double)}, which is O(1) and keeps
+ * the residual variance used for prediction intervals up to date.
+ *
+ * Not thread-safe; callers synchronize.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class HoltWinters {
+
+    private static final double[] ALPHAS = { 0.05, 0.1, 0.2, 0.3, 0.5 };
+    private static final double[] BETAS = { 0.01, 0.05, 0.1 };
+    private static final double[] GAMMAS = { 0.05, 0.1, 0.2, 0.3 };
+
+    private final int period;
+    private final double alpha;
+    private final double beta;
+    private final double gamma;
+    private final double phi;
+    private final double[] season;
+    private double level;
+    private double trend;
+    private long observations;
+    private double squaredErrorSum;
+    private long errorCount;
+
+    private HoltWinters(int period, double alpha, double beta, double gamma, double phi) {
+        this.period = period;
+        this.alpha = alpha;
+        this.beta = beta;
+        this.gamma = gamma;
+        this.phi = phi;
+        this.season = new double[period];
+    }
+
+    /**
+     * Fit a model to the series. Series shorter than two periods get a flat
+     * model at their mean.
+     */
+    public static HoltWinters fit(double[] series, int period, double phi) {
+        if (series.length < 2 * period) {
+            HoltWinters flat = new HoltWinters(period, 0.2, 0, 0, phi);
+            double sum = 0;
+            for (double value : series) {
+                sum += value;
+            }
+            flat.level = series.length > 0 ? sum / series.length : 0;
+            for (double value : series) {
+                flat.squaredErrorSum += (value - flat.level) * (value - flat.level);
+            }
+            flat.errorCount = series.length;
+            flat.observations = series.length;
+            return flat;
+        }
+
+        HoltWinters best = null;
+        for (double alpha : ALPHAS) {
+            for (double beta : BETAS) {
+                for (double gamma : GAMMAS) {
+                    HoltWinters candidate = new HoltWinters(period, alpha, beta, gamma, phi);
+                    candidate.initialize(series);
+                    for (int t = period; t < series.length; t++) {
+                        candidate.update(series[t]);
+                    }
+                    if (best == null || candidate.squaredErrorSum < best.squaredErrorSum) {
+                        best = candidate;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Advance the model by one observation
+     */
+    public void update(double value) {
+        int index = (int) (observations % period);
+        double seasonal = season[index];
+        double error = value - (level + phi * trend + seasonal);
+        squaredErrorSum += error * error;
+        errorCount++;
+
+        double previousLevel = level;
+        level = alpha * (value - seasonal) + (1 - alpha) * (previousLevel + phi * trend);
+        trend = beta * (level - previousLevel) + (1 - beta) * phi * trend;
+        season[index] = gamma * (value - level) + (1 - gamma) * seasonal;
+        observations++;
+    }
+
+    /**
+     * Point forecasts for the next horizon steps
+     */
+    public double[] forecast(int horizon) {
+        double[] forecast = new double[horizon];
+        double damping = 0;
+        double factor = 1;
+        for (int h = 1; h <= horizon; h++) {
+            factor *= phi;
+            damping += factor;
+            forecast[h - 1] = level + damping * trend + season[(int) ((observations + h - 1) % period)];
+        }
+        return forecast;
+    }
+
+    /**
+     * Standard deviation of the h-step-ahead forecast error (h starting at 1)
+     */
+    public double forecastStandardDeviation(int h) {
+        double variance = residualVariance();
+        double sum = 1;
+        for (int j = 1; j < h; j++) {
+            double weight = alpha * (1 + j * beta);
+            sum += weight * weight;
+        }
+        return Math.sqrt(variance * sum);
+    }
+
+    public double residualVariance() {
+        return errorCount > 0 ? squaredErrorSum / errorCount : 0;
+    }
+
+    public double getAlpha() { return alpha; }
+    public double getBeta() { return beta; }
+    public double getGamma() { return gamma; }
+
+    private void initialize(double[] series) {
+        double firstMean = 0;
+        double secondMean = 0;
+        for (int i = 0; i < period; i++) {
+            firstMean += series[i];
+            secondMean += series[period + i];
+        }
+        firstMean /= period;
+        secondMean /= period;
+
+        level = firstMean;
+        trend = (secondMean - firstMean) / period;
+        for (int i = 0; i < period; i++) {
+            season[i] = series[i] - firstMean;
+        }
+        observations = period;
+    }
+}
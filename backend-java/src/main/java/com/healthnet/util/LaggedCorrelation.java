@@ -0,0 +1,217 @@
+package com.healthnet.util;
+
+import java.util.Arrays;
+
+/**
+ * Pearson correlation between a daily exposure series and a daily outcome
+ * series shifted by 0 to maxLag days, over a sliding window of days, kept
+ * up to date incrementally.
+ *
+ * For lag l the pairs are (exposure on day t - l, outcome on day t) for the
+ * last windowDays values of t. Both series live in one ring buffer of
+ * windowDays + maxLag days, and the five sums behind each lag's correlation
+ * are adjusted in place: adding to a day updates every lag in O(maxLag),
+ * and moving to the next day retires the oldest pair of every lag and takes
+ * in the newest, also in O(maxLag). Reading a correlation is O(1) and never
+ * revisits past days. Values added at halves and whole numbers keep the
+ * sums exact, so they do not drift however long the series runs.
+ *
+ * Not thread-safe; callers synchronize.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public final class LaggedCorrelation {
+
+    private final int windowDays;
+    private final int maxLag;
+    private final int capacity;
+    private final double[] exposure;
+    private final double[] outcome;
+
+    /** Per lag: sum of the exposures paired in the window, of their squares, and of exposure times outcome */
+    private final double[] sumX;
+    private final double[] sumXX;
+    private final double[] sumXY;
+    private double sumY;
+    private double sumYY;
+
+    private long today;
+
+    public LaggedCorrelation(int windowDays, int maxLag, long today) {
+        if (windowDays < 2 || maxLag < 0) {
+            throw new IllegalArgumentException("Window must be at least 2 days and the lag must not be negative");
+        }
+        this.windowDays = windowDays;
+        this.maxLag = maxLag;
+        this.capacity = windowDays + maxLag;
+        this.exposure = new double[capacity];
+        this.outcome = new double[capacity];
+        this.sumX = new double[maxLag + 1];
+        this.sumXX = new double[maxLag + 1];
+        this.sumXY = new double[maxLag + 1];
+        this.today = today;
+    }
+
+    /**
+     * Slide the window so it ends on the given day; earlier days are ignored
+     */
+    public void advanceTo(long day) {
+        if (day <= today) {
+            return;
+        }
+        if (day - today >= capacity) {
+            // Every buffered day falls out of the window
+            Arrays.fill(exposure, 0);
+            Arrays.fill(outcome, 0);
+            Arrays.fill(sumX, 0);
+            Arrays.fill(sumXX, 0);
+            Arrays.fill(sumXY, 0);
+            sumY = 0;
+            sumYY = 0;
+            today = day;
+            return;
+        }
+        while (today < day) {
+            long oldest = today - windowDays + 1;
+            double y = outcome[slot(oldest)];
+            for (int lag = 0; lag <= maxLag; lag++) {
+                double x = exposure[slot(oldest - lag)];
+                sumX[lag] -= x;
+                sumXX[lag] -= x * x;
+                sumXY[lag] -= x * y;
+            }
+            sumY -= y;
+            sumYY -= y * y;
+
+            // The new day reuses the slot of the oldest exposure, which no lag pairs any more
+            today++;
+            exposure[slot(today)] = 0;
+            outcome[slot(today)] = 0;
+            for (int lag = 1; lag <= maxLag; lag++) {
+                double x = exposure[slot(today - lag)];
+                sumX[lag] += x;
+                sumXX[lag] += x * x;
+            }
+        }
+    }
+
+    /**
+     * Add to the exposure of a day; days too old to pair with the window are ignored
+     */
+    public void addExposure(long day, double amount) {
+        advanceTo(day);
+        if (day < today - capacity + 1) {
+            return;
+        }
+        int slot = slot(day);
+        double previous = exposure[slot];
+        double current = previous + amount;
+        exposure[slot] = current;
+        for (int lag = 0; lag <= maxLag; lag++) {
+            long paired = day + lag;
+            if (paired > today) {
+                break;
+            }
+            if (paired >= today - windowDays + 1) {
+                sumX[lag] += amount;
+                sumXX[lag] += current * current - previous * previous;
+                sumXY[lag] += amount * outcome[slot(paired)];
+            }
+        }
+    }
+
+    /**
+     * Add to the outcome of a day; days before the window are ignored
+     */
+    public void addOutcome(long day, double amount) {
+        advanceTo(day);
+        if (day < today - windowDays + 1) {
+            return;
+        }
+        int slot = slot(day);
+        double previous = outcome[slot];
+        double current = previous + amount;
+        outcome[slot] = current;
+        sumY += amount;
+        sumYY += current * current - previous * previous;
+        for (int lag = 0; lag <= maxLag; lag++) {
+            sumXY[lag] += amount * exposure[slot(day - lag)];
+        }
+    }
+
+    /**
+     * Correlation of the outcome with the exposure lag days earlier; 0 when either side is constant
+     */
+    public double correlation(int lag) {
+        double n = windowDays;
+        double covariance = n * sumXY[lag] - sumX[lag] * sumY;
+        double varianceX = n * sumXX[lag] - sumX[lag] * sumX[lag];
+        double varianceY = n * sumYY - sumY * sumY;
+        if (varianceX <= 0 || varianceY <= 0) {
+            return 0;
+        }
+        return covariance / Math.sqrt(varianceX * varianceY);
+    }
+
+    /**
+     * First day from the given one to today with exposure, or -1 if none
+     */
+    public long firstExposureSince(long day) {
+        for (long d = Math.max(day, today - capacity + 1); d <= today; d++) {
+            if (exposure[slot(d)] != 0) {
+                return d;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Last day with exposure, or -1 if none is buffered
+     */
+    public long lastExposure() {
+        for (long d = today; d > today - capacity; d--) {
+            if (exposure[slot(d)] != 0) {
+                return d;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Total outcome from the given day to today, within the window
+     */
+    public double outcomeSince(long day) {
+        double total = 0;
+        for (long d = Math.max(day, today - windowDays + 1); d <= today; d++) {
+            total += outcome[slot(d)];
+        }
+        return total;
+    }
+
+    /**
+     * Mean daily outcome over the window
+     */
+    public double meanOutcome() {
+        return sumY / windowDays;
+    }
+
+    /**
+     * Whether nothing is left in the buffer
+     */
+    public boolean isEmpty() {
+        return sumY == 0 && lastExposure() < 0;
+    }
+
+    public int getMaxLag() {
+        return maxLag;
+    }
+
+    public long getToday() {
+        return today;
+    }
+
+    private int slot(long day) {
+        return (int) Math.floorMod(day, (long) capacity);
+    }
+}
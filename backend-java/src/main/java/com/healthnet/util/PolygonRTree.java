@@ -0,0 +1,183 @@
+package com.healthnet.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Static R-tree over polygons for point-in-polygon lookups.
+ *
+ * The tree is bulk-loaded with Sort-Tile-Recursive packing: boxes are sorted
+ * into vertical slices by x, each slice by y, and packed into full nodes,
+ * level by level, so nodes barely overlap and a point query touches a
+ * handful of boxes before the exact even-odd test on the few candidate
+ * polygons. Ring coordinates are kept in flat arrays for that test. The tree
+ * is immutable once built and safe to share between threads.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class PolygonRTree<T> {
+
+    private static final int NODE_CAPACITY = 8;
+
+    private final List<T> items = new ArrayList<>();
+    /** Per item: rings as interleaved x/y coordinates (all polygons, holes included) */
+    private final List<double[][]> itemRings = new ArrayList<>();
+    private final Node root;
+
+    /**
+     * Build the tree from items and their polygons (polygons of rings of [x, y] points)
+     */
+    public PolygonRTree(List<T> values, List<List<List<double[][]>>> polygons) {
+        if (values.size() != polygons.size()) {
+            throw new IllegalArgumentException("Every item needs a geometry");
+        }
+        List<Node> level = new ArrayList<>();
+        for (int i = 0; i < values.size(); i++) {
+            List<double[]> rings = new ArrayList<>();
+            double[] box = { Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE };
+            for (List<double[][]> polygon : polygons.get(i)) {
+                for (double[][] ring : polygon) {
+                    double[] flat = new double[ring.length * 2];
+                    for (int p = 0; p < ring.length; p++) {
+                        flat[2 * p] = ring[p][0];
+                        flat[2 * p + 1] = ring[p][1];
+                        box[0] = Math.min(box[0], ring[p][0]);
+                        box[1] = Math.min(box[1], ring[p][1]);
+                        box[2] = Math.max(box[2], ring[p][0]);
+                        box[3] = Math.max(box[3], ring[p][1]);
+                    }
+                    rings.add(flat);
+                }
+            }
+            if (rings.isEmpty()) {
+                continue;
+            }
+            level.add(new Node(box, null, items.size()));
+            items.add(values.get(i));
+            itemRings.add(rings.toArray(new double[0][]));
+        }
+
+        while (level.size() > 1) {
+            level = pack(level);
+        }
+        root = level.isEmpty() ? null : level.get(0);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * The item whose polygon contains the point, or null. Where polygons
+     * overlap, the first one found wins.
+     */
+    public T find(double x, double y) {
+        if (root == null || !root.contains(x, y)) {
+            return null;
+        }
+        Node[] stack = new Node[64];
+        int top = 0;
+        stack[top++] = root;
+        while (top > 0) {
+            Node node = stack[--top];
+            if (node.children == null) {
+                if (inside(itemRings.get(node.item), x, y)) {
+                    return items.get(node.item);
+                }
+                continue;
+            }
+            for (Node child : node.children) {
+                if (child.contains(x, y)) {
+                    if (top == stack.length) {
+                        stack = Arrays.copyOf(stack, stack.length * 2);
+                    }
+                    stack[top++] = child;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * One STR pass: slice by x, sort each slice by y, group into full nodes
+     */
+    private static List<Node> pack(List<Node> entries) {
+        int nodeCount = (entries.size() + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        int sliceCount = (int) Math.ceil(Math.sqrt(nodeCount));
+        int sliceSize = sliceCount * NODE_CAPACITY;
+
+        List<Node> byX = new ArrayList<>(entries);
+        byX.sort(Comparator.comparingDouble(Node::centerX));
+
+        List<Node> parents = new ArrayList<>(nodeCount);
+        for (int start = 0; start < byX.size(); start += sliceSize) {
+            List<Node> slice = new ArrayList<>(byX.subList(start, Math.min(start + sliceSize, byX.size())));
+            slice.sort(Comparator.comparingDouble(Node::centerY));
+            for (int i = 0; i < slice.size(); i += NODE_CAPACITY) {
+                Node[] children = slice.subList(i, Math.min(i + NODE_CAPACITY, slice.size())).toArray(new Node[0]);
+                double[] box = { Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE };
+                for (Node child : children) {
+                    box[0] = Math.min(box[0], child.minX);
+                    box[1] = Math.min(box[1], child.minY);
+                    box[2] = Math.max(box[2], child.maxX);
+                    box[3] = Math.max(box[3], child.maxY);
+                }
+                parents.add(new Node(box, children, -1));
+            }
+        }
+        return parents;
+    }
+
+    /**
+     * Even-odd crossing test over all rings, so holes and multipolygons need no special case
+     */
+    private static boolean inside(double[][] rings, double x, double y) {
+        boolean inside = false;
+        for (double[] ring : rings) {
+            int n = ring.length / 2;
+            for (int i = 0, j = n - 1; i < n; j = i++) {
+                double xi = ring[2 * i];
+                double yi = ring[2 * i + 1];
+                double xj = ring[2 * j];
+                double yj = ring[2 * j + 1];
+                if ((yi > y) != (yj > y) && x < (xj - xi) * (y - yi) / (yj - yi) + xi) {
+                    inside = !inside;
+                }
+            }
+        }
+        return inside;
+    }
+
+    private static final class Node {
+        private final double minX;
+        private final double minY;
+        private final double maxX;
+        private final double maxY;
+        private final Node[] children;
+        private final int item;
+
+        Node(double[] box, Node[] children, int item) {
+            this.minX = box[0];
+            this.minY = box[1];
+            this.maxX = box[2];
+            this.maxY = box[3];
+            this.children = children;
+            this.item = item;
+        }
+
+        boolean contains(double x, double y) {
+            return x >= minX && x <= maxX && y >= minY && y <= maxY;
+        }
+
+        double centerX() {
+            return (minX + maxX) / 2;
+        }
+
+        double centerY() {
+            return (minY + maxY) / 2;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.healthnet.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Builds responses for bodies that were compressed ahead of time.
+ *
+ * The gzip variant is sent when the client accepts it, each encoding gets
+ * its own strong ETag (as content codings must), and a matching
+ * If-None-Match yields 304 without a body. A body built per request is
+ * compressed only once it is known to be sent gzipped.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public final class PrecompressedResponses {
+
+    private static final String GZIP = "gzip";
+
+    private PrecompressedResponses() {
+    }
+
+    /**
+     * Response for a body and its gzip variant; the ETag is given without quotes
+     */
+    public static ResponseEntity<byte[]> respond(byte[] body, byte[] gzipBody, String etag, MediaType contentType,
+                                                 CacheControl cacheControl, String acceptEncoding,
+                                                 String ifNoneMatch) {
+        return respond(body, gzipBody != null ? () -> gzipBody : null, etag, contentType, cacheControl,
+                acceptEncoding, ifNoneMatch);
+    }
+
+    /**
+     * Response for a body built per request, gzipped at the default level only if it is sent to a client that
+     * accepts gzip; the ETag is given without quotes
+     */
+    public static ResponseEntity<byte[]> respondCompressing(byte[] body, String etag, MediaType contentType,
+                                                            CacheControl cacheControl, String acceptEncoding,
+                                                            String ifNoneMatch) {
+        return respond(body, () -> gzip(body, Deflater.DEFAULT_COMPRESSION), etag, contentType, cacheControl,
+                acceptEncoding, ifNoneMatch);
+    }
+
+    /**
+     * Gzip a body at maximum compression, since it is compressed once and sent many times
+     */
+    public static byte[] gzip(byte[] body) {
+        return gzip(body, Deflater.BEST_COMPRESSION);
+    }
+
+    private static ResponseEntity<byte[]> respond(byte[] body, Supplier<byte[]> gzipBody, String etag,
+                                                  MediaType contentType, CacheControl cacheControl,
+                                                  String acceptEncoding, String ifNoneMatch) {
+        boolean gzip = gzipBody != null && acceptsGzip(acceptEncoding);
+        String identityTag = '"' + etag + '"';
+        String gzipTag = '"' + etag + "-gzip\"";
+        String tag = gzip ? gzipTag : identityTag;
+
+        if (matches(ifNoneMatch, identityTag, gzipTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(tag)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(contentType)
+                .eTag(tag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        byte[] payload = gzip ? gzipBody.get() : body;
+        return builder.contentLength(payload.length).body(payload);
+    }
+
+    private static byte[] gzip(byte[] body, int level) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to compress response body", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Strong ETag of a body (128 bits of its SHA-256, hex, without quotes)
+     */
+    public static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim();
+            if (GZIP.equalsIgnoreCase(coding) || "*".equals(coding)) {
+                // An explicit q=0 means "not acceptable"
+                for (int i = 1; i < tokens.length; i++) {
+                    String parameter = tokens[i].trim().replace(" ", "");
+                    if (parameter.equals("q=0") || parameter.matches("q=0\\.0*")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Weak comparison, as If-None-Match uses; either encoding's tag revalidates
+     */
+    static boolean matches(String ifNoneMatch, String... tags) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if ("*".equals(value)) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            for (String tag : tags) {
+                if (tag.equals(value)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,383 @@
+package com.healthnet.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Immutable autocomplete index over normalized names.
+ *
+ * Prefix matches come from a compressed (radix) trie: every node keeps the
+ * best-ranked items of its subtree, so an unfiltered lookup walks the typed
+ * prefix and reads the answer off one node. Items are ranked by their
+ * position in the input list. When the prefix yields too few matches, a
+ * trigram index finds misspellings and transliteration variants; keys are
+ * compared with the query against only their first few characters, so a
+ * half-typed name is not penalized for the part not typed yet. Keys must be
+ * normalized the same way as queries (lower-case letters and digits).
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class SuggestionIndex<T> {
+
+    private static final int ALPHABET = 37;
+    private static final char PAD = '$';
+
+    private final List<T> items;
+    private final int[] keyItems;
+    private final int[] keyTrigramCounts;
+    private final Map<Integer, int[]> postings;
+    private final Node root;
+    private final int topK;
+
+    /**
+     * Build the index from items in rank order (best first) and each item's keys
+     */
+    public SuggestionIndex(List<T> rankedItems, List<List<String>> itemKeys, int topK) {
+        if (rankedItems.size() != itemKeys.size()) {
+            throw new IllegalArgumentException("Every item needs its keys");
+        }
+        this.items = List.copyOf(rankedItems);
+        this.topK = Math.max(1, topK);
+
+        List<String> keys = new ArrayList<>();
+        List<Integer> owners = new ArrayList<>();
+        root = new Node(new char[0]);
+        for (int item = 0; item < rankedItems.size(); item++) {
+            for (String key : itemKeys.get(item)) {
+                if (key != null && !key.isEmpty()) {
+                    insert(key, item);
+                    keys.add(key);
+                    owners.add(item);
+                }
+            }
+        }
+        collectTop(root);
+
+        keyItems = new int[keys.size()];
+        keyTrigramCounts = new int[keys.size()];
+        Map<Integer, List<Integer>> lists = new HashMap<>();
+        for (int k = 0; k < keys.size(); k++) {
+            keyItems[k] = owners.get(k);
+            int[] trigrams = trigrams(keys.get(k));
+            keyTrigramCounts[k] = trigrams.length;
+            for (int trigram : trigrams) {
+                lists.computeIfAbsent(trigram, t -> new ArrayList<>()).add(k);
+            }
+        }
+        postings = new HashMap<>(lists.size() * 2);
+        lists.forEach((trigram, list) -> postings.put(trigram, list.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Best matches for a normalized query: prefix matches in rank order (an
+     * exact match first), then trigram matches of at least the given similarity
+     */
+    public List<Suggestion<T>> suggest(String query, int limit, Predicate<T> filter,
+                                       int fuzzyMinLength, double minSimilarity) {
+        List<Suggestion<T>> results = new ArrayList<>();
+        if (query == null || query.isEmpty() || limit <= 0) {
+            return results;
+        }
+        BitSet seen = new BitSet(items.size());
+
+        Node node = root;
+        int i = 0;
+        while (node != null && i < query.length()) {
+            Node child = node.child(query.charAt(i));
+            if (child == null) {
+                node = null;
+                break;
+            }
+            int j = 0;
+            while (j < child.label.length && i < query.length() && child.label[j] == query.charAt(i)) {
+                j++;
+                i++;
+            }
+            if (j < child.label.length && i < query.length()) {
+                node = null;
+                break;
+            }
+            node = child;
+        }
+
+        if (node != null) {
+            // A key equal to the query sits at the end of a full edge
+            if (node.exact != null && exactAtNode(node, query)) {
+                for (int item : node.exact) {
+                    add(results, seen, item, filter, false, 1.0, limit);
+                }
+            }
+            for (int item : node.top) {
+                add(results, seen, item, filter, false, 1.0, limit);
+            }
+            if (results.size() < limit && filter != null && node.top.length == topK) {
+                // The node's top list was cut off; the filter may want items ranked below it
+                for (int item : subtreeItems(node)) {
+                    add(results, seen, item, filter, false, 1.0, limit);
+                }
+            }
+        }
+
+        if (results.size() < limit && query.length() >= fuzzyMinLength) {
+            fuzzy(query, limit, filter, minSimilarity, seen, results);
+        }
+        return results;
+    }
+
+    private void fuzzy(String query, int limit, Predicate<T> filter, double minSimilarity,
+                       BitSet seen, List<Suggestion<T>> results) {
+        int[] queryTrigrams = trigrams(query);
+        int[] shared = new int[keyItems.length];
+        List<Integer> touched = new ArrayList<>();
+        for (int trigram : queryTrigrams) {
+            int[] keys = postings.get(trigram);
+            if (keys == null) {
+                continue;
+            }
+            for (int k : keys) {
+                if (shared[k]++ == 0) {
+                    touched.add(k);
+                }
+            }
+        }
+
+        Map<Integer, Double> bestByItem = new HashMap<>();
+        int q = queryTrigrams.length;
+        for (int k : touched) {
+            int item = keyItems[k];
+            if (seen.get(item)) {
+                continue;
+            }
+            // Dice coefficient against the key's first q + 2 trigrams at most; short keys count as q long
+            int compared = Math.max(q, Math.min(keyTrigramCounts[k], q + 2));
+            double similarity = 2.0 * shared[k] / (q + compared);
+            if (similarity >= minSimilarity) {
+                bestByItem.merge(item, similarity, Math::max);
+            }
+        }
+
+        List<Map.Entry<Integer, Double>> candidates = new ArrayList<>(bestByItem.entrySet());
+        candidates.sort((a, b) -> {
+            int bySimilarity = Double.compare(b.getValue(), a.getValue());
+            return bySimilarity != 0 ? bySimilarity : Integer.compare(a.getKey(), b.getKey());
+        });
+        for (Map.Entry<Integer, Double> candidate : candidates) {
+            if (results.size() >= limit) {
+                break;
+            }
+            add(results, seen, candidate.getKey(), filter, true, candidate.getValue(), limit);
+        }
+    }
+
+    private void add(List<Suggestion<T>> results, BitSet seen, int item, Predicate<T> filter,
+                     boolean fuzzy, double score, int limit) {
+        if (results.size() >= limit || seen.get(item)) {
+            return;
+        }
+        T value = items.get(item);
+        if (filter != null && !filter.test(value)) {
+            return;
+        }
+        seen.set(item);
+        results.add(new Suggestion<>(value, fuzzy, score));
+    }
+
+    /**
+     * Whether the walk consumed the query exactly at this node rather than inside its edge
+     */
+    private static boolean exactAtNode(Node node, String query) {
+        return node.depth == query.length();
+    }
+
+    private int[] subtreeItems(Node start) {
+        BitSet found = new BitSet(items.size());
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(start);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            if (node.exact != null) {
+                for (int item : node.exact) {
+                    found.set(item);
+                }
+            }
+            for (Node child : node.children) {
+                stack.push(child);
+            }
+        }
+        return found.stream().toArray();
+    }
+
+    private void insert(String key, int item) {
+        Node node = root;
+        int i = 0;
+        while (true) {
+            if (i == key.length()) {
+                node.addExact(item);
+                return;
+            }
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                Node leaf = new Node(key.substring(i).toCharArray());
+                leaf.depth = key.length();
+                leaf.addExact(item);
+                node.addChild(leaf);
+                return;
+            }
+            int j = 0;
+            while (j < child.label.length && i < key.length() && child.label[j] == key.charAt(i)) {
+                j++;
+                i++;
+            }
+            if (j < child.label.length) {
+                // Split the edge where the key diverges
+                Node middle = new Node(Arrays.copyOf(child.label, j));
+                middle.depth = child.depth - child.label.length + j;
+                node.replaceChild(child, middle);
+                child.label = Arrays.copyOfRange(child.label, j, child.label.length);
+                middle.addChild(child);
+            }
+            node = node.child(key.charAt(i - j));
+        }
+    }
+
+    /**
+     * Post-order: each node's top list merges its own items and its children's lists
+     */
+    private int[] collectTop(Node node) {
+        int[] merged = node.exact != null ? node.exact.clone() : new int[0];
+        Arrays.sort(merged);
+        for (Node child : node.children) {
+            merged = mergeDistinct(merged, collectTop(child));
+        }
+        node.top = merged.length > topK ? Arrays.copyOf(merged, topK) : merged;
+        return node.top;
+    }
+
+    private static int[] mergeDistinct(int[] a, int[] b) {
+        int[] out = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length || j < b.length) {
+            int next = j >= b.length || (i < a.length && a[i] <= b[j]) ? a[i++] : b[j++];
+            if (n == 0 || out[n - 1] != next) {
+                out[n++] = next;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * Distinct trigrams of the key padded at the start, packed into ints
+     */
+    private static int[] trigrams(String key) {
+        String padded = "" + PAD + PAD + key;
+        int[] trigrams = new int[key.length()];
+        for (int i = 0; i < key.length(); i++) {
+            trigrams[i] = (code(padded.charAt(i)) * ALPHABET + code(padded.charAt(i + 1))) * ALPHABET
+                    + code(padded.charAt(i + 2));
+        }
+        return Arrays.stream(trigrams).distinct().toArray();
+    }
+
+    private static int code(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 1;
+        }
+        if (c >= '0' && c <= '9') {
+            return c - '0' + 27;
+        }
+        return 0;
+    }
+
+    private static final class Node {
+        private char[] label;
+        private Node[] children = new Node[0];
+        private int[] exact;
+        private int[] top;
+        /** Length of the key spelled by the path down to the end of this node's edge */
+        private int depth;
+
+        Node(char[] label) {
+            this.label = label;
+        }
+
+        Node child(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children[mid].label[0];
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+
+        void addChild(Node child) {
+            int at = 0;
+            while (at < children.length && children[at].label[0] < child.label[0]) {
+                at++;
+            }
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, at);
+            grown[at] = child;
+            System.arraycopy(children, at, grown, at + 1, children.length - at);
+            children = grown;
+        }
+
+        void replaceChild(Node old, Node replacement) {
+            for (int i = 0; i < children.length; i++) {
+                if (children[i] == old) {
+                    children[i] = replacement;
+                    return;
+                }
+            }
+        }
+
+        void addExact(int item) {
+            if (exact == null) {
+                exact = new int[] { item };
+            } else if (Arrays.stream(exact).noneMatch(existing -> existing == item)) {
+                exact = Arrays.copyOf(exact, exact.length + 1);
+                exact[exact.length - 1] = item;
+            }
+        }
+    }
+
+    /**
+     * One suggested item, with whether it came from the misspelling fallback
+     */
+    public static final class Suggestion<T> {
+        private final T item;
+        private final boolean fuzzy;
+        private final double score;
+
+        Suggestion(T item, boolean fuzzy, double score) {
+            this.item = item;
+            this.fuzzy = fuzzy;
+            this.score = score;
+        }
+
+        public T getItem() { return item; }
+        public boolean isFuzzy() { return fuzzy; }
+        public double getScore() { return score; }
+    }
+}
@@ -0,0 +1,101 @@
+package com.healthnet.util;
+
+/**
+ * Two-tier limits for a fixed set of measured parameters, compiled into one
+ * flat array for classifying samples.
+ *
+ * Each parameter has an acceptable and a permissible range; a value inside
+ * the acceptable range is level 0, outside it but inside the permissible
+ * range level 1, and outside the permissible range level 2. The four bounds
+ * of parameter i sit at offsets 4i to 4i+3, so evaluating a sample is one
+ * loop over two arrays of doubles without objects or branches on the
+ * parameter. The levels of all parameters and the worst of them are packed
+ * into a single int: two bits per parameter, and the worst level in the top
+ * two bits. A table is immutable and safe to share between threads.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public final class ThresholdTable {
+
+    public static final int LEVEL_OK = 0;
+    public static final int LEVEL_ACCEPTABLE_EXCEEDED = 1;
+    public static final int LEVEL_PERMISSIBLE_EXCEEDED = 2;
+
+    /** Two bits per parameter below the worst-level bits */
+    public static final int MAX_PARAMETERS = 15;
+
+    private static final int WORST_SHIFT = 30;
+
+    private final double[] bounds;
+    private final int size;
+
+    private ThresholdTable(double[] bounds) {
+        this.bounds = bounds;
+        this.size = bounds.length / 4;
+    }
+
+    /**
+     * Compile the limits; bounds are inclusive, and infinities leave a side open
+     */
+    public static ThresholdTable compile(double[] acceptableMin, double[] acceptableMax,
+                                         double[] permissibleMin, double[] permissibleMax) {
+        int size = acceptableMin.length;
+        if (size > MAX_PARAMETERS || acceptableMax.length != size || permissibleMin.length != size
+                || permissibleMax.length != size) {
+            throw new IllegalArgumentException("Limits must be given for the same at most "
+                    + MAX_PARAMETERS + " parameters");
+        }
+        double[] bounds = new double[size * 4];
+        for (int i = 0; i < size; i++) {
+            if (!(permissibleMin[i] <= acceptableMin[i] && acceptableMin[i] <= acceptableMax[i]
+                    && acceptableMax[i] <= permissibleMax[i])) {
+                throw new IllegalArgumentException("Acceptable range of parameter " + i
+                        + " must lie within its permissible range");
+            }
+            bounds[i * 4] = acceptableMin[i];
+            bounds[i * 4 + 1] = acceptableMax[i];
+            bounds[i * 4 + 2] = permissibleMin[i];
+            bounds[i * 4 + 3] = permissibleMax[i];
+        }
+        return new ThresholdTable(bounds);
+    }
+
+    /**
+     * Packed levels of a sample; NaN marks a parameter that was not measured
+     */
+    public int evaluate(double[] sample) {
+        if (sample.length != size) {
+            throw new IllegalArgumentException("Sample must have " + size + " values");
+        }
+        int packed = 0;
+        int worst = LEVEL_OK;
+        for (int i = 0, b = 0; i < size; i++, b += 4) {
+            double value = sample[i];
+            // Comparisons with NaN are false, so unmeasured values stay at level 0
+            int level = value < bounds[b + 2] || value > bounds[b + 3] ? LEVEL_PERMISSIBLE_EXCEEDED
+                    : value < bounds[b] || value > bounds[b + 1] ? LEVEL_ACCEPTABLE_EXCEEDED : LEVEL_OK;
+            packed |= level << (i * 2);
+            worst = Math.max(worst, level);
+        }
+        return packed | worst << WORST_SHIFT;
+    }
+
+    /**
+     * Worst level of a packed result
+     */
+    public static int worst(int packed) {
+        return packed >>> WORST_SHIFT;
+    }
+
+    /**
+     * Level of one parameter in a packed result
+     */
+    public static int level(int packed, int parameter) {
+        return (packed >>> (parameter * 2)) & 3;
+    }
+
+    public int getSize() {
+        return size;
+    }
+}
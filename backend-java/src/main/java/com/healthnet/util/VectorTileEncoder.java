@@ -0,0 +1,335 @@
+package com.healthnet.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal Mapbox Vector Tile (v2.1) encoder for polygon layers.
+ *
+ * Polygons are given in tile pixel coordinates (0..extent, y down), clipped
+ * to the tile plus a buffer, snapped to the integer grid, oriented as the
+ * specification requires (exterior rings positive area, holes negative) and
+ * written as protobuf with the command/zigzag geometry encoding. Only the
+ * handful of protobuf features a tile needs are implemented.
+ *
+ * @author NE HealthNet Team
+ * @version 1.0.0
+ */
+public class VectorTileEncoder {
+
+    private static final int COMMAND_MOVE_TO = 1;
+    private static final int COMMAND_LINE_TO = 2;
+    private static final int COMMAND_CLOSE_PATH = 7;
+    private static final int GEOMETRY_TYPE_POLYGON = 3;
+
+    private final int extent;
+    private final int buffer;
+    private final Map<String, Layer> layers = new LinkedHashMap<>();
+
+    public VectorTileEncoder(int extent, int buffer) {
+        this.extent = extent;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Add a (multi)polygon feature: polygons of rings of [x, y] points, first ring exterior.
+     * Returns false if nothing of it lies inside the tile.
+     */
+    public boolean addPolygonFeature(String layerName, long id, Map<String, Object> attributes,
+                                     List<List<double[][]>> polygons) {
+        List<Integer> geometry = new ArrayList<>();
+        int[] cursor = new int[2];
+        for (List<double[][]> polygon : polygons) {
+            for (int r = 0; r < polygon.size(); r++) {
+                List<int[]> ring = snap(clip(polygon.get(r)));
+                if (ring.size() < 3) {
+                    if (r == 0) {
+                        // Exterior clipped away, so its holes are too
+                        break;
+                    }
+                    continue;
+                }
+                long area = doubleArea(ring);
+                if (area == 0) {
+                    continue;
+                }
+                if ((r == 0) != (area > 0)) {
+                    Collections.reverse(ring);
+                }
+                encodeRing(ring, geometry, cursor);
+            }
+        }
+        if (geometry.isEmpty()) {
+            return false;
+        }
+
+        Layer layer = layers.computeIfAbsent(layerName, Layer::new);
+        List<Integer> tags = new ArrayList<>();
+        for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+            if (attribute.getValue() != null) {
+                tags.add(layer.keyIndex(attribute.getKey()));
+                tags.add(layer.valueIndex(attribute.getValue()));
+            }
+        }
+        layer.features.add(new Feature(id, tags, geometry));
+        return true;
+    }
+
+    public boolean isEmpty() {
+        return layers.isEmpty();
+    }
+
+    /**
+     * Serialize the tile
+     */
+    public byte[] encode() {
+        ProtoWriter tile = new ProtoWriter();
+        for (Layer layer : layers.values()) {
+            ProtoWriter writer = new ProtoWriter();
+            writer.uint32Field(15, 2);
+            writer.stringField(1, layer.name);
+            for (Feature feature : layer.features) {
+                ProtoWriter featureWriter = new ProtoWriter();
+                featureWriter.uint64Field(1, feature.id);
+                featureWriter.packedField(2, feature.tags);
+                featureWriter.uint32Field(3, GEOMETRY_TYPE_POLYGON);
+                featureWriter.packedField(4, feature.geometry);
+                writer.bytesField(2, featureWriter.toByteArray());
+            }
+            for (String key : layer.keys.keySet()) {
+                writer.stringField(3, key);
+            }
+            for (Object value : layer.values.keySet()) {
+                writer.bytesField(4, encodeValue(value));
+            }
+            writer.uint32Field(5, extent);
+            tile.bytesField(3, writer.toByteArray());
+        }
+        return tile.toByteArray();
+    }
+
+    private void encodeRing(List<int[]> ring, List<Integer> geometry, int[] cursor) {
+        geometry.add(command(COMMAND_MOVE_TO, 1));
+        addDelta(ring.get(0), geometry, cursor);
+        geometry.add(command(COMMAND_LINE_TO, ring.size() - 1));
+        for (int i = 1; i < ring.size(); i++) {
+            addDelta(ring.get(i), geometry, cursor);
+        }
+        geometry.add(command(COMMAND_CLOSE_PATH, 1));
+    }
+
+    private static void addDelta(int[] point, List<Integer> geometry, int[] cursor) {
+        geometry.add(zigzag(point[0] - cursor[0]));
+        geometry.add(zigzag(point[1] - cursor[1]));
+        cursor[0] = point[0];
+        cursor[1] = point[1];
+    }
+
+    private static int command(int id, int count) {
+        return (id & 0x7) | (count << 3);
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /**
+     * Twice the signed area in tile coordinates (positive is clockwise on screen)
+     */
+    private static long doubleArea(List<int[]> ring) {
+        long area = 0;
+        for (int i = 0, j = ring.size() - 1; i < ring.size(); j = i++) {
+            area += (long) ring.get(j)[0] * ring.get(i)[1] - (long) ring.get(i)[0] * ring.get(j)[1];
+        }
+        return area;
+    }
+
+    /**
+     * Round to the grid, dropping repeated points and the closing point
+     */
+    private static List<int[]> snap(List<double[]> ring) {
+        List<int[]> snapped = new ArrayList<>(ring.size());
+        for (double[] point : ring) {
+            int[] p = { (int) Math.round(point[0]), (int) Math.round(point[1]) };
+            if (snapped.isEmpty() || !sameAs(snapped.get(snapped.size() - 1), p)) {
+                snapped.add(p);
+            }
+        }
+        while (snapped.size() > 1 && sameAs(snapped.get(0), snapped.get(snapped.size() - 1))) {
+            snapped.remove(snapped.size() - 1);
+        }
+        return snapped;
+    }
+
+    private static boolean sameAs(int[] a, int[] b) {
+        return a[0] == b[0] && a[1] == b[1];
+    }
+
+    /**
+     * Sutherland-Hodgman clip against the buffered tile square
+     */
+    private List<double[]> clip(double[][] ring) {
+        double min = -buffer;
+        double max = extent + buffer;
+        List<double[]> points = new ArrayList<>(List.of(ring));
+        for (int edge = 0; edge < 4 && !points.isEmpty(); edge++) {
+            List<double[]> output = new ArrayList<>(points.size());
+            double[] previous = points.get(points.size() - 1);
+            for (double[] current : points) {
+                boolean currentInside = inside(current, edge, min, max);
+                boolean previousInside = inside(previous, edge, min, max);
+                if (currentInside) {
+                    if (!previousInside) {
+                        output.add(intersect(previous, current, edge, min, max));
+                    }
+                    output.add(current);
+                } else if (previousInside) {
+                    output.add(intersect(previous, current, edge, min, max));
+                }
+                previous = current;
+            }
+            points = output;
+        }
+        return points;
+    }
+
+    private static boolean inside(double[] p, int edge, double min, double max) {
+        switch (edge) {
+            case 0: return p[0] >= min;
+            case 1: return p[0] <= max;
+            case 2: return p[1] >= min;
+            default: return p[1] <= max;
+        }
+    }
+
+    private static double[] intersect(double[] a, double[] b, int edge, double min, double max) {
+        double bound = edge == 0 || edge == 2 ? min : max;
+        if (edge < 2) {
+            double t = (bound - a[0]) / (b[0] - a[0]);
+            return new double[] { bound, a[1] + t * (b[1] - a[1]) };
+        }
+        double t = (bound - a[1]) / (b[1] - a[1]);
+        return new double[] { a[0] + t * (b[0] - a[0]), bound };
+    }
+
+    private static byte[] encodeValue(Object value) {
+        ProtoWriter writer = new ProtoWriter();
+        if (value instanceof String) {
+            writer.stringField(1, (String) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            writer.doubleField(3, ((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            writer.uint32Field(7, (Boolean) value ? 1 : 0);
+        } else if (value instanceof Number) {
+            long number = ((Number) value).longValue();
+            if (number >= 0) {
+                writer.uint64Field(5, number);
+            } else {
+                writer.sint64Field(6, number);
+            }
+        } else {
+            writer.stringField(1, String.valueOf(value));
+        }
+        return writer.toByteArray();
+    }
+
+    private static final class Layer {
+        private final String name;
+        private final Map<String, Integer> keys = new LinkedHashMap<>();
+        private final Map<Object, Integer> values = new LinkedHashMap<>();
+        private final List<Feature> features = new ArrayList<>();
+
+        Layer(String name) {
+            this.name = name;
+        }
+
+        int keyIndex(String key) {
+            return keys.computeIfAbsent(key, k -> keys.size());
+        }
+
+        int valueIndex(Object value) {
+            return values.computeIfAbsent(value, v -> values.size());
+        }
+    }
+
+    private static final class Feature {
+        private final long id;
+        private final List<Integer> tags;
+        private final List<Integer> geometry;
+
+        Feature(long id, List<Integer> tags, List<Integer> geometry) {
+            this.id = id;
+            this.tags = tags;
+            this.geometry = geometry;
+        }
+    }
+
+    /**
+     * Just enough of the protobuf wire format for vector tiles
+     */
+    private static final class ProtoWriter {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        void uint32Field(int field, int value) {
+            tag(field, 0);
+            varint(value & 0xffffffffL);
+        }
+
+        void uint64Field(int field, long value) {
+            tag(field, 0);
+            varint(value);
+        }
+
+        void sint64Field(int field, long value) {
+            tag(field, 0);
+            varint((value << 1) ^ (value >> 63));
+        }
+
+        void doubleField(int field, double value) {
+            tag(field, 1);
+            long bits = Double.doubleToLongBits(value);
+            for (int i = 0; i < 8; i++) {
+                out.write((int) (bits >>> (8 * i)) & 0xff);
+            }
+        }
+
+        void stringField(int field, String value) {
+            bytesField(field, value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void bytesField(int field, byte[] bytes) {
+            tag(field, 2);
+            varint(bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+
+        void packedField(int field, List<Integer> values) {
+            ProtoWriter packed = new ProtoWriter();
+            for (int value : values) {
+                packed.varint(value & 0xffffffffL);
+            }
+            bytesField(field, packed.toByteArray());
+        }
+
+        private void tag(int field, int wireType) {
+            varint(((long) field << 3) | wireType);
+        }
+
+        private void varint(long value) {
+            while ((value & ~0x7fL) != 0) {
+                out.write((int) ((value & 0x7f) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+}